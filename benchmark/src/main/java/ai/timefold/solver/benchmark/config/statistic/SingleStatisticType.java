@@ -8,15 +8,21 @@ import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticType;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintpropagationprofile.ConstraintPropagationProfileSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.subsingle.moveevaluationprofile.MoveEvaluationProfileSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.subsingle.probabilityselectionmemoryfootprint.ProbabilitySelectionMemoryFootprintSubSingleStatistic;
 
 @XmlEnum
 public enum SingleStatisticType implements StatisticType {
     CONSTRAINT_MATCH_TOTAL_BEST_SCORE,
     CONSTRAINT_MATCH_TOTAL_STEP_SCORE,
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF,
-    PICKED_MOVE_TYPE_STEP_SCORE_DIFF;
+    PICKED_MOVE_TYPE_STEP_SCORE_DIFF,
+    MOVE_EVALUATION_PROFILE,
+    CONSTRAINT_PROPAGATION_PROFILE,
+    PROBABILITY_SELECTION_MEMORY_FOOTPRINT;
 
     public PureSubSingleStatistic buildPureSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
         switch (this) {
@@ -28,6 +34,12 @@ public enum SingleStatisticType implements StatisticType {
                 return new PickedMoveTypeBestScoreDiffSubSingleStatistic(subSingleBenchmarkResult);
             case PICKED_MOVE_TYPE_STEP_SCORE_DIFF:
                 return new PickedMoveTypeStepScoreDiffSubSingleStatistic(subSingleBenchmarkResult);
+            case MOVE_EVALUATION_PROFILE:
+                return new MoveEvaluationProfileSubSingleStatistic(subSingleBenchmarkResult);
+            case CONSTRAINT_PROPAGATION_PROFILE:
+                return new ConstraintPropagationProfileSubSingleStatistic(subSingleBenchmarkResult);
+            case PROBABILITY_SELECTION_MEMORY_FOOTPRINT:
+                return new ProbabilitySelectionMemoryFootprintSubSingleStatistic(subSingleBenchmarkResult);
             default:
                 throw new IllegalStateException("The singleStatisticType (" + this + ") is not implemented.");
         }
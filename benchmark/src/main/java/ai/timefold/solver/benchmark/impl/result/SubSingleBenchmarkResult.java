@@ -17,8 +17,11 @@ import ai.timefold.solver.benchmark.impl.statistic.StatisticType;
 import ai.timefold.solver.benchmark.impl.statistic.SubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintpropagationprofile.ConstraintPropagationProfileSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.subsingle.moveevaluationprofile.MoveEvaluationProfileSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.subsingle.probabilityselectionmemoryfootprint.ProbabilitySelectionMemoryFootprintSubSingleStatistic;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
 
@@ -45,7 +48,13 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
             @XmlElement(name = "pickedMoveTypeBestScoreDiffSubSingleStatistic",
                     type = PickedMoveTypeBestScoreDiffSubSingleStatistic.class),
             @XmlElement(name = "pickedMoveTypeStepScoreDiffSubSingleStatistic",
-                    type = PickedMoveTypeStepScoreDiffSubSingleStatistic.class)
+                    type = PickedMoveTypeStepScoreDiffSubSingleStatistic.class),
+            @XmlElement(name = "moveEvaluationProfileSubSingleStatistic",
+                    type = MoveEvaluationProfileSubSingleStatistic.class),
+            @XmlElement(name = "constraintPropagationProfileSubSingleStatistic",
+                    type = ConstraintPropagationProfileSubSingleStatistic.class),
+            @XmlElement(name = "probabilitySelectionMemoryFootprintSubSingleStatistic",
+                    type = ProbabilitySelectionMemoryFootprintSubSingleStatistic.class)
     })
     private List<PureSubSingleStatistic> pureSubSingleStatisticList = null;
 
@@ -12,8 +12,11 @@ import ai.timefold.solver.benchmark.impl.report.Chart;
 import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintpropagationprofile.ConstraintPropagationProfileSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.subsingle.moveevaluationprofile.MoveEvaluationProfileSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import ai.timefold.solver.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.subsingle.probabilityselectionmemoryfootprint.ProbabilitySelectionMemoryFootprintSubSingleStatistic;
 
 /**
  * 1 statistic of {@link SubSingleBenchmarkResult}.
@@ -22,7 +25,10 @@ import ai.timefold.solver.benchmark.impl.statistic.subsingle.pickedmovetypesteps
         ConstraintMatchTotalBestScoreSubSingleStatistic.class,
         ConstraintMatchTotalStepScoreSubSingleStatistic.class,
         PickedMoveTypeBestScoreDiffSubSingleStatistic.class,
-        PickedMoveTypeStepScoreDiffSubSingleStatistic.class
+        PickedMoveTypeStepScoreDiffSubSingleStatistic.class,
+        MoveEvaluationProfileSubSingleStatistic.class,
+        ConstraintPropagationProfileSubSingleStatistic.class,
+        ProbabilitySelectionMemoryFootprintSubSingleStatistic.class
 })
 public abstract class PureSubSingleStatistic<Solution_, StatisticPoint_ extends StatisticPoint, Chart_ extends Chart>
         extends SubSingleStatistic<Solution_, StatisticPoint_>
@@ -0,0 +1,71 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintpropagationprofile;
+
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+
+/**
+ * The share of 1 constraint in the propagation cost of the constraint streams, cumulative since solving started.
+ * The counts are fractional, because the cost of a node shared by multiple constraints is split between them.
+ */
+public class ConstraintPropagationProfileStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final ConstraintRef constraintRef;
+    private final double nanos;
+    private final double insertCount;
+    private final double updateCount;
+    private final double retractCount;
+
+    public ConstraintPropagationProfileStatisticPoint(long timeMillisSpent, ConstraintRef constraintRef, double nanos,
+            double insertCount, double updateCount, double retractCount) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.constraintRef = constraintRef;
+        this.nanos = nanos;
+        this.insertCount = insertCount;
+        this.updateCount = updateCount;
+        this.retractCount = retractCount;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public ConstraintRef getConstraintRef() {
+        return constraintRef;
+    }
+
+    public String getConstraintPackage() {
+        return constraintRef.packageName();
+    }
+
+    public String getConstraintName() {
+        return constraintRef.constraintName();
+    }
+
+    public double getNanos() {
+        return nanos;
+    }
+
+    public double getInsertCount() {
+        return insertCount;
+    }
+
+    public double getUpdateCount() {
+        return updateCount;
+    }
+
+    public double getRetractCount() {
+        return retractCount;
+    }
+
+    public double getTupleCount() {
+        return insertCount + updateCount + retractCount;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLine(timeMillisSpent, getConstraintPackage(), getConstraintName(), nanos, insertCount, updateCount,
+                retractCount);
+    }
+
+}
@@ -0,0 +1,120 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintpropagationprofile;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import ai.timefold.solver.benchmark.config.statistic.SingleStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.report.LineChart;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.statistic.ConstraintPropagationProfileStatistic;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+
+public class ConstraintPropagationProfileSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, ConstraintPropagationProfileStatisticPoint, LineChart<Long, Double>> {
+
+    private ConstraintPropagationProfileSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public ConstraintPropagationProfileSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.CONSTRAINT_PROPAGATION_PROFILE);
+    }
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
+        registry.addListener(SolverMetric.CONSTRAINT_PROPAGATION_PROFILE,
+                timeMillisSpent -> extractPointsFromMeters(registry, runTag, timeMillisSpent));
+    }
+
+    private void extractPointsFromMeters(StatisticRegistry<Solution_> registry, Tags runTag, long timeMillisSpent) {
+        String meterId = SolverMetric.CONSTRAINT_PROPAGATION_PROFILE.getMeterId();
+        Set<ConstraintRef> constraintRefSet = new LinkedHashSet<>();
+        for (Meter.Id id : registry.getMeterIds(SolverMetric.CONSTRAINT_PROPAGATION_PROFILE, runTag)) {
+            constraintRefSet.add(ConstraintRef.of(id.getTag("constraint.package"), id.getTag("constraint.name")));
+        }
+        for (ConstraintRef constraintRef : constraintRefSet) {
+            Tags constraintRunTag = runTag.and("constraint.package", constraintRef.packageName())
+                    .and("constraint.name", constraintRef.constraintName());
+            double nanos = readGauge(registry, meterId + ConstraintPropagationProfileStatistic.NANOS_METER_SUFFIX,
+                    constraintRunTag);
+            double insertCount = readGauge(registry,
+                    meterId + ConstraintPropagationProfileStatistic.INSERT_COUNT_METER_SUFFIX, constraintRunTag);
+            double updateCount = readGauge(registry,
+                    meterId + ConstraintPropagationProfileStatistic.UPDATE_COUNT_METER_SUFFIX, constraintRunTag);
+            double retractCount = readGauge(registry,
+                    meterId + ConstraintPropagationProfileStatistic.RETRACT_COUNT_METER_SUFFIX, constraintRunTag);
+            if (Double.isFinite(nanos) && Double.isFinite(insertCount) && Double.isFinite(updateCount)
+                    && Double.isFinite(retractCount)) {
+                pointList.add(new ConstraintPropagationProfileStatisticPoint(timeMillisSpent, constraintRef, nanos,
+                        insertCount, updateCount, retractCount));
+            }
+        }
+    }
+
+    private static double readGauge(StatisticRegistry<?> registry, String meterId, Tags tags) {
+        Gauge gauge = registry.find(meterId).tags(tags).gauge();
+        return gauge == null ? Double.NaN : gauge.value();
+    }
+
+    @Override
+    protected String getCsvHeader() {
+        return ConstraintPropagationProfileStatisticPoint.buildCsvLine("timeMillisSpent", "constraintPackage",
+                "constraintName", "nanos", "insertCount", "updateCount", "retractCount");
+    }
+
+    @Override
+    protected ConstraintPropagationProfileStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new ConstraintPropagationProfileStatisticPoint(Long.parseLong(csvLine.get(0)),
+                ConstraintRef.of(csvLine.get(1), csvLine.get(2)), Double.parseDouble(csvLine.get(3)),
+                Double.parseDouble(csvLine.get(4)), Double.parseDouble(csvLine.get(5)), Double.parseDouble(csvLine.get(6)));
+    }
+
+    @Override
+    protected List<LineChart<Long, Double>> generateCharts(BenchmarkReport benchmarkReport) {
+        LineChart.Builder<Long, Double> timeBuilder = new LineChart.Builder<>();
+        LineChart.Builder<Long, Double> tupleCountBuilder = new LineChart.Builder<>();
+        for (ConstraintPropagationProfileStatisticPoint point : getPointList()) {
+            long timeMillisSpent = point.getTimeMillisSpent();
+            String seriesLabel = point.getConstraintName();
+            addIfChanged(timeBuilder, seriesLabel, timeMillisSpent, point.getNanos() / 1_000_000.0);
+            addIfChanged(tupleCountBuilder, seriesLabel, timeMillisSpent, point.getTupleCount());
+        }
+        long timeMillisSpent = subSingleBenchmarkResult.getTimeMillisSpent();
+        List<LineChart<Long, Double>> chartList = new ArrayList<>(2);
+        for (LineChart.Builder<Long, Double> builder : List.of(timeBuilder, tupleCountBuilder)) {
+            for (String key : builder.keys()) {
+                // Draw a horizontal line from the last change to how long the solver actually ran
+                builder.add(key, timeMillisSpent, builder.getLastValue(key));
+            }
+        }
+        chartList.add(timeBuilder.build("constraintPropagationProfileSubSingleStatisticChart",
+                subSingleBenchmarkResult.getName() + " constraint propagation time statistic",
+                "Time spent", "Propagation time (ms)", false, true, false));
+        chartList.add(tupleCountBuilder.build("constraintPropagationProfileTupleCountSubSingleStatisticChart",
+                subSingleBenchmarkResult.getName() + " constraint propagation tuple count statistic",
+                "Time spent", "Inserted, updated and retracted tuples", false, true, false));
+        return chartList;
+    }
+
+    private static void addIfChanged(LineChart.Builder<Long, Double> builder, String seriesLabel, long timeMillisSpent,
+            double value) {
+        // Only add changes
+        double lastValue = (builder.count(seriesLabel) == 0) ? 0.0 : builder.getLastValue(seriesLabel);
+        if (value != lastValue) {
+            builder.add(seriesLabel, timeMillisSpent, value);
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.moveevaluationprofile;
+
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+
+/**
+ * The distribution of 1 phase of the move evaluations of 1 move type, over the whole solver run.
+ */
+public class MoveEvaluationProfileStatisticPoint extends StatisticPoint {
+
+    private final String moveType;
+    private final String phase;
+    private final long count;
+    private final double meanNanos;
+    private final double p50Nanos;
+    private final double p90Nanos;
+    private final double p99Nanos;
+    private final double maxNanos;
+    /**
+     * {@link Double#NaN} if the JVM does not measure the allocated bytes per thread.
+     */
+    private final double meanAllocatedBytes;
+
+    public MoveEvaluationProfileStatisticPoint(String moveType, String phase, long count, double meanNanos,
+            double p50Nanos, double p90Nanos, double p99Nanos, double maxNanos, double meanAllocatedBytes) {
+        this.moveType = moveType;
+        this.phase = phase;
+        this.count = count;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+        this.meanAllocatedBytes = meanAllocatedBytes;
+    }
+
+    public String getMoveType() {
+        return moveType;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    public double getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public double getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public double getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public double getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanAllocatedBytes() {
+        return meanAllocatedBytes;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLine(moveType, phase, count, meanNanos, p50Nanos, p90Nanos, p99Nanos, maxNanos, meanAllocatedBytes);
+    }
+
+}
@@ -0,0 +1,139 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.moveevaluationprofile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.benchmark.config.statistic.SingleStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BarChart;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.score.director.MoveEvaluationProfiler;
+import ai.timefold.solver.core.impl.score.director.MoveEvaluationProfiler.MoveEvaluationPhase;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+public class MoveEvaluationProfileSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, MoveEvaluationProfileStatisticPoint, BarChart<Double>> {
+
+    private MoveEvaluationProfileSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public MoveEvaluationProfileSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.MOVE_EVALUATION_PROFILE);
+    }
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
+        // Intentionally empty: the profiler records the whole run in meters, which are read when the run is closed.
+    }
+
+    @Override
+    public void close(StatisticRegistry<Solution_> registry, Tags runTag) {
+        String meterId = SolverMetric.MOVE_EVALUATION_PROFILE.getMeterId();
+        for (Timer timer : registry.find(meterId + MoveEvaluationProfiler.DURATION_METER_SUFFIX).tags(runTag).timers()) {
+            String moveType = timer.getId().getTag(MoveEvaluationProfiler.MOVE_TYPE_TAG);
+            String phase = timer.getId().getTag(MoveEvaluationProfiler.PHASE_TAG);
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            double p50Nanos = Double.NaN;
+            double p90Nanos = Double.NaN;
+            double p99Nanos = Double.NaN;
+            for (ValueAtPercentile valueAtPercentile : snapshot.percentileValues()) {
+                double value = valueAtPercentile.value(TimeUnit.NANOSECONDS);
+                if (valueAtPercentile.percentile() == 0.5) {
+                    p50Nanos = value;
+                } else if (valueAtPercentile.percentile() == 0.9) {
+                    p90Nanos = value;
+                } else if (valueAtPercentile.percentile() == 0.99) {
+                    p99Nanos = value;
+                }
+            }
+            DistributionSummary allocatedBytesSummary =
+                    registry.find(meterId + MoveEvaluationProfiler.ALLOCATED_BYTES_METER_SUFFIX).tags(runTag)
+                            .tag(MoveEvaluationProfiler.MOVE_TYPE_TAG, moveType)
+                            .tag(MoveEvaluationProfiler.PHASE_TAG, phase)
+                            .summary();
+            double meanAllocatedBytes = allocatedBytesSummary == null ? Double.NaN : allocatedBytesSummary.mean();
+            pointList.add(new MoveEvaluationProfileStatisticPoint(moveType, phase, snapshot.count(),
+                    snapshot.mean(TimeUnit.NANOSECONDS), p50Nanos, p90Nanos, p99Nanos,
+                    snapshot.max(TimeUnit.NANOSECONDS), meanAllocatedBytes));
+        }
+        pointList.sort(Comparator.comparing(MoveEvaluationProfileStatisticPoint::getMoveType)
+                .thenComparingInt(point -> getPhaseOrder(point.getPhase())));
+    }
+
+    private static int getPhaseOrder(String phase) {
+        for (MoveEvaluationPhase moveEvaluationPhase : MoveEvaluationPhase.values()) {
+            if (moveEvaluationPhase.getTagValue().equals(phase)) {
+                return moveEvaluationPhase.ordinal();
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    protected String getCsvHeader() {
+        return MoveEvaluationProfileStatisticPoint.buildCsvLine("moveType", "phase", "count", "meanNanos",
+                "p50Nanos", "p90Nanos", "p99Nanos", "maxNanos", "meanAllocatedBytes");
+    }
+
+    @Override
+    protected MoveEvaluationProfileStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new MoveEvaluationProfileStatisticPoint(csvLine.get(0), csvLine.get(1), Long.parseLong(csvLine.get(2)),
+                Double.parseDouble(csvLine.get(3)), Double.parseDouble(csvLine.get(4)), Double.parseDouble(csvLine.get(5)),
+                Double.parseDouble(csvLine.get(6)), Double.parseDouble(csvLine.get(7)), Double.parseDouble(csvLine.get(8)));
+    }
+
+    @Override
+    protected List<BarChart<Double>> generateCharts(BenchmarkReport benchmarkReport) {
+        if (getPointList().isEmpty()) {
+            return Collections.emptyList();
+        }
+        BarChart.Builder<Double> meanDurationBuilder = new BarChart.Builder<>();
+        BarChart.Builder<Double> percentileBuilder = new BarChart.Builder<>();
+        BarChart.Builder<Double> allocatedBytesBuilder = new BarChart.Builder<>();
+        for (MoveEvaluationProfileStatisticPoint point : getPointList()) {
+            String moveType = point.getMoveType();
+            String phase = point.getPhase();
+            meanDurationBuilder.add(phase, moveType, point.getMeanNanos());
+            String moveTypePhase = moveType + " " + phase;
+            addIfMeasured(percentileBuilder, "p50", moveTypePhase, point.getP50Nanos());
+            addIfMeasured(percentileBuilder, "p90", moveTypePhase, point.getP90Nanos());
+            addIfMeasured(percentileBuilder, "p99", moveTypePhase, point.getP99Nanos());
+            addIfMeasured(percentileBuilder, "max", moveTypePhase, point.getMaxNanos());
+            addIfMeasured(allocatedBytesBuilder, phase, moveType, point.getMeanAllocatedBytes());
+        }
+        List<BarChart<Double>> chartList = new ArrayList<>(3);
+        chartList.add(meanDurationBuilder.build("moveEvaluationProfileSubSingleStatisticChart",
+                subSingleBenchmarkResult.getName() + " move evaluation mean duration per phase statistic",
+                "Move type", "Mean duration (ns)", false));
+        chartList.add(percentileBuilder.build("moveEvaluationProfilePercentileSubSingleStatisticChart",
+                subSingleBenchmarkResult.getName() + " move evaluation duration percentiles statistic",
+                "Move type and phase", "Duration (ns)", false));
+        if (!allocatedBytesBuilder.keys().isEmpty()) {
+            chartList.add(allocatedBytesBuilder.build("moveEvaluationProfileAllocationSubSingleStatisticChart",
+                    subSingleBenchmarkResult.getName() + " move evaluation mean allocated bytes per phase statistic",
+                    "Move type", "Mean allocated bytes", false));
+        }
+        return chartList;
+    }
+
+    private static void addIfMeasured(BarChart.Builder<Double> builder, String dataset, String category, double value) {
+        if (!Double.isNaN(value)) {
+            builder.add(dataset, category, value);
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.probabilityselectionmemoryfootprint;
+
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+
+/**
+ * The memory footprint of the probability selection caches that are constructed at the end of a step.
+ */
+public class ProbabilitySelectionMemoryFootprintStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final long memoryFootprint;
+
+    public ProbabilitySelectionMemoryFootprintStatisticPoint(long timeMillisSpent, long memoryFootprint) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.memoryFootprint = memoryFootprint;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public long getMemoryFootprint() {
+        return memoryFootprint;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLine(timeMillisSpent, memoryFootprint);
+    }
+
+}
@@ -0,0 +1,68 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.probabilityselectionmemoryfootprint;
+
+import java.util.List;
+
+import ai.timefold.solver.benchmark.config.statistic.SingleStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.report.LineChart;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+
+import io.micrometer.core.instrument.Tags;
+
+public class ProbabilitySelectionMemoryFootprintSubSingleStatistic<Solution_>
+        extends
+        PureSubSingleStatistic<Solution_, ProbabilitySelectionMemoryFootprintStatisticPoint, LineChart<Long, Long>> {
+
+    private ProbabilitySelectionMemoryFootprintSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public ProbabilitySelectionMemoryFootprintSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.PROBABILITY_SELECTION_MEMORY_FOOTPRINT);
+    }
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
+        registry.addListener(SolverMetric.PROBABILITY_SELECTION_MEMORY_FOOTPRINT,
+                timeMillisSpent -> registry.getGaugeValue(SolverMetric.PROBABILITY_SELECTION_MEMORY_FOOTPRINT, runTag,
+                        memoryFootprint -> pointList.add(new ProbabilitySelectionMemoryFootprintStatisticPoint(
+                                timeMillisSpent, memoryFootprint.longValue()))));
+    }
+
+    @Override
+    protected String getCsvHeader() {
+        return ProbabilitySelectionMemoryFootprintStatisticPoint.buildCsvLine("timeMillisSpent", "memoryFootprint");
+    }
+
+    @Override
+    protected ProbabilitySelectionMemoryFootprintStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new ProbabilitySelectionMemoryFootprintStatisticPoint(Long.parseLong(csvLine.get(0)),
+                Long.parseLong(csvLine.get(1)));
+    }
+
+    @Override
+    protected List<LineChart<Long, Long>> generateCharts(BenchmarkReport benchmarkReport) {
+        LineChart.Builder<Long, Long> builder = new LineChart.Builder<>();
+        String seriesLabel = subSingleBenchmarkResult.getName();
+        for (ProbabilitySelectionMemoryFootprintStatisticPoint point : getPointList()) {
+            // Only add changes
+            long memoryFootprint = point.getMemoryFootprint();
+            if (builder.count(seriesLabel) == 0 || memoryFootprint != builder.getLastValue(seriesLabel)) {
+                builder.add(seriesLabel, point.getTimeMillisSpent(), memoryFootprint);
+            }
+        }
+        if (builder.count(seriesLabel) != 0) {
+            // Draw a horizontal line from the last change to how long the solver actually ran
+            builder.add(seriesLabel, subSingleBenchmarkResult.getTimeMillisSpent(), builder.getLastValue(seriesLabel));
+        }
+        return List.of(builder.build("probabilitySelectionMemoryFootprintSubSingleStatisticChart",
+                subSingleBenchmarkResult.getName() + " probability selection memory footprint statistic",
+                "Time spent", "Memory footprint (bytes)", false, true, false));
+    }
+
+}
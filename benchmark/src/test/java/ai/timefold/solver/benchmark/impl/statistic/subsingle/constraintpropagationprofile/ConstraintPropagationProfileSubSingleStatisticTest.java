@@ -0,0 +1,43 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintpropagationprofile;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.assertj.core.api.SoftAssertions;
+
+public final class ConstraintPropagationProfileSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<ConstraintPropagationProfileStatisticPoint, ConstraintPropagationProfileSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, ConstraintPropagationProfileSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return ConstraintPropagationProfileSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<ConstraintPropagationProfileStatisticPoint> getInputPoints() {
+        return Collections.singletonList(new ConstraintPropagationProfileStatisticPoint(Long.MAX_VALUE,
+                ConstraintRef.of("CP", "CN"), 1234.5, 10.0, 2.5, 7.5));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<ConstraintPropagationProfileStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(1)
+                .first()
+                .matches(s -> s.getConstraintRef().equals(ConstraintRef.of("CP", "CN")), "Constraints do not match.")
+                .matches(s -> s.getNanos() == 1234.5, "Nanos do not match.")
+                .matches(s -> s.getInsertCount() == 10.0, "Insert counts do not match.")
+                .matches(s -> s.getUpdateCount() == 2.5, "Update counts do not match.")
+                .matches(s -> s.getRetractCount() == 7.5, "Retract counts do not match.")
+                .matches(s -> s.getTimeMillisSpent() == Long.MAX_VALUE, "Millis do not match.");
+    }
+
+}
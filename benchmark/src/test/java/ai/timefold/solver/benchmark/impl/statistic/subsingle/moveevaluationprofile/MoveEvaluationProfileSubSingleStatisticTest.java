@@ -0,0 +1,54 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.moveevaluationprofile;
+
+import java.util.List;
+import java.util.function.Function;
+
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.assertj.core.api.SoftAssertions;
+
+public final class MoveEvaluationProfileSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<MoveEvaluationProfileStatisticPoint, MoveEvaluationProfileSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, MoveEvaluationProfileSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return MoveEvaluationProfileSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<MoveEvaluationProfileStatisticPoint> getInputPoints() {
+        return List.of(
+                new MoveEvaluationProfileStatisticPoint("SwapMove(A.class, B.class)", "score.calculation", Long.MAX_VALUE,
+                        1.5, 1.0, 2.0, 3.0, 4.0, 256.0),
+                new MoveEvaluationProfileStatisticPoint("ChangeMove(A.class)", "do.move", 1L,
+                        1.0, 1.0, 1.0, 1.0, 1.0, Double.NaN));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<MoveEvaluationProfileStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(2);
+        MoveEvaluationProfileStatisticPoint point = outputPoints.get(0);
+        assertions.assertThat(point.getMoveType())
+                .isEqualTo("SwapMove(A.class, B.class)");
+        assertions.assertThat(point.getPhase())
+                .isEqualTo("score.calculation");
+        assertions.assertThat(point.getCount())
+                .isEqualTo(Long.MAX_VALUE);
+        assertions.assertThat(point.getMeanNanos())
+                .isEqualTo(1.5);
+        assertions.assertThat(point.getP99Nanos())
+                .isEqualTo(3.0);
+        assertions.assertThat(point.getMaxNanos())
+                .isEqualTo(4.0);
+        assertions.assertThat(point.getMeanAllocatedBytes())
+                .isEqualTo(256.0);
+        assertions.assertThat(outputPoints.get(1).getMeanAllocatedBytes())
+                .isNaN();
+    }
+
+}
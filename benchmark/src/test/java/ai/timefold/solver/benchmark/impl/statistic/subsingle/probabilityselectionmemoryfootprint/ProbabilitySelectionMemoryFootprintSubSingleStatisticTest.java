@@ -0,0 +1,38 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.probabilityselectionmemoryfootprint;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.assertj.core.api.SoftAssertions;
+
+public final class ProbabilitySelectionMemoryFootprintSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<ProbabilitySelectionMemoryFootprintStatisticPoint, ProbabilitySelectionMemoryFootprintSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, ProbabilitySelectionMemoryFootprintSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return ProbabilitySelectionMemoryFootprintSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<ProbabilitySelectionMemoryFootprintStatisticPoint> getInputPoints() {
+        return Collections.singletonList(new ProbabilitySelectionMemoryFootprintStatisticPoint(Long.MAX_VALUE, 1_648L));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions,
+            List<ProbabilitySelectionMemoryFootprintStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(1)
+                .first()
+                .matches(s -> s.getMemoryFootprint() == 1_648L, "Memory footprints do not match.")
+                .matches(s -> s.getTimeMillisSpent() == Long.MAX_VALUE, "Millis do not match.");
+    }
+
+}
@@ -1,8 +1,10 @@
 package ai.timefold.solver.constraint.streams.bavet;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -16,6 +18,7 @@ import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.domain.constraintweight.descriptor.ConstraintConfigurationDescriptor;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 
 public final class BavetConstraintFactory<Solution_>
         extends InnerConstraintFactory<Solution_, BavetConstraint<Solution_>> {
@@ -92,6 +95,35 @@ public final class BavetConstraintFactory<Solution_>
         return share(new BavetForEachUniConstraintStream<>(this, sourceClass, null, RetrievalSemantics.STANDARD));
     }
 
+    @Override
+    public <A> UniConstraintStream<A> forEachReading(Class<A> sourceClass, String... variableNames) {
+        assertValidFromType(sourceClass);
+        Set<VariableDescriptor<Solution_>> readVariableDescriptorSet = findReadVariableDescriptors(sourceClass, variableNames);
+        Predicate<A> nullityFilter = getNullityFilter(sourceClass);
+        return share(new BavetForEachUniConstraintStream<>(this, sourceClass, nullityFilter, readVariableDescriptorSet,
+                RetrievalSemantics.STANDARD));
+    }
+
+    private Set<VariableDescriptor<Solution_>> findReadVariableDescriptors(Class<?> sourceClass, String... variableNames) {
+        EntityDescriptor<Solution_> entityDescriptor = getSolutionDescriptor().findEntityDescriptor(sourceClass);
+        if (entityDescriptor == null) {
+            throw new IllegalArgumentException("The sourceClass (" + sourceClass.getCanonicalName()
+                    + ") is not a planning entity class, so it has no variables to read.\n"
+                    + "Maybe use forEach() instead.");
+        }
+        Set<VariableDescriptor<Solution_>> readVariableDescriptorSet = new LinkedHashSet<>(variableNames.length);
+        for (String variableName : variableNames) {
+            VariableDescriptor<Solution_> variableDescriptor = entityDescriptor.getVariableDescriptor(variableName);
+            if (variableDescriptor == null) {
+                throw new IllegalArgumentException("The sourceClass (" + sourceClass.getCanonicalName()
+                        + ") has no variable with the name (" + variableName + ").\n"
+                        + "Maybe use one of its variables (" + entityDescriptor.getVariableDescriptorMap().keySet() + ").");
+            }
+            readVariableDescriptorSet.add(variableDescriptor);
+        }
+        return readVariableDescriptorSet;
+    }
+
     @Override
     public <A> UniConstraintStream<A> from(Class<A> fromClass) {
         assertValidFromType(fromClass);
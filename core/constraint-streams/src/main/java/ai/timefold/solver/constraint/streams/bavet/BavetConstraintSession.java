@@ -1,17 +1,22 @@
 package ai.timefold.solver.constraint.streams.bavet;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import ai.timefold.solver.constraint.streams.bavet.common.AbstractScorer;
 import ai.timefold.solver.constraint.streams.bavet.common.PropagationQueue;
 import ai.timefold.solver.constraint.streams.bavet.common.Propagator;
 import ai.timefold.solver.constraint.streams.bavet.uni.AbstractForEachUniNode;
 import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ConstraintAnalysis;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 
 /**
  * The type is public to make it easier for Bavet-specific minimal bug reproducers to be created.
@@ -26,18 +31,31 @@ public final class BavetConstraintSession<Score_ extends Score<Score_>> {
     private final Map<Class<?>, List<AbstractForEachUniNode<Object>>> declaredClassToNodeMap;
     private final Propagator[][] layeredNodes; // First level is the layer, second determines iteration order.
     private final Map<Class<?>, AbstractForEachUniNode<Object>[]> effectiveClassToNodeArrayMap;
+    /**
+     * Only contains the nodes that declared which variables they read, see {@link #update(Object, VariableDescriptor)}.
+     */
+    private final Map<AbstractForEachUniNode<Object>, Set<? extends VariableDescriptor<?>>> nodeToReadVariableDescriptorSetMap;
+    private final Map<VariableDescriptor<?>, Map<Class<?>, VariableUpdateNodes>> effectiveVariableToClassToNodesMap;
+    /**
+     * Only contains the scorers that batch their impact, see {@link AbstractScorer#isImpactBatched()}.
+     */
+    private final AbstractScorer<?>[] impactBatchingScorers;
 
     BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner) {
-        this(scoreInliner, Collections.emptyMap(), new Propagator[0][0]);
+        this(scoreInliner, Collections.emptyMap(), Collections.emptyMap(), new Propagator[0][0], new AbstractScorer[0]);
     }
 
     BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
             Map<Class<?>, List<AbstractForEachUniNode<Object>>> declaredClassToNodeMap,
-            Propagator[][] layeredNodes) {
+            Map<AbstractForEachUniNode<Object>, Set<? extends VariableDescriptor<?>>> nodeToReadVariableDescriptorSetMap,
+            Propagator[][] layeredNodes, AbstractScorer<?>[] impactBatchingScorers) {
         this.scoreInliner = scoreInliner;
         this.declaredClassToNodeMap = declaredClassToNodeMap;
+        this.nodeToReadVariableDescriptorSetMap = nodeToReadVariableDescriptorSetMap;
         this.layeredNodes = layeredNodes;
+        this.impactBatchingScorers = impactBatchingScorers;
         this.effectiveClassToNodeArrayMap = new IdentityHashMap<>(declaredClassToNodeMap.size());
+        this.effectiveVariableToClassToNodesMap = new IdentityHashMap<>();
     }
 
     public void insert(Object fact) {
@@ -69,6 +87,83 @@ public final class BavetConstraintSession<Score_ extends Score<Score_>> {
         }
     }
 
+    /**
+     * As defined by {@link #update(Object)},
+     * but skips the nodes (and therefore the entire subnetworks) that declared they do not read the changed variable.
+     * Such nodes only insert or retract the fact if it starts or stops passing their filter.
+     *
+     * @param fact never null, a planning entity
+     * @param variableDescriptor never null, the variable of the fact that changed
+     */
+    public void update(Object fact, VariableDescriptor<?> variableDescriptor) {
+        if (nodeToReadVariableDescriptorSetMap.isEmpty()) { // No node declared which variables it reads.
+            update(fact);
+            return;
+        }
+        var nodes = findNodes(fact.getClass(), variableDescriptor);
+        for (var node : nodes.readingNodes) {
+            node.update(fact);
+        }
+        for (var node : nodes.otherNodes) {
+            node.updateMembership(fact);
+        }
+    }
+
+    /**
+     * As defined by {@link #update(Object, VariableDescriptor)}, for every fact in a range of a list.
+     * The nodes still update one fact at a time,
+     * but they are only looked up again when the class of the fact differs from the previous fact.
+     *
+     * @param factList never null, planning entities
+     * @param fromIndex low endpoint (inclusive) of the range of facts that changed
+     * @param toIndex high endpoint (exclusive) of the range of facts that changed
+     * @param variableDescriptor never null, the variable of the facts that changed
+     */
+    public void update(List<?> factList, int fromIndex, int toIndex, VariableDescriptor<?> variableDescriptor) {
+        Class<?> nodesFactClass = null;
+        VariableUpdateNodes nodes = null;
+        for (var i = fromIndex; i < toIndex; i++) {
+            var fact = factList.get(i);
+            if (fact.getClass() != nodesFactClass) {
+                nodesFactClass = fact.getClass();
+                // If no node declared which variables it reads, all nodes read the variable.
+                nodes = findNodes(nodesFactClass, variableDescriptor);
+            }
+            for (var node : nodes.readingNodes) {
+                node.update(fact);
+            }
+            for (var node : nodes.otherNodes) {
+                node.updateMembership(fact);
+            }
+        }
+    }
+
+    private VariableUpdateNodes findNodes(Class<?> factClass, VariableDescriptor<?> variableDescriptor) {
+        // Map.computeIfAbsent() would have created lambdas on the hot path, this will not.
+        var classToNodesMap = effectiveVariableToClassToNodesMap.get(variableDescriptor);
+        if (classToNodesMap == null) {
+            classToNodesMap = new IdentityHashMap<>(declaredClassToNodeMap.size());
+            effectiveVariableToClassToNodesMap.put(variableDescriptor, classToNodesMap);
+        }
+        var nodes = classToNodesMap.get(factClass);
+        if (nodes == null) {
+            List<AbstractForEachUniNode<Object>> readingNodeList = new ArrayList<>();
+            List<AbstractForEachUniNode<Object>> otherNodeList = new ArrayList<>();
+            for (var node : findNodes(factClass)) {
+                var readVariableDescriptorSet = nodeToReadVariableDescriptorSetMap.get(node);
+                if (readVariableDescriptorSet == null || readVariableDescriptorSet.contains(variableDescriptor)) {
+                    readingNodeList.add(node);
+                } else {
+                    otherNodeList.add(node);
+                }
+            }
+            nodes = new VariableUpdateNodes(readingNodeList.toArray(AbstractForEachUniNode[]::new),
+                    otherNodeList.toArray(AbstractForEachUniNode[]::new));
+            classToNodesMap.put(factClass, nodes);
+        }
+        return nodes;
+    }
+
     public void retract(Object fact) {
         var factClass = fact.getClass();
         for (var node : findNodes(factClass)) {
@@ -81,6 +176,9 @@ public final class BavetConstraintSession<Score_ extends Score<Score_>> {
         for (var layerIndex = 0; layerIndex < layerCount; layerIndex++) {
             calculateScoreInLayer(layerIndex);
         }
+        for (var scorer : impactBatchingScorers) {
+            scorer.flushBatchedImpact();
+        }
         return scoreInliner.extractScore(initScore);
     }
 
@@ -110,8 +208,21 @@ public final class BavetConstraintSession<Score_ extends Score<Score_>> {
         return scoreInliner.getConstraintIdToConstraintMatchTotalMap();
     }
 
+    public List<ConstraintAnalysis<Score_>> getConstraintMatchCountAnalyses() {
+        return scoreInliner.extractConstraintMatchCountAnalyses();
+    }
+
+    public List<ConstraintAnalysis<Score_>> getConstraintAnalyses(int matchLimit) {
+        return scoreInliner.extractConstraintAnalyses(matchLimit);
+    }
+
     public Map<Object, Indictment<Score_>> getIndictmentMap() {
         return scoreInliner.getIndictmentMap();
     }
 
+    private record VariableUpdateNodes(AbstractForEachUniNode<Object>[] readingNodes,
+            AbstractForEachUniNode<Object>[] otherNodes) {
+
+    }
+
 }
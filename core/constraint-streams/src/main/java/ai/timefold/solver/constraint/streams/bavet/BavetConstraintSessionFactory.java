@@ -3,6 +3,7 @@ package ai.timefold.solver.constraint.streams.bavet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -15,6 +16,7 @@ import ai.timefold.solver.constraint.streams.bavet.common.AbstractConcatNode;
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractIfExistsNode;
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractJoinNode;
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractNode;
+import ai.timefold.solver.constraint.streams.bavet.common.AbstractScorer;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetAbstractConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetConcatConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetIfExistsConstraintStream;
@@ -24,14 +26,25 @@ import ai.timefold.solver.constraint.streams.bavet.common.NodeBuildHelper;
 import ai.timefold.solver.constraint.streams.bavet.common.PropagationQueue;
 import ai.timefold.solver.constraint.streams.bavet.common.Propagator;
 import ai.timefold.solver.constraint.streams.bavet.uni.AbstractForEachUniNode;
+import ai.timefold.solver.constraint.streams.bavet.uni.BavetForEachUniConstraintStream;
 import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 
 public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score<Score_>> {
 
+    /**
+     * Set to {@code false} to impact the score per match, instead of once per score calculation.
+     * Either way, the scorers which support it impact the score without an undo object per match,
+     * see {@link AbstractScorer} for the primitive and the batched impact.
+     */
+    public static final String IMPACT_BATCHING_PROPERTY_NAME = "ai.timefold.solver.constraint.streams.bavet.impactBatching";
+
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final List<BavetConstraint<Solution_>> constraintList;
 
@@ -47,10 +60,23 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     public BavetConstraintSession<Score_> buildSession(boolean constraintMatchEnabled,
             Solution_ workingSolution) {
+        return buildSession(constraintMatchEnabled, workingSolution, null);
+    }
+
+    /**
+     * @param constraintMatchEnabled true if the session must keep track of the constraint matches
+     * @param workingSolution sometimes null, to extract the constraint weights from
+     * @param constraintProfiler null if the nodes are not profiled
+     * @return never null
+     */
+    public BavetConstraintSession<Score_> buildSession(boolean constraintMatchEnabled,
+            Solution_ workingSolution, ConstraintProfiler constraintProfiler) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         Score_ zeroScore = scoreDefinition.getZeroScore();
         Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet = new LinkedHashSet<>();
         Map<Constraint, Score_> constraintWeightMap = new HashMap<>(constraintList.size());
+        Map<BavetAbstractConstraintStream<Solution_>, List<ConstraintRef>> streamToConstraintRefListMap =
+                constraintProfiler == null ? Collections.emptyMap() : new IdentityHashMap<>();
         for (BavetConstraint<Solution_> constraint : constraintList) {
             Score_ constraintWeight = constraint.extractConstraintWeight(workingSolution);
             /*
@@ -64,6 +90,14 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                  */
                 constraint.collectActiveConstraintStreams(constraintStreamSet);
                 constraintWeightMap.put(constraint, constraintWeight);
+                if (constraintProfiler != null) {
+                    Set<BavetAbstractConstraintStream<Solution_>> constraintOwnStreamSet = new LinkedHashSet<>();
+                    constraint.collectActiveConstraintStreams(constraintOwnStreamSet);
+                    for (BavetAbstractConstraintStream<Solution_> constraintStream : constraintOwnStreamSet) {
+                        streamToConstraintRefListMap.computeIfAbsent(constraintStream, k -> new ArrayList<>())
+                                .add(constraint.getConstraintRef());
+                    }
+                }
             }
         }
         AbstractScoreInliner<Score_> scoreInliner =
@@ -75,7 +109,9 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
          * Build constraintStreamSet in reverse order to create downstream nodes first
          * so every node only has final variables (some of which have downstream node method references).
          */
-        NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(constraintStreamSet, scoreInliner);
+        boolean impactBatchingEnabled = !"false".equalsIgnoreCase(System.getProperty(IMPACT_BATCHING_PROPERTY_NAME));
+        NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(constraintStreamSet, scoreInliner, impactBatchingEnabled,
+                constraintProfiler, streamToConstraintRefListMap);
         List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList = new ArrayList<>(constraintStreamSet);
         Collections.reverse(reversedConstraintStreamList);
         for (BavetAbstractConstraintStream<Solution_> constraintStream : reversedConstraintStreamList) {
@@ -83,6 +119,8 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
         }
         List<AbstractNode> nodeList = buildHelper.destroyAndGetNodeList();
         Map<Class<?>, List<AbstractForEachUniNode<Object>>> declaredClassToNodeMap = new LinkedHashMap<>();
+        Map<AbstractForEachUniNode<Object>, Set<? extends VariableDescriptor<?>>> nodeToReadVariableDescriptorSetMap =
+                new IdentityHashMap<>();
         long nextNodeId = 0;
         for (AbstractNode node : nodeList) {
             /*
@@ -95,11 +133,23 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                 Class<?> forEachClass = forEachUniNode.getForEachClass();
                 List<AbstractForEachUniNode<Object>> forEachUniNodeList =
                         declaredClassToNodeMap.computeIfAbsent(forEachClass, k -> new ArrayList<>());
-                if (forEachUniNodeList.size() == 2) {
-                    // Each class can have at most two forEach nodes: one including null vars, the other excluding them.
-                    throw new IllegalStateException("Impossible state: For class (" + forEachClass
-                            + ") there are already 2 nodes (" + forEachUniNodeList + "), not adding another ("
-                            + forEachUniNode + ").");
+                var readVariableDescriptorSet =
+                        ((BavetForEachUniConstraintStream<?, ?>) buildHelper.getNodeCreatingStream(forEachUniNode))
+                                .getReadVariableDescriptorSet();
+                if (readVariableDescriptorSet == null) {
+                    long nodeReadingAllVariablesCount = forEachUniNodeList.stream()
+                            .filter(n -> !nodeToReadVariableDescriptorSetMap.containsKey(n))
+                            .count();
+                    if (nodeReadingAllVariablesCount == 2) {
+                        // Each class can have at most two forEach nodes reading every variable:
+                        // one including null vars, the other excluding them.
+                        throw new IllegalStateException("Impossible state: For class (" + forEachClass
+                                + ") there are already 2 nodes (" + forEachUniNodeList + "), not adding another ("
+                                + forEachUniNode + ").");
+                    }
+                } else {
+                    nodeToReadVariableDescriptorSetMap.put((AbstractForEachUniNode<Object>) forEachUniNode,
+                            readVariableDescriptorSet);
                 }
                 forEachUniNodeList.add((AbstractForEachUniNode<Object>) forEachUniNode);
             }
@@ -115,7 +165,8 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
             List<Propagator> layer = layerMap.get((long) i);
             layeredNodes[i] = layer.toArray(new Propagator[0]);
         }
-        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, layeredNodes);
+        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, nodeToReadVariableDescriptorSetMap,
+                layeredNodes, buildHelper.getImpactBatchingScorerList().toArray(new AbstractScorer[0]));
     }
 
     /**
@@ -1,16 +1,20 @@
 package ai.timefold.solver.constraint.streams.bavet;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ConstraintAnalysis;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler;
 import ai.timefold.solver.core.impl.score.director.AbstractScoreDirector;
 
 /**
@@ -25,6 +29,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         extends AbstractScoreDirector<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
 
     protected BavetConstraintSession<Score_> session;
+    private ConstraintProfiler constraintProfiler = null;
 
     public BavetConstraintStreamScoreDirector(BavetConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference, boolean expectShadowVariablesInCorrectState) {
@@ -42,10 +47,15 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     }
 
     private void resetConstraintStreamingSession() {
-        session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, workingSolution);
+        session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, workingSolution, constraintProfiler);
         getSolutionDescriptor().visitAll(workingSolution, session::insert);
     }
 
+    @Override
+    public void setConstraintProfiler(ConstraintProfiler constraintProfiler) {
+        this.constraintProfiler = constraintProfiler;
+    }
+
     @Override
     public Score_ calculateScore() {
         variableListenerSupport.assertNotificationQueuesAreEmpty();
@@ -68,6 +78,24 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return session.getConstraintMatchTotalMap();
     }
 
+    @Override
+    public Collection<ConstraintAnalysis<Score_>> getConstraintMatchCountAnalyses() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getConstraintMatchCountAnalyses().");
+        }
+        return session.getConstraintMatchCountAnalyses();
+    }
+
+    @Override
+    public Collection<ConstraintAnalysis<Score_>> getConstraintAnalyses(int matchLimit) {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getConstraintAnalyses().");
+        }
+        return session.getConstraintAnalyses(matchLimit);
+    }
+
     @Override
     public Map<Object, Indictment<Score_>> getIndictmentMap() {
         if (workingSolution == null) {
@@ -111,14 +139,21 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
-        session.update(entity);
+        session.update(entity, variableDescriptor);
         super.afterVariableChanged(variableDescriptor, entity);
     }
 
+    @Override
+    public void afterVariableRangeChanged(VariableDescriptor<Solution_> variableDescriptor, List<?> entityList,
+            int fromIndex, int toIndex) {
+        session.update(entityList, fromIndex, toIndex, variableDescriptor);
+        super.afterVariableRangeChanged(variableDescriptor, entityList, fromIndex, toIndex);
+    }
+
     @Override
     public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity, int fromIndex,
             int toIndex) {
-        session.update(entity);
+        session.update(entity, variableDescriptor);
         super.afterListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
     }
 
@@ -10,6 +10,7 @@ import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler;
 
 public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         extends AbstractConstraintStreamScoreDirectorFactory<Solution_, Score_> {
@@ -33,7 +34,12 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
     }
 
     public BavetConstraintSession<Score_> newSession(boolean constraintMatchEnabled, Solution_ workingSolution) {
-        return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution);
+        return newSession(constraintMatchEnabled, workingSolution, null);
+    }
+
+    public BavetConstraintSession<Score_> newSession(boolean constraintMatchEnabled, Solution_ workingSolution,
+            ConstraintProfiler constraintProfiler) {
+        return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution, constraintProfiler);
     }
 
     @Override
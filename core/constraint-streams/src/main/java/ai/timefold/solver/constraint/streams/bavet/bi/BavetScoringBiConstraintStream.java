@@ -70,11 +70,18 @@ final class BavetScoringBiConstraintStream<Solution_, A, B>
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         assertEmptyChildStreamList();
         var constraintMatchEnabled = buildHelper.getScoreInliner().isConstraintMatchEnabled();
-        var scoreImpacter = constraintMatchEnabled ? buildScoreImpacterWithConstraintMatch() : buildScoreImpacter();
         var weightedScoreImpacter = buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint);
-        var scorer = new BiScorer<>(weightedScoreImpacter, scoreImpacter,
-                buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
-        buildHelper.putInsertUpdateRetract(this, scorer);
+        // BigDecimal match weights allocate anyway, so they are not impacted as a primitive.
+        var primitiveImpact = !constraintMatchEnabled && weightedScoreImpacter.supportsReversibleImpact()
+                && bigDecimalMatchWeigher == null;
+        var inputStoreIndex = buildHelper.reserveTupleStoreIndex(parent.getTupleSource());
+        var scorer = primitiveImpact
+                ? new BiScorer<>(weightedScoreImpacter, buildMatchWeigher(), buildHelper.isImpactBatchingEnabled(),
+                        inputStoreIndex)
+                : new BiScorer<>(weightedScoreImpacter,
+                        constraintMatchEnabled ? buildScoreImpacterWithConstraintMatch() : buildScoreImpacter(),
+                        inputStoreIndex);
+        buildHelper.putScorer(this, scorer);
     }
 
     private TriFunction<WeightedScoreImpacter<?, ?>, A, B, UndoScoreImpacter> buildScoreImpacter() {
@@ -98,6 +105,31 @@ final class BavetScoringBiConstraintStream<Solution_, A, B>
         }
     }
 
+    /**
+     * Neither creates an {@link UndoScoreImpacter} per match, nor impacts the score.
+     * The scorer keeps the match weight in the tuple store instead and impacts the score with it,
+     * per match or once per score calculation.
+     *
+     * @return never null
+     */
+    private ToLongBiFunction<A, B> buildMatchWeigher() {
+        if (intMatchWeigher != null) {
+            return (a, b) -> {
+                int matchWeight = intMatchWeigher.applyAsInt(a, b);
+                constraint.assertCorrectImpact(matchWeight);
+                return matchWeight;
+            };
+        } else if (longMatchWeigher != null) {
+            return (a, b) -> {
+                long matchWeight = longMatchWeigher.applyAsLong(a, b);
+                constraint.assertCorrectImpact(matchWeight);
+                return matchWeight;
+            };
+        } else {
+            throw new IllegalStateException("Impossible state: BigDecimal match weights are not impacted as a primitive.");
+        }
+    }
+
     private TriFunction<WeightedScoreImpacter<?, ?>, A, B, UndoScoreImpacter> buildScoreImpacterWithConstraintMatch() {
         if (intMatchWeigher != null) {
             return (impacter, a, b) -> {
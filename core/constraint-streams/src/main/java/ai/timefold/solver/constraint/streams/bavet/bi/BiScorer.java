@@ -1,5 +1,7 @@
 package ai.timefold.solver.constraint.streams.bavet.bi;
 
+import java.util.function.ToLongBiFunction;
+
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractScorer;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.constraint.streams.common.inliner.UndoScoreImpacter;
@@ -9,11 +11,26 @@ import ai.timefold.solver.core.api.function.TriFunction;
 final class BiScorer<A, B> extends AbstractScorer<BiTuple<A, B>> {
 
     private final TriFunction<WeightedScoreImpacter<?, ?>, A, B, UndoScoreImpacter> scoreImpacter;
+    private final ToLongBiFunction<A, B> matchWeigher;
 
     public BiScorer(WeightedScoreImpacter<?, ?> weightedScoreImpacter,
             TriFunction<WeightedScoreImpacter<?, ?>, A, B, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
-        super(weightedScoreImpacter, inputStoreIndex);
+        super(weightedScoreImpacter, false, false, inputStoreIndex);
         this.scoreImpacter = scoreImpacter;
+        this.matchWeigher = null;
+    }
+
+    /**
+     * @param weightedScoreImpacter never null, {@link WeightedScoreImpacter#supportsReversibleImpact()} must be true
+     * @param matchWeigher never null, returns the match weight after checking it
+     * @param impactBatched true if the impact is added to the score once per score calculation
+     * @param inputStoreIndex the tuple store index of the match weight
+     */
+    public BiScorer(WeightedScoreImpacter<?, ?> weightedScoreImpacter, ToLongBiFunction<A, B> matchWeigher,
+            boolean impactBatched, int inputStoreIndex) {
+        super(weightedScoreImpacter, true, impactBatched, inputStoreIndex);
+        this.scoreImpacter = null;
+        this.matchWeigher = matchWeigher;
     }
 
     @Override
@@ -24,4 +41,13 @@ final class BiScorer<A, B> extends AbstractScorer<BiTuple<A, B>> {
             throw createExceptionOnImpact(tuple, e);
         }
     }
+
+    @Override
+    protected long matchWeight(BiTuple<A, B> tuple) {
+        try {
+            return matchWeigher.applyAsLong(tuple.factA, tuple.factB);
+        } catch (Exception e) {
+            throw createExceptionOnImpact(tuple, e);
+        }
+    }
 }
@@ -1,18 +1,71 @@
 package ai.timefold.solver.constraint.streams.bavet.common;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.constraint.streams.common.inliner.UndoScoreImpacter;
 import ai.timefold.solver.constraint.streams.common.inliner.WeightedScoreImpacter;
 
+/**
+ * If the impact is {@link #isPrimitiveImpact() primitive},
+ * the scorer keeps the match weight of a tuple in a mutable holder in the tuple store,
+ * instead of the {@link UndoScoreImpacter} of that match,
+ * and undoes the impact of that match by impacting the negated match weight.
+ * That relies on the impact being linear in the match weight,
+ * see {@link WeightedScoreImpacter#supportsReversibleImpact()}.
+ * The holder is reused when the tuple is updated and recycled when it is retracted,
+ * so neither a match weight nor its undo is ever allocated.
+ * <p>
+ * If the impact is also {@link #isImpactBatched() batched},
+ * the scorer only sums the match weights of the inserted, updated and retracted tuples,
+ * and adds that sum to the score once per score calculation, see {@link #flushBatchedImpact()}.
+ * Otherwise, it impacts the score per match.
+ *
+ * @param <Tuple_>
+ */
 public abstract class AbstractScorer<Tuple_ extends AbstractTuple> implements TupleLifecycle<Tuple_> {
 
     protected final WeightedScoreImpacter<?, ?> weightedScoreImpacter;
+    private final boolean primitiveImpact;
+    private final boolean impactBatched;
     private final int inputStoreIndex;
 
-    protected AbstractScorer(WeightedScoreImpacter<?, ?> weightedScoreImpacter, int inputStoreIndex) {
+    // Only used if primitiveImpact.
+    private final List<MatchWeight> recycledMatchWeightList;
+    // Only used if impactBatched.
+    private long batchedMatchWeight = 0L;
+
+    /**
+     * @param weightedScoreImpacter never null
+     * @param primitiveImpact true if {@link #matchWeight(AbstractTuple)} is called instead of {@link #impact(AbstractTuple)}
+     * @param impactBatched true if the primitive impact is added to the score once per score calculation,
+     *        ignored unless primitiveImpact is true
+     * @param inputStoreIndex the tuple store index of the match weight or the {@link UndoScoreImpacter}
+     */
+    protected AbstractScorer(WeightedScoreImpacter<?, ?> weightedScoreImpacter, boolean primitiveImpact,
+            boolean impactBatched, int inputStoreIndex) {
         this.weightedScoreImpacter = weightedScoreImpacter;
+        this.primitiveImpact = primitiveImpact;
+        this.impactBatched = primitiveImpact && impactBatched;
         this.inputStoreIndex = inputStoreIndex;
+        this.recycledMatchWeightList = primitiveImpact ? new ArrayList<>() : null;
+    }
+
+    /**
+     * @return true if {@link #matchWeight(AbstractTuple)} is called instead of {@link #impact(AbstractTuple)}
+     */
+    public final boolean isPrimitiveImpact() {
+        return primitiveImpact;
+    }
+
+    /**
+     * @return true if {@link #flushBatchedImpact()} must be called before the score is extracted,
+     *         never true unless {@link #isPrimitiveImpact()}
+     */
+    public final boolean isImpactBatched() {
+        return impactBatched;
     }
 
     @Override
@@ -21,21 +74,82 @@ public abstract class AbstractScorer<Tuple_ extends AbstractTuple> implements Tu
             throw new IllegalStateException("Impossible state: the input for the tuple (" + tuple
                     + ") was already added in the tupleStore.");
         }
-        tuple.setStore(inputStoreIndex, impact(tuple));
+        if (primitiveImpact) {
+            var matchWeight = newMatchWeight();
+            matchWeight.value = matchWeight(tuple);
+            impactMatchWeight(matchWeight.value);
+            tuple.setStore(inputStoreIndex, matchWeight);
+        } else {
+            tuple.setStore(inputStoreIndex, impact(tuple));
+        }
     }
 
     @Override
     public final void update(Tuple_ tuple) {
-        UndoScoreImpacter undoScoreImpacter = tuple.getStore(inputStoreIndex);
-        // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
-        if (undoScoreImpacter != null) {
-            undoScoreImpacter.run();
+        if (primitiveImpact) {
+            MatchWeight matchWeight = tuple.getStore(inputStoreIndex);
+            // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
+            if (matchWeight == null) {
+                matchWeight = newMatchWeight();
+                tuple.setStore(inputStoreIndex, matchWeight);
+                matchWeight.value = matchWeight(tuple);
+                impactMatchWeight(matchWeight.value);
+            } else {
+                var oldMatchWeight = matchWeight.value;
+                matchWeight.value = matchWeight(tuple);
+                impactMatchWeight(matchWeight.value - oldMatchWeight);
+            }
+        } else {
+            UndoScoreImpacter undoScoreImpacter = tuple.getStore(inputStoreIndex);
+            // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
+            if (undoScoreImpacter != null) {
+                undoScoreImpacter.run();
+            }
+            tuple.setStore(inputStoreIndex, impact(tuple));
         }
-        tuple.setStore(inputStoreIndex, impact(tuple));
     }
 
+    /**
+     * Only called if the impact is not {@link #isPrimitiveImpact() primitive}.
+     *
+     * @param tuple never null
+     * @return never null
+     */
     protected abstract UndoScoreImpacter impact(Tuple_ tuple);
 
+    /**
+     * Only called if the impact is {@link #isPrimitiveImpact() primitive}.
+     * It does not impact the score.
+     *
+     * @param tuple never null
+     * @return the int or long match weight, already checked
+     */
+    protected abstract long matchWeight(Tuple_ tuple);
+
+    private MatchWeight newMatchWeight() {
+        var size = recycledMatchWeightList.size();
+        return size == 0 ? new MatchWeight() : recycledMatchWeightList.remove(size - 1);
+    }
+
+    private void impactMatchWeight(long matchWeightDelta) {
+        if (impactBatched) {
+            batchedMatchWeight += matchWeightDelta;
+        } else if (matchWeightDelta != 0L) {
+            weightedScoreImpacter.impactScoreSum(matchWeightDelta);
+        }
+    }
+
+    /**
+     * Adds the sum of the match weights, batched since the previous call, to the score.
+     * Called once per score calculation, after all tuples have been propagated.
+     */
+    public final void flushBatchedImpact() {
+        if (batchedMatchWeight != 0L) {
+            weightedScoreImpacter.impactScoreSum(batchedMatchWeight);
+            batchedMatchWeight = 0L;
+        }
+    }
+
     /**
      * Helps with debugging exceptions thrown by user code during impact calls.
      *
@@ -52,10 +166,16 @@ public abstract class AbstractScorer<Tuple_ extends AbstractTuple> implements Tu
 
     @Override
     public final void retract(Tuple_ tuple) {
-        UndoScoreImpacter undoScoreImpacter = tuple.getStore(inputStoreIndex);
+        Object impact = tuple.getStore(inputStoreIndex);
         // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
-        if (undoScoreImpacter != null) {
-            undoScoreImpacter.run();
+        if (impact != null) {
+            if (primitiveImpact) {
+                var matchWeight = (MatchWeight) impact;
+                impactMatchWeight(-matchWeight.value);
+                recycledMatchWeightList.add(matchWeight);
+            } else {
+                ((UndoScoreImpacter) impact).run();
+            }
             tuple.setStore(inputStoreIndex, null);
         }
     }
@@ -66,4 +186,10 @@ public abstract class AbstractScorer<Tuple_ extends AbstractTuple> implements Tu
                 + ") with constraintWeight (" + weightedScoreImpacter.getContext().getConstraintWeight() + ")";
     }
 
+    private static final class MatchWeight {
+
+        private long value;
+
+    }
+
 }
@@ -11,32 +11,58 @@ import java.util.function.Function;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractConditionalTupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.LeftTupleLifecycle;
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.ProfilingTupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.RightTupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.uni.AbstractForEachUniNode;
 import ai.timefold.solver.constraint.streams.common.AbstractConstraintStream;
 import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.api.score.stream.ConstraintStream;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler.NodeProfile;
 
 public final class NodeBuildHelper<Score_ extends Score<Score_>> {
 
     private final Set<? extends ConstraintStream> activeStreamSet;
     private final AbstractScoreInliner<Score_> scoreInliner;
+    private final boolean impactBatchingEnabled;
     private final Map<AbstractNode, BavetAbstractConstraintStream<?>> nodeCreatorMap;
     private final Map<ConstraintStream, TupleLifecycle<? extends AbstractTuple>> tupleLifecycleMap;
     private final Map<ConstraintStream, Integer> storeIndexMap;
+    private final List<AbstractScorer<?>> impactBatchingScorerList;
+    private final ConstraintProfiler constraintProfiler;
+    private final Map<? extends ConstraintStream, List<ConstraintRef>> streamToConstraintRefListMap;
 
     private List<AbstractNode> reversedNodeList;
 
     public NodeBuildHelper(Set<? extends ConstraintStream> activeStreamSet, AbstractScoreInliner<Score_> scoreInliner) {
+        this(activeStreamSet, scoreInliner, true, null, Collections.emptyMap());
+    }
+
+    /**
+     * @param activeStreamSet never null
+     * @param scoreInliner never null
+     * @param impactBatchingEnabled false if every scorer must impact the score per match
+     * @param constraintProfiler null if the nodes are not profiled
+     * @param streamToConstraintRefListMap never null, the constraints that use each active stream,
+     *        ignored if constraintProfiler is null
+     */
+    public NodeBuildHelper(Set<? extends ConstraintStream> activeStreamSet, AbstractScoreInliner<Score_> scoreInliner,
+            boolean impactBatchingEnabled, ConstraintProfiler constraintProfiler,
+            Map<? extends ConstraintStream, List<ConstraintRef>> streamToConstraintRefListMap) {
         this.activeStreamSet = activeStreamSet;
         this.scoreInliner = scoreInliner;
+        this.impactBatchingEnabled = impactBatchingEnabled;
         int activeStreamSetSize = activeStreamSet.size();
         this.nodeCreatorMap = new HashMap<>(Math.max(16, activeStreamSetSize));
         this.tupleLifecycleMap = new HashMap<>(Math.max(16, activeStreamSetSize));
         this.storeIndexMap = new HashMap<>(Math.max(16, activeStreamSetSize / 2));
         this.reversedNodeList = new ArrayList<>(activeStreamSetSize);
+        this.impactBatchingScorerList = new ArrayList<>();
+        this.constraintProfiler = constraintProfiler;
+        this.streamToConstraintRefListMap = streamToConstraintRefListMap;
     }
 
     public boolean isStreamActive(ConstraintStream stream) {
@@ -47,6 +73,13 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
         return scoreInliner;
     }
 
+    /**
+     * @return false if the scorers must not batch their impact, even if they could
+     */
+    public boolean isImpactBatchingEnabled() {
+        return impactBatchingEnabled;
+    }
+
     public void addNode(AbstractNode node, BavetAbstractConstraintStream<?> creator) {
         addNode(node, creator, creator);
     }
@@ -73,9 +106,22 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
 
     public <Tuple_ extends AbstractTuple> void putInsertUpdateRetract(ConstraintStream stream,
             TupleLifecycle<Tuple_> tupleLifecycle) {
+        if (constraintProfiler != null) {
+            List<ConstraintRef> constraintRefList = streamToConstraintRefListMap.get(stream);
+            NodeProfile nodeProfile = constraintProfiler.registerNode(stream, stream.toString(),
+                    constraintRefList == null ? Collections.emptyList() : constraintRefList);
+            tupleLifecycle = new ProfilingTupleLifecycle<>(tupleLifecycle, constraintProfiler, nodeProfile);
+        }
         tupleLifecycleMap.put(stream, tupleLifecycle);
     }
 
+    public <Tuple_ extends AbstractTuple> void putScorer(ConstraintStream stream, AbstractScorer<Tuple_> scorer) {
+        putInsertUpdateRetract(stream, scorer);
+        if (scorer.isImpactBatched()) {
+            impactBatchingScorerList.add(scorer);
+        }
+    }
+
     public <Tuple_ extends AbstractTuple> void putInsertUpdateRetract(ConstraintStream stream,
             List<? extends AbstractConstraintStream<?>> childStreamList,
             Function<TupleLifecycle<Tuple_>, AbstractConditionalTupleLifecycle<Tuple_>> tupleLifecycleFunction) {
@@ -134,6 +180,13 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
         return nodeList;
     }
 
+    /**
+     * @return never null, the scorers which need {@link AbstractScorer#flushBatchedImpact()} before the score is extracted
+     */
+    public List<AbstractScorer<?>> getImpactBatchingScorerList() {
+        return impactBatchingScorerList;
+    }
+
     public BavetAbstractConstraintStream<?> getNodeCreatingStream(AbstractNode node) {
         return nodeCreatorMap.get(node);
     }
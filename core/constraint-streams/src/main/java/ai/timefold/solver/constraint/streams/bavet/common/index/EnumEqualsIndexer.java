@@ -0,0 +1,103 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+/**
+ * As defined by {@link EqualsIndexer}, but for enum keys.
+ * The downstream indexers are kept in a dense array, indexed by the {@link Enum#ordinal() ordinal} of the key,
+ * so that a lookup is an array access instead of a hash lookup.
+ * A null key is supported too, as it is by {@link EqualsIndexer}.
+ *
+ * @param <T> the element type
+ */
+final class EnumEqualsIndexer<T> implements Indexer<T> {
+
+    private static final int NULL_KEY_SLOT = 0;
+
+    private final int propertyIndex;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    // Slot 0 holds the null key, slot (ordinal + 1) holds every other key.
+    private Indexer<T>[] downstreamIndexers = new Indexer[1];
+    private int size = 0;
+
+    public EnumEqualsIndexer(int propertyIndex, Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this.propertyIndex = propertyIndex;
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    private int getSlot(IndexProperties indexProperties) {
+        Enum<?> indexKey = indexProperties.toKey(propertyIndex);
+        return indexKey == null ? NULL_KEY_SLOT : indexKey.ordinal() + 1;
+    }
+
+    @Override
+    public ElementAwareListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        var slot = getSlot(indexProperties);
+        if (slot >= downstreamIndexers.length) {
+            // Size the array for all constants of the enum at once, instead of growing it one constant at a time.
+            Enum<?> indexKey = indexProperties.toKey(propertyIndex);
+            var constantCount = indexKey.getDeclaringClass().getEnumConstants().length;
+            var newDownstreamIndexers = new Indexer[constantCount + 1];
+            System.arraycopy(downstreamIndexers, 0, newDownstreamIndexers, 0, downstreamIndexers.length);
+            downstreamIndexers = newDownstreamIndexers;
+        }
+        var downstreamIndexer = downstreamIndexers[slot];
+        if (downstreamIndexer == null) {
+            downstreamIndexer = downstreamIndexerSupplier.get();
+            downstreamIndexers[slot] = downstreamIndexer;
+            size++;
+        }
+        return downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, ElementAwareListEntry<T> entry) {
+        var slot = getSlot(indexProperties);
+        var downstreamIndexer = slot < downstreamIndexers.length ? downstreamIndexers[slot] : null;
+        if (downstreamIndexer == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        downstreamIndexer.remove(indexProperties, entry);
+        if (downstreamIndexer.isEmpty()) {
+            downstreamIndexers[slot] = null;
+            size--;
+        }
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        var slot = getSlot(indexProperties);
+        var downstreamIndexer = slot < downstreamIndexers.length ? downstreamIndexers[slot] : null;
+        if (downstreamIndexer == null) {
+            return 0;
+        }
+        return downstreamIndexer.size(indexProperties);
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        var slot = getSlot(indexProperties);
+        var downstreamIndexer = slot < downstreamIndexers.length ? downstreamIndexers[slot] : null;
+        if (downstreamIndexer == null || downstreamIndexer.isEmpty()) {
+            return;
+        }
+        downstreamIndexer.forEach(indexProperties, tupleConsumer);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + size;
+    }
+
+}
@@ -7,7 +7,8 @@ package ai.timefold.solver.constraint.streams.bavet.common.index;
  * If two instances contain elements which are equal, they must be equal.
  */
 public sealed interface IndexProperties
-        permits ManyIndexProperties, NoneIndexProperties, SingleIndexProperties, ThreeIndexProperties, TwoIndexProperties {
+        permits ManyIndexProperties, NoneIndexProperties, SingleIndexProperties, SingleLongIndexProperties,
+        ThreeIndexProperties, TwoIndexProperties {
 
     /**
      * Retrieves index property at a given position.
@@ -19,4 +20,16 @@ public sealed interface IndexProperties
      */
     <Type_> Type_ toKey(int id);
 
+    /**
+     * As defined by {@link #toKey(int)}, for an index property which is an int or a long.
+     * Used by {@link LongEqualsIndexer}.
+     *
+     * @param id Maps to a single {@link Indexer} instance in the indexer chain.
+     * @return the int or long key, widened to a long
+     */
+    default long toLongKey(int id) {
+        // Only SingleLongIndexProperties avoids unboxing, the others hold the key as an Integer or a Long.
+        return this.<Number> toKey(id).longValue();
+    }
+
 }
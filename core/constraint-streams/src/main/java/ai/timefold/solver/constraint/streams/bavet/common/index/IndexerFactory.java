@@ -2,6 +2,7 @@ package ai.timefold.solver.constraint.streams.bavet.common.index;
 
 import java.util.ArrayList;
 import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.TreeMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -16,6 +17,11 @@ import ai.timefold.solver.constraint.streams.common.quad.DefaultQuadJoiner;
 import ai.timefold.solver.constraint.streams.common.tri.DefaultTriJoiner;
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.score.stream.EqualKeyMapping;
+import ai.timefold.solver.core.impl.score.stream.EqualKeyMapping.EnumKeyMapping;
+import ai.timefold.solver.core.impl.score.stream.EqualKeyMapping.IntKeyMapping;
+import ai.timefold.solver.core.impl.score.stream.EqualKeyMapping.LongKeyMapping;
 import ai.timefold.solver.core.impl.score.stream.JoinerType;
 import ai.timefold.solver.core.impl.util.Pair;
 import ai.timefold.solver.core.impl.util.Quadruple;
@@ -58,6 +64,18 @@ import ai.timefold.solver.core.impl.util.Triple;
  * there are three indexers in the chain,
  * and the middle one's keyFunction length is 2.</li>
  * </ul>
+ * <p>
+ * An equal joiner which is not merged with another one,
+ * and which was created by {@link Joiners#equalInt(java.util.function.ToIntFunction)},
+ * {@link Joiners#equalLong(java.util.function.ToLongFunction)} or {@link Joiners#equalEnum(Function)},
+ * results in a {@link LongEqualsIndexer} or an {@link EnumEqualsIndexer} instead of an {@link EqualsIndexer}.
+ * If it is the only joiner, its int or long key is not even boxed, see {@link SingleLongIndexProperties}.
+ * <p>
+ * A LESS_THAN(_OR_EQUAL) joiner directly followed by a GREATER_THAN(_OR_EQUAL) joiner,
+ * such as an {@link Joiners#overlapping(Function, Function) overlapping joiner},
+ * results in a single {@link IntervalTreeIndexer} instead of two {@link ComparisonIndexer}s.
+ * The {@link IndexProperties} are not affected;
+ * the {@link IntervalTreeIndexer} simply reads the keys of both joiners.
  *
  * @param <Right_>
  */
@@ -98,7 +116,7 @@ public class IndexerFactory<Right_> {
             case 0 -> a -> NoneIndexProperties.INSTANCE;
             case 1 -> {
                 var mapping = castJoiner.getLeftMapping(0);
-                yield a -> new SingleIndexProperties<>(mapping.apply(a));
+                yield buildSingleMapping(mapping);
             }
             default -> {
                 var startIndexInclusive = 0;
@@ -179,6 +197,36 @@ public class IndexerFactory<Right_> {
         };
     }
 
+    private <A> Function<A, IndexProperties> buildSingleMapping(Function<A, Object> mapping) {
+        var equalKeyMapping = findEqualKeyMapping(0);
+        if (equalKeyMapping instanceof IntKeyMapping<?>) {
+            var intMapping = (IntKeyMapping<A>) (Function<A, ?>) mapping;
+            return a -> new SingleLongIndexProperties(intMapping.applyAsInt(a));
+        } else if (equalKeyMapping instanceof LongKeyMapping<?>) {
+            var longMapping = (LongKeyMapping<A>) (Function<A, ?>) mapping;
+            return a -> new SingleLongIndexProperties(longMapping.applyAsLong(a));
+        }
+        return a -> new SingleIndexProperties<>(mapping.apply(a));
+    }
+
+    /**
+     * Both sides of the joiner need to be specialized,
+     * because the left and the right {@link IndexProperties} must agree on the type of the key.
+     *
+     * @param joinerIndex the index of the joiner
+     * @return null unless both mappings of that joiner were created by
+     *         {@link Joiners#equalInt(java.util.function.ToIntFunction)} or its long or enum counterpart
+     */
+    private EqualKeyMapping<?, ?> findEqualKeyMapping(int joinerIndex) {
+        if (joiner instanceof DefaultBiJoiner<?, ?> biJoiner
+                && biJoiner.getLeftMapping(joinerIndex) instanceof EqualKeyMapping<?, ?> leftMapping
+                && joiner.getRightMapping(joinerIndex) instanceof EqualKeyMapping<?, ?> rightMapping
+                && leftMapping.getClass() == rightMapping.getClass()) {
+            return rightMapping;
+        }
+        return null;
+    }
+
     public <A, B> BiFunction<A, B, IndexProperties> buildBiLeftMapping() {
         var joinerCount = joiner.getJoinerCount();
         var castJoiner = (DefaultTriJoiner<A, B, Right_>) joiner;
@@ -453,7 +501,7 @@ public class IndexerFactory<Right_> {
             case 0 -> a -> NoneIndexProperties.INSTANCE;
             case 1 -> {
                 var mapping = joiner.getRightMapping(0);
-                yield a -> new SingleIndexProperties<>(mapping.apply(a));
+                yield buildSingleMapping(mapping);
             }
             default -> {
                 var startIndexInclusive = 0;
@@ -544,30 +592,65 @@ public class IndexerFactory<Right_> {
         } else if (joiner.getJoinerCount() == 1) { // Single joiner maps directly to EqualsIndexer or ComparisonIndexer.
             var joinerType = joiner.getJoinerType(0);
             if (joinerType == JoinerType.EQUAL) {
-                return new EqualsIndexer<>(NoneIndexer::new);
+                return buildEqualsIndexer(findEqualKeyMapping(0), 0, NoneIndexer::new);
             } else {
                 return new ComparisonIndexer<>(isLeftBridge ? joinerType : joinerType.flip(), NoneIndexer::new);
             }
         }
         // The following code builds the children first, so it needs to iterate over the joiners in reverse order.
-        var descendingJoinerTypeMap = joinerTypeMap.descendingMap();
+        var joinerTypeEntryList = new ArrayList<>(joinerTypeMap.entrySet());
         Supplier<Indexer<T>> downstreamIndexerSupplier = NoneIndexer::new;
-        var indexPropertyId = descendingJoinerTypeMap.size() - 1;
-        for (var entry : descendingJoinerTypeMap.entrySet()) {
+        var indexPropertyId = joinerTypeEntryList.size() - 1;
+        while (indexPropertyId >= 0) {
+            var entry = joinerTypeEntryList.get(indexPropertyId);
             var joinerType = entry.getValue();
             var actualDownstreamIndexerSupplier = downstreamIndexerSupplier;
             var effectivelyFinalIndexPropertyId = indexPropertyId;
             if (joinerType == JoinerType.EQUAL) {
-                downstreamIndexerSupplier =
-                        () -> new EqualsIndexer<>(effectivelyFinalIndexPropertyId, actualDownstreamIndexerSupplier);
+                var endIndexExclusive = entry.getKey();
+                var startIndexInclusive = Objects.requireNonNullElse(joinerTypeMap.lowerKey(endIndexExclusive), 0);
+                // Composite keys of consecutive equal joiners can not be specialized.
+                var equalKeyMapping = endIndexExclusive - startIndexInclusive == 1
+                        ? findEqualKeyMapping(startIndexInclusive)
+                        : null;
+                downstreamIndexerSupplier = () -> buildEqualsIndexer(equalKeyMapping, effectivelyFinalIndexPropertyId,
+                        actualDownstreamIndexerSupplier);
+                indexPropertyId--;
+                continue;
+            }
+            var actualJoinerType = isLeftBridge ? joinerType : joinerType.flip();
+            var previousJoinerType = indexPropertyId == 0 ? null : joinerTypeEntryList.get(indexPropertyId - 1).getValue();
+            // Matches overlapping joiners, which are LESS_THAN+GREATER_THAN, and nothing which overlaps with them.
+            if (IntervalTreeIndexer.isUpperBound(previousJoinerType) && IntervalTreeIndexer.isLowerBound(joinerType)) {
+                var actualPreviousJoinerType = isLeftBridge ? previousJoinerType : previousJoinerType.flip();
+                if (isLeftBridge) { // Bounds the start from above (previous joiner) and the end from below.
+                    downstreamIndexerSupplier = () -> new IntervalTreeIndexer<>(actualPreviousJoinerType,
+                            effectivelyFinalIndexPropertyId - 1, actualJoinerType, effectivelyFinalIndexPropertyId,
+                            actualDownstreamIndexerSupplier);
+                } else { // Flipped, so the previous joiner now bounds the end from below.
+                    downstreamIndexerSupplier = () -> new IntervalTreeIndexer<>(actualJoinerType,
+                            effectivelyFinalIndexPropertyId, actualPreviousJoinerType, effectivelyFinalIndexPropertyId - 1,
+                            actualDownstreamIndexerSupplier);
+                }
+                indexPropertyId -= 2;
             } else {
-                var actualJoinerType = isLeftBridge ? joinerType : joinerType.flip();
                 downstreamIndexerSupplier = () -> new ComparisonIndexer<>(actualJoinerType, effectivelyFinalIndexPropertyId,
                         actualDownstreamIndexerSupplier);
+                indexPropertyId--;
             }
-            indexPropertyId--;
         }
         return downstreamIndexerSupplier.get();
     }
 
+    private static <T> Indexer<T> buildEqualsIndexer(EqualKeyMapping<?, ?> equalKeyMapping, int indexPropertyId,
+            Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        if (equalKeyMapping instanceof IntKeyMapping<?> || equalKeyMapping instanceof LongKeyMapping<?>) {
+            return new LongEqualsIndexer<>(indexPropertyId, downstreamIndexerSupplier);
+        } else if (equalKeyMapping instanceof EnumKeyMapping<?, ?>) {
+            return new EnumEqualsIndexer<>(indexPropertyId, downstreamIndexerSupplier);
+        } else {
+            return new EqualsIndexer<>(indexPropertyId, downstreamIndexerSupplier);
+        }
+    }
+
 }
@@ -0,0 +1,307 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.score.stream.JoinerType;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+/**
+ * Replaces two chained {@link ComparisonIndexer}s for a pair of comparison joiners
+ * where one bounds a property of the indexed tuple from above and the other bounds another property from below,
+ * such as the pair which {@link Joiners#overlapping(java.util.function.Function, java.util.function.Function)}
+ * consists of.
+ * Each indexed tuple is treated as an interval from its start key (bounded from above)
+ * to its end key (bounded from below).
+ * <p>
+ * The intervals are kept in a treap, ordered by ascending start and then by descending end,
+ * where every node also knows the maximum end of its subtree.
+ * A lookup therefore skips every subtree whose intervals all end too early
+ * and every subtree whose intervals all start too late,
+ * costing O(log n + k) instead of visiting every interval which starts before the probe's end.
+ * The treap priorities are derived from an insertion counter, so the shape of the tree is reproducible.
+ * <p>
+ * The intervals are visited in the same order as two chained {@link ComparisonIndexer}s would,
+ * ascending by start and then descending by end.
+ *
+ * @param <T> the element type
+ * @param <Key_> the type of the start and end keys
+ */
+final class IntervalTreeIndexer<T, Key_ extends Comparable<Key_>> implements Indexer<T> {
+
+    private final int startPropertyIndex;
+    private final boolean startHasOrEquals;
+    private final int endPropertyIndex;
+    private final boolean endHasOrEquals;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    private Node<T, Key_> root = null;
+    private int size = 0;
+    private long insertionCount = 0L;
+
+    /**
+     * @param startJoinerType {@link JoinerType#LESS_THAN} or {@link JoinerType#LESS_THAN_OR_EQUAL},
+     *        as seen from the indexed tuple
+     * @param startPropertyIndex the id of the start key in the {@link IndexProperties}
+     * @param endJoinerType {@link JoinerType#GREATER_THAN} or {@link JoinerType#GREATER_THAN_OR_EQUAL},
+     *        as seen from the indexed tuple
+     * @param endPropertyIndex the id of the end key in the {@link IndexProperties}
+     * @param downstreamIndexerSupplier never null
+     */
+    public IntervalTreeIndexer(JoinerType startJoinerType, int startPropertyIndex, JoinerType endJoinerType,
+            int endPropertyIndex, Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        if (!isUpperBound(startJoinerType) || !isLowerBound(endJoinerType)) {
+            throw new IllegalArgumentException("Impossible state: the startJoinerType (" + startJoinerType
+                    + ") and endJoinerType (" + endJoinerType + ") do not bound an interval.");
+        }
+        this.startPropertyIndex = startPropertyIndex;
+        this.startHasOrEquals = startJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
+        this.endPropertyIndex = endPropertyIndex;
+        this.endHasOrEquals = endJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    static boolean isUpperBound(JoinerType joinerType) {
+        return joinerType == JoinerType.LESS_THAN || joinerType == JoinerType.LESS_THAN_OR_EQUAL;
+    }
+
+    static boolean isLowerBound(JoinerType joinerType) {
+        return joinerType == JoinerType.GREATER_THAN || joinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+    }
+
+    @Override
+    public ElementAwareListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        Key_ start = indexProperties.toKey(startPropertyIndex);
+        Key_ end = indexProperties.toKey(endPropertyIndex);
+        var node = findNode(start, end);
+        if (node == null) {
+            node = new Node<>(start, end, nextPriority(), downstreamIndexerSupplier.get());
+            root = insert(root, node);
+            size++;
+        }
+        return node.downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    private int nextPriority() {
+        // The SplitMix64 finalizer spreads consecutive counter values as if they were random.
+        var z = (insertionCount++) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (z ^ (z >>> 31));
+    }
+
+    private Node<T, Key_> findNode(Key_ start, Key_ end) {
+        var node = root;
+        while (node != null) {
+            var comparison = node.compareTo(start, end);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison > 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> insert(Node<T, Key_> node, Node<T, Key_> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (node.compareTo(newNode.start, newNode.end) > 0) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        }
+        node.updateMaxEnd();
+        return node;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rotateRight(Node<T, Key_> node) {
+        var newTop = node.left;
+        node.left = newTop.right;
+        newTop.right = node;
+        node.updateMaxEnd();
+        newTop.updateMaxEnd();
+        return newTop;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rotateLeft(Node<T, Key_> node) {
+        var newTop = node.right;
+        node.right = newTop.left;
+        newTop.left = node;
+        node.updateMaxEnd();
+        newTop.updateMaxEnd();
+        return newTop;
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, ElementAwareListEntry<T> entry) {
+        Key_ start = indexProperties.toKey(startPropertyIndex);
+        Key_ end = indexProperties.toKey(endPropertyIndex);
+        var node = findNode(start, end);
+        if (node == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        node.downstreamIndexer.remove(indexProperties, entry);
+        if (node.downstreamIndexer.isEmpty()) {
+            root = delete(root, node);
+            size--;
+        }
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> delete(Node<T, Key_> node, Node<T, Key_> deletedNode) {
+        if (node == deletedNode) {
+            return merge(node.left, node.right);
+        }
+        if (node.compareTo(deletedNode.start, deletedNode.end) > 0) {
+            node.left = delete(node.left, deletedNode);
+        } else {
+            node.right = delete(node.right, deletedNode);
+        }
+        node.updateMaxEnd();
+        return node;
+    }
+
+    /**
+     * @param left every node in it precedes every node in right
+     * @param right any
+     * @return the root of the merged treap
+     */
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> merge(Node<T, Key_> left, Node<T, Key_> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.updateMaxEnd();
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            right.updateMaxEnd();
+            return right;
+        }
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        if (root == null) {
+            return 0;
+        }
+        Key_ startBoundary = indexProperties.toKey(startPropertyIndex);
+        Key_ endBoundary = indexProperties.toKey(endPropertyIndex);
+        return size(root, indexProperties, startBoundary, endBoundary);
+    }
+
+    private int size(Node<T, Key_> node, IndexProperties indexProperties, Key_ startBoundary, Key_ endBoundary) {
+        var size = 0;
+        // The loop walks down the right spine, the recursion only goes left.
+        while (node != null && endsAfter(node.maxEnd, endBoundary)) {
+            size += size(node.left, indexProperties, startBoundary, endBoundary);
+            if (!startsBefore(node.start, startBoundary)) {
+                // Every node to the right starts at least as late.
+                break;
+            }
+            if (endsAfter(node.end, endBoundary)) {
+                size += node.downstreamIndexer.size(indexProperties);
+            }
+            node = node.right;
+        }
+        return size;
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        if (root == null) {
+            return;
+        }
+        Key_ startBoundary = indexProperties.toKey(startPropertyIndex);
+        Key_ endBoundary = indexProperties.toKey(endPropertyIndex);
+        forEach(root, indexProperties, tupleConsumer, startBoundary, endBoundary);
+    }
+
+    private void forEach(Node<T, Key_> node, IndexProperties indexProperties, Consumer<T> tupleConsumer,
+            Key_ startBoundary, Key_ endBoundary) {
+        // The loop walks down the right spine, the recursion only goes left.
+        while (node != null && endsAfter(node.maxEnd, endBoundary)) {
+            forEach(node.left, indexProperties, tupleConsumer, startBoundary, endBoundary);
+            if (!startsBefore(node.start, startBoundary)) {
+                // Every node to the right starts at least as late.
+                return;
+            }
+            if (endsAfter(node.end, endBoundary)) {
+                node.downstreamIndexer.forEach(indexProperties, tupleConsumer);
+            }
+            node = node.right;
+        }
+    }
+
+    private boolean startsBefore(Key_ start, Key_ startBoundary) {
+        var comparison = start.compareTo(startBoundary);
+        return comparison < 0 || (startHasOrEquals && comparison == 0);
+    }
+
+    private boolean endsAfter(Key_ end, Key_ endBoundary) {
+        var comparison = end.compareTo(endBoundary);
+        return comparison > 0 || (endHasOrEquals && comparison == 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + size;
+    }
+
+    private static final class Node<T, Key_ extends Comparable<Key_>> {
+
+        private final Key_ start;
+        private final Key_ end;
+        private final int priority;
+        private final Indexer<T> downstreamIndexer;
+        private Key_ maxEnd;
+        private Node<T, Key_> left = null;
+        private Node<T, Key_> right = null;
+
+        public Node(Key_ start, Key_ end, int priority, Indexer<T> downstreamIndexer) {
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.downstreamIndexer = downstreamIndexer;
+            this.maxEnd = end;
+        }
+
+        public int compareTo(Key_ otherStart, Key_ otherEnd) {
+            var comparison = start.compareTo(otherStart);
+            if (comparison != 0) {
+                return comparison;
+            }
+            // Descending, like a GREATER_THAN ComparisonIndexer.
+            return otherEnd.compareTo(end);
+        }
+
+        public void updateMaxEnd() {
+            var newMaxEnd = end;
+            if (left != null && left.maxEnd.compareTo(newMaxEnd) > 0) {
+                newMaxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.compareTo(newMaxEnd) > 0) {
+                newMaxEnd = right.maxEnd;
+            }
+            maxEnd = newMaxEnd;
+        }
+
+    }
+
+}
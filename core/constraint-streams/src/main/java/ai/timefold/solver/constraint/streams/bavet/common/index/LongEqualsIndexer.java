@@ -0,0 +1,169 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+/**
+ * As defined by {@link EqualsIndexer}, but for int and long keys.
+ * Instead of a {@link java.util.HashMap}, it uses an open-addressing hash table with linear probing,
+ * which stores the keys unboxed in a long array next to an array of the downstream indexers.
+ * That avoids allocating a key and a map entry per downstream indexer,
+ * as well as the pointer chasing of {@link Long#equals(Object)} on every lookup.
+ *
+ * @param <T> the element type
+ */
+final class LongEqualsIndexer<T> implements Indexer<T> {
+
+    private static final int INITIAL_CAPACITY = 16; // Must be a power of 2.
+    private static final long FIBONACCI_HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final int propertyIndex;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    private long[] keys;
+    private Indexer<T>[] downstreamIndexers; // A null downstream indexer marks an empty slot.
+    private int shift;
+    private int size = 0;
+
+    public LongEqualsIndexer(int propertyIndex, Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this.propertyIndex = propertyIndex;
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        downstreamIndexers = new Indexer[capacity];
+        shift = Long.numberOfLeadingZeros(capacity - 1);
+    }
+
+    private int idealSlot(long key) {
+        // Fibonacci hashing: the high bits of the product are well distributed, even for consecutive keys.
+        return (int) ((key * FIBONACCI_HASH_MULTIPLIER) >>> shift);
+    }
+
+    /**
+     * @param key any
+     * @return the slot of the key if it is present, otherwise the slot where it would be inserted, minus 1 and negated
+     */
+    private int findSlot(long key) {
+        var mask = keys.length - 1;
+        var slot = idealSlot(key);
+        while (true) {
+            if (downstreamIndexers[slot] == null) {
+                return -slot - 1;
+            } else if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    @Override
+    public ElementAwareListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        var indexKey = indexProperties.toLongKey(propertyIndex);
+        var slot = findSlot(indexKey);
+        Indexer<T> downstreamIndexer;
+        if (slot >= 0) {
+            downstreamIndexer = downstreamIndexers[slot];
+        } else {
+            downstreamIndexer = downstreamIndexerSupplier.get();
+            slot = -slot - 1;
+            keys[slot] = indexKey;
+            downstreamIndexers[slot] = downstreamIndexer;
+            size++;
+            if (size > (keys.length >>> 1) + (keys.length >>> 2)) { // Keep the load factor at most 0.75.
+                resize();
+            }
+        }
+        return downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldDownstreamIndexers = downstreamIndexers;
+        allocate(oldKeys.length << 1);
+        for (var i = 0; i < oldKeys.length; i++) {
+            var downstreamIndexer = oldDownstreamIndexers[i];
+            if (downstreamIndexer != null) {
+                var slot = -findSlot(oldKeys[i]) - 1;
+                keys[slot] = oldKeys[i];
+                downstreamIndexers[slot] = downstreamIndexer;
+            }
+        }
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, ElementAwareListEntry<T> entry) {
+        var indexKey = indexProperties.toLongKey(propertyIndex);
+        var slot = findSlot(indexKey);
+        if (slot < 0) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        var downstreamIndexer = downstreamIndexers[slot];
+        downstreamIndexer.remove(indexProperties, entry);
+        if (downstreamIndexer.isEmpty()) {
+            removeSlot(slot);
+        }
+    }
+
+    /**
+     * Linear probing does not allow to simply empty the slot, as that would break the probe sequence of later keys.
+     * Instead, every later key in the same run which may live in the emptied slot is shifted back into it.
+     *
+     * @param slot the slot to empty
+     */
+    private void removeSlot(int slot) {
+        var mask = keys.length - 1;
+        var gap = slot;
+        var next = (gap + 1) & mask;
+        while (downstreamIndexers[next] != null) {
+            var ideal = idealSlot(keys[next]);
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                downstreamIndexers[gap] = downstreamIndexers[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        downstreamIndexers[gap] = null;
+        size--;
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        var slot = findSlot(indexProperties.toLongKey(propertyIndex));
+        if (slot < 0) {
+            return 0;
+        }
+        return downstreamIndexers[slot].size(indexProperties);
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        var slot = findSlot(indexProperties.toLongKey(propertyIndex));
+        if (slot < 0) {
+            return;
+        }
+        var downstreamIndexer = downstreamIndexers[slot];
+        if (downstreamIndexer.isEmpty()) {
+            return;
+        }
+        downstreamIndexer.forEach(indexProperties, tupleConsumer);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + size;
+    }
+
+}
@@ -0,0 +1,25 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+/**
+ * As defined by {@link SingleIndexProperties}, but for a single int or long property,
+ * which is kept unboxed for the {@link LongEqualsIndexer}.
+ */
+record SingleLongIndexProperties(long property) implements IndexProperties {
+
+    @Override
+    public <Type_> Type_ toKey(int id) {
+        if (id != 0) {
+            throw new IllegalArgumentException("Impossible state: index (" + id + ") != 0");
+        }
+        return (Type_) Long.valueOf(property);
+    }
+
+    @Override
+    public long toLongKey(int id) {
+        if (id != 0) {
+            throw new IllegalArgumentException("Impossible state: index (" + id + ") != 0");
+        }
+        return property;
+    }
+
+}
@@ -0,0 +1,61 @@
+package ai.timefold.solver.constraint.streams.bavet.common.tuple;
+
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler.NodeProfile;
+
+/**
+ * Counts every tuple that goes into the delegate
+ * and measures the time it spends there, excluding the time spent in other profiled lifecycles it calls.
+ */
+public final class ProfilingTupleLifecycle<Tuple_ extends AbstractTuple> implements TupleLifecycle<Tuple_> {
+
+    private final TupleLifecycle<Tuple_> delegate;
+    private final ConstraintProfiler constraintProfiler;
+    private final NodeProfile nodeProfile;
+
+    public ProfilingTupleLifecycle(TupleLifecycle<Tuple_> delegate, ConstraintProfiler constraintProfiler,
+            NodeProfile nodeProfile) {
+        this.delegate = delegate;
+        this.constraintProfiler = constraintProfiler;
+        this.nodeProfile = nodeProfile;
+    }
+
+    @Override
+    public void insert(Tuple_ tuple) {
+        nodeProfile.countInsert();
+        long startNanos = constraintProfiler.enter();
+        try {
+            delegate.insert(tuple);
+        } finally {
+            constraintProfiler.exit(nodeProfile, startNanos);
+        }
+    }
+
+    @Override
+    public void update(Tuple_ tuple) {
+        nodeProfile.countUpdate();
+        long startNanos = constraintProfiler.enter();
+        try {
+            delegate.update(tuple);
+        } finally {
+            constraintProfiler.exit(nodeProfile, startNanos);
+        }
+    }
+
+    @Override
+    public void retract(Tuple_ tuple) {
+        nodeProfile.countRetract();
+        long startNanos = constraintProfiler.enter();
+        try {
+            delegate.retract(tuple);
+        } finally {
+            constraintProfiler.exit(nodeProfile, startNanos);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Profiling(" + delegate + ")";
+    }
+
+}
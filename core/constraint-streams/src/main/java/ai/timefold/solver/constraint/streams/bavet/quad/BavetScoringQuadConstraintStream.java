@@ -71,11 +71,18 @@ final class BavetScoringQuadConstraintStream<Solution_, A, B, C, D>
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         assertEmptyChildStreamList();
         var constraintMatchEnabled = buildHelper.getScoreInliner().isConstraintMatchEnabled();
-        var scoreImpacter = constraintMatchEnabled ? buildScoreImpacterWithConstraintMatch() : buildScoreImpacter();
         var weightedScoreImpacter = buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint);
-        var scorer = new QuadScorer<>(weightedScoreImpacter, scoreImpacter,
-                buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
-        buildHelper.putInsertUpdateRetract(this, scorer);
+        // BigDecimal match weights allocate anyway, so they are not impacted as a primitive.
+        var primitiveImpact = !constraintMatchEnabled && weightedScoreImpacter.supportsReversibleImpact()
+                && bigDecimalMatchWeigher == null;
+        var inputStoreIndex = buildHelper.reserveTupleStoreIndex(parent.getTupleSource());
+        var scorer = primitiveImpact
+                ? new QuadScorer<>(weightedScoreImpacter, buildMatchWeigher(), buildHelper.isImpactBatchingEnabled(),
+                        inputStoreIndex)
+                : new QuadScorer<>(weightedScoreImpacter,
+                        constraintMatchEnabled ? buildScoreImpacterWithConstraintMatch() : buildScoreImpacter(),
+                        inputStoreIndex);
+        buildHelper.putScorer(this, scorer);
     }
 
     private PentaFunction<WeightedScoreImpacter<?, ?>, A, B, C, D, UndoScoreImpacter> buildScoreImpacter() {
@@ -99,6 +106,31 @@ final class BavetScoringQuadConstraintStream<Solution_, A, B, C, D>
         }
     }
 
+    /**
+     * Neither creates an {@link UndoScoreImpacter} per match, nor impacts the score.
+     * The scorer keeps the match weight in the tuple store instead and impacts the score with it,
+     * per match or once per score calculation.
+     *
+     * @return never null
+     */
+    private ToLongQuadFunction<A, B, C, D> buildMatchWeigher() {
+        if (intMatchWeigher != null) {
+            return (a, b, c, d) -> {
+                int matchWeight = intMatchWeigher.applyAsInt(a, b, c, d);
+                constraint.assertCorrectImpact(matchWeight);
+                return matchWeight;
+            };
+        } else if (longMatchWeigher != null) {
+            return (a, b, c, d) -> {
+                long matchWeight = longMatchWeigher.applyAsLong(a, b, c, d);
+                constraint.assertCorrectImpact(matchWeight);
+                return matchWeight;
+            };
+        } else {
+            throw new IllegalStateException("Impossible state: BigDecimal match weights are not impacted as a primitive.");
+        }
+    }
+
     private PentaFunction<WeightedScoreImpacter<?, ?>, A, B, C, D, UndoScoreImpacter> buildScoreImpacterWithConstraintMatch() {
         if (intMatchWeigher != null) {
             return (impacter, a, b, c, d) -> {
@@ -5,15 +5,31 @@ import ai.timefold.solver.constraint.streams.bavet.common.tuple.QuadTuple;
 import ai.timefold.solver.constraint.streams.common.inliner.UndoScoreImpacter;
 import ai.timefold.solver.constraint.streams.common.inliner.WeightedScoreImpacter;
 import ai.timefold.solver.core.api.function.PentaFunction;
+import ai.timefold.solver.core.api.function.ToLongQuadFunction;
 
 final class QuadScorer<A, B, C, D> extends AbstractScorer<QuadTuple<A, B, C, D>> {
 
     private final PentaFunction<WeightedScoreImpacter<?, ?>, A, B, C, D, UndoScoreImpacter> scoreImpacter;
+    private final ToLongQuadFunction<A, B, C, D> matchWeigher;
 
     public QuadScorer(WeightedScoreImpacter<?, ?> weightedScoreImpacter,
             PentaFunction<WeightedScoreImpacter<?, ?>, A, B, C, D, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
-        super(weightedScoreImpacter, inputStoreIndex);
+        super(weightedScoreImpacter, false, false, inputStoreIndex);
         this.scoreImpacter = scoreImpacter;
+        this.matchWeigher = null;
+    }
+
+    /**
+     * @param weightedScoreImpacter never null, {@link WeightedScoreImpacter#supportsReversibleImpact()} must be true
+     * @param matchWeigher never null, returns the match weight after checking it
+     * @param impactBatched true if the impact is added to the score once per score calculation
+     * @param inputStoreIndex the tuple store index of the match weight
+     */
+    public QuadScorer(WeightedScoreImpacter<?, ?> weightedScoreImpacter, ToLongQuadFunction<A, B, C, D> matchWeigher,
+            boolean impactBatched, int inputStoreIndex) {
+        super(weightedScoreImpacter, true, impactBatched, inputStoreIndex);
+        this.scoreImpacter = null;
+        this.matchWeigher = matchWeigher;
     }
 
     @Override
@@ -24,4 +40,13 @@ final class QuadScorer<A, B, C, D> extends AbstractScorer<QuadTuple<A, B, C, D>>
             throw createExceptionOnImpact(tuple, e);
         }
     }
+
+    @Override
+    protected long matchWeight(QuadTuple<A, B, C, D> tuple) {
+        try {
+            return matchWeigher.applyAsLong(tuple.factA, tuple.factB, tuple.factC, tuple.factD);
+        } catch (Exception e) {
+            throw createExceptionOnImpact(tuple, e);
+        }
+    }
 }
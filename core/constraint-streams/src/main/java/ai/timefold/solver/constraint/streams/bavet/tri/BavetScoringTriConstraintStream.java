@@ -71,11 +71,18 @@ final class BavetScoringTriConstraintStream<Solution_, A, B, C>
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         assertEmptyChildStreamList();
         var constraintMatchEnabled = buildHelper.getScoreInliner().isConstraintMatchEnabled();
-        var scoreImpacter = constraintMatchEnabled ? buildScoreImpacterWithConstraintMatch() : buildScoreImpacter();
         var weightedScoreImpacter = buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint);
-        var scorer = new TriScorer<>(weightedScoreImpacter, scoreImpacter,
-                buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
-        buildHelper.putInsertUpdateRetract(this, scorer);
+        // BigDecimal match weights allocate anyway, so they are not impacted as a primitive.
+        var primitiveImpact = !constraintMatchEnabled && weightedScoreImpacter.supportsReversibleImpact()
+                && bigDecimalMatchWeigher == null;
+        var inputStoreIndex = buildHelper.reserveTupleStoreIndex(parent.getTupleSource());
+        var scorer = primitiveImpact
+                ? new TriScorer<>(weightedScoreImpacter, buildMatchWeigher(), buildHelper.isImpactBatchingEnabled(),
+                        inputStoreIndex)
+                : new TriScorer<>(weightedScoreImpacter,
+                        constraintMatchEnabled ? buildScoreImpacterWithConstraintMatch() : buildScoreImpacter(),
+                        inputStoreIndex);
+        buildHelper.putScorer(this, scorer);
     }
 
     private QuadFunction<WeightedScoreImpacter<?, ?>, A, B, C, UndoScoreImpacter> buildScoreImpacter() {
@@ -99,6 +106,31 @@ final class BavetScoringTriConstraintStream<Solution_, A, B, C>
         }
     }
 
+    /**
+     * Neither creates an {@link UndoScoreImpacter} per match, nor impacts the score.
+     * The scorer keeps the match weight in the tuple store instead and impacts the score with it,
+     * per match or once per score calculation.
+     *
+     * @return never null
+     */
+    private ToLongTriFunction<A, B, C> buildMatchWeigher() {
+        if (intMatchWeigher != null) {
+            return (a, b, c) -> {
+                int matchWeight = intMatchWeigher.applyAsInt(a, b, c);
+                constraint.assertCorrectImpact(matchWeight);
+                return matchWeight;
+            };
+        } else if (longMatchWeigher != null) {
+            return (a, b, c) -> {
+                long matchWeight = longMatchWeigher.applyAsLong(a, b, c);
+                constraint.assertCorrectImpact(matchWeight);
+                return matchWeight;
+            };
+        } else {
+            throw new IllegalStateException("Impossible state: BigDecimal match weights are not impacted as a primitive.");
+        }
+    }
+
     private QuadFunction<WeightedScoreImpacter<?, ?>, A, B, C, UndoScoreImpacter> buildScoreImpacterWithConstraintMatch() {
         if (intMatchWeigher != null) {
             return (impacter, a, b, c) -> {
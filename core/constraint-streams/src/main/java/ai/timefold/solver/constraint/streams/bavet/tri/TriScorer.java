@@ -5,15 +5,31 @@ import ai.timefold.solver.constraint.streams.bavet.common.tuple.TriTuple;
 import ai.timefold.solver.constraint.streams.common.inliner.UndoScoreImpacter;
 import ai.timefold.solver.constraint.streams.common.inliner.WeightedScoreImpacter;
 import ai.timefold.solver.core.api.function.QuadFunction;
+import ai.timefold.solver.core.api.function.ToLongTriFunction;
 
 final class TriScorer<A, B, C> extends AbstractScorer<TriTuple<A, B, C>> {
 
     private final QuadFunction<WeightedScoreImpacter<?, ?>, A, B, C, UndoScoreImpacter> scoreImpacter;
+    private final ToLongTriFunction<A, B, C> matchWeigher;
 
     public TriScorer(WeightedScoreImpacter<?, ?> weightedScoreImpacter,
             QuadFunction<WeightedScoreImpacter<?, ?>, A, B, C, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
-        super(weightedScoreImpacter, inputStoreIndex);
+        super(weightedScoreImpacter, false, false, inputStoreIndex);
         this.scoreImpacter = scoreImpacter;
+        this.matchWeigher = null;
+    }
+
+    /**
+     * @param weightedScoreImpacter never null, {@link WeightedScoreImpacter#supportsReversibleImpact()} must be true
+     * @param matchWeigher never null, returns the match weight after checking it
+     * @param impactBatched true if the impact is added to the score once per score calculation
+     * @param inputStoreIndex the tuple store index of the match weight
+     */
+    public TriScorer(WeightedScoreImpacter<?, ?> weightedScoreImpacter, ToLongTriFunction<A, B, C> matchWeigher,
+            boolean impactBatched, int inputStoreIndex) {
+        super(weightedScoreImpacter, true, impactBatched, inputStoreIndex);
+        this.scoreImpacter = null;
+        this.matchWeigher = matchWeigher;
     }
 
     @Override
@@ -24,4 +40,13 @@ final class TriScorer<A, B, C> extends AbstractScorer<TriTuple<A, B, C>> {
             throw createExceptionOnImpact(tuple, e);
         }
     }
+
+    @Override
+    protected long matchWeight(TriTuple<A, B, C> tuple) {
+        try {
+            return matchWeigher.applyAsLong(tuple.factA, tuple.factB, tuple.factC);
+        } catch (Exception e) {
+            throw createExceptionOnImpact(tuple, e);
+        }
+    }
 }
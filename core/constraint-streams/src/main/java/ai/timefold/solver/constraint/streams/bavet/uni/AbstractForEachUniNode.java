@@ -45,6 +45,14 @@ public abstract sealed class AbstractForEachUniNode<A>
 
     public abstract void update(A a);
 
+    /**
+     * Called instead of {@link #update(Object)} when a variable changed that no downstream node reads.
+     * The tuple is not updated, but it is still inserted or retracted if the change affects the filter of this node.
+     *
+     * @param a never null
+     */
+    public abstract void updateMembership(A a);
+
     protected final void innerUpdate(A a, UniTuple<A> tuple) {
         TupleState state = tuple.state;
         if (state.isDirty()) {
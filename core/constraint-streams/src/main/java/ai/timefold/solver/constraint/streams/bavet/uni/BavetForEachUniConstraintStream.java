@@ -12,6 +12,7 @@ import ai.timefold.solver.constraint.streams.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
 import ai.timefold.solver.constraint.streams.common.RetrievalSemantics;
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 
 public final class BavetForEachUniConstraintStream<Solution_, A>
         extends BavetAbstractUniConstraintStream<Solution_, A>
@@ -19,15 +20,26 @@ public final class BavetForEachUniConstraintStream<Solution_, A>
 
     private final Class<A> forEachClass;
     private final Predicate<A> filter;
+    /**
+     * Null if every variable of the forEachClass is read.
+     */
+    private final Set<VariableDescriptor<Solution_>> readVariableDescriptorSet;
 
     public BavetForEachUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory, Class<A> forEachClass,
             Predicate<A> filter, RetrievalSemantics retrievalSemantics) {
+        this(constraintFactory, forEachClass, filter, null, retrievalSemantics);
+    }
+
+    public BavetForEachUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory, Class<A> forEachClass,
+            Predicate<A> filter, Set<VariableDescriptor<Solution_>> readVariableDescriptorSet,
+            RetrievalSemantics retrievalSemantics) {
         super(constraintFactory, retrievalSemantics);
         this.forEachClass = forEachClass;
         if (forEachClass == null) {
             throw new IllegalArgumentException("The forEachClass (null) cannot be null.");
         }
         this.filter = filter;
+        this.readVariableDescriptorSet = readVariableDescriptorSet;
     }
 
     @Override
@@ -35,6 +47,13 @@ public final class BavetForEachUniConstraintStream<Solution_, A>
         return true;
     }
 
+    /**
+     * @return null if every variable of the forEachClass is read, otherwise the variables read downstream
+     */
+    public Set<VariableDescriptor<Solution_>> getReadVariableDescriptorSet() {
+        return readVariableDescriptorSet;
+    }
+
     // ************************************************************************
     // Node creation
     // ************************************************************************
@@ -66,20 +85,25 @@ public final class BavetForEachUniConstraintStream<Solution_, A>
             return false;
         }
         BavetForEachUniConstraintStream<?, ?> that = (BavetForEachUniConstraintStream<?, ?>) other;
-        return Objects.equals(forEachClass, that.forEachClass) && Objects.equals(filter, that.filter);
+        return Objects.equals(forEachClass, that.forEachClass) && Objects.equals(filter, that.filter)
+                && Objects.equals(readVariableDescriptorSet, that.readVariableDescriptorSet);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(forEachClass, filter);
+        return Objects.hash(forEachClass, filter, readVariableDescriptorSet);
     }
 
     @Override
     public String toString() {
+        String readVariables = readVariableDescriptorSet == null ? ""
+                : " reading " + readVariableDescriptorSet.stream().map(VariableDescriptor::getVariableName).toList();
         if (filter != null) {
-            return "ForEach(" + forEachClass.getSimpleName() + ") with filter and " + childStreamList.size() + " children";
+            return "ForEach(" + forEachClass.getSimpleName() + ")" + readVariables + " with filter and "
+                    + childStreamList.size() + " children";
         }
-        return "ForEach(" + forEachClass.getSimpleName() + ") with " + childStreamList.size() + " children";
+        return "ForEach(" + forEachClass.getSimpleName() + ")" + readVariables + " with " + childStreamList.size()
+                + " children";
     }
 
 }
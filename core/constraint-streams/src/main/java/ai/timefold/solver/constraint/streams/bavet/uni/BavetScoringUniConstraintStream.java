@@ -70,11 +70,18 @@ final class BavetScoringUniConstraintStream<Solution_, A>
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         assertEmptyChildStreamList();
         var constraintMatchEnabled = buildHelper.getScoreInliner().isConstraintMatchEnabled();
-        var scoreImpacter = constraintMatchEnabled ? buildScoreImpacterWithConstraintMatch() : buildScoreImpacter();
         var weightedScoreImpacter = buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint);
-        var scorer = new UniScorer<>(weightedScoreImpacter, scoreImpacter,
-                buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
-        buildHelper.putInsertUpdateRetract(this, scorer);
+        // BigDecimal match weights allocate anyway, so they are not impacted as a primitive.
+        var primitiveImpact = !constraintMatchEnabled && weightedScoreImpacter.supportsReversibleImpact()
+                && bigDecimalMatchWeigher == null;
+        var inputStoreIndex = buildHelper.reserveTupleStoreIndex(parent.getTupleSource());
+        var scorer = primitiveImpact
+                ? new UniScorer<>(weightedScoreImpacter, buildMatchWeigher(), buildHelper.isImpactBatchingEnabled(),
+                        inputStoreIndex)
+                : new UniScorer<>(weightedScoreImpacter,
+                        constraintMatchEnabled ? buildScoreImpacterWithConstraintMatch() : buildScoreImpacter(),
+                        inputStoreIndex);
+        buildHelper.putScorer(this, scorer);
     }
 
     private BiFunction<WeightedScoreImpacter<?, ?>, A, UndoScoreImpacter> buildScoreImpacter() {
@@ -98,6 +105,31 @@ final class BavetScoringUniConstraintStream<Solution_, A>
         }
     }
 
+    /**
+     * Neither creates an {@link UndoScoreImpacter} per match, nor impacts the score.
+     * The scorer keeps the match weight in the tuple store instead and impacts the score with it,
+     * per match or once per score calculation.
+     *
+     * @return never null
+     */
+    private ToLongFunction<A> buildMatchWeigher() {
+        if (intMatchWeigher != null) {
+            return (a) -> {
+                int matchWeight = intMatchWeigher.applyAsInt(a);
+                constraint.assertCorrectImpact(matchWeight);
+                return matchWeight;
+            };
+        } else if (longMatchWeigher != null) {
+            return (a) -> {
+                long matchWeight = longMatchWeigher.applyAsLong(a);
+                constraint.assertCorrectImpact(matchWeight);
+                return matchWeight;
+            };
+        } else {
+            throw new IllegalStateException("Impossible state: BigDecimal match weights are not impacted as a primitive.");
+        }
+    }
+
     private BiFunction<WeightedScoreImpacter<?, ?>, A, UndoScoreImpacter> buildScoreImpacterWithConstraintMatch() {
         if (intMatchWeigher != null) {
             return (impacter, a) -> {
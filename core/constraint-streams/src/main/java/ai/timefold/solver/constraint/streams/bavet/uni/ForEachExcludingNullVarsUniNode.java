@@ -36,6 +36,16 @@ public final class ForEachExcludingNullVarsUniNode<A> extends AbstractForEachUni
         }
     }
 
+    @Override
+    public void updateMembership(A a) {
+        UniTuple<A> tuple = tupleMap.get(a);
+        if (tuple == null) { // The tuple was never inserted because it did not pass the filter.
+            insert(a);
+        } else if (!filter.test(a)) {
+            super.retract(a); // Call super.retract() to avoid testing the filter again.
+        }
+    }
+
     @Override
     public void retract(A a) {
         if (!filter.test(a)) { // The tuple was never inserted because it did not pass the filter.
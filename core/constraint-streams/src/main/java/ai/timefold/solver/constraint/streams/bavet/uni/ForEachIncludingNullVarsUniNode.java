@@ -19,4 +19,9 @@ public final class ForEachIncludingNullVarsUniNode<A> extends AbstractForEachUni
         innerUpdate(a, tuple);
     }
 
+    @Override
+    public void updateMembership(A a) {
+        // Without a filter, the fact is always inserted.
+    }
+
 }
@@ -1,6 +1,7 @@
 package ai.timefold.solver.constraint.streams.bavet.uni;
 
 import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractScorer;
 import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
@@ -10,11 +11,26 @@ import ai.timefold.solver.constraint.streams.common.inliner.WeightedScoreImpacte
 final class UniScorer<A> extends AbstractScorer<UniTuple<A>> {
 
     private final BiFunction<WeightedScoreImpacter<?, ?>, A, UndoScoreImpacter> scoreImpacter;
+    private final ToLongFunction<A> matchWeigher;
 
     public UniScorer(WeightedScoreImpacter<?, ?> weightedScoreImpacter,
             BiFunction<WeightedScoreImpacter<?, ?>, A, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
-        super(weightedScoreImpacter, inputStoreIndex);
+        super(weightedScoreImpacter, false, false, inputStoreIndex);
         this.scoreImpacter = scoreImpacter;
+        this.matchWeigher = null;
+    }
+
+    /**
+     * @param weightedScoreImpacter never null, {@link WeightedScoreImpacter#supportsReversibleImpact()} must be true
+     * @param matchWeigher never null, returns the match weight after checking it
+     * @param impactBatched true if the impact is added to the score once per score calculation
+     * @param inputStoreIndex the tuple store index of the match weight
+     */
+    public UniScorer(WeightedScoreImpacter<?, ?> weightedScoreImpacter, ToLongFunction<A> matchWeigher,
+            boolean impactBatched, int inputStoreIndex) {
+        super(weightedScoreImpacter, true, impactBatched, inputStoreIndex);
+        this.scoreImpacter = null;
+        this.matchWeigher = matchWeigher;
     }
 
     @Override
@@ -25,4 +41,13 @@ final class UniScorer<A> extends AbstractScorer<UniTuple<A>> {
             throw createExceptionOnImpact(tuple, e);
         }
     }
+
+    @Override
+    protected long matchWeight(UniTuple<A> tuple) {
+        try {
+            return matchWeigher.applyAsLong(tuple.factA);
+        } catch (Exception e) {
+            throw createExceptionOnImpact(tuple, e);
+        }
+    }
 }
@@ -1,17 +1,21 @@
 package ai.timefold.solver.constraint.streams.common.inliner;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.function.Supplier;
 
 import ai.timefold.solver.constraint.streams.common.AbstractConstraint;
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ConstraintAnalysis;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatch;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintJustification;
 import ai.timefold.solver.core.impl.score.buildin.BendableBigDecimalScoreDefinition;
 import ai.timefold.solver.core.impl.score.buildin.BendableLongScoreDefinition;
 import ai.timefold.solver.core.impl.score.buildin.BendableScoreDefinition;
@@ -27,6 +31,7 @@ import ai.timefold.solver.core.impl.score.buildin.SimpleScoreDefinition;
 import ai.timefold.solver.core.impl.score.constraint.DefaultConstraintMatchTotal;
 import ai.timefold.solver.core.impl.score.constraint.DefaultIndictment;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.util.CollectionUtils;
 import ai.timefold.solver.core.impl.util.ElementAwareList;
 import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
@@ -202,6 +207,57 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         this.constraintIdToConstraintMatchTotalMap = constraintIdToConstraintMatchTotalMap;
     }
 
+    /**
+     * Sums the score and counts the matches of each constraint from the deferred constraint matches,
+     * without creating any {@link ConstraintMatch}.
+     *
+     * @return never null, one {@link ConstraintAnalysis} without match analyses per constraint
+     */
+    public final List<ConstraintAnalysis<Score_>> extractConstraintMatchCountAnalyses() {
+        var constraintAnalysisList = new ArrayList<ConstraintAnalysis<Score_>>(constraintMatchMap.size());
+        for (var entry : constraintMatchMap.entrySet()) {
+            var constraint = entry.getKey();
+            var constraintWeight = constraintWeightMap.get(constraint);
+            var score = constraintWeight.zero();
+            for (var carrier : entry.getValue()) {
+                score = score.add(carrier.score);
+            }
+            constraintAnalysisList.add(new ConstraintAnalysis<>(constraint.getConstraintRef(), constraintWeight, score, null,
+                    entry.getValue().size()));
+        }
+        return constraintAnalysisList;
+    }
+
+    /**
+     * Merges the deferred constraint matches of each constraint by justification,
+     * so that every justification has the sum of the scores of all its constraint matches,
+     * and only then keeps the matchLimit justifications with the biggest absolute score.
+     * It creates the justifications, but not the {@link ConstraintMatch} instances or their indicted objects.
+     *
+     * @param matchLimit at least 1, the maximum number of match analyses per constraint
+     * @return never null, one {@link ConstraintAnalysis} with match analyses per constraint
+     */
+    public final List<ConstraintAnalysis<Score_>> extractConstraintAnalyses(int matchLimit) {
+        var constraintAnalysisList = new ArrayList<ConstraintAnalysis<Score_>>(constraintMatchMap.size());
+        for (var entry : constraintMatchMap.entrySet()) {
+            var constraint = entry.getKey();
+            var constraintRef = constraint.getConstraintRef();
+            var constraintWeight = constraintWeightMap.get(constraint);
+            var carrierList = entry.getValue();
+            var score = constraintWeight.zero();
+            Map<ConstraintJustification, Score_> justificationScoreMap =
+                    CollectionUtils.newLinkedHashMap(carrierList.size());
+            for (var carrier : carrierList) {
+                score = score.add(carrier.score);
+                justificationScoreMap.merge(carrier.getJustification(), carrier.score, Score::add);
+            }
+            constraintAnalysisList.add(new ConstraintAnalysis<>(constraintRef, constraintWeight, score,
+                    InnerScoreDirector.getMatchAnalyses(constraintRef, justificationScoreMap, matchLimit),
+                    carrierList.size()));
+        }
+        return constraintAnalysisList;
+    }
+
     public final Map<Object, Indictment<Score_>> getIndictmentMap() {
         if (indictmentMap == null) {
             rebuildIndictments();
@@ -269,6 +325,13 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
             return constraintMatch;
         }
 
+        private ConstraintJustification getJustification() {
+            if (constraintMatch != null) {
+                return constraintMatch.getJustification();
+            }
+            return constraintMatchSupplier.justify(constraint, score);
+        }
+
     }
 
 }
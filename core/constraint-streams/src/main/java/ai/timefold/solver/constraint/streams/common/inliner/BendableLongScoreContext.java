@@ -81,4 +81,21 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore, Ben
                 constraintMatchSupplier);
     }
 
+    public void addSoftScore(long matchWeight) {
+        parent.softScores[scoreLevel] += scoreLevelWeight * matchWeight;
+    }
+
+    public void addHardScore(long matchWeight) {
+        parent.hardScores[scoreLevel] += scoreLevelWeight * matchWeight;
+    }
+
+    public void addScore(long matchWeight) {
+        for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
+            parent.hardScores[hardScoreLevel] += constraintWeight.hardScore(hardScoreLevel) * matchWeight;
+        }
+        for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
+            parent.softScores[softScoreLevel] += constraintWeight.softScore(softScoreLevel) * matchWeight;
+        }
+    }
+
 }
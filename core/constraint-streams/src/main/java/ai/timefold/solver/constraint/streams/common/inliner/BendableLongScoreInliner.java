@@ -40,18 +40,21 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
             if (isHardScore) {
                 return WeightedScoreImpacter.of(context, (BendableLongScoreContext ctx, long impact,
                         ConstraintMatchSupplier<BendableLongScore> constraintMatchSupplier) -> ctx.changeHardScoreBy(impact,
-                                constraintMatchSupplier));
+                                constraintMatchSupplier),
+                        BendableLongScoreContext::addHardScore);
             } else {
                 return WeightedScoreImpacter.of(context, (BendableLongScoreContext ctx, long impact,
                         ConstraintMatchSupplier<BendableLongScore> constraintMatchSupplier) -> ctx.changeSoftScoreBy(impact,
-                                constraintMatchSupplier));
+                                constraintMatchSupplier),
+                        BendableLongScoreContext::addSoftScore);
             }
         } else {
             BendableLongScoreContext context =
                     new BendableLongScoreContext(this, constraint, constraintWeight, hardScores.length, softScores.length);
             return WeightedScoreImpacter.of(context, (BendableLongScoreContext ctx, long impact,
                     ConstraintMatchSupplier<BendableLongScore> constraintMatchSupplier) -> ctx.changeScoreBy(impact,
-                            constraintMatchSupplier));
+                            constraintMatchSupplier),
+                    BendableLongScoreContext::addScore);
         }
     }
 
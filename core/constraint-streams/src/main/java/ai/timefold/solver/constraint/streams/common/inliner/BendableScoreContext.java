@@ -78,4 +78,21 @@ final class BendableScoreContext extends ScoreContext<BendableScore, BendableSco
         return impactWithConstraintMatch(undoScoreImpact, BendableScore.of(hardImpacts, softImpacts), constraintMatchSupplier);
     }
 
+    public void addSoftScore(int matchWeight) {
+        parent.softScores[scoreLevel] += scoreLevelWeight * matchWeight;
+    }
+
+    public void addHardScore(int matchWeight) {
+        parent.hardScores[scoreLevel] += scoreLevelWeight * matchWeight;
+    }
+
+    public void addScore(int matchWeight) {
+        for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
+            parent.hardScores[hardScoreLevel] += constraintWeight.hardScore(hardScoreLevel) * matchWeight;
+        }
+        for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
+            parent.softScores[softScoreLevel] += constraintWeight.softScore(softScoreLevel) * matchWeight;
+        }
+    }
+
 }
@@ -38,14 +38,17 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
             BendableScoreContext context = new BendableScoreContext(this, constraint, constraintWeight,
                     hardScores.length, softScores.length, level, constraintWeight.hardOrSoftScore(singleLevel));
             if (isHardScore) {
-                return WeightedScoreImpacter.of(context, BendableScoreContext::changeHardScoreBy);
+                return WeightedScoreImpacter.of(context, BendableScoreContext::changeHardScoreBy,
+                        BendableScoreContext::addHardScore);
             } else {
-                return WeightedScoreImpacter.of(context, BendableScoreContext::changeSoftScoreBy);
+                return WeightedScoreImpacter.of(context, BendableScoreContext::changeSoftScoreBy,
+                        BendableScoreContext::addSoftScore);
             }
         } else {
             BendableScoreContext context = new BendableScoreContext(this, constraint, constraintWeight,
                     hardScores.length, softScores.length);
-            return WeightedScoreImpacter.of(context, BendableScoreContext::changeScoreBy);
+            return WeightedScoreImpacter.of(context, BendableScoreContext::changeScoreBy,
+                    BendableScoreContext::addScore);
         }
     }
 
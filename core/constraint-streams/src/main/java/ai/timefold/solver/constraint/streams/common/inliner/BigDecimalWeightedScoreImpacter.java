@@ -35,6 +35,16 @@ final class BigDecimalWeightedScoreImpacter<Score_ extends Score<Score_>, Contex
         return impactFunction.impact(context, matchWeight, constraintMatchSupplier);
     }
 
+    @Override
+    public void impactScoreSum(long matchWeightSum) {
+        throw new IllegalStateException("Impossible state: a BigDecimal impacter always creates an undo.");
+    }
+
+    @Override
+    public boolean supportsReversibleImpact() {
+        return false;
+    }
+
     @Override
     public Context_ getContext() {
         return context;
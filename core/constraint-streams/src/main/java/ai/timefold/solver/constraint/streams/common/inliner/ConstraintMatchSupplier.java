@@ -28,35 +28,66 @@ import ai.timefold.solver.core.api.score.stream.DefaultConstraintJustification;
  * Therefore, {@link ConstraintMatch} (along with all of its supporting data structures)
  * is only created when actually needed, and that is during score explanation.
  * Until that point, this thin wrapper serves as a placeholder which understands what to create when needed.
+ * A score analysis which only needs the justifications calls {@link #justify(Constraint, Score)}
+ * and does not create the {@link ConstraintMatch} or its indicted objects at all.
  */
-@FunctionalInterface
 public interface ConstraintMatchSupplier<Score_ extends Score<Score_>>
         extends BiFunction<Constraint, Score_, ConstraintMatch<Score_>> {
 
+    /**
+     * @param constraint never null
+     * @param impact never null
+     * @return never null, the justification of the constraint match, without creating the constraint match itself
+     */
+    ConstraintJustification justify(Constraint constraint, Score_ impact);
+
+    /**
+     * @param constraint never null
+     * @return never null, the indicted objects of the constraint match
+     */
+    Collection<Object> indict(Constraint constraint);
+
+    @Override
+    default ConstraintMatch<Score_> apply(Constraint constraint, Score_ impact) {
+        return new ConstraintMatch<>(constraint.getConstraintRef(), justify(constraint, impact), indict(constraint), impact);
+    }
+
     static <Score_ extends Score<Score_>> ConstraintMatchSupplier<Score_> empty() {
-        return (constraint, impact) -> new ConstraintMatch<>(constraint.getConstraintRef(),
-                DefaultConstraintJustification.of(impact),
-                Collections.emptyList(), impact);
+        return new ConstraintMatchSupplier<>() {
+            @Override
+            public ConstraintJustification justify(Constraint constraint, Score_ impact) {
+                return DefaultConstraintJustification.of(impact);
+            }
+
+            @Override
+            public Collection<Object> indict(Constraint constraint) {
+                return Collections.emptyList();
+            }
+        };
     }
 
     static <A, Score_ extends Score<Score_>> ConstraintMatchSupplier<Score_> of(
             BiFunction<A, Score<?>, ConstraintJustification> justificationMapping,
             Function<A, Collection<Object>> indictedObjectsMapping,
             A a) {
-        return (constraint, impact) -> {
-            ConstraintJustification justification;
-            try {
-                justification = justificationMapping.apply(a, impact);
-            } catch (Exception e) {
-                throw createJustificationException(constraint, e, a);
+        return new ConstraintMatchSupplier<>() {
+            @Override
+            public ConstraintJustification justify(Constraint constraint, Score_ impact) {
+                try {
+                    return justificationMapping.apply(a, impact);
+                } catch (Exception e) {
+                    throw createJustificationException(constraint, e, a);
+                }
             }
-            Collection<Object> indictedObjectCollection;
-            try {
-                indictedObjectCollection = indictedObjectsMapping.apply(a);
-            } catch (Exception e) {
-                throw createIndictmentException(constraint, e, a);
+
+            @Override
+            public Collection<Object> indict(Constraint constraint) {
+                try {
+                    return indictedObjectsMapping.apply(a);
+                } catch (Exception e) {
+                    throw createIndictmentException(constraint, e, a);
+                }
             }
-            return new ConstraintMatch<>(constraint.getConstraintRef(), justification, indictedObjectCollection, impact);
         };
     }
 
@@ -80,20 +111,24 @@ public interface ConstraintMatchSupplier<Score_ extends Score<Score_>>
             TriFunction<A, B, Score_, ConstraintJustification> justificationMapping,
             BiFunction<A, B, Collection<Object>> indictedObjectsMapping,
             A a, B b) {
-        return (constraint, impact) -> {
-            ConstraintJustification justification;
-            try {
-                justification = justificationMapping.apply(a, b, impact);
-            } catch (Exception e) {
-                throw createJustificationException(constraint, e, a, b);
+        return new ConstraintMatchSupplier<>() {
+            @Override
+            public ConstraintJustification justify(Constraint constraint, Score_ impact) {
+                try {
+                    return justificationMapping.apply(a, b, impact);
+                } catch (Exception e) {
+                    throw createJustificationException(constraint, e, a, b);
+                }
             }
-            Collection<Object> indictedObjectCollection;
-            try {
-                indictedObjectCollection = indictedObjectsMapping.apply(a, b);
-            } catch (Exception e) {
-                throw createIndictmentException(constraint, e, a, b);
+
+            @Override
+            public Collection<Object> indict(Constraint constraint) {
+                try {
+                    return indictedObjectsMapping.apply(a, b);
+                } catch (Exception e) {
+                    throw createIndictmentException(constraint, e, a, b);
+                }
             }
-            return new ConstraintMatch<>(constraint.getConstraintRef(), justification, indictedObjectCollection, impact);
         };
     }
 
@@ -101,20 +136,24 @@ public interface ConstraintMatchSupplier<Score_ extends Score<Score_>>
             QuadFunction<A, B, C, Score_, ConstraintJustification> justificationMapping,
             TriFunction<A, B, C, Collection<Object>> indictedObjectsMapping,
             A a, B b, C c) {
-        return (constraint, impact) -> {
-            ConstraintJustification justification;
-            try {
-                justification = justificationMapping.apply(a, b, c, impact);
-            } catch (Exception e) {
-                throw createJustificationException(constraint, e, a, b, c);
+        return new ConstraintMatchSupplier<>() {
+            @Override
+            public ConstraintJustification justify(Constraint constraint, Score_ impact) {
+                try {
+                    return justificationMapping.apply(a, b, c, impact);
+                } catch (Exception e) {
+                    throw createJustificationException(constraint, e, a, b, c);
+                }
             }
-            Collection<Object> indictedObjectCollection;
-            try {
-                indictedObjectCollection = indictedObjectsMapping.apply(a, b, c);
-            } catch (Exception e) {
-                throw createIndictmentException(constraint, e, a, b, c);
+
+            @Override
+            public Collection<Object> indict(Constraint constraint) {
+                try {
+                    return indictedObjectsMapping.apply(a, b, c);
+                } catch (Exception e) {
+                    throw createIndictmentException(constraint, e, a, b, c);
+                }
             }
-            return new ConstraintMatch<>(constraint.getConstraintRef(), justification, indictedObjectCollection, impact);
         };
     }
 
@@ -122,20 +161,24 @@ public interface ConstraintMatchSupplier<Score_ extends Score<Score_>>
             PentaFunction<A, B, C, D, Score_, ConstraintJustification> justificationMapping,
             QuadFunction<A, B, C, D, Collection<Object>> indictedObjectsMapping,
             A a, B b, C c, D d) {
-        return (constraint, impact) -> {
-            ConstraintJustification justification;
-            try {
-                justification = justificationMapping.apply(a, b, c, d, impact);
-            } catch (Exception e) {
-                throw createJustificationException(constraint, e, a, b, c, d);
+        return new ConstraintMatchSupplier<>() {
+            @Override
+            public ConstraintJustification justify(Constraint constraint, Score_ impact) {
+                try {
+                    return justificationMapping.apply(a, b, c, d, impact);
+                } catch (Exception e) {
+                    throw createJustificationException(constraint, e, a, b, c, d);
+                }
             }
-            Collection<Object> indictedObjectCollection;
-            try {
-                indictedObjectCollection = indictedObjectsMapping.apply(a, b, c, d);
-            } catch (Exception e) {
-                throw createIndictmentException(constraint, e, a, b, c, d);
+
+            @Override
+            public Collection<Object> indict(Constraint constraint) {
+                try {
+                    return indictedObjectsMapping.apply(a, b, c, d);
+                } catch (Exception e) {
+                    throw createIndictmentException(constraint, e, a, b, c, d);
+                }
             }
-            return new ConstraintMatch<>(constraint.getConstraintRef(), justification, indictedObjectCollection, impact);
         };
     }
 
@@ -64,4 +64,22 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
                 constraintMatchSupplier);
     }
 
+    public void addSoftScore(long matchWeight) {
+        parent.softScore += constraintWeight.softScore() * matchWeight;
+    }
+
+    public void addMediumScore(long matchWeight) {
+        parent.mediumScore += constraintWeight.mediumScore() * matchWeight;
+    }
+
+    public void addHardScore(long matchWeight) {
+        parent.hardScore += constraintWeight.hardScore() * matchWeight;
+    }
+
+    public void addScore(long matchWeight) {
+        parent.hardScore += constraintWeight.hardScore() * matchWeight;
+        parent.mediumScore += constraintWeight.mediumScore() * matchWeight;
+        parent.softScore += constraintWeight.softScore() * matchWeight;
+    }
+
 }
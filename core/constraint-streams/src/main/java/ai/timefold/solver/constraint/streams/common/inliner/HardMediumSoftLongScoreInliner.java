@@ -29,22 +29,26 @@ final class HardMediumSoftLongScoreInliner extends AbstractScoreInliner<HardMedi
             return WeightedScoreImpacter.of(context,
                     (HardMediumSoftLongScoreContext ctx, long matchWeight,
                             ConstraintMatchSupplier<HardMediumSoftLongScore> constraintMatchSupplier) -> ctx
-                                    .changeHardScoreBy(matchWeight, constraintMatchSupplier));
+                                    .changeHardScoreBy(matchWeight, constraintMatchSupplier),
+                    HardMediumSoftLongScoreContext::addHardScore);
         } else if (hardConstraintWeight == 0L && softConstraintWeight == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardMediumSoftLongScoreContext ctx, long matchWeight,
                             ConstraintMatchSupplier<HardMediumSoftLongScore> constraintMatchSupplier) -> ctx
-                                    .changeMediumScoreBy(matchWeight, constraintMatchSupplier));
+                                    .changeMediumScoreBy(matchWeight, constraintMatchSupplier),
+                    HardMediumSoftLongScoreContext::addMediumScore);
         } else if (hardConstraintWeight == 0L && mediumConstraintWeight == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardMediumSoftLongScoreContext ctx, long matchWeight,
                             ConstraintMatchSupplier<HardMediumSoftLongScore> constraintMatchSupplier) -> ctx
-                                    .changeSoftScoreBy(matchWeight, constraintMatchSupplier));
+                                    .changeSoftScoreBy(matchWeight, constraintMatchSupplier),
+                    HardMediumSoftLongScoreContext::addSoftScore);
         } else {
             return WeightedScoreImpacter.of(context,
                     (HardMediumSoftLongScoreContext ctx, long matchWeight,
                             ConstraintMatchSupplier<HardMediumSoftLongScore> constraintMatchSupplier) -> ctx
-                                    .changeScoreBy(matchWeight, constraintMatchSupplier));
+                                    .changeScoreBy(matchWeight, constraintMatchSupplier),
+                    HardMediumSoftLongScoreContext::addScore);
         }
     }
 
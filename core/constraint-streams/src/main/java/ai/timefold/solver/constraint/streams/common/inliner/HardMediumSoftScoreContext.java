@@ -63,4 +63,22 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore,
                 constraintMatchSupplier);
     }
 
+    public void addSoftScore(int matchWeight) {
+        parent.softScore += constraintWeight.softScore() * matchWeight;
+    }
+
+    public void addMediumScore(int matchWeight) {
+        parent.mediumScore += constraintWeight.mediumScore() * matchWeight;
+    }
+
+    public void addHardScore(int matchWeight) {
+        parent.hardScore += constraintWeight.hardScore() * matchWeight;
+    }
+
+    public void addScore(int matchWeight) {
+        parent.hardScore += constraintWeight.hardScore() * matchWeight;
+        parent.mediumScore += constraintWeight.mediumScore() * matchWeight;
+        parent.softScore += constraintWeight.softScore() * matchWeight;
+    }
+
 }
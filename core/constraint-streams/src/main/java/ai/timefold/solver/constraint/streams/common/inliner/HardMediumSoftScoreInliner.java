@@ -25,13 +25,17 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
         int softConstraintWeight = constraintWeight.softScore();
         HardMediumSoftScoreContext context = new HardMediumSoftScoreContext(this, constraint, constraintWeight);
         if (mediumConstraintWeight == 0 && softConstraintWeight == 0) {
-            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeHardScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeHardScoreBy,
+                    HardMediumSoftScoreContext::addHardScore);
         } else if (hardConstraintWeight == 0 && softConstraintWeight == 0) {
-            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeMediumScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeMediumScoreBy,
+                    HardMediumSoftScoreContext::addMediumScore);
         } else if (hardConstraintWeight == 0 && mediumConstraintWeight == 0) {
-            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeSoftScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeSoftScoreBy,
+                    HardMediumSoftScoreContext::addSoftScore);
         } else {
-            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeScoreBy,
+                    HardMediumSoftScoreContext::addScore);
         }
     }
 
@@ -49,4 +49,17 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore, Har
                 constraintMatchSupplier);
     }
 
+    public void addSoftScore(long matchWeight) {
+        parent.softScore += constraintWeight.softScore() * matchWeight;
+    }
+
+    public void addHardScore(long matchWeight) {
+        parent.hardScore += constraintWeight.hardScore() * matchWeight;
+    }
+
+    public void addScore(long matchWeight) {
+        parent.hardScore += constraintWeight.hardScore() * matchWeight;
+        parent.softScore += constraintWeight.softScore() * matchWeight;
+    }
+
 }
@@ -23,17 +23,20 @@ final class HardSoftLongScoreInliner extends AbstractScoreInliner<HardSoftLongSc
             return WeightedScoreImpacter.of(context,
                     (HardSoftLongScoreContext ctx, long matchWeight,
                             ConstraintMatchSupplier<HardSoftLongScore> constraintMatchSupplier) -> ctx
-                                    .changeHardScoreBy(matchWeight, constraintMatchSupplier));
+                                    .changeHardScoreBy(matchWeight, constraintMatchSupplier),
+                    HardSoftLongScoreContext::addHardScore);
         } else if (constraintWeight.hardScore() == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardSoftLongScoreContext ctx, long matchWeight,
                             ConstraintMatchSupplier<HardSoftLongScore> constraintMatchSupplier) -> ctx
-                                    .changeSoftScoreBy(matchWeight, constraintMatchSupplier));
+                                    .changeSoftScoreBy(matchWeight, constraintMatchSupplier),
+                    HardSoftLongScoreContext::addSoftScore);
         } else {
             return WeightedScoreImpacter.of(context,
                     (HardSoftLongScoreContext ctx, long matchWeight,
                             ConstraintMatchSupplier<HardSoftLongScore> constraintMatchSupplier) -> ctx
-                                    .changeScoreBy(matchWeight, constraintMatchSupplier));
+                                    .changeScoreBy(matchWeight, constraintMatchSupplier),
+                    HardSoftLongScoreContext::addScore);
         }
     }
 
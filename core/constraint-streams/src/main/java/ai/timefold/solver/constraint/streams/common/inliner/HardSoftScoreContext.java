@@ -47,4 +47,17 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore, HardSoftSco
         return impactWithConstraintMatch(undoScoreImpact, HardSoftScore.of(hardImpact, softImpact), constraintMatchSupplier);
     }
 
+    public void addSoftScore(int matchWeight) {
+        parent.softScore += constraintWeight.softScore() * matchWeight;
+    }
+
+    public void addHardScore(int matchWeight) {
+        parent.hardScore += constraintWeight.hardScore() * matchWeight;
+    }
+
+    public void addScore(int matchWeight) {
+        parent.hardScore += constraintWeight.hardScore() * matchWeight;
+        parent.softScore += constraintWeight.softScore() * matchWeight;
+    }
+
 }
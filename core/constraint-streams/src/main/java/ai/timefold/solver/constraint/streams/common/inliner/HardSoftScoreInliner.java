@@ -21,11 +21,14 @@ final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
         HardSoftScore constraintWeight = constraintWeightMap.get(constraint);
         HardSoftScoreContext context = new HardSoftScoreContext(this, constraint, constraintWeight);
         if (constraintWeight.softScore() == 0) {
-            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeHardScoreBy);
+            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeHardScoreBy,
+                    HardSoftScoreContext::addHardScore);
         } else if (constraintWeight.hardScore() == 0) {
-            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeSoftScoreBy);
+            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeSoftScoreBy,
+                    HardSoftScoreContext::addSoftScore);
         } else {
-            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeScoreBy);
+            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeScoreBy,
+                    HardSoftScoreContext::addScore);
         }
     }
 
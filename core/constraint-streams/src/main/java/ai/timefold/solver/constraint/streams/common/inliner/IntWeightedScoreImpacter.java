@@ -9,10 +9,13 @@ final class IntWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ exte
         implements WeightedScoreImpacter<Score_, Context_> {
 
     private final IntImpactFunction<Score_, Context_> impactFunction;
+    private final ReversibleIntImpactFunction<Context_> reversibleImpactFunction;
     private final Context_ context;
 
-    public IntWeightedScoreImpacter(IntImpactFunction<Score_, Context_> impactFunction, Context_ context) {
+    public IntWeightedScoreImpacter(IntImpactFunction<Score_, Context_> impactFunction,
+            ReversibleIntImpactFunction<Context_> reversibleImpactFunction, Context_ context) {
         this.impactFunction = Objects.requireNonNull(impactFunction);
+        this.reversibleImpactFunction = Objects.requireNonNull(reversibleImpactFunction);
         this.context = context;
     }
 
@@ -32,6 +35,16 @@ final class IntWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ exte
         throw new UnsupportedOperationException("Impossible state: passing BigDecimal into an int impacter.");
     }
 
+    @Override
+    public void impactScoreSum(long matchWeightSum) {
+        reversibleImpactFunction.impact(context, (int) matchWeightSum);
+    }
+
+    @Override
+    public boolean supportsReversibleImpact() {
+        return true;
+    }
+
     @Override
     public Context_ getContext() {
         return context;
@@ -9,10 +9,13 @@ final class LongWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ext
         implements WeightedScoreImpacter<Score_, Context_> {
 
     private final LongImpactFunction<Score_, Context_> impactFunction;
+    private final ReversibleLongImpactFunction<Context_> reversibleImpactFunction;
     private final Context_ context;
 
-    public LongWeightedScoreImpacter(LongImpactFunction<Score_, Context_> impactFunction, Context_ context) {
+    public LongWeightedScoreImpacter(LongImpactFunction<Score_, Context_> impactFunction,
+            ReversibleLongImpactFunction<Context_> reversibleImpactFunction, Context_ context) {
         this.impactFunction = Objects.requireNonNull(impactFunction);
+        this.reversibleImpactFunction = Objects.requireNonNull(reversibleImpactFunction);
         this.context = context;
     }
 
@@ -33,6 +36,16 @@ final class LongWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ext
         throw new UnsupportedOperationException("Impossible state: passing BigDecimal into a long impacter.");
     }
 
+    @Override
+    public void impactScoreSum(long matchWeightSum) {
+        reversibleImpactFunction.impact(context, matchWeightSum);
+    }
+
+    @Override
+    public boolean supportsReversibleImpact() {
+        return true;
+    }
+
     @Override
     public Context_ getContext() {
         return context;
@@ -20,4 +20,8 @@ final class SimpleLongScoreContext extends ScoreContext<SimpleLongScore, SimpleL
         return impactWithConstraintMatch(undoScoreImpact, SimpleLongScore.of(impact), constraintMatchSupplier);
     }
 
+    public void addScore(long matchWeight) {
+        parent.score += constraintWeight.score() * matchWeight;
+    }
+
 }
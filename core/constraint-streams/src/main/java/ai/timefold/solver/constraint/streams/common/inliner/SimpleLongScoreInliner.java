@@ -22,7 +22,8 @@ final class SimpleLongScoreInliner extends AbstractScoreInliner<SimpleLongScore>
         return WeightedScoreImpacter.of(context,
                 (SimpleLongScoreContext ctx, long matchWeight,
                         ConstraintMatchSupplier<SimpleLongScore> constraintMatchSupplier) -> ctx
-                                .changeScoreBy(matchWeight, constraintMatchSupplier));
+                                .changeScoreBy(matchWeight, constraintMatchSupplier),
+                SimpleLongScoreContext::addScore);
     }
 
     @Override
@@ -19,4 +19,8 @@ final class SimpleScoreContext extends ScoreContext<SimpleScore, SimpleScoreInli
         return impactWithConstraintMatch(undoScoreImpact, SimpleScore.of(impact), constraintMatchSupplier);
     }
 
+    public void addScore(int matchWeight) {
+        parent.score += constraintWeight.score() * matchWeight;
+    }
+
 }
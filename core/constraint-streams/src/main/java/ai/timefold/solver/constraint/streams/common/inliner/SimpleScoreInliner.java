@@ -19,7 +19,8 @@ final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
             AbstractConstraint<?, ?, ?> constraint) {
         SimpleScore constraintWeight = constraintWeightMap.get(constraint);
         SimpleScoreContext context = new SimpleScoreContext(this, constraint, constraintWeight);
-        return WeightedScoreImpacter.of(context, SimpleScoreContext::changeScoreBy);
+        return WeightedScoreImpacter.of(context, SimpleScoreContext::changeScoreBy,
+                SimpleScoreContext::addScore);
     }
 
     @Override
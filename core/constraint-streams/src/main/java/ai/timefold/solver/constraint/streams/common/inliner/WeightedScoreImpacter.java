@@ -24,13 +24,15 @@ import ai.timefold.solver.core.api.score.Score;
 public interface WeightedScoreImpacter<Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_, ?>> {
 
     static <Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_, ?>> WeightedScoreImpacter<Score_, Context_>
-            of(Context_ context, IntImpactFunction<Score_, Context_> impactFunction) {
-        return new IntWeightedScoreImpacter<>(impactFunction, context);
+            of(Context_ context, IntImpactFunction<Score_, Context_> impactFunction,
+                    ReversibleIntImpactFunction<Context_> reversibleImpactFunction) {
+        return new IntWeightedScoreImpacter<>(impactFunction, reversibleImpactFunction, context);
     }
 
     static <Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_, ?>> WeightedScoreImpacter<Score_, Context_>
-            of(Context_ context, LongImpactFunction<Score_, Context_> impactFunction) {
-        return new LongWeightedScoreImpacter<>(impactFunction, context);
+            of(Context_ context, LongImpactFunction<Score_, Context_> impactFunction,
+                    ReversibleLongImpactFunction<Context_> reversibleImpactFunction) {
+        return new LongWeightedScoreImpacter<>(impactFunction, reversibleImpactFunction, context);
     }
 
     static <Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_, ?>> WeightedScoreImpacter<Score_, Context_>
@@ -59,6 +61,24 @@ public interface WeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ex
      */
     UndoScoreImpacter impactScore(BigDecimal matchWeight, ConstraintMatchSupplier<Score_> constraintMatchSupplier);
 
+    /**
+     * Adds the impact of the sum of several match weights to the score, in one call instead of one per match.
+     * Unlike {@link #impactScore(int, ConstraintMatchSupplier)}, it neither creates a constraint match
+     * nor an {@link UndoScoreImpacter}, so it is only used when constraint matching is disabled.
+     * The caller undoes the impact of a match by subtracting its match weight from a later sum.
+     * The sum may include match weights of which the impact is undone, so its sign is not checked.
+     * An int impacter adds the impact of the sum truncated to an int,
+     * which equals the sum of the impacts because integer arithmetic wraps around on overflow.
+     *
+     * @param matchWeightSum the sum of the match weights, each of which was already checked
+     */
+    void impactScoreSum(long matchWeightSum);
+
+    /**
+     * @return true if {@link #impactScoreSum(long)} is supported
+     */
+    boolean supportsReversibleImpact();
+
     Context_ getContext();
 
     @FunctionalInterface
@@ -75,6 +95,27 @@ public interface WeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ex
 
     }
 
+    /**
+     * Adds the impact of the match weight to the score, without remembering it.
+     * Impacting the negated match weight undoes it, as integer arithmetic wraps around symmetrically on overflow.
+     */
+    @FunctionalInterface
+    interface ReversibleIntImpactFunction<Context_ extends ScoreContext<?, ?>> {
+
+        void impact(Context_ context, int matchWeight);
+
+    }
+
+    /**
+     * As defined by {@link ReversibleIntImpactFunction}.
+     */
+    @FunctionalInterface
+    interface ReversibleLongImpactFunction<Context_ extends ScoreContext<?, ?>> {
+
+        void impact(Context_ context, long matchWeight);
+
+    }
+
     @FunctionalInterface
     interface BigDecimalImpactFunction<Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_, ?>> {
 
@@ -0,0 +1,119 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.DefaultConstraintJustification;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BavetConstraintMatchCountTest {
+
+    private static final AtomicInteger JUSTIFICATION_COUNT = new AtomicInteger();
+    private static final AtomicInteger INDICTMENT_COUNT = new AtomicInteger();
+
+    @BeforeEach
+    void resetJustificationCount() {
+        JUSTIFICATION_COUNT.set(0);
+        INDICTMENT_COUNT.set(0);
+    }
+
+    @Test
+    void matchCountWithoutConstraintMatches() {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(), new TestdataConstraintProvider(),
+                EnvironmentMode.REPRODUCIBLE);
+        var solution = TestdataSolution.generateSolution(2, 3);
+        var session = scoreDirectorFactory.newSession(true, solution);
+        solution.getEntityList().forEach(session::insert);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-6));
+
+        assertThat(session.getConstraintMatchCountAnalyses())
+                .singleElement()
+                .satisfies(constraintAnalysis -> {
+                    assertThat(constraintAnalysis.score()).isEqualTo(SimpleScore.of(-6));
+                    assertThat(constraintAnalysis.matchCount()).isEqualTo(3);
+                    assertThat(constraintAnalysis.matches()).isNull();
+                });
+        assertThat(JUSTIFICATION_COUNT).hasValue(0);
+
+        // The constraint match total map still creates the constraint matches.
+        assertThat(session.getConstraintMatchTotalMap().values())
+                .singleElement()
+                .satisfies(constraintMatchTotal -> assertThat(constraintMatchTotal.getConstraintMatchCount()).isEqualTo(3));
+        assertThat(JUSTIFICATION_COUNT).hasValue(3);
+    }
+
+    @Test
+    void topMatchesWithoutConstraintMatches() {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(), new TestdataValueJustificationConstraintProvider(),
+                EnvironmentMode.REPRODUCIBLE);
+        // Entities 0 and 2 have value 0, entity 1 has value 1.
+        var solution = TestdataSolution.generateSolution(2, 3);
+        var session = scoreDirectorFactory.newSession(true, solution);
+        solution.getEntityList().forEach(session::insert);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-6));
+
+        var value0 = solution.getValueList().get(0);
+        assertThat(session.getConstraintAnalyses(1))
+                .singleElement()
+                .satisfies(constraintAnalysis -> {
+                    assertThat(constraintAnalysis.score()).isEqualTo(SimpleScore.of(-6));
+                    assertThat(constraintAnalysis.matchCount()).isEqualTo(3);
+                    // Both matches of value 0 are merged, even though value 1 is in between them.
+                    assertThat(constraintAnalysis.matches())
+                            .singleElement()
+                            .satisfies(matchAnalysis -> {
+                                assertThat(matchAnalysis.score()).isEqualTo(SimpleScore.of(-4));
+                                assertThat(matchAnalysis.justification())
+                                        .isEqualTo(DefaultConstraintJustification.of(SimpleScore.of(-2), value0));
+                            });
+                });
+        assertThat(INDICTMENT_COUNT).hasValue(0);
+    }
+
+    public static class TestdataValueJustificationConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .penalize(SimpleScore.ONE, entity -> 2)
+                            .justifyWith((entity, score) -> DefaultConstraintJustification.of(score, entity.getValue()))
+                            .indictWith(entity -> {
+                                INDICTMENT_COUNT.incrementAndGet();
+                                return List.of(entity);
+                            })
+                            .asConstraint("Assigned")
+            };
+        }
+    }
+
+    public static class TestdataConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .penalize(SimpleScore.ONE, entity -> 2)
+                            .justifyWith((entity, score) -> {
+                                JUSTIFICATION_COUNT.incrementAndGet();
+                                return DefaultConstraintJustification.of(score, entity);
+                            })
+                            .asConstraint("Assigned")
+            };
+        }
+    }
+
+}
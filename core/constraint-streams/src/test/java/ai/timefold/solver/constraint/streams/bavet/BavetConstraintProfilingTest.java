@@ -0,0 +1,82 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler.ConstraintProfile;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler.NodeProfile;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class BavetConstraintProfilingTest {
+
+    @Test
+    void sharedNodeIsApportioned() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        new TestdataConstraintProvider(), EnvironmentMode.REPRODUCIBLE);
+        ConstraintProfiler constraintProfiler = new ConstraintProfiler();
+        try (InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false)) {
+            scoreDirector.setConstraintProfiler(constraintProfiler);
+            scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(2, 4));
+            assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-8));
+        }
+
+        List<NodeProfile> sharedNodeProfileList = constraintProfiler.getNodeProfileList().stream()
+                .filter(nodeProfile -> nodeProfile.getConstraintRefList().size() == 2)
+                .toList();
+        assertThat(sharedNodeProfileList).hasSize(1);
+        assertThat(sharedNodeProfileList.get(0).getInsertCount()).isEqualTo(4L);
+
+        Map<String, ConstraintProfile> constraintProfileMap = constraintProfiler.extractConstraintProfileList().stream()
+                .collect(Collectors.toMap(profile -> profile.constraintRef().constraintName(), Function.identity()));
+        assertThat(constraintProfileMap).containsOnlyKeys("Assigned", "Assigned to an existing value");
+        ConstraintProfile assignedProfile = constraintProfileMap.get("Assigned");
+        ConstraintProfile joinedProfile = constraintProfileMap.get("Assigned to an existing value");
+        // Both constraints get half of the inserts into the shared filter node.
+        assertThat(assignedProfile.insertCount()).isGreaterThanOrEqualTo(2.0);
+        assertThat(joinedProfile.insertCount()).isGreaterThan(assignedProfile.insertCount());
+        assertThat(assignedProfile.updateCount()).isZero();
+        assertThat(assignedProfile.retractCount()).isZero();
+        double totalInsertCount = constraintProfiler.getNodeProfileList().stream()
+                .mapToLong(NodeProfile::getInsertCount)
+                .sum();
+        assertThat(assignedProfile.insertCount() + joinedProfile.insertCount()).isEqualTo(totalInsertCount);
+    }
+
+    public static class TestdataConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            UniConstraintStream<TestdataEntity> assignedEntities = constraintFactory.forEach(TestdataEntity.class)
+                    .filter(entity -> entity.getValue() != null);
+            return new Constraint[] {
+                    assignedEntities
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Assigned"),
+                    assignedEntities
+                            .join(TestdataValue.class, Joiners.equal(TestdataEntity::getValue, value -> value))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Assigned to an existing value")
+            };
+        }
+    }
+
+}
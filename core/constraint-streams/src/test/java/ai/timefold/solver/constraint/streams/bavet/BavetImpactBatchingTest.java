@@ -0,0 +1,90 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BavetImpactBatchingTest {
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(BavetConstraintSessionFactory.IMPACT_BATCHING_PROPERTY_NAME);
+    }
+
+    @Test
+    void batchedAndUnbatchedImpactGiveTheSameScores() {
+        // The match weights are outside the Integer cache, so boxing them would not go unnoticed in a benchmark.
+        var batchedScoreList = calculateScores(true, false);
+        var perMatchScoreList = calculateScores(false, false);
+        var undoScoreImpacterScoreList = calculateScores(true, true);
+        assertThat(batchedScoreList)
+                .first()
+                .isEqualTo(SimpleScore.of(-2200));
+        assertThat(batchedScoreList)
+                .isEqualTo(perMatchScoreList)
+                .isEqualTo(undoScoreImpacterScoreList);
+    }
+
+    private static List<SimpleScore> calculateScores(boolean impactBatchingEnabled, boolean constraintMatchEnabled) {
+        System.setProperty(BavetConstraintSessionFactory.IMPACT_BATCHING_PROPERTY_NAME,
+                Boolean.toString(impactBatchingEnabled));
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(), new TestdataConstraintProvider(),
+                EnvironmentMode.REPRODUCIBLE);
+        var solution = TestdataSolution.generateSolution(2, 4);
+        var session = scoreDirectorFactory.newSession(constraintMatchEnabled, solution);
+        solution.getValueList().forEach(session::insert);
+        solution.getEntityList().forEach(session::insert);
+
+        List<SimpleScore> scoreList = new ArrayList<>();
+        scoreList.add(session.calculateScore(0));
+        var firstValue = solution.getValueList().get(0);
+        for (var entity : solution.getEntityList()) {
+            entity.setValue(firstValue);
+            session.update(entity);
+            scoreList.add(session.calculateScore(0));
+        }
+        var entity = solution.getEntityList().get(0);
+        session.retract(entity);
+        scoreList.add(session.calculateScore(0));
+        entity.setValue(null);
+        session.insert(entity);
+        scoreList.add(session.calculateScore(0));
+        return scoreList;
+    }
+
+    public static class TestdataConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .penalize(SimpleScore.ONE, entity -> 300)
+                            .asConstraint("Assigned"),
+                    constraintFactory.forEachUniquePair(TestdataEntity.class,
+                            Joiners.equal(TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE, (a, b) -> 500)
+                            .asConstraint("Same value"),
+                    constraintFactory.forEach(TestdataValue.class)
+                            .ifNotExists(TestdataEntity.class, Joiners.equal(value -> value, TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE, value -> 700)
+                            .asConstraint("Unused value")
+            };
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.function.Function;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.junit.jupiter.api.Test;
+
+class EnumEqualsIndexerTest extends AbstractIndexerTest {
+
+    enum Shift {
+        EARLY,
+        LATE,
+        NIGHT
+    }
+
+    private final DefaultBiJoiner<Shift, Shift> joiner =
+            (DefaultBiJoiner<Shift, Shift>) Joiners.equalEnum(Function.<Shift> identity());
+
+    @Test
+    void buildsEnumEqualsIndexer() {
+        assertThat(new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true))
+                .isInstanceOf(EnumEqualsIndexer.class);
+    }
+
+    @Test
+    void put() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-LATE");
+        assertThat(indexer.size(new SingleIndexProperties<>(Shift.LATE))).isEqualTo(0);
+        indexer.put(new SingleIndexProperties<>(Shift.LATE), annTuple);
+        assertThat(indexer.size(new SingleIndexProperties<>(Shift.LATE))).isEqualTo(1);
+        assertThat(indexer.size(new SingleIndexProperties<>(Shift.NIGHT))).isEqualTo(0);
+        assertThat(indexer.isEmpty()).isFalse();
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-LATE");
+        ElementAwareListEntry<UniTuple<String>> annEntry =
+                indexer.put(new SingleIndexProperties<>(Shift.LATE), annTuple);
+
+        indexer.remove(new SingleIndexProperties<>(Shift.LATE), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new SingleIndexProperties<>(Shift.LATE), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visit() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-LATE");
+        indexer.put(new SingleIndexProperties<>(Shift.LATE), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-EARLY");
+        indexer.put(new SingleIndexProperties<>(Shift.EARLY), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-null");
+        indexer.put(new SingleIndexProperties<>(null), carlTuple);
+        UniTuple<String> ednaTuple = newTuple("Edna-LATE");
+        indexer.put(new SingleIndexProperties<>(Shift.LATE), ednaTuple);
+
+        assertThat(getTuples(indexer, Shift.LATE)).containsOnly(annTuple, ednaTuple);
+        assertThat(getTuples(indexer, Shift.EARLY)).containsOnly(bethTuple);
+        assertThat(getTuples(indexer, Shift.NIGHT)).isEmpty();
+        assertThat(getTuples(indexer, (Object) null)).containsOnly(carlTuple);
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
@@ -0,0 +1,169 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.score.stream.JoinerType;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.junit.jupiter.api.Test;
+
+class IntervalTreeIndexerTest extends AbstractIndexerTest {
+
+    private record Shift(String name, int start, int end) {
+
+    }
+
+    private final DefaultBiJoiner<Shift, Shift> joiner =
+            (DefaultBiJoiner<Shift, Shift>) Joiners.overlapping(Shift::start, Shift::end);
+
+    @Test
+    void buildsIntervalTreeIndexer() {
+        IndexerFactory<Shift> indexerFactory = new IndexerFactory<>(joiner);
+        assertThat(indexerFactory.<UniTuple<String>> buildIndexer(true)).isInstanceOf(IntervalTreeIndexer.class);
+        assertThat(indexerFactory.<UniTuple<String>> buildIndexer(false)).isInstanceOf(IntervalTreeIndexer.class);
+        DefaultBiJoiner<Shift, Shift> equalAndOverlappingJoiner =
+                (DefaultBiJoiner<Shift, Shift>) Joiners.equal(Shift::name).and(joiner);
+        assertThat(new IndexerFactory<>(equalAndOverlappingJoiner).<UniTuple<String>> buildIndexer(true))
+                .isInstanceOf(EqualsIndexer.class);
+        DefaultBiJoiner<Shift, Shift> lessThanJoiners =
+                (DefaultBiJoiner<Shift, Shift>) Joiners.lessThan(Shift::start).and(Joiners.lessThan(Shift::end));
+        assertThat(new IndexerFactory<>(lessThanJoiners).<UniTuple<String>> buildIndexer(true))
+                .isInstanceOf(ComparisonIndexer.class);
+    }
+
+    @Test
+    void put() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-8-12");
+        assertThat(indexer.size(new TwoIndexProperties<>(10, 11))).isEqualTo(0);
+        indexer.put(new TwoIndexProperties<>(8, 12), annTuple);
+        assertThat(indexer.size(new TwoIndexProperties<>(10, 11))).isEqualTo(1);
+        assertThat(indexer.isEmpty()).isFalse();
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-8-12");
+        ElementAwareListEntry<UniTuple<String>> annEntry = indexer.put(new TwoIndexProperties<>(8, 12), annTuple);
+
+        indexer.remove(new TwoIndexProperties<>(8, 12), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new TwoIndexProperties<>(8, 12), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visit() {
+        // Left bridge: the index holds (leftStart, leftEnd) and is probed with (rightEnd, rightStart).
+        Indexer<UniTuple<String>> indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-8-12");
+        indexer.put(new TwoIndexProperties<>(8, 12), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-12-16");
+        indexer.put(new TwoIndexProperties<>(12, 16), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-0-24");
+        indexer.put(new TwoIndexProperties<>(0, 24), carlTuple);
+        UniTuple<String> ednaTuple = newTuple("Edna-8-12");
+        indexer.put(new TwoIndexProperties<>(8, 12), ednaTuple);
+
+        // Probe [11, 13)
+        assertThat(getTuples(indexer, 13, 11)).containsExactly(carlTuple, annTuple, ednaTuple, bethTuple);
+        // Probe [12, 14): the intervals are half open.
+        assertThat(getTuples(indexer, 14, 12)).containsExactly(carlTuple, bethTuple);
+        // Probe [4, 8)
+        assertThat(getTuples(indexer, 8, 4)).containsExactly(carlTuple);
+        // Probe [24, 30)
+        assertThat(getTuples(indexer, 30, 24)).isEmpty();
+    }
+
+    @Test
+    void visitRightBridge() {
+        // Right bridge: the index holds (rightEnd, rightStart) and is probed with (leftStart, leftEnd).
+        Indexer<UniTuple<String>> indexer = new IndexerFactory<>(joiner).buildIndexer(false);
+
+        UniTuple<String> annTuple = newTuple("Ann-8-12");
+        indexer.put(new TwoIndexProperties<>(12, 8), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-12-16");
+        indexer.put(new TwoIndexProperties<>(16, 12), bethTuple);
+
+        assertThat(getTuples(indexer, 11, 13)).containsExactly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, 12, 14)).containsExactly(bethTuple);
+        assertThat(getTuples(indexer, 4, 8)).isEmpty();
+    }
+
+    @Test
+    void visitEqualStarts() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-8-10");
+        indexer.put(new TwoIndexProperties<>(8, 10), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-8-16");
+        indexer.put(new TwoIndexProperties<>(8, 16), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-8-12");
+        indexer.put(new TwoIndexProperties<>(8, 12), carlTuple);
+        UniTuple<String> danTuple = newTuple("Dan-4-9");
+        indexer.put(new TwoIndexProperties<>(4, 9), danTuple);
+
+        // Ascending by start, then descending by end, like a LESS_THAN and a GREATER_THAN ComparisonIndexer.
+        assertThat(getTuples(indexer, 20, 8)).containsExactly(danTuple, bethTuple, carlTuple, annTuple);
+        assertThat(getTuples(indexer, 20, 11)).containsExactly(bethTuple, carlTuple);
+
+        Indexer<UniTuple<String>> comparisonIndexer = new ComparisonIndexer<>(JoinerType.LESS_THAN, 0,
+                () -> new ComparisonIndexer<>(JoinerType.GREATER_THAN, 1, NoneIndexer::new));
+        comparisonIndexer.put(new TwoIndexProperties<>(8, 10), annTuple);
+        comparisonIndexer.put(new TwoIndexProperties<>(8, 16), bethTuple);
+        comparisonIndexer.put(new TwoIndexProperties<>(8, 12), carlTuple);
+        comparisonIndexer.put(new TwoIndexProperties<>(4, 9), danTuple);
+        assertThat(getTuples(comparisonIndexer, 20, 8)).containsExactly(danTuple, bethTuple, carlTuple, annTuple);
+    }
+
+    @Test
+    void matchesComparisonIndexers() {
+        // Enough intervals to build a deep tree and to remove nodes with two children.
+        Indexer<UniTuple<String>> intervalIndexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        Indexer<UniTuple<String>> comparisonIndexer = new ComparisonIndexer<>(JoinerType.LESS_THAN, 0,
+                () -> new ComparisonIndexer<>(JoinerType.GREATER_THAN, 1, NoneIndexer::new));
+        Random random = new Random(37);
+        List<IndexProperties> propertiesList = new ArrayList<>();
+        List<ElementAwareListEntry<UniTuple<String>>> intervalEntryList = new ArrayList<>();
+        List<ElementAwareListEntry<UniTuple<String>>> comparisonEntryList = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            if (!propertiesList.isEmpty() && random.nextInt(3) == 0) {
+                var index = random.nextInt(propertiesList.size());
+                intervalIndexer.remove(propertiesList.get(index), intervalEntryList.remove(index));
+                comparisonIndexer.remove(propertiesList.remove(index), comparisonEntryList.remove(index));
+            } else {
+                var start = random.nextInt(1_000);
+                var properties = new TwoIndexProperties<>(start, start + random.nextInt(50));
+                var tuple = newTuple("Tuple " + i);
+                propertiesList.add(properties);
+                intervalEntryList.add(intervalIndexer.put(properties, tuple));
+                comparisonEntryList.add(comparisonIndexer.put(properties, tuple));
+            }
+            if (i % 100 == 0) {
+                for (int probe = 0; probe < 20; probe++) {
+                    var start = random.nextInt(1_050);
+                    var end = start + random.nextInt(50);
+                    assertThat(getTuples(intervalIndexer, end, start))
+                            .containsExactlyElementsOf(getTuples(comparisonIndexer, end, start));
+                    assertThat(intervalIndexer.size(new TwoIndexProperties<>(end, start)))
+                            .isEqualTo(comparisonIndexer.size(new TwoIndexProperties<>(end, start)));
+                }
+            }
+        }
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
@@ -0,0 +1,120 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import ai.timefold.solver.constraint.streams.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.score.stream.EqualKeyMapping.IntKeyMapping;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.junit.jupiter.api.Test;
+
+class LongEqualsIndexerTest extends AbstractIndexerTest {
+
+    private final DefaultBiJoiner<Person, Person> joiner =
+            (DefaultBiJoiner<Person, Person>) Joiners.equalInt((Person p) -> p.age);
+
+    @Test
+    void buildsLongEqualsIndexer() {
+        IndexerFactory<Person> indexerFactory = new IndexerFactory<>(joiner);
+        assertThat(indexerFactory.<UniTuple<String>> buildIndexer(true)).isInstanceOf(LongEqualsIndexer.class);
+        assertThat(indexerFactory.buildRightMapping().apply(new Person("F", 40)))
+                .isEqualTo(new SingleLongIndexProperties(40));
+        assertThat(indexerFactory.<Person> buildUniLeftMapping().apply(new Person("F", 40)))
+                .isEqualTo(new SingleLongIndexProperties(40));
+    }
+
+    @Test
+    void buildsEqualsIndexerForMixedMappings() {
+        var mixedJoiner = (DefaultBiJoiner<Person, Person>) Joiners.equal((Person p) -> p.age,
+                new IntKeyMapping<Person>(p -> p.age));
+        assertThat(new IndexerFactory<>(mixedJoiner).<UniTuple<String>> buildIndexer(true))
+                .isInstanceOf(EqualsIndexer.class);
+    }
+
+    @Test
+    void put() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-F-40");
+        assertThat(indexer.size(new SingleLongIndexProperties(40))).isEqualTo(0);
+        indexer.put(new SingleLongIndexProperties(40), annTuple);
+        assertThat(indexer.size(new SingleLongIndexProperties(40))).isEqualTo(1);
+        assertThat(indexer.isEmpty()).isFalse();
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-F-40");
+        ElementAwareListEntry<UniTuple<String>> annEntry = indexer.put(new SingleLongIndexProperties(40), annTuple);
+
+        indexer.remove(new SingleLongIndexProperties(40), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new SingleLongIndexProperties(40), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visit() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-F-40");
+        indexer.put(new SingleLongIndexProperties(40), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-F-30");
+        indexer.put(new SingleLongIndexProperties(30), bethTuple);
+        UniTuple<String> ednaTuple = newTuple("Edna-F-40");
+        indexer.put(new SingleLongIndexProperties(40), ednaTuple);
+
+        assertThat(getTuples(indexer, new SingleLongIndexProperties(40))).containsOnly(annTuple, ednaTuple);
+        assertThat(getTuples(indexer, new SingleLongIndexProperties(30))).containsOnly(bethTuple);
+        assertThat(getTuples(indexer, new SingleLongIndexProperties(20))).isEmpty();
+        // Keys which are not unboxed by the caller, as happens when the indexer is not the only one in the chain.
+        assertThat(getTuples(indexer, 40)).containsOnly(annTuple, ednaTuple);
+        assertThat(getTuples(indexer, 30L)).containsOnly(bethTuple);
+    }
+
+    @Test
+    void putAndRemoveManyKeys() {
+        // Enough keys to resize the hash table several times and to make removals shift colliding keys.
+        Indexer<UniTuple<String>> indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        Map<Long, List<ElementAwareListEntry<UniTuple<String>>>> expectedMap = new HashMap<>();
+        Random random = new Random(37);
+        for (int i = 0; i < 10_000; i++) {
+            long key = random.nextInt(500) * 1024L; // Keys that share their low bits.
+            var entryList = expectedMap.computeIfAbsent(key, k -> new ArrayList<>());
+            if (!entryList.isEmpty() && random.nextBoolean()) {
+                indexer.remove(new SingleLongIndexProperties(key), entryList.remove(entryList.size() - 1));
+            } else {
+                entryList.add(indexer.put(new SingleLongIndexProperties(key), newTuple("Tuple " + i)));
+            }
+        }
+        for (long key = 0; key < 500 * 1024L; key += 1024L) {
+            var entryList = expectedMap.getOrDefault(key, List.of());
+            assertThat(indexer.size(new SingleLongIndexProperties(key))).isEqualTo(entryList.size());
+            assertThat(getTuples(indexer, new SingleLongIndexProperties(key)))
+                    .containsExactlyInAnyOrderElementsOf(entryList.stream().map(ElementAwareListEntry::getElement).toList());
+        }
+        expectedMap.forEach((key, entryList) -> entryList
+                .forEach(entry -> indexer.remove(new SingleLongIndexProperties(key), entry)));
+        assertThat(indexer.isEmpty()).isTrue();
+    }
+
+    private <T> List<T> getTuples(Indexer<T> indexer, IndexProperties indexProperties) {
+        List<T> result = new ArrayList<>();
+        indexer.forEach(indexProperties, result::add);
+        return result;
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
@@ -0,0 +1,139 @@
+package ai.timefold.solver.constraint.streams.bavet.uni;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ai.timefold.solver.constraint.streams.bavet.BavetConstraintStreamImplSupport;
+import ai.timefold.solver.constraint.streams.common.AbstractConstraintStreamTest;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.multivar.TestdataMultiVarEntity;
+import ai.timefold.solver.core.impl.testdata.domain.multivar.TestdataMultiVarSolution;
+import ai.timefold.solver.core.impl.testdata.domain.multivar.TestdataOtherValue;
+
+import org.junit.jupiter.api.Test;
+
+final class BavetForEachReadingTest extends AbstractConstraintStreamTest {
+
+    private final TestdataValue value1 = new TestdataValue("v1");
+    private final TestdataValue value2 = new TestdataValue("v2");
+    private final TestdataOtherValue otherValue = new TestdataOtherValue("o1");
+    private final AtomicInteger filterCount = new AtomicInteger();
+
+    BavetForEachReadingTest() {
+        super(new BavetConstraintStreamImplSupport(false));
+    }
+
+    private TestdataMultiVarSolution buildSolution(TestdataMultiVarEntity... entities) {
+        TestdataMultiVarSolution solution = new TestdataMultiVarSolution("solution");
+        solution.setValueList(List.of(value1, value2));
+        solution.setOtherValueList(List.of(otherValue));
+        solution.setMultiVarEntityList(new ArrayList<>(List.of(entities)));
+        return solution;
+    }
+
+    private InnerScoreDirector<TestdataMultiVarSolution, SimpleScore> buildScoreDirector(String... variableNames) {
+        return buildScoreDirector(TestdataMultiVarSolution.buildSolutionDescriptor(),
+                factory -> new Constraint[] {
+                        factory.forEachReading(TestdataMultiVarEntity.class, variableNames)
+                                .filter(entity -> {
+                                    filterCount.incrementAndGet();
+                                    return entity.getPrimaryValue() == value1;
+                                })
+                                .penalize(SimpleScore.ONE)
+                                .asConstraint(TEST_CONSTRAINT_NAME)
+                });
+    }
+
+    private static void changeVariable(InnerScoreDirector<TestdataMultiVarSolution, SimpleScore> scoreDirector,
+            TestdataMultiVarEntity entity, String variableName, Runnable change) {
+        scoreDirector.beforeVariableChanged(entity, variableName);
+        change.run();
+        scoreDirector.afterVariableChanged(entity, variableName);
+    }
+
+    @Test
+    void unreadVariableChangeIsNotPropagated() {
+        TestdataMultiVarEntity entity1 = new TestdataMultiVarEntity("e1", value1, value1, otherValue);
+        TestdataMultiVarEntity entity2 = new TestdataMultiVarEntity("e2", value2, value1, otherValue);
+        InnerScoreDirector<TestdataMultiVarSolution, SimpleScore> scoreDirector = buildScoreDirector("primaryValue");
+
+        scoreDirector.setWorkingSolution(buildSolution(entity1, entity2));
+        assertScore(scoreDirector,
+                assertMatch(entity1));
+        int filterCountAfterInsert = filterCount.get();
+
+        changeVariable(scoreDirector, entity1, "secondaryValue", () -> entity1.setSecondaryValue(value2));
+        assertScore(scoreDirector,
+                assertMatch(entity1));
+        assertThat(filterCount.get()).isEqualTo(filterCountAfterInsert);
+
+        changeVariable(scoreDirector, entity2, "primaryValue", () -> entity2.setPrimaryValue(value1));
+        assertScore(scoreDirector,
+                assertMatch(entity1),
+                assertMatch(entity2));
+        assertThat(filterCount.get()).isEqualTo(filterCountAfterInsert + 1);
+    }
+
+    @Test
+    void unreadVariableChangeStillExcludesNullVars() {
+        TestdataMultiVarEntity entity1 = new TestdataMultiVarEntity("e1", value1, value1, otherValue);
+        TestdataMultiVarEntity entity2 = new TestdataMultiVarEntity("e2", value1, value2, otherValue);
+        InnerScoreDirector<TestdataMultiVarSolution, SimpleScore> scoreDirector = buildScoreDirector("primaryValue");
+
+        scoreDirector.setWorkingSolution(buildSolution(entity1, entity2));
+        assertScore(scoreDirector,
+                assertMatch(entity1),
+                assertMatch(entity2));
+
+        changeVariable(scoreDirector, entity1, "secondaryValue", () -> entity1.setSecondaryValue(null));
+        assertScore(scoreDirector,
+                assertMatch(entity2));
+
+        changeVariable(scoreDirector, entity1, "secondaryValue", () -> entity1.setSecondaryValue(value2));
+        assertScore(scoreDirector,
+                assertMatch(entity1),
+                assertMatch(entity2));
+    }
+
+    @Test
+    void problemPropertyChangeIsAlwaysPropagated() {
+        TestdataMultiVarEntity entity1 = new TestdataMultiVarEntity("e1", value2, value1, otherValue);
+        InnerScoreDirector<TestdataMultiVarSolution, SimpleScore> scoreDirector = buildScoreDirector();
+
+        scoreDirector.setWorkingSolution(buildSolution(entity1));
+        assertScore(scoreDirector);
+
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setPrimaryValue(value1);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatch(entity1));
+    }
+
+    @Test
+    void unknownVariable() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> buildScoreDirector("nonExistingValue"))
+                .withMessageContaining("nonExistingValue");
+    }
+
+    @Test
+    void unknownEntityClass() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> buildScoreDirector(TestdataMultiVarSolution.buildSolutionDescriptor(),
+                        factory -> new Constraint[] {
+                                factory.forEachReading(TestdataValue.class, "primaryValue")
+                                        .penalize(SimpleScore.ONE)
+                                        .asConstraint(TEST_CONSTRAINT_NAME)
+                        }))
+                .withMessageContaining("not a planning entity class");
+    }
+
+}
@@ -112,6 +112,23 @@ class BendableScoreInlinerTest extends AbstractScoreInlinerTest<TestdataBendable
                 .isEqualTo(buildScore(0, 0, 0));
     }
 
+    @Test
+    void impactScoreSum() {
+        var constraintWeight = buildScore(10, 100, 1_000);
+        var impacter = buildScoreImpacter(constraintWeight);
+        var scoreInliner = (AbstractScoreInliner<BendableScore>) impacter.getContext().parent;
+        assertThat(impacter.supportsReversibleImpact()).isTrue();
+
+        impacter.impactScoreSum(30L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(buildScore(300, 3_000, 30_000));
+
+        // Retracting more than was inserted since the previous sum.
+        impacter.impactScoreSum(-20L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(buildScore(100, 1_000, 10_000));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataBendableScoreSolution> buildSolutionDescriptor() {
         return TestdataBendableScoreSolution.buildSolutionDescriptor();
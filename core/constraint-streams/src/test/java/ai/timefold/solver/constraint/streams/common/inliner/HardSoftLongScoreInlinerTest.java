@@ -89,6 +89,23 @@ class HardSoftLongScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHard
                 .isEqualTo(HardSoftLongScore.of(0, 0));
     }
 
+    @Test
+    void impactScoreSum() {
+        var constraintWeight = HardSoftLongScore.of(10, 100);
+        var impacter = buildScoreImpacter(constraintWeight);
+        var scoreInliner = (AbstractScoreInliner<HardSoftLongScore>) impacter.getContext().parent;
+        assertThat(impacter.supportsReversibleImpact()).isTrue();
+
+        impacter.impactScoreSum(30L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftLongScore.of(300, 3_000));
+
+        // Retracting more than was inserted since the previous sum.
+        impacter.impactScoreSum(-20L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftLongScore.of(100, 1_000));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftLongScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftLongScoreSolution.buildSolutionDescriptor();
@@ -89,6 +89,23 @@ class HardSoftScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHardSoft
                 .isEqualTo(HardSoftScore.of(0, 0));
     }
 
+    @Test
+    void impactScoreSum() {
+        var constraintWeight = HardSoftScore.of(10, 100);
+        var impacter = buildScoreImpacter(constraintWeight);
+        var scoreInliner = (AbstractScoreInliner<HardSoftScore>) impacter.getContext().parent;
+        assertThat(impacter.supportsReversibleImpact()).isTrue();
+
+        impacter.impactScoreSum(30L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(300, 3_000));
+
+        // Retracting more than was inserted since the previous sum.
+        impacter.impactScoreSum(-20L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(100, 1_000));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftScoreSolution.buildSolutionDescriptor();
@@ -11,6 +11,7 @@ import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.calculator.ConstraintMatchAwareIncrementalScoreCalculator;
 import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.api.score.stream.ConstraintJustification;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
 import ai.timefold.solver.core.api.solver.SolutionManager;
 import ai.timefold.solver.core.impl.score.constraint.DefaultConstraintMatchTotal;
 import ai.timefold.solver.core.impl.util.CollectionUtils;
@@ -28,15 +29,31 @@ import ai.timefold.solver.core.impl.util.CollectionUtils;
  *        non-empty if constraint has matches.
  *        This is a {@link List} to simplify access to individual elements,
  *        but it contains no duplicates just like {@link HashSet} wouldn't.
+ *        Matches with the same {@link ConstraintJustification} are merged into one.
+ *        If the analysis was {@link SolutionManager#analyze(Object, int) limited},
+ *        only the matches with the biggest impact are present, biggest first.
+ * @param matchCount -1 if analysis not available (see {@link ScoreAnalysisFetchPolicy#FETCH_SHALLOW});
+ *        otherwise the number of constraint matches,
+ *        even if {@link #matches()} is not available or does not contain all of them.
+ *        In a {@link ScoreAnalysis#diff(ScoreAnalysis) diff}, the number of matches that differ,
+ *        or -1 if matches are not available.
  */
 public record ConstraintAnalysis<Score_ extends Score<Score_>>(ConstraintRef constraintRef, Score_ weight,
-        Score_ score, List<MatchAnalysis<Score_>> matches) {
+        Score_ score, List<MatchAnalysis<Score_>> matches, int matchCount) {
 
     static <Score_ extends Score<Score_>> ConstraintAnalysis<Score_> of(ConstraintRef constraintRef, Score_ constraintWeight,
             Score_ score) {
         return new ConstraintAnalysis<>(constraintRef, constraintWeight, score, null);
     }
 
+    /**
+     * As defined by the canonical constructor,
+     * with the {@link #matchCount()} derived from the matches.
+     */
+    public ConstraintAnalysis(ConstraintRef constraintRef, Score_ weight, Score_ score, List<MatchAnalysis<Score_>> matches) {
+        this(constraintRef, weight, score, matches, matches == null ? -1 : matches.size());
+    }
+
     public ConstraintAnalysis {
         Objects.requireNonNull(constraintRef);
         if (weight == null) {
@@ -54,16 +71,20 @@ public record ConstraintAnalysis<Score_ extends Score<Score_>>(ConstraintRef con
                             ConstraintMatchAwareIncrementalScoreCalculator.class.getSimpleName()));
         }
         Objects.requireNonNull(score);
+        if (matchCount < -1) {
+            throw new IllegalArgumentException("The matchCount (%d) must be -1 or higher.".formatted(matchCount));
+        }
     }
 
     ConstraintAnalysis<Score_> negate() {
         if (matches == null) {
-            return ConstraintAnalysis.of(constraintRef, weight.negate(), score.negate());
+            return new ConstraintAnalysis<>(constraintRef, weight.negate(), score.negate(), null, matchCount);
         } else {
             var negatedMatchAnalyses = matches.stream()
                     .map(MatchAnalysis::negate)
                     .toList();
-            return new ConstraintAnalysis<>(constraintRef, weight.negate(), score.negate(), negatedMatchAnalyses);
+            return new ConstraintAnalysis<>(constraintRef, weight.negate(), score.negate(), negatedMatchAnalyses,
+                    matchCount);
         }
     }
 
@@ -141,8 +162,15 @@ public record ConstraintAnalysis<Score_ extends Score<Score_>>(ConstraintRef con
     @Override
     public String toString() {
         if (matches == null) {
-            return "(%s at %s, no matches)"
-                    .formatted(score, weight);
+            if (matchCount < 0) {
+                return "(%s at %s, no matches)"
+                        .formatted(score, weight);
+            }
+            return "(%s at %s, %s matches not fetched)"
+                    .formatted(score, weight, matchCount);
+        } else if (matches.size() < matchCount) {
+            return "(%s at %s, %s of %s matches)"
+                    .formatted(score, weight, matches.size(), matchCount);
         } else {
             return "(%s at %s, %s matches)"
                     .formatted(score, weight, matches.size());
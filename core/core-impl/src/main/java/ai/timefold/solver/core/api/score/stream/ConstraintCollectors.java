@@ -36,6 +36,7 @@ import ai.timefold.solver.core.api.function.ToLongTriFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.function.TriPredicate;
 import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollector;
+import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
 import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollector;
@@ -1955,6 +1956,148 @@ public final class ConstraintCollectors {
         return InnerQuadConstraintCollectors.toConsecutiveSequences(resultMap, indexMap);
     }
 
+    // ************************************************************************
+    // load balancing collectors
+    // ************************************************************************
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)},
+     * where every fact adds a load of 1 to its balanced item.
+     *
+     * @param balancedItemFunction Maps the fact to the item whose load is being balanced
+     * @param <A> type of the matched fact
+     * @param <Balanced_> type of the item being balanced
+     * @return never null
+     */
+    public static <A, Balanced_> UniConstraintCollector<A, ?, LoadBalance<Balanced_>>
+            loadBalance(Function<A, Balanced_> balancedItemFunction) {
+        return loadBalance(balancedItemFunction, ConstantLambdaUtils.uniConstantOneLong());
+    }
+
+    /**
+     * Creates a constraint collector that returns a {@link LoadBalance} of the loads of the balanced items.
+     * Use it to penalize unfairness, such as employees that work many more shifts than their colleagues,
+     * in a single {@code groupBy}, instead of summing the load per item in one {@code groupBy}
+     * and calculating the deviations over all those sums in a second one.
+     * <p>
+     * For instance, {@code [Shift employee=Ann] [Shift employee=Ann] [Shift employee=Beth] [Shift employee=Cathy]}
+     * collected with {@code loadBalance(Shift::getEmployee)} returns the following information:
+     *
+     * <pre>
+     * {@code
+     * Loads: Ann=2, Beth=1, Cathy=1
+     * Unfairness: 0.8164965809277260 (the square root of 2/3)
+     * }
+     * </pre>
+     * <p>
+     * Adding or removing a fact only updates the running totals of a single balanced item,
+     * so the cost of each change does not depend on how many facts or balanced items there are.
+     *
+     * @param balancedItemFunction Maps the fact to the item whose load is being balanced
+     * @param loadFunction Maps the fact to the load it adds to its balanced item
+     * @param <A> type of the matched fact
+     * @param <Balanced_> type of the item being balanced
+     * @return never null
+     */
+    public static <A, Balanced_> UniConstraintCollector<A, ?, LoadBalance<Balanced_>>
+            loadBalance(Function<A, Balanced_> balancedItemFunction, ToLongFunction<A> loadFunction) {
+        return InnerUniConstraintCollectors.loadBalance(balancedItemFunction, loadFunction);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function)}.
+     *
+     * @param balancedItemFunction Maps both facts to the item whose load is being balanced
+     * @param <A> type of the first matched fact
+     * @param <B> type of the second matched fact
+     * @param <Balanced_> type of the item being balanced
+     * @return never null
+     */
+    public static <A, B, Balanced_> BiConstraintCollector<A, B, ?, LoadBalance<Balanced_>>
+            loadBalance(BiFunction<A, B, Balanced_> balancedItemFunction) {
+        return loadBalance(balancedItemFunction, ConstantLambdaUtils.biConstantOneLong());
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}.
+     *
+     * @param balancedItemFunction Maps both facts to the item whose load is being balanced
+     * @param loadFunction Maps both facts to the load they add to their balanced item
+     * @param <A> type of the first matched fact
+     * @param <B> type of the second matched fact
+     * @param <Balanced_> type of the item being balanced
+     * @return never null
+     */
+    public static <A, B, Balanced_> BiConstraintCollector<A, B, ?, LoadBalance<Balanced_>>
+            loadBalance(BiFunction<A, B, Balanced_> balancedItemFunction, ToLongBiFunction<A, B> loadFunction) {
+        return InnerBiConstraintCollectors.loadBalance(balancedItemFunction, loadFunction);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function)}.
+     *
+     * @param balancedItemFunction Maps the three facts to the item whose load is being balanced
+     * @param <A> type of the first matched fact
+     * @param <B> type of the second matched fact
+     * @param <C> type of the third matched fact
+     * @param <Balanced_> type of the item being balanced
+     * @return never null
+     */
+    public static <A, B, C, Balanced_> TriConstraintCollector<A, B, C, ?, LoadBalance<Balanced_>>
+            loadBalance(TriFunction<A, B, C, Balanced_> balancedItemFunction) {
+        return loadBalance(balancedItemFunction, ConstantLambdaUtils.triConstantOneLong());
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}.
+     *
+     * @param balancedItemFunction Maps the three facts to the item whose load is being balanced
+     * @param loadFunction Maps the three facts to the load they add to their balanced item
+     * @param <A> type of the first matched fact
+     * @param <B> type of the second matched fact
+     * @param <C> type of the third matched fact
+     * @param <Balanced_> type of the item being balanced
+     * @return never null
+     */
+    public static <A, B, C, Balanced_> TriConstraintCollector<A, B, C, ?, LoadBalance<Balanced_>>
+            loadBalance(TriFunction<A, B, C, Balanced_> balancedItemFunction, ToLongTriFunction<A, B, C> loadFunction) {
+        return InnerTriConstraintCollectors.loadBalance(balancedItemFunction, loadFunction);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function)}.
+     *
+     * @param balancedItemFunction Maps the four facts to the item whose load is being balanced
+     * @param <A> type of the first matched fact
+     * @param <B> type of the second matched fact
+     * @param <C> type of the third matched fact
+     * @param <D> type of the fourth matched fact
+     * @param <Balanced_> type of the item being balanced
+     * @return never null
+     */
+    public static <A, B, C, D, Balanced_> QuadConstraintCollector<A, B, C, D, ?, LoadBalance<Balanced_>>
+            loadBalance(QuadFunction<A, B, C, D, Balanced_> balancedItemFunction) {
+        return loadBalance(balancedItemFunction, ConstantLambdaUtils.quadConstantOneLong());
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}.
+     *
+     * @param balancedItemFunction Maps the four facts to the item whose load is being balanced
+     * @param loadFunction Maps the four facts to the load they add to their balanced item
+     * @param <A> type of the first matched fact
+     * @param <B> type of the second matched fact
+     * @param <C> type of the third matched fact
+     * @param <D> type of the fourth matched fact
+     * @param <Balanced_> type of the item being balanced
+     * @return never null
+     */
+    public static <A, B, C, D, Balanced_> QuadConstraintCollector<A, B, C, D, ?, LoadBalance<Balanced_>>
+            loadBalance(QuadFunction<A, B, C, D, Balanced_> balancedItemFunction,
+                    ToLongQuadFunction<A, B, C, D> loadFunction) {
+        return InnerQuadConstraintCollectors.loadBalance(balancedItemFunction, loadFunction);
+    }
+
     private ConstraintCollectors() {
     }
 }
@@ -56,6 +56,31 @@ public interface ConstraintFactory {
      */
     <A> UniConstraintStream<A> forEachIncludingNullVars(Class<A> sourceClass);
 
+    /**
+     * As defined by {@link #forEach(Class)},
+     * but the stream and everything downstream of it only reads the given variables of the sourceClass.
+     * When any other {@link PlanningVariable planning variable} or shadow variable of a matched entity changes,
+     * the stream is not updated, which saves the propagation through every constraint that follows from it.
+     * A change to a genuine variable still inserts or retracts the entity as it becomes (un)initialized.
+     * <p>
+     * The variables read by lambdas downstream of this stream (for example in a joiner, filter or match weigher)
+     * must all be listed, otherwise the score is corrupted.
+     * Use {@link ai.timefold.solver.core.config.solver.EnvironmentMode#FULL_ASSERT} to detect that.
+     * Streams that do not declare their variables, such as those built by {@link #forEach(Class)},
+     * are updated on every change of the entity.
+     * <p>
+     * Implementations that do not support this optimization fall back to {@link #forEach(Class)}.
+     *
+     * @param sourceClass never null, a {@link PlanningEntity} class
+     * @param variableNames never null, the names of the genuine and shadow variables that are read;
+     *        may be empty if only the initialization state of the entity matters
+     * @param <A> the type of the matched {@link PlanningEntity planning entity}
+     * @return never null
+     */
+    default <A> UniConstraintStream<A> forEachReading(Class<A> sourceClass, String... variableNames) {
+        return forEach(sourceClass);
+    }
+
     /**
      * Create a new {@link BiConstraintStream} for every unique combination of A and another A with a higher {@link PlanningId}.
      * <p>
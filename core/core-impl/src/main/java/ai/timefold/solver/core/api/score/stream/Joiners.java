@@ -3,6 +3,8 @@ package ai.timefold.solver.core.api.score.stream;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import ai.timefold.solver.core.api.function.PentaPredicate;
 import ai.timefold.solver.core.api.function.QuadFunction;
@@ -15,6 +17,9 @@ import ai.timefold.solver.core.api.score.stream.penta.PentaJoiner;
 import ai.timefold.solver.core.api.score.stream.quad.QuadJoiner;
 import ai.timefold.solver.core.api.score.stream.tri.TriJoiner;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
+import ai.timefold.solver.core.impl.score.stream.EqualKeyMapping.EnumKeyMapping;
+import ai.timefold.solver.core.impl.score.stream.EqualKeyMapping.IntKeyMapping;
+import ai.timefold.solver.core.impl.score.stream.EqualKeyMapping.LongKeyMapping;
 import ai.timefold.solver.core.impl.score.stream.JoinerSupport;
 import ai.timefold.solver.core.impl.score.stream.JoinerType;
 
@@ -73,6 +78,93 @@ public final class Joiners {
                 .newBiJoiner(leftMapping, JoinerType.EQUAL, rightMapping);
     }
 
+    /**
+     * As defined by {@link #equalInt(ToIntFunction, ToIntFunction)} with both arguments using the same mapping.
+     *
+     * @param <A> the type of both objects
+     * @param mapping mapping function to apply to both A and B
+     * @return never null
+     */
+    public static <A> BiJoiner<A, A> equalInt(ToIntFunction<A> mapping) {
+        return equalInt(mapping, mapping);
+    }
+
+    /**
+     * As defined by {@link #equal(Function, Function)},
+     * but the property is an int.
+     * Unlike {@link #equal(Function, Function)}, the property is not boxed to an {@link Integer},
+     * so the join is indexed without allocating keys and without hashing them through a {@link java.util.HashMap}.
+     * <p>
+     * This is a separate method, as opposed to an overload of {@link #equal(Function, Function)},
+     * because such an overload would make lambdas with an implicit parameter type ambiguous.
+     *
+     * @param <A> the type of object on the left
+     * @param <B> the type of object on the right
+     * @param leftMapping mapping function to apply to A
+     * @param rightMapping mapping function to apply to B
+     * @return never null
+     */
+    public static <A, B> BiJoiner<A, B> equalInt(ToIntFunction<A> leftMapping, ToIntFunction<B> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newBiJoiner(new IntKeyMapping<>(leftMapping), JoinerType.EQUAL, new IntKeyMapping<>(rightMapping));
+    }
+
+    /**
+     * As defined by {@link #equalLong(ToLongFunction, ToLongFunction)} with both arguments using the same mapping.
+     *
+     * @param <A> the type of both objects
+     * @param mapping mapping function to apply to both A and B
+     * @return never null
+     */
+    public static <A> BiJoiner<A, A> equalLong(ToLongFunction<A> mapping) {
+        return equalLong(mapping, mapping);
+    }
+
+    /**
+     * As defined by {@link #equalInt(ToIntFunction, ToIntFunction)}, but the property is a long.
+     *
+     * @param <A> the type of object on the left
+     * @param <B> the type of object on the right
+     * @param leftMapping mapping function to apply to A
+     * @param rightMapping mapping function to apply to B
+     * @return never null
+     */
+    public static <A, B> BiJoiner<A, B> equalLong(ToLongFunction<A> leftMapping, ToLongFunction<B> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newBiJoiner(new LongKeyMapping<>(leftMapping), JoinerType.EQUAL, new LongKeyMapping<>(rightMapping));
+    }
+
+    /**
+     * As defined by {@link #equalEnum(Function, Function)} with both arguments using the same mapping.
+     *
+     * @param <A> the type of both objects
+     * @param <Enum_> the type of the property to compare
+     * @param mapping mapping function to apply to both A and B
+     * @return never null
+     */
+    public static <A, Enum_ extends Enum<Enum_>> BiJoiner<A, A> equalEnum(Function<A, Enum_> mapping) {
+        return equalEnum(mapping, mapping);
+    }
+
+    /**
+     * As defined by {@link #equal(Function, Function)},
+     * but the property is an enum.
+     * Unlike {@link #equal(Function, Function)}, the join is indexed by the {@link Enum#ordinal() ordinal} of the property
+     * in an array, instead of hashing it through a {@link java.util.HashMap}.
+     *
+     * @param <A> the type of object on the left
+     * @param <B> the type of object on the right
+     * @param <Enum_> the type of the property to compare
+     * @param leftMapping mapping function to apply to A
+     * @param rightMapping mapping function to apply to B
+     * @return never null
+     */
+    public static <A, B, Enum_ extends Enum<Enum_>> BiJoiner<A, B> equalEnum(Function<A, Enum_> leftMapping,
+            Function<B, Enum_> rightMapping) {
+        return JoinerSupport.getJoinerService()
+                .newBiJoiner(new EnumKeyMapping<>(leftMapping), JoinerType.EQUAL, new EnumKeyMapping<>(rightMapping));
+    }
+
     /**
      * As defined by {@link #lessThan(Function, Function)} with both arguments using the same mapping.
      *
@@ -0,0 +1,32 @@
+package ai.timefold.solver.core.api.score.stream.common;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Contains info regarding how evenly a load is spread over a set of balanced items,
+ * such as the number of shifts per employee.
+ *
+ * @param <Balanced_> The type of the balanced item, such as an employee.
+ */
+public interface LoadBalance<Balanced_> {
+
+    /**
+     * Balanced items which do not appear in any of the collected facts are not present.
+     *
+     * @return never null; the load of every balanced item, unmodifiable.
+     */
+    Map<Balanced_, Long> loads();
+
+    /**
+     * The unfairness is the square root of the sum of the squared deviations of each load from the mean load.
+     * For instance, the loads [2, 2, 2] have an unfairness of 0 and the loads [1, 2, 3] have an unfairness of
+     * the square root of 2.
+     * The unfairness grows faster for a single outlier than for the same total deviation spread over many items,
+     * which makes it suitable to penalize directly.
+     *
+     * @return never null; zero or positive, zero if and only if all loads are equal.
+     */
+    BigDecimal unfairness();
+
+}
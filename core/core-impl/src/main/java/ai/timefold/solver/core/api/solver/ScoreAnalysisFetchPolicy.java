@@ -20,6 +20,13 @@ public enum ScoreAnalysisFetchPolicy {
      * does not include {@link ConstraintAnalysis#matches() match analysis}.
      * This is useful for performance reasons when the match analysis is not needed.
      */
-    FETCH_SHALLOW
+    FETCH_SHALLOW,
+    /**
+     * As {@link #FETCH_SHALLOW}, but every {@link ConstraintAnalysis} does include
+     * its {@link ConstraintAnalysis#matchCount() match count}.
+     * This is useful to summarize large solutions,
+     * as it does not keep a match analysis for each of the many constraint matches.
+     */
+    FETCH_MATCH_COUNT
 
 }
@@ -11,6 +11,7 @@ import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.ScoreExplanation;
+import ai.timefold.solver.core.api.score.analysis.ConstraintAnalysis;
 import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
 import ai.timefold.solver.core.api.score.calculator.EasyScoreCalculator;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
@@ -137,6 +138,30 @@ public interface SolutionManager<Solution_, Score_ extends Score<Score_>> {
     ScoreAnalysis<Score_> analyze(Solution_ solution, ScoreAnalysisFetchPolicy fetchPolicy,
             SolutionUpdatePolicy solutionUpdatePolicy);
 
+    /**
+     * As defined by {@link #analyze(Object, int, SolutionUpdatePolicy)},
+     * using {@link SolutionUpdatePolicy#UPDATE_ALL}.
+     */
+    default ScoreAnalysis<Score_> analyze(Solution_ solution, int matchLimit) {
+        return analyze(solution, matchLimit, UPDATE_ALL);
+    }
+
+    /**
+     * As defined by {@link #analyze(Object, ScoreAnalysisFetchPolicy, SolutionUpdatePolicy)},
+     * using {@link ScoreAnalysisFetchPolicy#FETCH_ALL},
+     * but every {@link ConstraintAnalysis} only includes its top matches by the absolute value of their score.
+     * Its {@link ConstraintAnalysis#matchCount() match count} still counts all constraint matches.
+     * This is useful to explain the score of large solutions, where most matches have a small impact.
+     *
+     * @param solution never null, must be fully initialized otherwise an exception is thrown
+     * @param matchLimit at least 1, the maximum number of {@link ConstraintAnalysis#matches() matches} per constraint
+     * @param solutionUpdatePolicy never null; if unsure, pick {@link SolutionUpdatePolicy#UPDATE_ALL}
+     * @return never null
+     * @throws IllegalStateException when constraint matching is disabled or not supported by the underlying score
+     *         calculator, such as {@link EasyScoreCalculator}.
+     */
+    ScoreAnalysis<Score_> analyze(Solution_ solution, int matchLimit, SolutionUpdatePolicy solutionUpdatePolicy);
+
     /**
      * As defined by {@link #recommendFit(Object, Object, Function, ScoreAnalysisFetchPolicy)},
      * with {@link ScoreAnalysisFetchPolicy#FETCH_ALL}.
@@ -244,8 +269,40 @@ public interface SolutionManager<Solution_, Score_ extends Score<Score_>> {
      *        to make a defensive copy inside the proposition function.
      * @see PlanningEntity More information about genuine and shadow planning entities.
      */
+    default <EntityOrElement_, Proposition_> List<RecommendedFit<Proposition_, Score_>> recommendFit(Solution_ solution,
+            EntityOrElement_ fittedEntityOrElement, Function<EntityOrElement_, Proposition_> propositionFunction,
+            ScoreAnalysisFetchPolicy fetchPolicy) {
+        return recommendFit(solution, fittedEntityOrElement, propositionFunction, fetchPolicy, Integer.MAX_VALUE);
+    }
+
+    /**
+     * As defined by {@link #recommendFit(Object, Object, Function, ScoreAnalysisFetchPolicy)},
+     * but only returns the best recommendations.
+     * <p>
+     * Every placement is first tested for fit by only calculating its score, which is fast,
+     * because the score is calculated incrementally.
+     * Only for the best placements, the placement is then done again
+     * to call the proposition function and to analyze the score.
+     * So the proposition function is not called for the other placements.
+     * This is much faster if there are many placements, but only a few of them are of interest.
+     *
+     * @param solution never null; must be fully initialized except for one entity or element
+     * @param fittedEntityOrElement never null; must be part of the solution
+     * @param propositionFunction never null
+     * @param fetchPolicy never null;
+     *        {@link ScoreAnalysisFetchPolicy#FETCH_ALL} will include more data within {@link RecommendedFit},
+     *        but will also take more time to gather that data.
+     * @param recommendationLimit at least 1, the maximum number of recommendations to return;
+     *        {@link Integer#MAX_VALUE} to analyze every placement
+     * @return never null, sorted from best to worst, at most recommendationLimit recommendations;
+     *         designed to be JSON-friendly, see {@link RecommendedFit} Javadoc for more.
+     * @param <EntityOrElement_> generic type of the unassigned entity or element
+     * @param <Proposition_> generic type of the user-provided proposition;
+     *        if it is a planning entity, it is recommended
+     *        to make a defensive copy inside the proposition function.
+     */
     <EntityOrElement_, Proposition_> List<RecommendedFit<Proposition_, Score_>> recommendFit(Solution_ solution,
             EntityOrElement_ fittedEntityOrElement, Function<EntityOrElement_, Proposition_> propositionFunction,
-            ScoreAnalysisFetchPolicy fetchPolicy);
+            ScoreAnalysisFetchPolicy fetchPolicy, int recommendationLimit);
 
 }
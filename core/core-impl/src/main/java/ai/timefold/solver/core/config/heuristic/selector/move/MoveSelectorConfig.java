@@ -22,8 +22,10 @@ import ai.timefold.solver.core.config.heuristic.selector.move.generic.SwapMoveSe
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.chained.SubChainChangeMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.chained.SubChainSwapMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.chained.TailChainSwapMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.CrossExchangeMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.ListSwapMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.OrOptMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.SubListSwapMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.kopt.KOptListMoveSelectorConfig;
@@ -40,11 +42,13 @@ import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.Selectio
 @XmlSeeAlso({
         CartesianProductMoveSelectorConfig.class,
         ChangeMoveSelectorConfig.class,
+        CrossExchangeMoveSelectorConfig.class,
         KOptListMoveSelectorConfig.class,
         ListChangeMoveSelectorConfig.class,
         ListSwapMoveSelectorConfig.class,
         MoveIteratorFactoryConfig.class,
         MoveListFactoryConfig.class,
+        OrOptMoveSelectorConfig.class,
         PillarChangeMoveSelectorConfig.class,
         PillarSwapMoveSelectorConfig.class,
         SubChainChangeMoveSelectorConfig.class,
@@ -0,0 +1,130 @@
+package ai.timefold.solver.core.config.heuristic.selector.move.generic.list;
+
+import java.util.function.Consumer;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+import ai.timefold.solver.core.config.heuristic.selector.list.SubListSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.MoveSelectorConfig;
+import ai.timefold.solver.core.config.util.ConfigUtils;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.SubListTransferFilter;
+
+/**
+ * Swaps a subList of one entity with a subList of another entity.
+ * Unlike {@link SubListSwapMoveSelectorConfig}, it never selects two subLists of the same entity.
+ */
+@XmlType(propOrder = {
+        "selectReversingMoveToo",
+        "subListSelectorConfig",
+        "secondarySubListSelectorConfig",
+        "subListTransferFilterClass"
+})
+public class CrossExchangeMoveSelectorConfig extends MoveSelectorConfig<CrossExchangeMoveSelectorConfig> {
+
+    public static final String XML_ELEMENT_NAME = "crossExchangeMoveSelector";
+
+    private Boolean selectReversingMoveToo = null;
+    @XmlElement(name = "subListSelector")
+    private SubListSelectorConfig subListSelectorConfig = null;
+    @XmlElement(name = "secondarySubListSelector")
+    private SubListSelectorConfig secondarySubListSelectorConfig = null;
+    private Class<? extends SubListTransferFilter> subListTransferFilterClass = null;
+
+    public Boolean getSelectReversingMoveToo() {
+        return selectReversingMoveToo;
+    }
+
+    public void setSelectReversingMoveToo(Boolean selectReversingMoveToo) {
+        this.selectReversingMoveToo = selectReversingMoveToo;
+    }
+
+    public SubListSelectorConfig getSubListSelectorConfig() {
+        return subListSelectorConfig;
+    }
+
+    public void setSubListSelectorConfig(SubListSelectorConfig subListSelectorConfig) {
+        this.subListSelectorConfig = subListSelectorConfig;
+    }
+
+    public SubListSelectorConfig getSecondarySubListSelectorConfig() {
+        return secondarySubListSelectorConfig;
+    }
+
+    public void setSecondarySubListSelectorConfig(SubListSelectorConfig secondarySubListSelectorConfig) {
+        this.secondarySubListSelectorConfig = secondarySubListSelectorConfig;
+    }
+
+    public Class<? extends SubListTransferFilter> getSubListTransferFilterClass() {
+        return subListTransferFilterClass;
+    }
+
+    public void setSubListTransferFilterClass(Class<? extends SubListTransferFilter> subListTransferFilterClass) {
+        this.subListTransferFilterClass = subListTransferFilterClass;
+    }
+
+    // ************************************************************************
+    // With methods
+    // ************************************************************************
+
+    public CrossExchangeMoveSelectorConfig withSelectReversingMoveToo(Boolean selectReversingMoveToo) {
+        this.setSelectReversingMoveToo(selectReversingMoveToo);
+        return this;
+    }
+
+    public CrossExchangeMoveSelectorConfig withSubListSelectorConfig(SubListSelectorConfig subListSelectorConfig) {
+        this.setSubListSelectorConfig(subListSelectorConfig);
+        return this;
+    }
+
+    public CrossExchangeMoveSelectorConfig
+            withSecondarySubListSelectorConfig(SubListSelectorConfig secondarySubListSelectorConfig) {
+        this.setSecondarySubListSelectorConfig(secondarySubListSelectorConfig);
+        return this;
+    }
+
+    public CrossExchangeMoveSelectorConfig
+            withSubListTransferFilterClass(Class<? extends SubListTransferFilter> subListTransferFilterClass) {
+        this.setSubListTransferFilterClass(subListTransferFilterClass);
+        return this;
+    }
+
+    @Override
+    public CrossExchangeMoveSelectorConfig inherit(CrossExchangeMoveSelectorConfig inheritedConfig) {
+        super.inherit(inheritedConfig);
+        this.selectReversingMoveToo =
+                ConfigUtils.inheritOverwritableProperty(selectReversingMoveToo, inheritedConfig.selectReversingMoveToo);
+        this.subListSelectorConfig =
+                ConfigUtils.inheritOverwritableProperty(subListSelectorConfig, inheritedConfig.subListSelectorConfig);
+        this.secondarySubListSelectorConfig =
+                ConfigUtils.inheritOverwritableProperty(secondarySubListSelectorConfig,
+                        inheritedConfig.secondarySubListSelectorConfig);
+        this.subListTransferFilterClass =
+                ConfigUtils.inheritOverwritableProperty(subListTransferFilterClass,
+                        inheritedConfig.subListTransferFilterClass);
+        return this;
+    }
+
+    @Override
+    public CrossExchangeMoveSelectorConfig copyConfig() {
+        return new CrossExchangeMoveSelectorConfig().inherit(this);
+    }
+
+    @Override
+    public void visitReferencedClasses(Consumer<Class<?>> classVisitor) {
+        visitCommonReferencedClasses(classVisitor);
+        classVisitor.accept(subListTransferFilterClass);
+        if (subListSelectorConfig != null) {
+            subListSelectorConfig.visitReferencedClasses(classVisitor);
+        }
+        if (secondarySubListSelectorConfig != null) {
+            secondarySubListSelectorConfig.visitReferencedClasses(classVisitor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + subListSelectorConfig
+                + (secondarySubListSelectorConfig == null ? "" : ", " + secondarySubListSelectorConfig) + ")";
+    }
+}
@@ -0,0 +1,138 @@
+package ai.timefold.solver.core.config.heuristic.selector.move.generic.list;
+
+import java.util.function.Consumer;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+import ai.timefold.solver.core.config.heuristic.selector.list.DestinationSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.list.SubListSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.MoveSelectorConfig;
+import ai.timefold.solver.core.config.util.ConfigUtils;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.SubListTransferFilter;
+
+/**
+ * Moves a short subList (by default of 1 to {@value #DEFAULT_MAXIMUM_SUB_LIST_SIZE} elements)
+ * to another position, in the same entity or in another entity.
+ * It unfolds into a {@link SubListChangeMoveSelectorConfig}.
+ */
+@XmlType(propOrder = {
+        "selectReversingMoveToo",
+        "subListSelectorConfig",
+        "destinationSelectorConfig",
+        "subListTransferFilterClass"
+})
+public class OrOptMoveSelectorConfig extends MoveSelectorConfig<OrOptMoveSelectorConfig> {
+
+    public static final String XML_ELEMENT_NAME = "orOptMoveSelector";
+
+    public static final int DEFAULT_MAXIMUM_SUB_LIST_SIZE = 3;
+
+    private Boolean selectReversingMoveToo = null;
+    @XmlElement(name = "subListSelector")
+    private SubListSelectorConfig subListSelectorConfig = null;
+    @XmlElement(name = "destinationSelector")
+    private DestinationSelectorConfig destinationSelectorConfig = null;
+    private Class<? extends SubListTransferFilter> subListTransferFilterClass = null;
+
+    public Boolean getSelectReversingMoveToo() {
+        return selectReversingMoveToo;
+    }
+
+    public void setSelectReversingMoveToo(Boolean selectReversingMoveToo) {
+        this.selectReversingMoveToo = selectReversingMoveToo;
+    }
+
+    /**
+     * @return sometimes null, its maximumSubListSize defaults to {@value #DEFAULT_MAXIMUM_SUB_LIST_SIZE}
+     */
+    public SubListSelectorConfig getSubListSelectorConfig() {
+        return subListSelectorConfig;
+    }
+
+    public void setSubListSelectorConfig(SubListSelectorConfig subListSelectorConfig) {
+        this.subListSelectorConfig = subListSelectorConfig;
+    }
+
+    public DestinationSelectorConfig getDestinationSelectorConfig() {
+        return destinationSelectorConfig;
+    }
+
+    public void setDestinationSelectorConfig(DestinationSelectorConfig destinationSelectorConfig) {
+        this.destinationSelectorConfig = destinationSelectorConfig;
+    }
+
+    public Class<? extends SubListTransferFilter> getSubListTransferFilterClass() {
+        return subListTransferFilterClass;
+    }
+
+    public void setSubListTransferFilterClass(Class<? extends SubListTransferFilter> subListTransferFilterClass) {
+        this.subListTransferFilterClass = subListTransferFilterClass;
+    }
+
+    // ************************************************************************
+    // With methods
+    // ************************************************************************
+
+    public OrOptMoveSelectorConfig withSelectReversingMoveToo(Boolean selectReversingMoveToo) {
+        this.setSelectReversingMoveToo(selectReversingMoveToo);
+        return this;
+    }
+
+    public OrOptMoveSelectorConfig withSubListSelectorConfig(SubListSelectorConfig subListSelectorConfig) {
+        this.setSubListSelectorConfig(subListSelectorConfig);
+        return this;
+    }
+
+    public OrOptMoveSelectorConfig withDestinationSelectorConfig(DestinationSelectorConfig destinationSelectorConfig) {
+        this.setDestinationSelectorConfig(destinationSelectorConfig);
+        return this;
+    }
+
+    public OrOptMoveSelectorConfig
+            withSubListTransferFilterClass(Class<? extends SubListTransferFilter> subListTransferFilterClass) {
+        this.setSubListTransferFilterClass(subListTransferFilterClass);
+        return this;
+    }
+
+    // ************************************************************************
+    // Builder methods
+    // ************************************************************************
+
+    @Override
+    public OrOptMoveSelectorConfig inherit(OrOptMoveSelectorConfig inheritedConfig) {
+        super.inherit(inheritedConfig);
+        this.selectReversingMoveToo =
+                ConfigUtils.inheritOverwritableProperty(selectReversingMoveToo, inheritedConfig.selectReversingMoveToo);
+        this.subListSelectorConfig =
+                ConfigUtils.inheritOverwritableProperty(subListSelectorConfig, inheritedConfig.subListSelectorConfig);
+        this.destinationSelectorConfig =
+                ConfigUtils.inheritOverwritableProperty(destinationSelectorConfig, inheritedConfig.destinationSelectorConfig);
+        this.subListTransferFilterClass =
+                ConfigUtils.inheritOverwritableProperty(subListTransferFilterClass,
+                        inheritedConfig.subListTransferFilterClass);
+        return this;
+    }
+
+    @Override
+    public OrOptMoveSelectorConfig copyConfig() {
+        return new OrOptMoveSelectorConfig().inherit(this);
+    }
+
+    @Override
+    public void visitReferencedClasses(Consumer<Class<?>> classVisitor) {
+        visitCommonReferencedClasses(classVisitor);
+        classVisitor.accept(subListTransferFilterClass);
+        if (subListSelectorConfig != null) {
+            subListSelectorConfig.visitReferencedClasses(classVisitor);
+        }
+        if (destinationSelectorConfig != null) {
+            destinationSelectorConfig.visitReferencedClasses(classVisitor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + subListSelectorConfig + ", " + destinationSelectorConfig + ")";
+    }
+}
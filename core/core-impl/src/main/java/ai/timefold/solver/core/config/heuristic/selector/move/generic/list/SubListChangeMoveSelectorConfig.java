@@ -9,13 +9,15 @@ import ai.timefold.solver.core.config.heuristic.selector.list.DestinationSelecto
 import ai.timefold.solver.core.config.heuristic.selector.list.SubListSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.MoveSelectorConfig;
 import ai.timefold.solver.core.config.util.ConfigUtils;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.SubListTransferFilter;
 
 @XmlType(propOrder = {
         "minimumSubListSize",
         "maximumSubListSize",
         "selectReversingMoveToo",
         "subListSelectorConfig",
-        "destinationSelectorConfig"
+        "destinationSelectorConfig",
+        "subListTransferFilterClass"
 })
 public class SubListChangeMoveSelectorConfig extends MoveSelectorConfig<SubListChangeMoveSelectorConfig> {
 
@@ -38,6 +40,7 @@ public class SubListChangeMoveSelectorConfig extends MoveSelectorConfig<SubListC
     private SubListSelectorConfig subListSelectorConfig = null;
     @XmlElement(name = "destinationSelector")
     private DestinationSelectorConfig destinationSelectorConfig = null;
+    private Class<? extends SubListTransferFilter> subListTransferFilterClass = null;
 
     /**
      * @deprecated The minimumSubListSize on the SubListChangeMoveSelectorConfig is deprecated and will be removed in a future
@@ -99,6 +102,14 @@ public class SubListChangeMoveSelectorConfig extends MoveSelectorConfig<SubListC
         this.destinationSelectorConfig = destinationSelectorConfig;
     }
 
+    public Class<? extends SubListTransferFilter> getSubListTransferFilterClass() {
+        return subListTransferFilterClass;
+    }
+
+    public void setSubListTransferFilterClass(Class<? extends SubListTransferFilter> subListTransferFilterClass) {
+        this.subListTransferFilterClass = subListTransferFilterClass;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -118,6 +129,12 @@ public class SubListChangeMoveSelectorConfig extends MoveSelectorConfig<SubListC
         return this;
     }
 
+    public SubListChangeMoveSelectorConfig
+            withSubListTransferFilterClass(Class<? extends SubListTransferFilter> subListTransferFilterClass) {
+        this.setSubListTransferFilterClass(subListTransferFilterClass);
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -135,6 +152,9 @@ public class SubListChangeMoveSelectorConfig extends MoveSelectorConfig<SubListC
                 ConfigUtils.inheritOverwritableProperty(subListSelectorConfig, inheritedConfig.subListSelectorConfig);
         this.destinationSelectorConfig =
                 ConfigUtils.inheritOverwritableProperty(destinationSelectorConfig, inheritedConfig.destinationSelectorConfig);
+        this.subListTransferFilterClass =
+                ConfigUtils.inheritOverwritableProperty(subListTransferFilterClass,
+                        inheritedConfig.subListTransferFilterClass);
         return this;
     }
 
@@ -146,6 +166,7 @@ public class SubListChangeMoveSelectorConfig extends MoveSelectorConfig<SubListC
     @Override
     public void visitReferencedClasses(Consumer<Class<?>> classVisitor) {
         visitCommonReferencedClasses(classVisitor);
+        classVisitor.accept(subListTransferFilterClass);
         if (subListSelectorConfig != null) {
             subListSelectorConfig.visitReferencedClasses(classVisitor);
         }
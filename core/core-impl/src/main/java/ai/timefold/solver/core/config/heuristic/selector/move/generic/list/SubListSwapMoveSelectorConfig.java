@@ -8,13 +8,15 @@ import jakarta.xml.bind.annotation.XmlType;
 import ai.timefold.solver.core.config.heuristic.selector.list.SubListSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.MoveSelectorConfig;
 import ai.timefold.solver.core.config.util.ConfigUtils;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.SubListTransferFilter;
 
 @XmlType(propOrder = {
         "minimumSubListSize",
         "maximumSubListSize",
         "selectReversingMoveToo",
         "subListSelectorConfig",
-        "secondarySubListSelectorConfig"
+        "secondarySubListSelectorConfig",
+        "subListTransferFilterClass"
 })
 public class SubListSwapMoveSelectorConfig extends MoveSelectorConfig<SubListSwapMoveSelectorConfig> {
 
@@ -37,6 +39,7 @@ public class SubListSwapMoveSelectorConfig extends MoveSelectorConfig<SubListSwa
     private SubListSelectorConfig subListSelectorConfig = null;
     @XmlElement(name = "secondarySubListSelector")
     private SubListSelectorConfig secondarySubListSelectorConfig = null;
+    private Class<? extends SubListTransferFilter> subListTransferFilterClass = null;
 
     /**
      * @deprecated The minimumSubListSize on the SubListSwapMoveSelectorConfig is deprecated and will be removed in a future
@@ -98,6 +101,14 @@ public class SubListSwapMoveSelectorConfig extends MoveSelectorConfig<SubListSwa
         this.secondarySubListSelectorConfig = secondarySubListSelectorConfig;
     }
 
+    public Class<? extends SubListTransferFilter> getSubListTransferFilterClass() {
+        return subListTransferFilterClass;
+    }
+
+    public void setSubListTransferFilterClass(Class<? extends SubListTransferFilter> subListTransferFilterClass) {
+        this.subListTransferFilterClass = subListTransferFilterClass;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -118,6 +129,12 @@ public class SubListSwapMoveSelectorConfig extends MoveSelectorConfig<SubListSwa
         return this;
     }
 
+    public SubListSwapMoveSelectorConfig
+            withSubListTransferFilterClass(Class<? extends SubListTransferFilter> subListTransferFilterClass) {
+        this.setSubListTransferFilterClass(subListTransferFilterClass);
+        return this;
+    }
+
     @Override
     public SubListSwapMoveSelectorConfig inherit(SubListSwapMoveSelectorConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -132,6 +149,9 @@ public class SubListSwapMoveSelectorConfig extends MoveSelectorConfig<SubListSwa
         this.secondarySubListSelectorConfig =
                 ConfigUtils.inheritOverwritableProperty(secondarySubListSelectorConfig,
                         inheritedConfig.secondarySubListSelectorConfig);
+        this.subListTransferFilterClass =
+                ConfigUtils.inheritOverwritableProperty(subListTransferFilterClass,
+                        inheritedConfig.subListTransferFilterClass);
         return this;
     }
 
@@ -143,6 +163,7 @@ public class SubListSwapMoveSelectorConfig extends MoveSelectorConfig<SubListSwa
     @Override
     public void visitReferencedClasses(Consumer<Class<?>> classVisitor) {
         visitCommonReferencedClasses(classVisitor);
+        classVisitor.accept(subListTransferFilterClass);
         if (subListSelectorConfig != null) {
             subListSelectorConfig.visitReferencedClasses(classVisitor);
         }
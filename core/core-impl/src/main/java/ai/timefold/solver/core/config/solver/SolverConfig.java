@@ -64,6 +64,7 @@ import ai.timefold.solver.core.impl.solver.random.RandomFactory;
         "moveThreadCount",
         "moveThreadBufferSize",
         "threadFactoryClass",
+        "bestSolutionStructurallyShared",
         "monitoringConfig",
         "solutionClass",
         "entityClassList",
@@ -223,6 +224,7 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     protected String moveThreadCount = null;
     protected Integer moveThreadBufferSize = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected Boolean bestSolutionStructurallyShared = null;
 
     protected Class<?> solutionClass = null;
 
@@ -355,6 +357,22 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * If true, every new best solution only clones the planning entities that changed since the previous best solution,
+     * and shares the clones of the other planning entities with the previous best solution.
+     * The best solutions must then not be modified, not even after solving.
+     * Defaults to false.
+     *
+     * @return sometimes null
+     */
+    public Boolean getBestSolutionStructurallyShared() {
+        return bestSolutionStructurallyShared;
+    }
+
+    public void setBestSolutionStructurallyShared(Boolean bestSolutionStructurallyShared) {
+        this.bestSolutionStructurallyShared = bestSolutionStructurallyShared;
+    }
+
     public Class<?> getSolutionClass() {
         return solutionClass;
     }
@@ -471,6 +489,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withBestSolutionStructurallyShared(Boolean bestSolutionStructurallyShared) {
+        this.bestSolutionStructurallyShared = bestSolutionStructurallyShared;
+        return this;
+    }
+
     public SolverConfig withSolutionClass(Class<?> solutionClass) {
         this.solutionClass = solutionClass;
         return this;
@@ -645,6 +668,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadBufferSize());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        bestSolutionStructurallyShared = ConfigUtils.inheritOverwritableProperty(bestSolutionStructurallyShared,
+                inheritedConfig.getBestSolutionStructurallyShared());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.getSolutionClass());
         entityClassList = ConfigUtils.inheritMergeableListProperty(entityClassList,
                 inheritedConfig.getEntityClassList());
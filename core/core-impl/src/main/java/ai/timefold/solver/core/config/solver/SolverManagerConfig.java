@@ -1,8 +1,10 @@
 package ai.timefold.solver.core.config.solver;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
+import jakarta.xml.bind.annotation.XmlTransient;
 import jakarta.xml.bind.annotation.XmlType;
 
 import ai.timefold.solver.core.config.AbstractConfig;
@@ -13,7 +15,8 @@ import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "virtualThreads"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
@@ -23,6 +26,10 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected Boolean virtualThreads = null;
+
+    @XmlTransient
+    protected ExecutorService executorService = null;
 
     // Future features:
     // throttlingDelay
@@ -51,6 +58,38 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * If true, every solver job and its best solution consumers run on virtual threads (requires Java 21 or higher).
+     * The {@link #getParallelSolverCount() parallelSolverCount} then limits the number of solver jobs
+     * that solve at the same time, instead of the number of threads.
+     * Defaults to false.
+     *
+     * @return sometimes null
+     */
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * If set, the solver jobs run on this {@link ExecutorService}, which the caller is responsible for shutting down.
+     * The {@link #getParallelSolverCount() parallelSolverCount} then limits the number of solver jobs
+     * that solve at the same time, independently of the number of threads of the executor.
+     * Cannot be combined with {@link #getVirtualThreads() virtualThreads}.
+     *
+     * @return sometimes null
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -65,6 +104,16 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    public SolverManagerConfig withExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -111,6 +160,10 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        virtualThreads = ConfigUtils.inheritOverwritableProperty(virtualThreads,
+                inheritedConfig.getVirtualThreads());
+        executorService = ConfigUtils.inheritOverwritableProperty(executorService,
+                inheritedConfig.getExecutorService());
         return this;
     }
 
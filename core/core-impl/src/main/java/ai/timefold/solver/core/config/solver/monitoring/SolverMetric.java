@@ -12,9 +12,12 @@ import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 import ai.timefold.solver.core.impl.statistic.BestScoreStatistic;
 import ai.timefold.solver.core.impl.statistic.BestSolutionMutationCountStatistic;
+import ai.timefold.solver.core.impl.statistic.ConstraintPropagationProfileStatistic;
 import ai.timefold.solver.core.impl.statistic.MemoryUseStatistic;
+import ai.timefold.solver.core.impl.statistic.MoveEvaluationProfileStatistic;
 import ai.timefold.solver.core.impl.statistic.PickedMoveBestScoreDiffStatistic;
 import ai.timefold.solver.core.impl.statistic.PickedMoveStepScoreDiffStatistic;
+import ai.timefold.solver.core.impl.statistic.ProbabilitySelectionMemoryFootprintStatistic;
 import ai.timefold.solver.core.impl.statistic.SolverStatistic;
 import ai.timefold.solver.core.impl.statistic.StatelessSolverStatistic;
 
@@ -36,7 +39,12 @@ public enum SolverMetric {
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("timefold.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("timefold.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
-            false);
+            false),
+    MOVE_EVALUATION_PROFILE("timefold.solver.move.evaluation", new MoveEvaluationProfileStatistic<>(), false),
+    CONSTRAINT_PROPAGATION_PROFILE("timefold.solver.constraint.propagation", new ConstraintPropagationProfileStatistic<>(),
+            false),
+    PROBABILITY_SELECTION_MEMORY_FOOTPRINT("timefold.solver.selection.probability.memory.footprint",
+            new ProbabilitySelectionMemoryFootprintStatistic<>(), false);
 
     private final String meterId;
     @SuppressWarnings("rawtypes")
@@ -88,6 +88,10 @@ public interface TimefoldSolverEnterpriseService {
             SelectionOrder resolvedSelectionOrder, ElementDestinationSelector<Solution_> destinationSelector);
 
     public enum Feature {
+        /**
+         * @deprecated Multi-threaded solving is built into the community edition and no longer requires this service.
+         */
+        @Deprecated(forRemoval = true)
         MULTITHREADED_SOLVING("Multi-threaded solving", "remove moveThreadCount from solver configuration"),
         PARTITIONED_SEARCH("Partitioned search", "remove partitioned search phase from solver configuration"),
         NEARBY_SELECTION("Nearby selection", "remove nearby selection from solver configuration");
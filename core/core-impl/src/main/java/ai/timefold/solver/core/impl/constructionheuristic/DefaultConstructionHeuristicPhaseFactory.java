@@ -24,6 +24,7 @@ import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
+import ai.timefold.solver.core.impl.constructionheuristic.decider.MultiThreadedConstructionHeuristicDecider;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForagerFactory;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacer;
@@ -179,9 +180,14 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         if (moveThreadCount == null) {
             decider = new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager);
         } else {
-            decider = TimefoldSolverEnterpriseService
-                    .loadOrFail(TimefoldSolverEnterpriseService.Feature.MULTITHREADED_SOLVING)
-                    .buildConstructionHeuristic(moveThreadCount, termination, forager, environmentMode, configPolicy);
+            TimefoldSolverEnterpriseService enterpriseService = TimefoldSolverEnterpriseService.load();
+            if (enterpriseService != null) {
+                decider = enterpriseService.buildConstructionHeuristic(moveThreadCount, termination, forager,
+                        environmentMode, configPolicy);
+            } else {
+                decider = new MultiThreadedConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination,
+                        forager, configPolicy.buildMoveThreadBatchEvaluator("Construction Heuristic"));
+            }
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             decider.setAssertMoveScoreFromScratch(true);
@@ -0,0 +1,95 @@
+package ai.timefold.solver.core.impl.constructionheuristic.decider;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import ai.timefold.solver.core.impl.constructionheuristic.placer.Placement;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.Termination;
+import ai.timefold.solver.core.impl.solver.thread.MoveThreadBatchEvaluator;
+
+/**
+ * Evaluates the moves of a {@link Placement} in batches on multiple move threads,
+ * through a {@link MoveThreadBatchEvaluator}.
+ * The evaluated moves are fed to the {@link ConstructionHeuristicForager} on the solver thread,
+ * in the order in which the placement provided them.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MultiThreadedConstructionHeuristicDecider<Solution_> extends ConstructionHeuristicDecider<Solution_> {
+
+    protected final MoveThreadBatchEvaluator<Solution_> moveThreadBatchEvaluator;
+
+    public MultiThreadedConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager, MoveThreadBatchEvaluator<Solution_> moveThreadBatchEvaluator) {
+        super(logIndentation, termination, forager);
+        this.moveThreadBatchEvaluator = moveThreadBatchEvaluator;
+    }
+
+    public int getMoveThreadCount() {
+        return moveThreadBatchEvaluator.getMoveThreadCount();
+    }
+
+    @Override
+    public void setAssertMoveScoreFromScratch(boolean assertMoveScoreFromScratch) {
+        super.setAssertMoveScoreFromScratch(assertMoveScoreFromScratch);
+        moveThreadBatchEvaluator.setAssertMoveScoreFromScratch(assertMoveScoreFromScratch);
+    }
+
+    @Override
+    public void setAssertExpectedUndoMoveScore(boolean assertExpectedUndoMoveScore) {
+        super.setAssertExpectedUndoMoveScore(assertExpectedUndoMoveScore);
+        moveThreadBatchEvaluator.setAssertExpectedUndoMoveScore(assertExpectedUndoMoveScore);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        moveThreadBatchEvaluator.phaseStarted(phaseScope);
+    }
+
+    @Override
+    public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        moveThreadBatchEvaluator.evaluate(stepScope, placement, (moveIndex, move, score) -> {
+            ConstructionHeuristicMoveScope<Solution_> moveScope =
+                    new ConstructionHeuristicMoveScope<>(stepScope, moveIndex, move);
+            moveScope.setScore(score);
+            forager.addMove(moveScope);
+            logger.trace("{}        Move index ({}), score ({}), move ({}).",
+                    logIndentation,
+                    moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getMove());
+            if (forager.isQuitEarly()) {
+                return true;
+            }
+            stepScope.getPhaseScope().getSolverScope().checkYielding();
+            return termination.isPhaseTerminated(stepScope.getPhaseScope());
+        });
+        pickMove(stepScope);
+    }
+
+    @Override
+    public void stepEnded(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        // The step is applied on the solver thread first (see DefaultConstructionHeuristicPhase.doStep()).
+        moveThreadBatchEvaluator.stepEnded(stepScope.getStep(), stepScope.getScore());
+    }
+
+    @Override
+    public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        moveThreadBatchEvaluator.shutdown();
+    }
+
+    @Override
+    public void solvingError(SolverScope<Solution_> solverScope, Exception exception) {
+        super.solvingError(solverScope, exception);
+        moveThreadBatchEvaluator.shutdown();
+    }
+
+}
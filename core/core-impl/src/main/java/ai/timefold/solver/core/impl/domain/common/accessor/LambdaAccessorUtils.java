@@ -0,0 +1,90 @@
+package ai.timefold.solver.core.impl.domain.common.accessor;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.config.util.ConfigUtils;
+
+/**
+ * Spins a {@link Function} or {@link BiConsumer} around a getter or setter {@link Method}
+ * through the {@link LambdaMetafactory}, the same way the JVM links a method reference.
+ * The JIT compiler inlines a call to such a lambda just like a direct method call.
+ */
+final class LambdaAccessorUtils {
+
+    /**
+     * The lambda is defined as a nestmate of the declaring class,
+     * which requires a lookup with full privilege access on that class.
+     * That is only possible if the declaring class is in the same module as this class,
+     * for example both on the classpath in the same class loader.
+     * A GraalVM native image cannot spin lambdas at runtime, so it always uses reflection instead.
+     *
+     * @param method never null
+     * @return true if {@link #buildGetterFunction(Method)} and {@link #buildSetterFunction(Method)} can be used
+     */
+    static boolean isSupported(Method method) {
+        if (ConfigUtils.isNativeImage()) {
+            return false;
+        }
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (declaringClass.isHidden()) {
+            return false;
+        }
+        try {
+            return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup()).hasFullPrivilegeAccess();
+        } catch (IllegalAccessException | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param getterMethod never null, no parameters and a non-void return type
+     * @return never null
+     */
+    static Function<Object, Object> buildGetterFunction(Method getterMethod) {
+        return (Function<Object, Object>) spinLambda(getterMethod, Function.class, "apply",
+                MethodType.methodType(Object.class, Object.class), false);
+    }
+
+    /**
+     * @param setterMethod never null, exactly one parameter
+     * @return never null
+     */
+    static BiConsumer<Object, Object> buildSetterFunction(Method setterMethod) {
+        return (BiConsumer<Object, Object>) spinLambda(setterMethod, BiConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, Object.class), true);
+    }
+
+    private static Object spinLambda(Method method, Class<?> functionalInterface, String functionalMethodName,
+            MethodType functionalMethodType, boolean dropReturnType) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle methodHandle = lookup.unreflect(method);
+            // Boxes the primitive return and parameter types, as a method reference does.
+            MethodType instantiatedMethodType = methodHandle.type().wrap();
+            if (dropReturnType) {
+                instantiatedMethodType = instantiatedMethodType.changeReturnType(void.class);
+            }
+            return LambdaMetafactory.metafactory(lookup, functionalMethodName,
+                    MethodType.methodType(functionalInterface), functionalMethodType, methodHandle, instantiatedMethodType)
+                    .getTarget()
+                    .invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("""
+                    Impossible state: failed creating a lambda for method (%s).
+                    %s
+                    """
+                    .strip()
+                    .formatted(method, MemberAccessorFactory.CLASSLOADER_NUDGE_MESSAGE), e);
+        }
+    }
+
+    private LambdaAccessorUtils() {
+    }
+
+}
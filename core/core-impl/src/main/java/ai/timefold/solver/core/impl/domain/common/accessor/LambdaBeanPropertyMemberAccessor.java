@@ -0,0 +1,103 @@
+package ai.timefold.solver.core.impl.domain.common.accessor;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.impl.domain.common.ReflectionHelper;
+
+/**
+ * A {@link MemberAccessor} based on a getter and optionally a setter,
+ * which are called through lambdas generated by the {@link java.lang.invoke.LambdaMetafactory}.
+ *
+ * @see ReflectionBeanPropertyMemberAccessor
+ */
+public final class LambdaBeanPropertyMemberAccessor extends AbstractMemberAccessor {
+
+    private final Class<?> propertyType;
+    private final String propertyName;
+    private final Method getterMethod;
+    private final Function<Object, Object> getterFunction;
+    private final Method setterMethod;
+    private final BiConsumer<Object, Object> setterFunction;
+
+    public LambdaBeanPropertyMemberAccessor(Method getterMethod) {
+        this(getterMethod, false);
+    }
+
+    public LambdaBeanPropertyMemberAccessor(Method getterMethod, boolean getterOnly) {
+        this.getterMethod = getterMethod;
+        Class<?> declaringClass = getterMethod.getDeclaringClass();
+        if (!ReflectionHelper.isGetterMethod(getterMethod)) {
+            throw new IllegalArgumentException("The getterMethod (" + getterMethod + ") is not a valid getter.");
+        }
+        this.getterFunction = LambdaAccessorUtils.buildGetterFunction(getterMethod);
+        propertyType = getterMethod.getReturnType();
+        propertyName = ReflectionHelper.getGetterPropertyName(getterMethod);
+        if (getterOnly) {
+            setterMethod = null;
+            setterFunction = null;
+        } else {
+            setterMethod = ReflectionHelper.getSetterMethod(declaringClass, getterMethod.getReturnType(), propertyName);
+            setterFunction = setterMethod == null ? null : LambdaAccessorUtils.buildSetterFunction(setterMethod);
+        }
+    }
+
+    @Override
+    public Class<?> getDeclaringClass() {
+        return getterMethod.getDeclaringClass();
+    }
+
+    @Override
+    public String getName() {
+        return propertyName;
+    }
+
+    @Override
+    public Class<?> getType() {
+        return propertyType;
+    }
+
+    @Override
+    public Type getGenericType() {
+        return getterMethod.getGenericReturnType();
+    }
+
+    @Override
+    public Object executeGetter(Object bean) {
+        return getterFunction.apply(bean);
+    }
+
+    @Override
+    public boolean supportSetter() {
+        return setterMethod != null;
+    }
+
+    @Override
+    public void executeSetter(Object bean, Object value) {
+        setterFunction.accept(bean, value);
+    }
+
+    @Override
+    public String getSpeedNote() {
+        return "LambdaMetafactory";
+    }
+
+    @Override
+    public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+        return getterMethod.getAnnotation(annotationClass);
+    }
+
+    @Override
+    public <T extends Annotation> T[] getDeclaredAnnotationsByType(Class<T> annotationClass) {
+        return getterMethod.getDeclaredAnnotationsByType(annotationClass);
+    }
+
+    @Override
+    public String toString() {
+        return "bean property " + propertyName + " on " + getterMethod.getDeclaringClass();
+    }
+
+}
@@ -0,0 +1,92 @@
+package ai.timefold.solver.core.impl.domain.common.accessor;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * A {@link MemberAccessor} based on a single read {@link Method},
+ * which is called through a lambda generated by the {@link java.lang.invoke.LambdaMetafactory}.
+ *
+ * @see ReflectionMethodMemberAccessor
+ */
+public final class LambdaMethodMemberAccessor extends AbstractMemberAccessor {
+
+    private final Class<?> returnType;
+    private final String methodName;
+    private final Method readMethod;
+    private final Function<Object, Object> readFunction;
+
+    public LambdaMethodMemberAccessor(Method readMethod) {
+        this.readMethod = readMethod;
+        this.returnType = readMethod.getReturnType();
+        this.methodName = readMethod.getName();
+        if (readMethod.getParameterTypes().length != 0) {
+            throw new IllegalArgumentException("The readMethod (" + readMethod + ") must not have any parameters ("
+                    + Arrays.toString(readMethod.getParameterTypes()) + ").");
+        }
+        if (readMethod.getReturnType() == void.class) {
+            throw new IllegalArgumentException("The readMethod (" + readMethod + ") must have a return type ("
+                    + readMethod.getReturnType() + ").");
+        }
+        this.readFunction = LambdaAccessorUtils.buildGetterFunction(readMethod);
+    }
+
+    @Override
+    public Class<?> getDeclaringClass() {
+        return readMethod.getDeclaringClass();
+    }
+
+    @Override
+    public String getName() {
+        return methodName;
+    }
+
+    @Override
+    public Class<?> getType() {
+        return returnType;
+    }
+
+    @Override
+    public Type getGenericType() {
+        return readMethod.getGenericReturnType();
+    }
+
+    @Override
+    public Object executeGetter(Object bean) {
+        return readFunction.apply(bean);
+    }
+
+    @Override
+    public String getSpeedNote() {
+        return "LambdaMetafactory";
+    }
+
+    @Override
+    public boolean supportSetter() {
+        return false;
+    }
+
+    @Override
+    public void executeSetter(Object bean, Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+        return readMethod.getAnnotation(annotationClass);
+    }
+
+    @Override
+    public <T extends Annotation> T[] getDeclaredAnnotationsByType(Class<T> annotationClass) {
+        return readMethod.getDeclaredAnnotationsByType(annotationClass);
+    }
+
+    @Override
+    public String toString() {
+        return "method " + methodName + " on " + readMethod.getDeclaringClass();
+    }
+
+}
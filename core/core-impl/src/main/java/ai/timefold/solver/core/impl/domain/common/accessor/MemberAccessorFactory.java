@@ -38,23 +38,32 @@ public final class MemberAccessorFactory {
                 return GizmoMemberAccessorFactory.buildGizmoMemberAccessor(member, annotationClass,
                         (GizmoClassLoader) Objects.requireNonNull(classLoader));
             case REFLECTION:
-                return buildReflectiveMemberAccessor(member, memberAccessorType, annotationClass);
+                return buildReflectiveMemberAccessor(member, memberAccessorType, annotationClass, false);
+            case LAMBDA:
+                return buildReflectiveMemberAccessor(member, memberAccessorType, annotationClass, true);
             default:
                 throw new IllegalStateException("The domainAccessType (" + domainAccessType + ") is not implemented.");
         }
     }
 
+    /**
+     * @param lambda true to call methods through {@link java.lang.invoke.LambdaMetafactory lambdas},
+     *        unless the declaring class is not accessible for that, in which case reflection is used instead.
+     *        Fields are always accessed through reflection, because a lambda cannot target a field.
+     */
     private static MemberAccessor buildReflectiveMemberAccessor(Member member, MemberAccessorType memberAccessorType,
-            Class<? extends Annotation> annotationClass) {
+            Class<? extends Annotation> annotationClass, boolean lambda) {
         if (member instanceof Field field) {
             return new ReflectionFieldMemberAccessor(field);
         } else if (member instanceof Method method) {
+            boolean useLambda = lambda && LambdaAccessorUtils.isSupported(method);
             MemberAccessor memberAccessor;
             switch (memberAccessorType) {
                 case FIELD_OR_READ_METHOD:
                     if (!ReflectionHelper.isGetterMethod(method)) {
                         ReflectionHelper.assertReadMethod(method, annotationClass);
-                        memberAccessor = new ReflectionMethodMemberAccessor(method);
+                        memberAccessor = useLambda ? new LambdaMethodMemberAccessor(method)
+                                : new ReflectionMethodMemberAccessor(method);
                         break;
                     }
                     // Intentionally fall through (no break)
@@ -62,7 +71,8 @@ public final class MemberAccessorFactory {
                 case FIELD_OR_GETTER_METHOD_WITH_SETTER:
                     boolean getterOnly = memberAccessorType != MemberAccessorType.FIELD_OR_GETTER_METHOD_WITH_SETTER;
                     ReflectionHelper.assertGetterMethod(method, annotationClass);
-                    memberAccessor = new ReflectionBeanPropertyMemberAccessor(method, getterOnly);
+                    memberAccessor = useLambda ? new LambdaBeanPropertyMemberAccessor(method, getterOnly)
+                            : new ReflectionBeanPropertyMemberAccessor(method, getterOnly);
                     break;
                 default:
                     throw new IllegalStateException("The memberAccessorType (" + memberAccessorType
@@ -23,6 +23,7 @@ import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
 
 import ai.timefold.solver.core.api.domain.solution.cloner.DeepPlanningClone;
 import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
@@ -48,7 +49,29 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
 
     @Override
     public Solution_ cloneSolution(Solution_ originalSolution) {
-        Map<Object, Object> originalToCloneMap = new IdentityHashMap<>();
+        return cloneSolution(originalSolution, new IdentityHashMap<>());
+    }
+
+    /**
+     * Like {@link #cloneSolution(Object)}, but reuses the existing clone of every original object
+     * in the sharedOriginalToCloneMap, instead of cloning it again.
+     * The caller is responsible that such a reused clone is still equal to its original
+     * and that it does not reference any object which is cloned again.
+     *
+     * @param originalSolution never null
+     * @param sharedOriginalToCloneMap never null, not modified
+     * @param newCloneConsumer never null, called with every original object and its new clone
+     * @return never null
+     */
+    public Solution_ cloneSolution(Solution_ originalSolution, Map<Object, Object> sharedOriginalToCloneMap,
+            BiConsumer<Object, Object> newCloneConsumer) {
+        SharingOriginalToCloneMap originalToCloneMap = new SharingOriginalToCloneMap(sharedOriginalToCloneMap);
+        Solution_ cloneSolution = cloneSolution(originalSolution, originalToCloneMap);
+        originalToCloneMap.forEach(newCloneConsumer);
+        return cloneSolution;
+    }
+
+    private Solution_ cloneSolution(Solution_ originalSolution, Map<Object, Object> originalToCloneMap) {
         Queue<Unprocessed> unprocessedQueue = new ArrayDeque<>();
         Solution_ cloneSolution = clone(originalSolution, originalToCloneMap, unprocessedQueue,
                 retrieveClassMetadata(originalSolution.getClass()));
@@ -362,4 +385,23 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
 
     private record Unprocessed(Object bean, Field field, Object originalValue) {
     }
+
+    /**
+     * Only holds the new clones, but also finds the shared clones.
+     */
+    private static final class SharingOriginalToCloneMap extends IdentityHashMap<Object, Object> {
+
+        private final transient Map<Object, Object> sharedOriginalToCloneMap;
+
+        private SharingOriginalToCloneMap(Map<Object, Object> sharedOriginalToCloneMap) {
+            this.sharedOriginalToCloneMap = sharedOriginalToCloneMap;
+        }
+
+        @Override
+        public Object get(Object original) {
+            Object clone = super.get(original);
+            return clone != null ? clone : sharedOriginalToCloneMap.get(original);
+        }
+
+    }
 }
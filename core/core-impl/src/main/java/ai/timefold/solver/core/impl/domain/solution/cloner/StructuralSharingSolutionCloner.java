@@ -0,0 +1,122 @@
+package ai.timefold.solver.core.impl.domain.solution.cloner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
+import ai.timefold.solver.core.impl.domain.solution.cloner.gizmo.GizmoSolutionCloner;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Clones the working solution into snapshots, such as the best solution,
+ * which share the clone of every planning entity that has not changed since the previous snapshot.
+ * <p>
+ * The score director reports every entity of which a genuine or shadow variable changes
+ * through {@link #entityChanged(Object)}, which drops the shared clone of that entity.
+ * Only the entities of a class that does not reference any object that is deep-cloned
+ * (such as another planning entity, a planning list or a {@code @DeepPlanningClone} collection) are shared,
+ * because such a reference in a shared clone would point to an outdated clone.
+ * All other entities are cloned again for every snapshot.
+ * <p>
+ * Therefore the snapshots must not be modified: a change to a shared entity clone changes every snapshot that shares it.
+ * <p>
+ * This class is not thread-safe: it belongs to one score director.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class StructuralSharingSolutionCloner<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final FieldAccessingSolutionCloner<Solution_> solutionCloner;
+    private final Map<Class<?>, Boolean> sharedClassMap = new HashMap<>();
+    // Every shareable entity that has not changed since it was cloned for a snapshot, mapped to that clone
+    private final Map<Object, Object> sharedOriginalToCloneMap = new IdentityHashMap<>();
+
+    public StructuralSharingSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+        SolutionCloner<Solution_> descriptorSolutionCloner = solutionDescriptor.getSolutionCloner();
+        if (descriptorSolutionCloner instanceof FieldAccessingSolutionCloner<Solution_> fieldAccessingSolutionCloner) {
+            this.solutionCloner = fieldAccessingSolutionCloner;
+        } else if (descriptorSolutionCloner instanceof GizmoSolutionCloner<Solution_>) {
+            // The generated cloner cannot share clones, but it clones the same way.
+            this.solutionCloner = new FieldAccessingSolutionCloner<>(solutionDescriptor);
+        } else {
+            throw new IllegalArgumentException("The solutionClass (" + solutionDescriptor.getSolutionClass()
+                    + ") has a custom " + SolutionCloner.class.getSimpleName() + " (" + descriptorSolutionCloner
+                    + "), which does not support structurally shared best solutions.\n"
+                    + "Maybe remove the solutionCloner from the @" + PlanningSolution.class.getSimpleName()
+                    + " annotation or disable bestSolutionStructurallyShared in the solver configuration.");
+        }
+    }
+
+    /**
+     * @param entity never null, a planning entity of which a genuine or shadow variable is about to change
+     */
+    public void entityChanged(Object entity) {
+        sharedOriginalToCloneMap.remove(entity);
+    }
+
+    /**
+     * Forgets every shared clone, for example when the working solution is replaced
+     * or when entities or problem facts are added or removed.
+     */
+    public void reset() {
+        sharedOriginalToCloneMap.clear();
+    }
+
+    /**
+     * @param workingSolution never null
+     * @return never null, a planning clone which must not be modified
+     */
+    public Solution_ cloneSolution(Solution_ workingSolution) {
+        return solutionCloner.cloneSolution(workingSolution, sharedOriginalToCloneMap, (original, clone) -> {
+            if (isShared(original.getClass())) {
+                sharedOriginalToCloneMap.put(original, clone);
+            }
+        });
+    }
+
+    /**
+     * @return {@code >= 0}, the number of entity clones that the next snapshot can reuse
+     */
+    public int getSharedCloneCount() {
+        return sharedOriginalToCloneMap.size();
+    }
+
+    private boolean isShared(Class<?> clazz) {
+        return sharedClassMap.computeIfAbsent(clazz, key -> solutionDescriptor.hasEntityDescriptor(key)
+                && !referencesDeepClonedObject(key));
+    }
+
+    private boolean referencesDeepClonedObject(Class<?> entityClass) {
+        for (Class<?> clazz = entityClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || DeepCloningUtils.isImmutable(field.getType())) {
+                    continue;
+                }
+                if (DeepCloningUtils.needsDeepClone(solutionDescriptor, field, entityClass)
+                        || mayHoldEntityOrSolution(field.getType())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean mayHoldEntityOrSolution(Class<?> fieldType) {
+        if (fieldType.isAssignableFrom(solutionDescriptor.getSolutionClass())) {
+            return true;
+        }
+        for (Class<?> entityClass : solutionDescriptor.getEntityClassSet()) {
+            if (fieldType.isAssignableFrom(entityClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
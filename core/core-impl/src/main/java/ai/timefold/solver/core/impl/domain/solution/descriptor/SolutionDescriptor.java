@@ -629,6 +629,7 @@ public class SolutionDescriptor<Solution_> {
                     solutionCloner = GizmoSolutionClonerFactory.build(this, memberAccessorFactory.getGizmoClassLoader());
                     break;
                 case REFLECTION:
+                case LAMBDA:
                     solutionCloner = new FieldAccessingSolutionCloner<>(this);
                     break;
                 default:
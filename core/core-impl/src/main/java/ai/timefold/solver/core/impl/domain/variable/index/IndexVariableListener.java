@@ -1,7 +1,6 @@
 package ai.timefold.solver.core.impl.domain.variable.index;
 
 import java.util.List;
-import java.util.Objects;
 
 import ai.timefold.solver.core.api.domain.variable.ListVariableListener;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
@@ -41,11 +40,11 @@ public class IndexVariableListener<Solution_> implements ListVariableListener<So
     public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
+        innerScoreDirector.beforeVariableRangeChanged(shadowVariableDescriptor, listVariable, 0, listVariable.size());
         for (Object element : listVariable) {
-            innerScoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
             shadowVariableDescriptor.setValue(element, null);
-            innerScoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
         }
+        innerScoreDirector.afterVariableRangeChanged(shadowVariableDescriptor, listVariable, 0, listVariable.size());
     }
 
     @Override
@@ -69,26 +68,46 @@ public class IndexVariableListener<Solution_> implements ListVariableListener<So
 
     private void updateIndexes(InnerScoreDirector<Solution_, ?> scoreDirector, Object entity, int fromIndex, int toIndex) {
         List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
-        for (int i = fromIndex; i < listVariable.size(); i++) {
-            Object element = listVariable.get(i);
-            Integer oldIndex = shadowVariableDescriptor.getValue(element);
-            if (!Objects.equals(oldIndex, i)) {
-                scoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
-                shadowVariableDescriptor.setValue(element, i);
-                scoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
-            } else if (i >= toIndex) {
-                // Do not quit early while inside the affected subList range.
-                // Example 1. When X is moved from Ann[3] to Beth[3], we need to start updating Beth's elements at index 3
-                // where X already has the expected index, but quitting there would be incorrect because all the elements
-                // above X need their indexes incremented.
-                // Example 2. After ListSwapMove(Ann, 5, 9), the listener must not quit at index 6, but it can quit at index 10.
-                return;
+        int size = listVariable.size();
+        int i = fromIndex;
+        while (i < size) {
+            if (hasIndex(listVariable.get(i), i)) {
+                if (i >= toIndex) {
+                    // Do not quit early while inside the affected subList range.
+                    // Example 1. When X is moved from Ann[3] to Beth[3], we need to start updating Beth's elements at index 3
+                    // where X already has the expected index, but quitting there would be incorrect because all the elements
+                    // above X need their indexes incremented.
+                    // Example 2. After ListSwapMove(Ann, 5, 9), the listener must not quit at index 6, but it can quit at index 10.
+                    return;
+                }
+                i++;
+                continue;
             }
+            // Notify the whole run of elements with an outdated index at once, such as a reversed subList.
+            int runStart = i;
+            do {
+                i++;
+            } while (i < size && !hasIndex(listVariable.get(i), i));
+            scoreDirector.beforeVariableRangeChanged(shadowVariableDescriptor, listVariable, runStart, i);
+            for (int j = runStart; j < i; j++) {
+                shadowVariableDescriptor.setValue(listVariable.get(j), j);
+            }
+            scoreDirector.afterVariableRangeChanged(shadowVariableDescriptor, listVariable, runStart, i);
         }
     }
 
+    private boolean hasIndex(Object element, int index) {
+        return getIndexInt(element) == index;
+    }
+
     @Override
     public Integer getIndex(Object planningValue) {
         return shadowVariableDescriptor.getValue(planningValue);
     }
+
+    @Override
+    public int getIndexInt(Object planningValue) {
+        Integer index = shadowVariableDescriptor.getValue(planningValue);
+        return index == null ? -1 : index;
+    }
 }
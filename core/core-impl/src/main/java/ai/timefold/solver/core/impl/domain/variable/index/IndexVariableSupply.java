@@ -18,4 +18,15 @@ public interface IndexVariableSupply extends Supply {
      * @return {@code planningValue}'s index in the list variable it is an element of or {@code null} if the value is unassigned
      */
     Integer getIndex(Object planningValue);
+
+    /**
+     * As defined by {@link #getIndex(Object)}, but without boxing the index.
+     *
+     * @param planningValue never null
+     * @return {@code planningValue}'s index in the list variable it is an element of or -1 if the value is unassigned
+     */
+    default int getIndexInt(Object planningValue) {
+        Integer index = getIndex(planningValue);
+        return index == null ? -1 : index;
+    }
 }
@@ -1,5 +1,8 @@
 package ai.timefold.solver.core.impl.domain.variable.listener;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import ai.timefold.solver.core.api.domain.variable.AbstractVariableListener;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.supply.Supply;
@@ -11,4 +14,12 @@ public interface SourcedVariableListener<Solution_> extends AbstractVariableList
 
     VariableDescriptor<Solution_> getSourceVariableDescriptor();
 
+    /**
+     * @return never null, every variable this listener is notified of, defaults to only
+     *         {@link #getSourceVariableDescriptor()}
+     */
+    default Collection<VariableDescriptor<Solution_>> getSourceVariableDescriptorList() {
+        return Collections.singletonList(getSourceVariableDescriptor());
+    }
+
 }
@@ -53,6 +53,19 @@ final class NotifiableRegistry<Solution_> {
         notifiableList.add(notifiable);
     }
 
+    void unregisterNotifiable(EntityNotifiable<Solution_> notifiable) {
+        for (Set<EntityNotifiable<Solution_>> notifiableSet : sourceEntityToNotifiableMap.values()) {
+            notifiableSet.remove(notifiable);
+        }
+        for (List<VariableListenerNotifiable<Solution_>> notifiableList : sourceVariableToNotifiableMap.values()) {
+            notifiableList.remove(notifiable);
+        }
+        for (List<ListVariableListenerNotifiable<Solution_>> notifiableList : sourceListVariableToNotifiableMap.values()) {
+            notifiableList.remove(notifiable);
+        }
+        notifiableList.remove(notifiable);
+    }
+
     Iterable<Notifiable> getAll() {
         return notifiableList;
     }
@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -38,6 +39,7 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
     // If thread-safety is ever required, the two collections before need to be updated together.
     private final Map<Demand<?>, Supply> supplyMap = new LinkedHashMap<>();
     private final Map<Demand<?>, Long> demandCounterMap = new HashMap<>();
+    private final Map<Demand<?>, EntityNotifiable<Solution_>> demandToExternalizedNotifiableMap = new HashMap<>();
 
     private boolean notificationQueuesAreEmpty = true;
     private int nextGlobalOrder = 0;
@@ -94,9 +96,10 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
             if (scoreDirector.getWorkingSolution() != null) {
                 variableListener.resetWorkingSolution(scoreDirector);
             }
-            notifiableRegistry.registerNotifiable(
-                    variableListener.getSourceVariableDescriptor(),
-                    AbstractNotifiable.buildNotifiable(scoreDirector, variableListener, nextGlobalOrder++));
+            EntityNotifiable<Solution_> notifiable =
+                    AbstractNotifiable.buildNotifiable(scoreDirector, variableListener, nextGlobalOrder++);
+            notifiableRegistry.registerNotifiable(variableListener.getSourceVariableDescriptorList(), notifiable);
+            demandToExternalizedNotifiableMap.put(demand, notifiable);
         }
         return supply;
     }
@@ -107,6 +110,12 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
         if (result != null) {
             return true;
         }
+        // The supply is removed, so it no longer needs to be notified.
+        EntityNotifiable<Solution_> notifiable = demandToExternalizedNotifiableMap.remove(demand);
+        if (notifiable != null) {
+            notifiableRegistry.unregisterNotifiable(notifiable);
+            notifiable.closeVariableListener();
+        }
         return supplyMap.remove(demand) != null;
     }
 
@@ -164,6 +173,20 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
         }
     }
 
+    public void beforeVariableRangeChanged(VariableDescriptor<Solution_> variableDescriptor, List<?> entityList,
+            int fromIndex, int toIndex) {
+        Collection<VariableListenerNotifiable<Solution_>> notifiables = notifiableRegistry.get(variableDescriptor);
+        if (!notifiables.isEmpty() && fromIndex < toIndex) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                BasicVariableNotification<Solution_> notification = Notification.variableChanged(entityList.get(i));
+                for (VariableListenerNotifiable<Solution_> notifiable : notifiables) {
+                    notifiable.notifyBefore(notification);
+                }
+            }
+            notificationQueuesAreEmpty = false;
+        }
+    }
+
     public void afterElementUnassigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
         Collection<ListVariableListenerNotifiable<Solution_>> notifiables = notifiableRegistry.get(variableDescriptor);
         if (!notifiables.isEmpty()) {
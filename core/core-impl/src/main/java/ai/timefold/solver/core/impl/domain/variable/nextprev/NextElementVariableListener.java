@@ -28,13 +28,12 @@ public class NextElementVariableListener<Solution_> implements ListVariableListe
     public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
-        for (int i = 0; i < listVariable.size() - 1; i++) {
-            Object element = listVariable.get(i);
-            Object next = listVariable.get(i + 1);
-            innerScoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
-            shadowVariableDescriptor.setValue(element, next);
-            innerScoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
+        int lastIndex = Math.max(listVariable.size() - 1, 0);
+        innerScoreDirector.beforeVariableRangeChanged(shadowVariableDescriptor, listVariable, 0, lastIndex);
+        for (int i = 0; i < lastIndex; i++) {
+            shadowVariableDescriptor.setValue(listVariable.get(i), listVariable.get(i + 1));
         }
+        innerScoreDirector.afterVariableRangeChanged(shadowVariableDescriptor, listVariable, 0, lastIndex);
     }
 
     @Override
@@ -46,12 +45,12 @@ public class NextElementVariableListener<Solution_> implements ListVariableListe
     public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
-        for (int i = 0; i < listVariable.size() - 1; i++) {
-            Object element = listVariable.get(i);
-            innerScoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
-            shadowVariableDescriptor.setValue(element, null);
-            innerScoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
+        int lastIndex = Math.max(listVariable.size() - 1, 0);
+        innerScoreDirector.beforeVariableRangeChanged(shadowVariableDescriptor, listVariable, 0, lastIndex);
+        for (int i = 0; i < lastIndex; i++) {
+            shadowVariableDescriptor.setValue(listVariable.get(i), null);
         }
+        innerScoreDirector.afterVariableRangeChanged(shadowVariableDescriptor, listVariable, 0, lastIndex);
     }
 
     @Override
@@ -73,15 +72,32 @@ public class NextElementVariableListener<Solution_> implements ListVariableListe
     public void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex, int toIndex) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
-        Object next = toIndex < listVariable.size() ? listVariable.get(toIndex) : null;
-        for (int i = toIndex - 1; i >= fromIndex - 1 && i >= 0; i--) {
-            Object element = listVariable.get(i);
-            if (next != shadowVariableDescriptor.getValue(element)) {
-                innerScoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
-                shadowVariableDescriptor.setValue(element, next);
-                innerScoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
+        // The element before the changed range might have a new next element too.
+        int i = Math.max(fromIndex - 1, 0);
+        int end = Math.min(toIndex, listVariable.size());
+        while (i < end) {
+            if (hasNext(listVariable, i)) {
+                i++;
+                continue;
             }
-            next = element;
+            // Notify the whole run of elements with an outdated next element at once, such as a reversed subList.
+            int runStart = i;
+            do {
+                i++;
+            } while (i < end && !hasNext(listVariable, i));
+            innerScoreDirector.beforeVariableRangeChanged(shadowVariableDescriptor, listVariable, runStart, i);
+            for (int j = runStart; j < i; j++) {
+                shadowVariableDescriptor.setValue(listVariable.get(j), getNext(listVariable, j));
+            }
+            innerScoreDirector.afterVariableRangeChanged(shadowVariableDescriptor, listVariable, runStart, i);
         }
     }
+
+    private boolean hasNext(List<Object> listVariable, int index) {
+        return shadowVariableDescriptor.getValue(listVariable.get(index)) == getNext(listVariable, index);
+    }
+
+    private static Object getNext(List<Object> listVariable, int index) {
+        return index + 1 < listVariable.size() ? listVariable.get(index + 1) : null;
+    }
 }
@@ -28,13 +28,12 @@ public class PreviousElementVariableListener<Solution_> implements ListVariableL
     public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
-        for (int i = 1; i < listVariable.size(); i++) {
-            Object element = listVariable.get(i);
-            Object previous = listVariable.get(i - 1);
-            innerScoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
-            shadowVariableDescriptor.setValue(element, previous);
-            innerScoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
+        int size = Math.max(listVariable.size(), 1);
+        innerScoreDirector.beforeVariableRangeChanged(shadowVariableDescriptor, listVariable, 1, size);
+        for (int i = 1; i < size; i++) {
+            shadowVariableDescriptor.setValue(listVariable.get(i), listVariable.get(i - 1));
         }
+        innerScoreDirector.afterVariableRangeChanged(shadowVariableDescriptor, listVariable, 1, size);
     }
 
     @Override
@@ -46,12 +45,12 @@ public class PreviousElementVariableListener<Solution_> implements ListVariableL
     public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
-        for (int i = 1; i < listVariable.size(); i++) {
-            Object element = listVariable.get(i);
-            innerScoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
-            shadowVariableDescriptor.setValue(element, null);
-            innerScoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
+        int size = Math.max(listVariable.size(), 1);
+        innerScoreDirector.beforeVariableRangeChanged(shadowVariableDescriptor, listVariable, 1, size);
+        for (int i = 1; i < size; i++) {
+            shadowVariableDescriptor.setValue(listVariable.get(i), null);
         }
+        innerScoreDirector.afterVariableRangeChanged(shadowVariableDescriptor, listVariable, 1, size);
     }
 
     @Override
@@ -73,15 +72,32 @@ public class PreviousElementVariableListener<Solution_> implements ListVariableL
     public void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex, int toIndex) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
-        Object previous = fromIndex > 0 ? listVariable.get(fromIndex - 1) : null;
-        for (int i = fromIndex; i <= toIndex && i < listVariable.size(); i++) {
-            Object element = listVariable.get(i);
-            if (previous != shadowVariableDescriptor.getValue(element)) {
-                innerScoreDirector.beforeVariableChanged(shadowVariableDescriptor, element);
-                shadowVariableDescriptor.setValue(element, previous);
-                innerScoreDirector.afterVariableChanged(shadowVariableDescriptor, element);
+        // The element after the changed range might have a new previous element too.
+        int i = fromIndex;
+        int end = Math.min(toIndex + 1, listVariable.size());
+        while (i < end) {
+            if (hasPrevious(listVariable, i)) {
+                i++;
+                continue;
             }
-            previous = element;
+            // Notify the whole run of elements with an outdated previous element at once, such as a reversed subList.
+            int runStart = i;
+            do {
+                i++;
+            } while (i < end && !hasPrevious(listVariable, i));
+            innerScoreDirector.beforeVariableRangeChanged(shadowVariableDescriptor, listVariable, runStart, i);
+            for (int j = runStart; j < i; j++) {
+                shadowVariableDescriptor.setValue(listVariable.get(j), getPrevious(listVariable, j));
+            }
+            innerScoreDirector.afterVariableRangeChanged(shadowVariableDescriptor, listVariable, runStart, i);
         }
     }
+
+    private boolean hasPrevious(List<Object> listVariable, int index) {
+        return shadowVariableDescriptor.getValue(listVariable.get(index)) == getPrevious(listVariable, index);
+    }
+
+    private static Object getPrevious(List<Object> listVariable, int index) {
+        return index > 0 ? listVariable.get(index - 1) : null;
+    }
 }
@@ -0,0 +1,259 @@
+package ai.timefold.solver.core.impl.domain.variable.position;
+
+import java.util.Arrays;
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.variable.ListVariableListener;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.index.ExternalizedIndexVariableSupply;
+import ai.timefold.solver.core.impl.domain.variable.inverserelation.ExternalizedSingletonListInverseVariableSupply;
+import ai.timefold.solver.core.impl.domain.variable.listener.SourcedVariableListener;
+
+/**
+ * Alternative to {@link ExternalizedIndexVariableSupply} and {@link ExternalizedSingletonListInverseVariableSupply}
+ * that keeps both in dense arrays.
+ * <p>
+ * Every element gets an ordinal the first time it is seen,
+ * which for the elements assigned in the working solution is when the working solution is reset.
+ * The index and the inverse entity of an element are stored at its ordinal,
+ * so a list variable change only writes to arrays instead of boxing an index for every shifted element.
+ * The ordinals of the elements are kept in an identity based open addressing hash table,
+ * so looking up an element does not box either.
+ */
+public class ExternalizedListVariablePositionSupply<Solution_> implements
+        SourcedVariableListener<Solution_>,
+        ListVariableListener<Solution_, Object, Object>,
+        ListVariablePositionSupply {
+
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final int UNASSIGNED_INDEX = -1;
+
+    protected final ListVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    // Hash table of the element ordinals, with a capacity that is a power of 2 and a load factor of at most 0.5
+    private Object[] elementTable = null;
+    private int[] elementOrdinalTable = null;
+    private int elementCount = 0;
+
+    // Indexed by element ordinal
+    private int[] indexes = null;
+    private Object[] inverseEntities = null;
+
+    public ExternalizedListVariablePositionSupply(ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        int[] assignedElementCount = new int[1];
+        sourceVariableDescriptor.getEntityDescriptor().visitAllEntities(scoreDirector.getWorkingSolution(),
+                entity -> assignedElementCount[0] += sourceVariableDescriptor.getListSize(entity));
+        int capacity = Integer.highestOneBit(Math.max(MINIMUM_CAPACITY, assignedElementCount[0] * 2 - 1)) << 1;
+        elementTable = new Object[capacity];
+        elementOrdinalTable = new int[capacity];
+        elementCount = 0;
+        indexes = new int[capacity / 2];
+        inverseEntities = new Object[capacity / 2];
+        sourceVariableDescriptor.getEntityDescriptor().visitAllEntities(scoreDirector.getWorkingSolution(), this::insert);
+    }
+
+    @Override
+    public void close() {
+        elementTable = null;
+        elementOrdinalTable = null;
+        elementCount = 0;
+        indexes = null;
+        inverseEntities = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        insert(entity);
+    }
+
+    @Override
+    public void afterListVariableElementUnassigned(ScoreDirector<Solution_> scoreDirector, Object element) {
+        int ordinal = findOrdinal(element);
+        if (ordinal < 0 || indexes[ordinal] == UNASSIGNED_INDEX) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the element (" + element
+                    + ") has no oldIndex and no oldInverseEntity.");
+        }
+        indexes[ordinal] = UNASSIGNED_INDEX;
+        inverseEntities[ordinal] = null;
+    }
+
+    @Override
+    public void beforeListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex, int toIndex) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterListVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity, int fromIndex, int toIndex) {
+        List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
+        // The elements after toIndex keep their inverse entity, but they might have shifted.
+        for (int index = fromIndex; index < listVariable.size(); index++) {
+            Object element = listVariable.get(index);
+            int ordinal = findOrAddOrdinal(element);
+            // The first element is allowed to have no oldIndex because it might have been just assigned.
+            if (indexes[ordinal] == UNASSIGNED_INDEX && index != fromIndex) {
+                throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                        + " because the element (" + element
+                        + ") at index (" + index
+                        + ") has no oldIndex.");
+            }
+            indexes[ordinal] = index;
+            inverseEntities[ordinal] = entity;
+        }
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // When the entity is removed, its values become unassigned. An unassigned value has no inverse entity and no index.
+        retract(entity);
+    }
+
+    private void insert(Object entity) {
+        List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
+        int index = 0;
+        for (Object element : listVariable) {
+            int ordinal = findOrAddOrdinal(element);
+            if (indexes[ordinal] != UNASSIGNED_INDEX) {
+                throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                        + " because the element (" + element
+                        + ") at index (" + index
+                        + ") has an oldIndex (" + indexes[ordinal]
+                        + ") and an oldInverseEntity (" + inverseEntities[ordinal]
+                        + ").");
+            }
+            indexes[ordinal] = index;
+            inverseEntities[ordinal] = entity;
+            index++;
+        }
+    }
+
+    private void retract(Object entity) {
+        List<Object> listVariable = sourceVariableDescriptor.getListVariable(entity);
+        int index = 0;
+        for (Object element : listVariable) {
+            int ordinal = findOrdinal(element);
+            int oldIndex = ordinal < 0 ? UNASSIGNED_INDEX : indexes[ordinal];
+            if (oldIndex != index) {
+                throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                        + " because the element (" + element
+                        + ") at index (" + index
+                        + ") has an oldIndex (" + (oldIndex == UNASSIGNED_INDEX ? null : oldIndex)
+                        + ") which is unexpected.");
+            }
+            indexes[ordinal] = UNASSIGNED_INDEX;
+            inverseEntities[ordinal] = null;
+            index++;
+        }
+    }
+
+    @Override
+    public Integer getIndex(Object planningValue) {
+        int index = getIndexInt(planningValue);
+        return index == UNASSIGNED_INDEX ? null : index;
+    }
+
+    @Override
+    public int getIndexInt(Object planningValue) {
+        int ordinal = findOrdinal(planningValue);
+        return ordinal < 0 ? UNASSIGNED_INDEX : indexes[ordinal];
+    }
+
+    @Override
+    public Object getInverseSingleton(Object planningValue) {
+        int ordinal = findOrdinal(planningValue);
+        return ordinal < 0 ? null : inverseEntities[ordinal];
+    }
+
+    // ************************************************************************
+    // Element ordinals
+    // ************************************************************************
+
+    private static int hash(Object element) {
+        int hash = System.identityHashCode(element);
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @return the slot that contains the element, or else the empty slot where it belongs
+     */
+    private int findSlot(Object element) {
+        int mask = elementTable.length - 1;
+        int slot = hash(element) & mask;
+        while (true) {
+            Object slotElement = elementTable[slot];
+            if (slotElement == null || slotElement == element) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * @return -1 if the element has never been assigned
+     */
+    private int findOrdinal(Object element) {
+        int slot = findSlot(element);
+        return elementTable[slot] == null ? -1 : elementOrdinalTable[slot];
+    }
+
+    private int findOrAddOrdinal(Object element) {
+        int slot = findSlot(element);
+        if (elementTable[slot] != null) {
+            return elementOrdinalTable[slot];
+        }
+        int ordinal = elementCount++;
+        elementTable[slot] = element;
+        elementOrdinalTable[slot] = ordinal;
+        if (ordinal == indexes.length) {
+            int newLength = indexes.length * 2;
+            indexes = Arrays.copyOf(indexes, newLength);
+            inverseEntities = Arrays.copyOf(inverseEntities, newLength);
+        }
+        indexes[ordinal] = UNASSIGNED_INDEX;
+        if (elementCount * 2 > elementTable.length) {
+            rehash(elementTable.length * 2);
+        }
+        return ordinal;
+    }
+
+    private void rehash(int newCapacity) {
+        Object[] oldElementTable = elementTable;
+        int[] oldElementOrdinalTable = elementOrdinalTable;
+        elementTable = new Object[newCapacity];
+        elementOrdinalTable = new int[newCapacity];
+        for (int i = 0; i < oldElementTable.length; i++) {
+            if (oldElementTable[i] != null) {
+                int slot = findSlot(oldElementTable[i]);
+                elementTable[slot] = oldElementTable[i];
+                elementOrdinalTable[slot] = oldElementOrdinalTable[i];
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+}
@@ -0,0 +1,47 @@
+package ai.timefold.solver.core.impl.domain.variable.position;
+
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.index.IndexShadowVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.index.IndexVariableSupply;
+import ai.timefold.solver.core.impl.domain.variable.inverserelation.InverseRelationShadowVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import ai.timefold.solver.core.impl.domain.variable.supply.AbstractVariableDescriptorBasedDemand;
+import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
+
+public final class ListVariablePositionDemand<Solution_>
+        extends AbstractVariableDescriptorBasedDemand<Solution_, ListVariablePositionSupply> {
+
+    public ListVariablePositionDemand(ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
+        super(sourceVariableDescriptor);
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public ListVariablePositionSupply createExternalizedSupply(SupplyManager supplyManager) {
+        IndexShadowVariableDescriptor<Solution_> indexShadowVariableDescriptor = null;
+        InverseRelationShadowVariableDescriptor<Solution_> inverseRelationShadowVariableDescriptor = null;
+        for (ShadowVariableDescriptor<Solution_> sinkVariableDescriptor : variableDescriptor
+                .getSinkVariableDescriptorList()) {
+            if (sinkVariableDescriptor instanceof IndexShadowVariableDescriptor<Solution_> indexDescriptor) {
+                indexShadowVariableDescriptor = indexDescriptor;
+            } else if (sinkVariableDescriptor instanceof InverseRelationShadowVariableDescriptor<Solution_> inverseDescriptor) {
+                inverseRelationShadowVariableDescriptor = inverseDescriptor;
+            }
+        }
+        if (indexShadowVariableDescriptor != null && inverseRelationShadowVariableDescriptor != null) {
+            // The shadow variable listeners already provide these demands, so they are shared rather than duplicated.
+            IndexVariableSupply indexVariableSupply =
+                    supplyManager.demand(indexShadowVariableDescriptor.getProvidedDemand());
+            SingletonInverseVariableSupply inverseVariableSupply =
+                    (SingletonInverseVariableSupply) supplyManager
+                            .demand(inverseRelationShadowVariableDescriptor.getProvidedDemand());
+            return new ShadowListVariablePositionSupply(indexVariableSupply, inverseVariableSupply);
+        }
+        return new ExternalizedListVariablePositionSupply<>((ListVariableDescriptor<Solution_>) variableDescriptor);
+    }
+
+}
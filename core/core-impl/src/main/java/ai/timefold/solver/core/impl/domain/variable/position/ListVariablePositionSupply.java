@@ -0,0 +1,16 @@
+package ai.timefold.solver.core.impl.domain.variable.position;
+
+import ai.timefold.solver.core.api.domain.variable.PlanningListVariable;
+import ai.timefold.solver.core.impl.domain.variable.index.IndexVariableSupply;
+import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Both the index and the inverse entity of every element of a {@link PlanningListVariable list variable},
+ * so the selectors and moves of a list variable can share 1 supply instead of demanding 2.
+ * <p>
+ * To get an instance, demand a {@link ListVariablePositionDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public interface ListVariablePositionSupply extends IndexVariableSupply, SingletonInverseVariableSupply {
+
+}
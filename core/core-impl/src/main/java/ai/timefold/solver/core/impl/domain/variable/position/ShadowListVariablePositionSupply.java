@@ -0,0 +1,45 @@
+package ai.timefold.solver.core.impl.domain.variable.position;
+
+import ai.timefold.solver.core.impl.domain.variable.index.IndexVariableListener;
+import ai.timefold.solver.core.impl.domain.variable.index.IndexVariableSupply;
+import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
+import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonListInverseVariableListener;
+
+/**
+ * Reads the {@link ListVariablePositionSupply positions} from the supplies that the index and inverse relation
+ * shadow variables of the list variable already provide, if the domain model declares both.
+ * Those are the {@link IndexVariableListener} and the {@link SingletonListInverseVariableListener},
+ * so no other listener keeps track of the positions.
+ */
+final class ShadowListVariablePositionSupply implements ListVariablePositionSupply {
+
+    private final IndexVariableSupply indexVariableSupply;
+    private final SingletonInverseVariableSupply inverseVariableSupply;
+
+    ShadowListVariablePositionSupply(IndexVariableSupply indexVariableSupply,
+            SingletonInverseVariableSupply inverseVariableSupply) {
+        this.indexVariableSupply = indexVariableSupply;
+        this.inverseVariableSupply = inverseVariableSupply;
+    }
+
+    @Override
+    public Integer getIndex(Object planningValue) {
+        return indexVariableSupply.getIndex(planningValue);
+    }
+
+    @Override
+    public int getIndexInt(Object planningValue) {
+        return indexVariableSupply.getIndexInt(planningValue);
+    }
+
+    @Override
+    public Object getInverseSingleton(Object planningValue) {
+        return inverseVariableSupply.getInverseSingleton(planningValue);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + indexVariableSupply + ", " + inverseVariableSupply + ")";
+    }
+
+}
@@ -20,6 +20,7 @@ import ai.timefold.solver.core.impl.score.trend.InitializingScoreTrend;
 import ai.timefold.solver.core.impl.solver.ClassInstanceCache;
 import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 import ai.timefold.solver.core.impl.solver.thread.DefaultSolverThreadFactory;
+import ai.timefold.solver.core.impl.solver.thread.MoveThreadBatchEvaluator;
 
 public class HeuristicConfigPolicy<Solution_> {
 
@@ -190,6 +191,22 @@ public class HeuristicConfigPolicy<Solution_> {
         }
     }
 
+    /**
+     * @param phaseTypeString never null, used in the log when the move threads are shut down
+     * @return never null
+     * @throws IllegalStateException if no {@link #getMoveThreadCount() moveThreadCount} is configured
+     */
+    public MoveThreadBatchEvaluator<Solution_> buildMoveThreadBatchEvaluator(String phaseTypeString) {
+        if (moveThreadCount == null) {
+            throw new IllegalStateException("Impossible state: the move thread batch evaluator is only built"
+                    + " when the moveThreadCount is configured.");
+        }
+        int selectedMoveBufferSize = MoveThreadBatchEvaluator.computeSelectedMoveBufferSize(moveThreadCount,
+                moveThreadBufferSize);
+        return new MoveThreadBatchEvaluator<>(logIndentation, phaseTypeString, buildThreadFactory(ChildThreadType.MOVE_THREAD),
+                moveThreadCount, selectedMoveBufferSize);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "(" + environmentMode + ")";
@@ -0,0 +1,47 @@
+package ai.timefold.solver.core.impl.heuristic.move;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Abstract superclass for a {@link Move} that does not create its own undo move.
+ * Instead, the genuine variable changes it notifies to the {@link ScoreDirector} are recorded in a {@link VariableChangeLog},
+ * which is replayed in reverse to undo it.
+ * Therefore, every change to a genuine variable must be notified to the {@link ScoreDirector}.
+ * <p>
+ * The changes are recorded even if this move is done by another move that is being recorded,
+ * so this move can do built-in moves and be done by other moves.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see AbstractMove
+ */
+public abstract class AbstractSimplifiedMove<Solution_> implements Move<Solution_> {
+
+    @Override
+    public final Move<Solution_> doMove(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        VariableChangeLog<Solution_> variableChangeLog = new VariableChangeLog<>();
+        variableChangeLog.reset(this);
+        innerScoreDirector.startRecordingVariableChanges(variableChangeLog);
+        doMoveOnGenuineVariables(scoreDirector);
+        innerScoreDirector.stopRecordingVariableChanges(variableChangeLog);
+        scoreDirector.triggerVariableListeners();
+        return new RecordedUndoMove<>(variableChangeLog);
+    }
+
+    @Override
+    public final void doMoveOnly(ScoreDirector<Solution_> scoreDirector) {
+        doMoveOnGenuineVariables(scoreDirector);
+        scoreDirector.triggerVariableListeners();
+    }
+
+    /**
+     * Like {@link #doMoveOnly(ScoreDirector)} but without the {@link ScoreDirector#triggerVariableListeners()} call
+     * (because {@link #doMoveOnly(ScoreDirector)} already does that).
+     *
+     * @param scoreDirector never null
+     */
+    protected abstract void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector);
+
+}
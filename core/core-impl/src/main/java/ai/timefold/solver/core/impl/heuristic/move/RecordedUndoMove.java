@@ -0,0 +1,65 @@
+package ai.timefold.solver.core.impl.heuristic.move;
+
+import java.util.Collection;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Undoes a move by replaying its {@link VariableChangeLog} in reverse.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class RecordedUndoMove<Solution_> implements Move<Solution_> {
+
+    private final VariableChangeLog<Solution_> variableChangeLog;
+
+    /**
+     * @param variableChangeLog never null, must not be reset while this undo move is still used
+     */
+    public RecordedUndoMove(VariableChangeLog<Solution_> variableChangeLog) {
+        this.variableChangeLog = variableChangeLog;
+    }
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return true;
+    }
+
+    @Override
+    public Move<Solution_> doMove(ScoreDirector<Solution_> scoreDirector) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        VariableChangeLog<Solution_> redoVariableChangeLog = new VariableChangeLog<>();
+        redoVariableChangeLog.reset(this);
+        innerScoreDirector.startRecordingVariableChanges(redoVariableChangeLog);
+        variableChangeLog.undo(innerScoreDirector);
+        innerScoreDirector.stopRecordingVariableChanges(redoVariableChangeLog);
+        return new RecordedUndoMove<>(redoVariableChangeLog);
+    }
+
+    @Override
+    public void doMoveOnly(ScoreDirector<Solution_> scoreDirector) {
+        variableChangeLog.undo((InnerScoreDirector<Solution_, ?>) scoreDirector);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return variableChangeLog.getRecordedMove().getPlanningEntities();
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return variableChangeLog.getRecordedMove().getPlanningValues();
+    }
+
+    @Override
+    public String toString() {
+        return variableChangeLog.toString();
+    }
+
+}
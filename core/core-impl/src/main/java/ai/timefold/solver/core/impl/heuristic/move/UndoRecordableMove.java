@@ -0,0 +1,18 @@
+package ai.timefold.solver.core.impl.heuristic.move;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+
+/**
+ * A {@link Move} that notifies every change to a genuine variable to the {@link ScoreDirector},
+ * so that the score director can undo it, while evaluating it, by replaying a reused {@link VariableChangeLog}
+ * instead of calling {@link Move#doMove(ScoreDirector)} to create an undo move.
+ * <p>
+ * Only the built-in moves implement this, because a custom {@link AbstractMove} might rely on its own undo move.
+ * A custom move without an undo move extends {@link AbstractSimplifiedMove} instead.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public interface UndoRecordableMove<Solution_> extends Move<Solution_> {
+
+}
@@ -0,0 +1,318 @@
+package ai.timefold.solver.core.impl.heuristic.move;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Records the genuine variable changes of a {@link Move}, as they are notified to the {@link ScoreDirector},
+ * so they can be undone without an undo move.
+ * Shadow variable changes are not recorded, because they are recalculated by the variable listeners.
+ * <p>
+ * The changes are pooled: {@link #reset(Move)} reuses the change instances of the previous recording,
+ * so a log that is reused for every evaluated move does not allocate once it has warmed up.
+ * <p>
+ * The changes are undone strictly in the reverse order of their notifications.
+ * A {@link ListVariableDescriptor list variable} change is recorded twice,
+ * when it starts with {@link ScoreDirector#beforeListVariableChanged(Object, String, int, int)}
+ * and when it ends with {@link ScoreDirector#afterListVariableChanged(Object, String, int, int)},
+ * so the element (un)assignments notified in between are also undone in between.
+ * It is undone by replacing the changed range with the elements it held before the change.
+ * That range starts at the {@code fromIndex} of the before notification
+ * and ends just before the elements that were after its {@code toIndex}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see InnerScoreDirector#startRecordingVariableChanges(VariableChangeLog)
+ */
+public final class VariableChangeLog<Solution_> {
+
+    private final List<VariableChange<Solution_>> changeList = new ArrayList<>();
+    private int changeCount = 0;
+    private Move<Solution_> recordedMove = null;
+    // Only in the assertion environment modes, to describe the undo
+    private AbstractMove<Solution_> describingUndoMove = null;
+
+    /**
+     * Forgets all recorded changes.
+     *
+     * @param recordedMove never null, the move of which the changes will be recorded next
+     */
+    public void reset(Move<Solution_> recordedMove) {
+        for (int i = 0; i < changeCount; i++) {
+            changeList.get(i).clear();
+        }
+        changeCount = 0;
+        this.recordedMove = recordedMove;
+        describingUndoMove = null;
+    }
+
+    public Move<Solution_> getRecordedMove() {
+        return recordedMove;
+    }
+
+    /**
+     * Creates the undo move of the recorded move, only to describe the undo in {@link #toString()},
+     * like the undo move would if the changes were not recorded.
+     * Only worth it in the assertion environment modes, where that description ends up in the exception messages.
+     *
+     * @param scoreDirector never null, not yet modified by the recorded move
+     */
+    public void describeUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        if (recordedMove instanceof AbstractMove<Solution_> abstractMove) {
+            describingUndoMove = abstractMove.createUndoMove(scoreDirector);
+        }
+    }
+
+    private VariableChange<Solution_> nextChange(ChangeType changeType, VariableDescriptor<Solution_> variableDescriptor,
+            Object entity) {
+        VariableChange<Solution_> change;
+        if (changeCount < changeList.size()) {
+            change = changeList.get(changeCount);
+        } else {
+            change = new VariableChange<>();
+            changeList.add(change);
+        }
+        changeCount++;
+        change.changeType = changeType;
+        change.variableDescriptor = variableDescriptor;
+        change.entity = entity;
+        return change;
+    }
+
+    // ************************************************************************
+    // Recording methods
+    // ************************************************************************
+
+    /**
+     * Called before the variable is changed.
+     *
+     * @param variableDescriptor never null
+     * @param entity never null
+     */
+    public void recordVariableChange(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        if (!(variableDescriptor instanceof GenuineVariableDescriptor) || variableDescriptor.isGenuineListVariable()) {
+            // List variable changes are recorded by recordListVariableChange() instead.
+            return;
+        }
+        VariableChange<Solution_> change = nextChange(ChangeType.BASIC_VARIABLE, variableDescriptor, entity);
+        change.oldValue = variableDescriptor.getValue(entity);
+    }
+
+    /**
+     * Called before the list variable is changed.
+     *
+     * @param variableDescriptor never null
+     * @param entity never null
+     * @param fromIndex low endpoint (inclusive) of the range that is going to change
+     * @param toIndex high endpoint (exclusive) of the range that is going to change
+     */
+    public void recordListVariableChange(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        List<Object> listVariable = variableDescriptor.getListVariable(entity);
+        VariableChange<Solution_> pendingChange = findPendingListVariableChange(variableDescriptor, entity);
+        if (pendingChange != null) {
+            // The same list is announced twice before either change is done, so widen the range of the first one.
+            fromIndex = Math.min(fromIndex, pendingChange.fromIndex);
+            toIndex = Math.max(toIndex, listVariable.size() - pendingChange.tailSize);
+        } else {
+            pendingChange = nextChange(ChangeType.LIST_VARIABLE_STARTED, variableDescriptor, entity);
+        }
+        pendingChange.pendingCount++;
+        pendingChange.fromIndex = fromIndex;
+        pendingChange.tailSize = listVariable.size() - toIndex;
+        pendingChange.oldElementList.clear();
+        pendingChange.oldElementList.addAll(listVariable.subList(fromIndex, toIndex));
+    }
+
+    /**
+     * Called after the list variable is changed.
+     *
+     * @param variableDescriptor never null
+     * @param entity never null
+     */
+    public void completeListVariableChange(ListVariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        VariableChange<Solution_> pendingChange = findPendingListVariableChange(variableDescriptor, entity);
+        if (pendingChange == null) {
+            // The change started before the recording did, so it is not undone either.
+            return;
+        }
+        pendingChange.pendingCount--;
+        if (pendingChange.pendingCount == 0) {
+            VariableChange<Solution_> endedChange = nextChange(ChangeType.LIST_VARIABLE_ENDED, variableDescriptor, entity);
+            endedChange.startedChange = pendingChange;
+        }
+    }
+
+    private VariableChange<Solution_> findPendingListVariableChange(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object entity) {
+        // Most moves notify a few lists at most, so a backwards scan is cheaper than a map.
+        for (int i = changeCount - 1; i >= 0; i--) {
+            VariableChange<Solution_> change = changeList.get(i);
+            if (change.pendingCount > 0 && change.entity == entity && change.variableDescriptor == variableDescriptor) {
+                return change;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Called after the element is assigned to a list variable.
+     *
+     * @param variableDescriptor never null
+     * @param element never null
+     */
+    public void recordElementAssigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
+        nextChange(ChangeType.ELEMENT_ASSIGNED, variableDescriptor, element);
+    }
+
+    /**
+     * Called after the element is unassigned from a list variable.
+     *
+     * @param variableDescriptor never null
+     * @param element never null
+     */
+    public void recordElementUnassigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
+        nextChange(ChangeType.ELEMENT_UNASSIGNED, variableDescriptor, element);
+    }
+
+    // ************************************************************************
+    // Undo methods
+    // ************************************************************************
+
+    /**
+     * Undoes the recorded changes in reverse order, notifying the {@link ScoreDirector} of every change,
+     * and then triggers the variable listeners.
+     * Does not forget the recorded changes.
+     *
+     * @param scoreDirector never null, in the state right after the recorded move
+     */
+    public void undo(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        for (int i = changeCount - 1; i >= 0; i--) {
+            changeList.get(i).undo(scoreDirector);
+        }
+        scoreDirector.triggerVariableListeners();
+    }
+
+    /**
+     * @return the description of the undo move, see {@link #describeUndoMove(ScoreDirector)},
+     *         otherwise of the recorded changes that the undo reverts, relative to the current working solution
+     */
+    @Override
+    public String toString() {
+        if (describingUndoMove != null) {
+            return describingUndoMove.toString();
+        }
+        StringBuilder description = new StringBuilder();
+        for (int i = changeCount - 1; i >= 0; i--) {
+            VariableChange<Solution_> change = changeList.get(i);
+            if (change.changeType == ChangeType.BASIC_VARIABLE || change.changeType == ChangeType.LIST_VARIABLE_STARTED) {
+                if (!description.isEmpty()) {
+                    description.append(", ");
+                }
+                change.describe(description);
+            }
+        }
+        return description.isEmpty() ? "No change (" + recordedMove + ")" : description.toString();
+    }
+
+    private enum ChangeType {
+        BASIC_VARIABLE,
+        LIST_VARIABLE_STARTED,
+        LIST_VARIABLE_ENDED,
+        ELEMENT_ASSIGNED,
+        ELEMENT_UNASSIGNED
+    }
+
+    private static final class VariableChange<Solution_> {
+
+        private ChangeType changeType;
+        private VariableDescriptor<Solution_> variableDescriptor;
+        // The element instead, for ELEMENT_ASSIGNED and ELEMENT_UNASSIGNED
+        private Object entity;
+        private Object oldValue;
+        private int fromIndex;
+        // The number of elements after the changed range, which is the same before and after the change
+        private int tailSize;
+        // The number of before notifications of which the after notification is still due
+        private int pendingCount;
+        private final List<Object> oldElementList = new ArrayList<>();
+        // Only for LIST_VARIABLE_ENDED
+        private VariableChange<Solution_> startedChange;
+
+        private void undo(InnerScoreDirector<Solution_, ?> scoreDirector) {
+            switch (changeType) {
+                case BASIC_VARIABLE -> scoreDirector.changeVariableFacade(variableDescriptor, entity, oldValue);
+                case LIST_VARIABLE_ENDED -> startedChange.undoListVariableChangeEnd(scoreDirector);
+                case LIST_VARIABLE_STARTED -> undoListVariableChangeStart(scoreDirector);
+                case ELEMENT_ASSIGNED -> {
+                    ListVariableDescriptor<Solution_> listVariableDescriptor =
+                            (ListVariableDescriptor<Solution_>) variableDescriptor;
+                    scoreDirector.beforeListVariableElementUnassigned(listVariableDescriptor, entity);
+                    scoreDirector.afterListVariableElementUnassigned(listVariableDescriptor, entity);
+                }
+                case ELEMENT_UNASSIGNED -> {
+                    ListVariableDescriptor<Solution_> listVariableDescriptor =
+                            (ListVariableDescriptor<Solution_>) variableDescriptor;
+                    scoreDirector.beforeListVariableElementAssigned(listVariableDescriptor, entity);
+                    scoreDirector.afterListVariableElementAssigned(listVariableDescriptor, entity);
+                }
+                default -> throw new IllegalStateException("The changeType (" + changeType + ") is not implemented.");
+            }
+        }
+
+        /**
+         * Undoes the end of the list variable change first, because the changes are undone in reverse order.
+         * Called on the change that recorded the start.
+         */
+        private void undoListVariableChangeEnd(InnerScoreDirector<Solution_, ?> scoreDirector) {
+            ListVariableDescriptor<Solution_> listVariableDescriptor = (ListVariableDescriptor<Solution_>) variableDescriptor;
+            int toIndex = listVariableDescriptor.getListSize(entity) - tailSize;
+            scoreDirector.beforeListVariableChanged(listVariableDescriptor, entity, fromIndex, toIndex);
+        }
+
+        private void undoListVariableChangeStart(InnerScoreDirector<Solution_, ?> scoreDirector) {
+            if (pendingCount > 0) {
+                throw new IllegalStateException("Impossible state: the list variable (" + variableDescriptor.getVariableName()
+                        + ") of entity (" + entity + ") was announced to change (beforeListVariableChanged)"
+                        + " but the change was never completed (afterListVariableChanged).");
+            }
+            ListVariableDescriptor<Solution_> listVariableDescriptor = (ListVariableDescriptor<Solution_>) variableDescriptor;
+            List<Object> listVariable = listVariableDescriptor.getListVariable(entity);
+            List<Object> changedRange = listVariable.subList(fromIndex, listVariable.size() - tailSize);
+            changedRange.clear();
+            changedRange.addAll(oldElementList);
+            scoreDirector.afterListVariableChanged(listVariableDescriptor, entity, fromIndex,
+                    fromIndex + oldElementList.size());
+        }
+
+        private void describe(StringBuilder description) {
+            if (changeType == ChangeType.BASIC_VARIABLE) {
+                description.append(entity).append(" {").append(variableDescriptor.getValue(entity))
+                        .append(" -> ").append(oldValue).append("}");
+            } else {
+                List<Object> listVariable = ((ListVariableDescriptor<Solution_>) variableDescriptor).getListVariable(entity);
+                int toIndex = listVariable.size() - tailSize;
+                description.append(entity).append(" {").append(listVariable.subList(fromIndex, toIndex))
+                        .append(" -> ").append(oldElementList).append("}[").append(fromIndex).append("..]");
+            }
+        }
+
+        private void clear() {
+            changeType = null;
+            variableDescriptor = null;
+            entity = null;
+            oldValue = null;
+            pendingCount = 0;
+            oldElementList.clear();
+            startedChange = null;
+        }
+
+    }
+
+}
@@ -45,6 +45,11 @@ public abstract class AbstractSelector<Solution_> implements Selector<Solution_>
         phaseLifecycleSupport.fireStepEnded(stepScope);
     }
 
+    @Override
+    public void phaseProblemChanged(AbstractPhaseScope<Solution_> phaseScope) {
+        phaseLifecycleSupport.firePhaseProblemChanged(phaseScope);
+    }
+
     @Override
     public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
         phaseLifecycleSupport.firePhaseEnded(phaseScope);
@@ -0,0 +1,162 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
+
+/**
+ * A cached discrete probability distribution, which samples an element in constant time without allocating,
+ * using Vose's alias method.
+ * <p>
+ * Every element owns a column of the table.
+ * A sample picks a column uniformly and then either the element of that column
+ * or the alias of that column, depending on the probability of that column.
+ * An element with a probability weight of zero is never sampled.
+ *
+ * @param <T> the element type
+ * @see SelectionProbabilityWeightFactory
+ */
+public final class ProbabilityAliasTable<T> {
+
+    private final Object[] elements;
+    private final double[] probabilities;
+    private final int[] aliases;
+    private final double probabilityWeightTotal;
+
+    /**
+     * @param elements never null, iterated once
+     * @param probabilityWeightFunction never null, {@code 0.0 <= returnValue <} {@link Double#POSITIVE_INFINITY}
+     * @return never null
+     * @param <T> the element type
+     */
+    public static <T> ProbabilityAliasTable<T> build(Iterable<T> elements, ToDoubleFunction<T> probabilityWeightFunction) {
+        List<T> elementList = new ArrayList<>();
+        double[] probabilityWeights = new double[16];
+        for (T element : elements) {
+            double probabilityWeight = probabilityWeightFunction.applyAsDouble(element);
+            if (!(probabilityWeight >= 0.0) || probabilityWeight == Double.POSITIVE_INFINITY) {
+                throw new IllegalArgumentException("The probabilityWeight (" + probabilityWeight
+                        + ") of the element (" + element + ") must be positive or zero and finite.");
+            }
+            int index = elementList.size();
+            if (index == probabilityWeights.length) {
+                probabilityWeights = Arrays.copyOf(probabilityWeights, index * 2);
+            }
+            probabilityWeights[index] = probabilityWeight;
+            elementList.add(element);
+        }
+        return new ProbabilityAliasTable<>(elementList.toArray(), probabilityWeights);
+    }
+
+    private ProbabilityAliasTable(Object[] elements, double[] probabilityWeights) {
+        int size = elements.length;
+        this.elements = elements;
+        this.probabilities = new double[size];
+        this.aliases = new int[size];
+        double weightTotal = 0.0;
+        for (int i = 0; i < size; i++) {
+            weightTotal += probabilityWeights[i];
+        }
+        this.probabilityWeightTotal = weightTotal;
+        if (weightTotal <= 0.0) {
+            return; // Nothing can be sampled, see sample().
+        }
+        // Scale the weights so the average column is exactly full (1.0).
+        double[] scaledProbabilities = new double[size];
+        // Both work lists share one array: the small columns fill it from the front, the large ones from the back.
+        int[] worklist = new int[size];
+        int smallCount = 0;
+        int largeStart = size;
+        for (int i = 0; i < size; i++) {
+            scaledProbabilities[i] = probabilityWeights[i] * size / weightTotal;
+            if (scaledProbabilities[i] < 1.0) {
+                worklist[smallCount++] = i;
+            } else {
+                worklist[--largeStart] = i;
+            }
+        }
+        int largeEnd = size;
+        int lastLarge = -1;
+        while (smallCount > 0 && largeStart < largeEnd) {
+            int small = worklist[--smallCount];
+            int large = worklist[largeStart++];
+            lastLarge = large;
+            probabilities[small] = scaledProbabilities[small];
+            aliases[small] = large;
+            // The large column donates what the small column lacks.
+            scaledProbabilities[large] = (scaledProbabilities[large] + scaledProbabilities[small]) - 1.0;
+            if (scaledProbabilities[large] < 1.0) {
+                worklist[smallCount++] = large;
+            } else {
+                worklist[--largeStart] = large;
+            }
+        }
+        // The remaining columns are full, except for rounding errors.
+        for (int i = largeStart; i < largeEnd; i++) {
+            probabilities[worklist[i]] = 1.0;
+        }
+        for (int i = 0; i < smallCount; i++) {
+            int column = worklist[i];
+            if (probabilityWeights[column] == 0.0) {
+                // Never sample an element with a zero weight, even if the rounding errors left its column unfilled.
+                probabilities[column] = 0.0;
+                aliases[column] = lastLarge;
+            } else {
+                probabilities[column] = 1.0;
+            }
+        }
+    }
+
+    /**
+     * @param workingRandom never null
+     * @return never null (unless the element itself is null)
+     * @throws IllegalStateException if there are no elements, or they all have a probability weight of zero
+     */
+    public T sample(Random workingRandom) {
+        int size = elements.length;
+        if (probabilityWeightTotal <= 0.0) {
+            throw new IllegalStateException("Impossible to sample from the elements (" + size
+                    + ") with a probabilityWeightTotal (" + probabilityWeightTotal + ").");
+        }
+        // One random double decides both the column (its integer part) and the coin flip (its fraction).
+        double scaledOffset = workingRandom.nextDouble() * size;
+        int column = Math.min((int) scaledOffset, size - 1);
+        double coin = scaledOffset - column;
+        int index = coin < probabilities[column] ? column : aliases[column];
+        return (T) elements[index];
+    }
+
+    /**
+     * @return {@code >= 0}, the number of elements, including those with a probability weight of zero
+     */
+    public int getSize() {
+        return elements.length;
+    }
+
+    public double getProbabilityWeightTotal() {
+        return probabilityWeightTotal;
+    }
+
+    /**
+     * The shallow size of the table: its arrays, but not the elements they refer to.
+     * Assumes compressed object references.
+     *
+     * @return {@code >= 0}, in bytes
+     */
+    public long getMemoryFootprint() {
+        long arrayHeaderSize = 16L;
+        return (arrayHeaderSize + 4L * elements.length)
+                + (arrayHeaderSize + 8L * probabilities.length)
+                + (arrayHeaderSize + 4L * aliases.length);
+    }
+
+    @Override
+    public String toString() {
+        return "ProbabilityAliasTable(" + elements.length + " elements)";
+    }
+
+}
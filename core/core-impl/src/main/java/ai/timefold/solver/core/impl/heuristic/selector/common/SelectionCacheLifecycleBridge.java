@@ -73,6 +73,17 @@ public final class SelectionCacheLifecycleBridge<Solution_> implements PhaseLife
         }
     }
 
+    @Override
+    public void phaseProblemChanged(AbstractPhaseScope<Solution_> phaseScope) {
+        // Problem changes are applied between steps, so no STEP cache is constructed at this point.
+        if (cacheType == SelectionCacheType.PHASE || cacheType == SelectionCacheType.SOLVER) {
+            assertConstructed();
+            SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+            selectionCacheLifecycleListener.disposeCache(solverScope);
+            selectionCacheLifecycleListener.constructCache(solverScope);
+        }
+    }
+
     @Override
     public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
         if (cacheType != SelectionCacheType.SOLVER) {
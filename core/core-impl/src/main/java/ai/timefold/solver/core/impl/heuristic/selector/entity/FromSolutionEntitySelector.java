@@ -78,6 +78,15 @@ public final class FromSolutionEntitySelector<Solution_>
         }
     }
 
+    @Override
+    public void phaseProblemChanged(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseProblemChanged(phaseScope);
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        cachedEntityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        cachedEntityListRevision = scoreDirector.getWorkingEntityListRevision();
+        cachedEntityListIsDirty = false;
+    }
+
     @Override
     public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
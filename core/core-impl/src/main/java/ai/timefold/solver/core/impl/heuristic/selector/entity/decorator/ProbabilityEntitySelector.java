@@ -2,20 +2,17 @@ package ai.timefold.solver.core.impl.heuristic.selector.entity.decorator;
 
 import java.util.Iterator;
 import java.util.ListIterator;
-import java.util.Map;
-import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.TreeMap;
 
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.heuristic.selector.AbstractDemandEnabledSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.common.ProbabilityAliasTable;
 import ai.timefold.solver.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import ai.timefold.solver.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
-import ai.timefold.solver.core.impl.solver.random.RandomUtils;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 public final class ProbabilityEntitySelector<Solution_>
@@ -26,8 +23,7 @@ public final class ProbabilityEntitySelector<Solution_>
     private final SelectionCacheType cacheType;
     private final SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory;
 
-    private NavigableMap<Double, Object> cachedEntityMap = null;
-    private double probabilityWeightTotal = -1.0;
+    private ProbabilityAliasTable<Object> cachedAliasTable = null;
 
     public ProbabilityEntitySelector(EntitySelector<Solution_> childEntitySelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory) {
@@ -58,21 +54,20 @@ public final class ProbabilityEntitySelector<Solution_>
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedEntityMap = new TreeMap<>();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
-        for (Object entity : childEntitySelector) {
-            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(
-                    scoreDirector, entity);
-            cachedEntityMap.put(probabilityWeightOffset, entity);
-            probabilityWeightOffset += probabilityWeight;
-        }
-        probabilityWeightTotal = probabilityWeightOffset;
+        cachedAliasTable = ProbabilityAliasTable.build(childEntitySelector,
+                entity -> probabilityWeightFactory.createProbabilityWeight(scoreDirector, entity));
+        logger.trace("    Created cachedAliasTable: size ({}), memoryFootprint ({} bytes), entitySelector ({}).",
+                cachedAliasTable.getSize(), cachedAliasTable.getMemoryFootprint(), this);
+        solverScope.addProbabilitySelectionMemoryFootprint(cachedAliasTable.getMemoryFootprint());
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        if (cachedAliasTable != null) {
+            solverScope.addProbabilitySelectionMemoryFootprint(-cachedAliasTable.getMemoryFootprint());
+        }
+        cachedAliasTable = null;
     }
 
     @Override
@@ -92,7 +87,7 @@ public final class ProbabilityEntitySelector<Solution_>
 
     @Override
     public long getSize() {
-        return cachedEntityMap.size();
+        return cachedAliasTable.getSize();
     }
 
     @Override
@@ -105,10 +100,7 @@ public final class ProbabilityEntitySelector<Solution_>
 
             @Override
             public Object next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Object> entry = cachedEntityMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedAliasTable.sample(workingRandom);
             }
 
             @Override
@@ -15,10 +15,13 @@ import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDe
 import ai.timefold.solver.core.impl.heuristic.selector.AbstractSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import ai.timefold.solver.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
 import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.PillarDemand;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.PillarSupply;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 /**
@@ -34,15 +37,29 @@ public final class DefaultPillarSelector<Solution_> extends AbstractSelector<Sol
     private final SubPillarConfigPolicy subpillarConfigPolicy;
     private final PillarDemand<Solution_> pillarDemand;
 
+    private PillarSupply<Solution_> pillarSupply = null;
     private List<List<Object>> cachedBasePillarList = null;
 
     public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptors, boolean randomSelection,
             SubPillarConfigPolicy subpillarConfigPolicy) {
+        this(entitySelector, variableDescriptors, randomSelection, subpillarConfigPolicy, null, false);
+    }
+
+    /**
+     * @param entityFilter sometimes null, the filter of the entitySelector that the pillars run again on a changed entity
+     * @param stateDependentEntitySelection true if the entitySelector selects by something other than the entityFilter,
+     *        in which case the pillars are rebuilt every step
+     */
+    public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptors, boolean randomSelection,
+            SubPillarConfigPolicy subpillarConfigPolicy, SelectionFilter<Solution_, Object> entityFilter,
+            boolean stateDependentEntitySelection) {
         this.entitySelector = entitySelector;
         this.randomSelection = randomSelection;
         this.subpillarConfigPolicy = subpillarConfigPolicy;
-        this.pillarDemand = new PillarDemand<>(entitySelector, variableDescriptors, subpillarConfigPolicy);
+        this.pillarDemand = new PillarDemand<>(entitySelector, variableDescriptors, subpillarConfigPolicy, entityFilter,
+                stateDependentEntitySelection);
         Class<?> entityClass = entitySelector.getEntityDescriptor().getEntityClass();
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptors) {
             if (!entityClass.equals(
@@ -93,25 +110,37 @@ public final class DefaultPillarSelector<Solution_> extends AbstractSelector<Sol
     }
 
     @Override
-    public void constructCache(SolverScope<Solution_> solverScope) {
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
         /*
          * The first pillar selector creates the supply.
          * Other matching pillar selectors, if there are any, reuse the supply.
+         * The supply lives as long as the phase, so every step only updates the pillars of the entities that changed.
          */
-        cachedBasePillarList = solverScope.getScoreDirector().getSupplyManager()
-                .demand(pillarDemand)
-                .read();
+        pillarSupply = phaseScope.getSolverScope().getScoreDirector().getSupplyManager()
+                .demand(pillarDemand);
+    }
+
+    @Override
+    public void constructCache(SolverScope<Solution_> solverScope) {
+        cachedBasePillarList = pillarSupply.read();
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
+        cachedBasePillarList = null;
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
         /*
          * Cancel the demand of each pillar selector.
          * The final pillar selector's demand cancellation will cause the supply to be removed entirely.
          */
-        solverScope.getScoreDirector().getSupplyManager()
+        phaseScope.getSolverScope().getScoreDirector().getSupplyManager()
                 .cancel(pillarDemand);
-        cachedBasePillarList = null;
+        pillarSupply = null;
     }
 
     // ************************************************************************
@@ -10,9 +10,11 @@ import ai.timefold.solver.core.config.heuristic.selector.entity.EntitySelectorCo
 import ai.timefold.solver.core.config.heuristic.selector.entity.pillar.PillarSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.SubPillarType;
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.heuristic.selector.AbstractSelectorFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelectorFactory;
 import ai.timefold.solver.core.impl.solver.ClassInstanceCache;
@@ -75,8 +77,31 @@ public class PillarSelectorFactory<Solution_>
                         config.getMinimumSubPillarSize(), config.getMaximumSubPillarSize(),
                         configPolicy.getClassInstanceCache())
                 : SubPillarConfigPolicy.withoutSubpillars();
+        EntityDescriptor<Solution_> entityDescriptor = entitySelector.getEntityDescriptor();
+        SelectionFilter<Solution_, Object> entityFilter = entityDescriptor.hasEffectiveMovableEntitySelectionFilter()
+                ? entityDescriptor.getEffectiveMovableEntitySelectionFilter()
+                : null;
         return new DefaultPillarSelector<>(entitySelector, variableDescriptors,
-                inheritedSelectionOrder.toRandomSelectionBoolean(), subPillarPolicy);
+                inheritedSelectionOrder.toRandomSelectionBoolean(), subPillarPolicy, entityFilter,
+                isStateDependentEntitySelection(entitySelectorConfig));
+    }
+
+    /**
+     * The pillars are only maintained incrementally if the entitySelector selects every entity
+     * that passes the movable filter, in the original order.
+     * Anything else (such as a custom filter, which can depend on a non-pillar variable or a shadow variable)
+     * can change without the pillar supply being notified.
+     */
+    private static boolean isStateDependentEntitySelection(EntitySelectorConfig entitySelectorConfig) {
+        return entitySelectorConfig.getMimicSelectorRef() != null
+                || entitySelectorConfig.getNearbySelectionConfig() != null
+                || entitySelectorConfig.getFilterClass() != null
+                || entitySelectorConfig.getSorterManner() != null
+                || entitySelectorConfig.getSorterComparatorClass() != null
+                || entitySelectorConfig.getSorterWeightFactoryClass() != null
+                || entitySelectorConfig.getSorterClass() != null
+                || entitySelectorConfig.getProbabilityWeightFactoryClass() != null
+                || entitySelectorConfig.getSelectedCountLimit() != null;
     }
 
     private SubPillarConfigPolicy configureSubPillars(SubPillarType pillarType,
@@ -10,10 +10,10 @@ import java.util.stream.StreamSupport;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
-import ai.timefold.solver.core.impl.domain.variable.index.IndexVariableDemand;
 import ai.timefold.solver.core.impl.domain.variable.index.IndexVariableSupply;
 import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
-import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonListInverseVariableDemand;
+import ai.timefold.solver.core.impl.domain.variable.position.ListVariablePositionDemand;
+import ai.timefold.solver.core.impl.domain.variable.position.ListVariablePositionSupply;
 import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
 import ai.timefold.solver.core.impl.heuristic.selector.AbstractSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
@@ -62,8 +62,10 @@ public class ElementDestinationSelector<Solution_> extends AbstractSelector<Solu
         super.solvingStarted(solverScope);
         SupplyManager supplyManager = solverScope.getScoreDirector().getSupplyManager();
         ListVariableDescriptor<?> listVariableDescriptor = (ListVariableDescriptor<?>) valueSelector.getVariableDescriptor();
-        inverseVariableSupply = supplyManager.demand(new SingletonListInverseVariableDemand<>(listVariableDescriptor));
-        indexVariableSupply = supplyManager.demand(new IndexVariableDemand<>(listVariableDescriptor));
+        ListVariablePositionSupply positionSupply =
+                supplyManager.demand(new ListVariablePositionDemand<>(listVariableDescriptor));
+        inverseVariableSupply = positionSupply;
+        indexVariableSupply = positionSupply;
     }
 
     @Override
@@ -105,7 +107,7 @@ public class ElementDestinationSelector<Solution_> extends AbstractSelector<Solu
                     Object value = valueIterator.next();
                     return ElementRef.of(
                             inverseVariableSupply.getInverseSingleton(value),
-                            indexVariableSupply.getIndex(value) + 1);
+                            indexVariableSupply.getIndexInt(value) + 1);
                 }
             };
         } else {
@@ -118,7 +120,7 @@ public class ElementDestinationSelector<Solution_> extends AbstractSelector<Solu
                     StreamSupport.stream(valueSelector.spliterator(), false)
                             .map(value -> ElementRef.of(
                                     inverseVariableSupply.getInverseSingleton(value),
-                                    indexVariableSupply.getIndex(value) + 1)))
+                                    indexVariableSupply.getIndexInt(value) + 1)))
                     .iterator();
         }
     }
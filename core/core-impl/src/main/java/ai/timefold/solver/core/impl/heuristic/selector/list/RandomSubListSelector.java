@@ -4,7 +4,7 @@ import java.util.Iterator;
 
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
-import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonListInverseVariableDemand;
+import ai.timefold.solver.core.impl.domain.variable.position.ListVariablePositionDemand;
 import ai.timefold.solver.core.impl.heuristic.selector.AbstractSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
@@ -49,7 +49,7 @@ public class RandomSubListSelector<Solution_> extends AbstractSelector<Solution_
         super.solvingStarted(solverScope);
         triangleElementFactory = new TriangleElementFactory(minimumSubListSize, maximumSubListSize, workingRandom);
         inverseVariableSupply = solverScope.getScoreDirector().getSupplyManager()
-                .demand(new SingletonListInverseVariableDemand<>(listVariableDescriptor));
+                .demand(new ListVariablePositionDemand<>(listVariableDescriptor));
     }
 
     @Override
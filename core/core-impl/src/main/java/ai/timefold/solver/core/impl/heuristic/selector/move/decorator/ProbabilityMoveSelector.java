@@ -1,19 +1,16 @@
 package ai.timefold.solver.core.impl.heuristic.selector.move.decorator;
 
 import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.common.ProbabilityAliasTable;
 import ai.timefold.solver.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import ai.timefold.solver.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.move.AbstractMoveSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
-import ai.timefold.solver.core.impl.solver.random.RandomUtils;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Solution_>
@@ -23,8 +20,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory<Solution_, Move<Solution_>> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Move<Solution_>> cachedMoveMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected ProbabilityAliasTable<Move<Solution_>> cachedAliasTable = null;
 
     public ProbabilityMoveSelector(MoveSelector<Solution_> childMoveSelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory<Solution_, ? extends Move<Solution_>> probabilityWeightFactory) {
@@ -56,20 +52,20 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedMoveMap = new TreeMap<>();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
-        for (Move<Solution_> entity : childMoveSelector) {
-            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector, entity);
-            cachedMoveMap.put(probabilityWeightOffset, entity);
-            probabilityWeightOffset += probabilityWeight;
-        }
-        probabilityWeightTotal = probabilityWeightOffset;
+        cachedAliasTable = ProbabilityAliasTable.build(childMoveSelector,
+                move -> probabilityWeightFactory.createProbabilityWeight(scoreDirector, move));
+        logger.trace("    Created cachedAliasTable: size ({}), memoryFootprint ({} bytes), moveSelector ({}).",
+                cachedAliasTable.getSize(), cachedAliasTable.getMemoryFootprint(), this);
+        solverScope.addProbabilitySelectionMemoryFootprint(cachedAliasTable.getMemoryFootprint());
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        if (cachedAliasTable != null) {
+            solverScope.addProbabilitySelectionMemoryFootprint(-cachedAliasTable.getMemoryFootprint());
+        }
+        cachedAliasTable = null;
     }
 
     @Override
@@ -84,7 +80,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
     @Override
     public long getSize() {
-        return cachedMoveMap.size();
+        return cachedAliasTable.getSize();
     }
 
     @Override
@@ -97,10 +93,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
             @Override
             public Move<Solution_> next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Move<Solution_>> entry = cachedMoveMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedAliasTable.sample(workingRandom);
             }
 
             @Override
@@ -8,12 +8,13 @@ import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
+import ai.timefold.solver.core.impl.heuristic.move.UndoRecordableMove;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
+public class ChangeMove<Solution_> extends AbstractMove<Solution_> implements UndoRecordableMove<Solution_> {
 
     protected final GenuineVariableDescriptor<Solution_> variableDescriptor;
 
@@ -12,6 +12,7 @@ import ai.timefold.solver.core.impl.domain.valuerange.descriptor.ValueRangeDescr
 import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.move.UndoRecordableMove;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 
 /**
@@ -19,7 +20,7 @@ import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class PillarChangeMove<Solution_> extends AbstractMove<Solution_> {
+public class PillarChangeMove<Solution_> extends AbstractMove<Solution_> implements UndoRecordableMove<Solution_> {
 
     protected final GenuineVariableDescriptor<Solution_> variableDescriptor;
 
@@ -0,0 +1,421 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import ai.timefold.solver.core.api.domain.variable.VariableListener;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.listener.SourcedVariableListener;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * Groups the entities of an {@link EntitySelector} into pillars:
+ * the entities in a pillar have the same value for every variable.
+ * <p>
+ * The pillars are built once and then maintained incrementally:
+ * this supply is notified of every change of those genuine variables,
+ * and {@link #read()} only moves the entities that changed since the previous {@link #read()}.
+ * A pillar that gains or loses an entity gets a new entity list,
+ * so the pillars of earlier reads (for example in a move) never change.
+ * Adding or removing an entity, resetting the working solution
+ * or changing an entity that the entitySelector did not select (because it may pass the filters of the entitySelector now)
+ * causes a full rebuild on the next {@link #read()}.
+ * Those are all notified through the variable listener methods,
+ * so a {@link #read()} without any of them never iterates the entitySelector.
+ * <p>
+ * The entityFilter, if any, is the filter of the entitySelector (such as the movable filter)
+ * that is run again on every changed entity: an entity that no longer passes it is dropped from its pillar.
+ * If the entitySelector selects by anything this supply is not notified of
+ * (such as a custom filter or sorter, which can depend on other variables or shadow variables),
+ * every {@link #read()} is a full rebuild instead, so the pillars are still correct every step.
+ * <p>
+ * The result of {@link #read()} is the same as grouping all the entities from scratch:
+ * the entities in a pillar are in the order of the entitySelector (or the entity comparator, if any)
+ * and the pillars are in the order of their first entity.
+ *
+ * @param <Solution_> the solution type, the class with the {@link ai.timefold.solver.core.api.domain.solution.PlanningSolution}
+ *        annotation
+ */
+public final class PillarSupply<Solution_> implements SourcedVariableListener<Solution_>,
+        VariableListener<Solution_, Object> {
+
+    private final EntitySelector<Solution_> entitySelector;
+    private final List<GenuineVariableDescriptor<Solution_>> variableDescriptors;
+    private final SubPillarConfigPolicy subpillarConfigPolicy;
+    private final SelectionFilter<Solution_, Object> entityFilter;
+    private final boolean rebuildOnEveryRead;
+    private final List<List<Object>> pillarList = new PillarListView();
+
+    private ScoreDirector<Solution_> scoreDirector = null;
+    private boolean valid = false;
+    private Map<Object, EntityState> entityStateMap = new IdentityHashMap<>();
+    private Map<List<Object>, Pillar> valueStateToPillarMap = new HashMap<>();
+    // Only the pillars that are large enough to select, in the order of their first entity.
+    private List<Pillar> selectablePillarList = new ArrayList<>();
+    private final List<EntityState> dirtyEntityStateList = new ArrayList<>();
+
+    PillarSupply(EntitySelector<Solution_> entitySelector, List<GenuineVariableDescriptor<Solution_>> variableDescriptors,
+            SubPillarConfigPolicy subpillarConfigPolicy) {
+        this(entitySelector, variableDescriptors, subpillarConfigPolicy, null, false);
+    }
+
+    /**
+     * @param entityFilter sometimes null, the filter of the entitySelector to run again on every changed entity
+     * @param rebuildOnEveryRead true if the entitySelector selects by something this supply is not notified of
+     */
+    PillarSupply(EntitySelector<Solution_> entitySelector, List<GenuineVariableDescriptor<Solution_>> variableDescriptors,
+            SubPillarConfigPolicy subpillarConfigPolicy, SelectionFilter<Solution_, Object> entityFilter,
+            boolean rebuildOnEveryRead) {
+        this.entitySelector = entitySelector;
+        this.variableDescriptors = variableDescriptors;
+        this.subpillarConfigPolicy = subpillarConfigPolicy;
+        this.entityFilter = entityFilter;
+        this.rebuildOnEveryRead = rebuildOnEveryRead;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return variableDescriptors.get(0);
+    }
+
+    @Override
+    public List<VariableDescriptor<Solution_>> getSourceVariableDescriptorList() {
+        return Collections.unmodifiableList(variableDescriptors);
+    }
+
+    /**
+     * @return never null, the selectable pillars, each of which has at least the minimum sub pillar size;
+     *         only valid until the next call, but the pillars themselves never change
+     */
+    public List<List<Object>> read() {
+        if (!valid || rebuildOnEveryRead) {
+            rebuild();
+        } else if (!dirtyEntityStateList.isEmpty()) {
+            moveDirtyEntities();
+        }
+        return pillarList;
+    }
+
+    private void rebuild() {
+        long entitySize = entitySelector.getSize();
+        if (entitySize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The selector (" + this + ") has an entitySelector ("
+                    + entitySelector + ") with entitySize (" + entitySize
+                    + ") which is higher than Integer.MAX_VALUE.");
+        }
+        List<Object> entityList = new ArrayList<>((int) entitySize);
+        for (Object entity : entitySelector) {
+            entityList.add(entity);
+        }
+        Comparator<?> comparator = subpillarConfigPolicy.getEntityComparator();
+        if (comparator != null) {
+            /*
+             * The entity selection will be sorted. This will result in all the pillars being sorted without having to
+             * sort them individually later.
+             */
+            entityList.sort((Comparator<? super Object>) comparator);
+        }
+        // Create all the pillars from the entities; if sorted, the pillars will be sequential.
+        entityStateMap = new IdentityHashMap<>(entityList.size());
+        Map<List<Object>, Pillar> pillarMap = new LinkedHashMap<>(entityList.size());
+        for (int ordinal = 0; ordinal < entityList.size(); ordinal++) {
+            Object entity = entityList.get(ordinal);
+            List<Object> valueState = extractValueState(entity);
+            Pillar pillar = pillarMap.computeIfAbsent(valueState, Pillar::new);
+            EntityState entityState = new EntityState(entity, ordinal, pillar);
+            entityStateMap.put(entity, entityState);
+            pillar.memberList.add(entityState);
+        }
+        valueStateToPillarMap = new HashMap<>(pillarMap);
+        // Exclude pillars of size lower than the minimumSubPillarSize, as we shouldn't select those.
+        selectablePillarList = new ArrayList<>(pillarMap.size());
+        for (Pillar pillar : pillarMap.values()) {
+            pillar.refreshEntityList();
+            if (pillar.refreshSelectable(subpillarConfigPolicy.getMinimumSubPillarSize())) {
+                selectablePillarList.add(pillar);
+            }
+        }
+        dirtyEntityStateList.clear();
+        valid = true;
+    }
+
+    private void moveDirtyEntities() {
+        List<Pillar> changedPillarList = new ArrayList<>();
+        for (EntityState entityState : dirtyEntityStateList) {
+            entityState.dirty = false;
+            Pillar oldPillar = entityState.pillar;
+            if (entityFilter != null && !entityFilter.accept(scoreDirector, entityState.entity)) {
+                // The entitySelector would no longer select it.
+                entityStateMap.remove(entityState.entity);
+                entityState.pillar = null;
+                if (oldPillar.markChanged()) {
+                    changedPillarList.add(oldPillar);
+                }
+                continue;
+            }
+            if (hasValueState(entityState.entity, oldPillar.valueState)) {
+                continue; // The change was undone, or it did not change the value.
+            }
+            List<Object> valueState = extractValueState(entityState.entity);
+            Pillar newPillar = valueStateToPillarMap.computeIfAbsent(valueState, Pillar::new);
+            entityState.pillar = newPillar;
+            if (oldPillar.markChanged()) {
+                changedPillarList.add(oldPillar);
+            }
+            if (newPillar.markChanged()) {
+                changedPillarList.add(newPillar);
+            }
+            newPillar.addedMemberList.add(entityState);
+        }
+        dirtyEntityStateList.clear();
+        // Remove every changed pillar first, so the first ordinals of the remaining pillars are unique.
+        for (Pillar pillar : changedPillarList) {
+            if (pillar.selectable) {
+                selectablePillarList.remove(indexOfSelectablePillar(pillar.firstOrdinal()));
+            }
+        }
+        for (Pillar pillar : changedPillarList) {
+            pillar.mergeMembers();
+            if (pillar.memberList.isEmpty()) {
+                valueStateToPillarMap.remove(pillar.valueState);
+                pillar.selectable = false;
+            } else if (pillar.refreshSelectable(subpillarConfigPolicy.getMinimumSubPillarSize())) {
+                int index = indexOfSelectablePillar(pillar.firstOrdinal());
+                selectablePillarList.add(-(index + 1), pillar);
+            }
+        }
+    }
+
+    /**
+     * @return the index of the selectable pillar with that first ordinal,
+     *         or else {@code -(insertionPoint + 1)} as in {@link Collections#binarySearch(List, Object)}
+     */
+    private int indexOfSelectablePillar(int firstOrdinal) {
+        int low = 0;
+        int high = selectablePillarList.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleFirstOrdinal = selectablePillarList.get(middle).firstOrdinal();
+            if (middleFirstOrdinal < firstOrdinal) {
+                low = middle + 1;
+            } else if (middleFirstOrdinal > firstOrdinal) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private List<Object> extractValueState(Object entity) {
+        int variableCount = variableDescriptors.size();
+        if (variableCount == 1) {
+            return Collections.singletonList(variableDescriptors.get(0).getValue(entity));
+        }
+        List<Object> valueState = new ArrayList<>(variableCount);
+        for (int i = 0; i < variableCount; i++) {
+            valueState.add(variableDescriptors.get(i).getValue(entity));
+        }
+        return valueState;
+    }
+
+    private boolean hasValueState(Object entity, List<Object> valueState) {
+        for (int i = 0; i < variableDescriptors.size(); i++) {
+            if (!Objects.equals(variableDescriptors.get(i).getValue(entity), valueState.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void markDirty(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        if (!valid || rebuildOnEveryRead) {
+            return;
+        }
+        this.scoreDirector = scoreDirector;
+        EntityState entityState = entityStateMap.get(entity);
+        if (entityState == null) {
+            // The entitySelector did not select it, but it might once its value changed.
+            invalidate();
+        } else if (!entityState.dirty) {
+            entityState.dirty = true;
+            dirtyEntityStateList.add(entityState);
+        }
+    }
+
+    private void invalidate() {
+        valid = false;
+        dirtyEntityStateList.clear();
+    }
+
+    // ************************************************************************
+    // Variable listener methods
+    // ************************************************************************
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        invalidate();
+    }
+
+    @Override
+    public void close() {
+        invalidate();
+        scoreDirector = null;
+        entityStateMap = new IdentityHashMap<>();
+        valueStateToPillarMap = new HashMap<>();
+        selectablePillarList = new ArrayList<>();
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        invalidate();
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Marked before the change, so a change that is not triggered yet is still picked up by the next read().
+        markDirty(scoreDirector, entity);
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        invalidate();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelector + ")";
+    }
+
+    private static final class EntityState {
+
+        private final Object entity;
+        private final int ordinal;
+        // Null once it no longer passes the entityFilter
+        private Pillar pillar;
+        private boolean dirty = false;
+
+        private EntityState(Object entity, int ordinal, Pillar pillar) {
+            this.entity = entity;
+            this.ordinal = ordinal;
+            this.pillar = pillar;
+        }
+
+    }
+
+    private static final class Pillar {
+
+        private final List<Object> valueState;
+        // In ordinal order
+        private List<EntityState> memberList = new ArrayList<>();
+        private final List<EntityState> addedMemberList = new ArrayList<>();
+        private List<Object> entityList;
+        private boolean changed = false;
+        private boolean selectable = false;
+
+        private Pillar(List<Object> valueState) {
+            this.valueState = valueState;
+        }
+
+        private int firstOrdinal() {
+            return memberList.get(0).ordinal;
+        }
+
+        private boolean refreshSelectable(int minimumSubPillarSize) {
+            selectable = memberList.size() >= minimumSubPillarSize;
+            return selectable;
+        }
+
+        /**
+         * @return true if it was not marked yet
+         */
+        private boolean markChanged() {
+            if (changed) {
+                return false;
+            }
+            changed = true;
+            return true;
+        }
+
+        /**
+         * Removes the members that moved to another pillar and merges in the added members, in ordinal order.
+         */
+        private void mergeMembers() {
+            addedMemberList.sort(Comparator.comparingInt(entityState -> entityState.ordinal));
+            List<EntityState> newMemberList = new ArrayList<>(memberList.size() + addedMemberList.size());
+            Iterator<EntityState> addedIterator = addedMemberList.iterator();
+            EntityState added = addedIterator.hasNext() ? addedIterator.next() : null;
+            for (EntityState member : memberList) {
+                if (member.pillar != this) {
+                    continue;
+                }
+                while (added != null && added.ordinal < member.ordinal) {
+                    newMemberList.add(added);
+                    added = addedIterator.hasNext() ? addedIterator.next() : null;
+                }
+                newMemberList.add(member);
+            }
+            while (added != null) {
+                newMemberList.add(added);
+                added = addedIterator.hasNext() ? addedIterator.next() : null;
+            }
+            memberList = newMemberList;
+            addedMemberList.clear();
+            changed = false;
+            refreshEntityList();
+        }
+
+        private void refreshEntityList() {
+            List<Object> newEntityList = new ArrayList<>(memberList.size());
+            for (EntityState member : memberList) {
+                newEntityList.add(member.entity);
+            }
+            entityList = newEntityList;
+        }
+
+    }
+
+    private final class PillarListView extends AbstractList<List<Object>> implements RandomAccess {
+
+        @Override
+        public List<Object> get(int index) {
+            return selectablePillarList.get(index).entityList;
+        }
+
+        @Override
+        public int size() {
+            return selectablePillarList.size();
+        }
+
+    }
+
+}
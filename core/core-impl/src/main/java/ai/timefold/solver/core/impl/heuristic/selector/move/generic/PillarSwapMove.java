@@ -12,6 +12,7 @@ import ai.timefold.solver.core.impl.domain.valuerange.descriptor.ValueRangeDescr
 import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.move.UndoRecordableMove;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.util.CollectionUtils;
 
@@ -20,7 +21,7 @@ import ai.timefold.solver.core.impl.util.CollectionUtils;
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class PillarSwapMove<Solution_> extends AbstractMove<Solution_> {
+public class PillarSwapMove<Solution_> extends AbstractMove<Solution_> implements UndoRecordableMove<Solution_> {
 
     protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
 
@@ -13,12 +13,13 @@ import ai.timefold.solver.core.impl.domain.variable.anchor.AnchorVariableSupply;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
+import ai.timefold.solver.core.impl.heuristic.move.UndoRecordableMove;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class KOptMove<Solution_> extends AbstractMove<Solution_> {
+public class KOptMove<Solution_> extends AbstractMove<Solution_> implements UndoRecordableMove<Solution_> {
 
     protected final GenuineVariableDescriptor<Solution_> variableDescriptor;
     // TODO remove me to enable multithreaded solving, but first fix https://issues.redhat.com/browse/PLANNER-1250
@@ -11,6 +11,7 @@ import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDe
 import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.move.UndoRecordableMove;
 import ai.timefold.solver.core.impl.heuristic.selector.value.chained.SubChain;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.util.CollectionUtils;
@@ -20,7 +21,7 @@ import ai.timefold.solver.core.impl.util.CollectionUtils;
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class SubChainReversingSwapMove<Solution_> extends AbstractMove<Solution_> {
+public class SubChainReversingSwapMove<Solution_> extends AbstractMove<Solution_> implements UndoRecordableMove<Solution_> {
 
     private final GenuineVariableDescriptor<Solution_> variableDescriptor;
 
@@ -0,0 +1,58 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Objects;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionOrder;
+import ai.timefold.solver.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.list.SubListSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.CrossExchangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.util.ConfigUtils;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelectorFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.list.SubListSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.list.SubListSelectorFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.move.AbstractMoveSelectorFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+
+public class CrossExchangeMoveSelectorFactory<Solution_>
+        extends AbstractMoveSelectorFactory<Solution_, CrossExchangeMoveSelectorConfig> {
+
+    public CrossExchangeMoveSelectorFactory(CrossExchangeMoveSelectorConfig moveSelectorConfig) {
+        super(moveSelectorConfig);
+    }
+
+    @Override
+    protected MoveSelector<Solution_> buildBaseMoveSelector(HeuristicConfigPolicy<Solution_> configPolicy,
+            SelectionCacheType minimumCacheType, boolean randomSelection) {
+        if (!randomSelection) {
+            throw new IllegalArgumentException("The crossExchangeMoveSelector (" + config
+                    + ") only supports random selection order.");
+        }
+
+        SelectionOrder selectionOrder = SelectionOrder.fromRandomSelectionBoolean(randomSelection);
+
+        EntitySelector<Solution_> entitySelector = EntitySelectorFactory
+                .<Solution_> create(new EntitySelectorConfig())
+                .buildEntitySelector(configPolicy, minimumCacheType, selectionOrder);
+
+        SubListSelectorConfig subListSelectorConfig =
+                Objects.requireNonNullElseGet(config.getSubListSelectorConfig(), SubListSelectorConfig::new);
+        SubListSelectorConfig secondarySubListSelectorConfig =
+                Objects.requireNonNullElse(config.getSecondarySubListSelectorConfig(), subListSelectorConfig);
+        SubListSelector<Solution_> leftSubListSelector = SubListSelectorFactory
+                .<Solution_> create(subListSelectorConfig)
+                .buildSubListSelector(configPolicy, entitySelector, minimumCacheType, selectionOrder);
+        SubListSelector<Solution_> rightSubListSelector = SubListSelectorFactory
+                .<Solution_> create(secondarySubListSelectorConfig)
+                .buildSubListSelector(configPolicy, entitySelector, minimumCacheType, selectionOrder);
+
+        boolean selectReversingMoveToo = Objects.requireNonNullElse(config.getSelectReversingMoveToo(), true);
+        SubListTransferFilter<Solution_> transferFilter = config.getSubListTransferFilterClass() == null ? null
+                : ConfigUtils.newInstance(config, "subListTransferFilterClass", config.getSubListTransferFilterClass());
+
+        return new RandomCrossExchangeMoveSelector<>(leftSubListSelector, rightSubListSelector, selectReversingMoveToo,
+                transferFilter);
+    }
+}
@@ -5,9 +5,10 @@ import java.util.Objects;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
+import ai.timefold.solver.core.impl.heuristic.move.UndoRecordableMove;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 
-public class ListAssignMove<Solution_> extends AbstractMove<Solution_> {
+public class ListAssignMove<Solution_> extends AbstractMove<Solution_> implements UndoRecordableMove<Solution_> {
 
     private final ListVariableDescriptor<Solution_> variableDescriptor;
     private final Object planningValue;
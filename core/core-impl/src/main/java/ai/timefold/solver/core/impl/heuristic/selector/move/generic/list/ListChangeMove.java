@@ -11,6 +11,7 @@ import ai.timefold.solver.core.api.domain.variable.PlanningListVariable;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
+import ai.timefold.solver.core.impl.heuristic.move.UndoRecordableMove;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 
 /**
@@ -22,7 +23,7 @@ import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class ListChangeMove<Solution_> extends AbstractMove<Solution_> {
+public class ListChangeMove<Solution_> extends AbstractMove<Solution_> implements UndoRecordableMove<Solution_> {
 
     private final ListVariableDescriptor<Solution_> variableDescriptor;
     private final Object sourceEntity;
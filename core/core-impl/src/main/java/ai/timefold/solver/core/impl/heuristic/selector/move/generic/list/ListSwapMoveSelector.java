@@ -3,10 +3,10 @@ package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
 import java.util.Iterator;
 
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
-import ai.timefold.solver.core.impl.domain.variable.index.IndexVariableDemand;
 import ai.timefold.solver.core.impl.domain.variable.index.IndexVariableSupply;
 import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
-import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonListInverseVariableDemand;
+import ai.timefold.solver.core.impl.domain.variable.position.ListVariablePositionDemand;
+import ai.timefold.solver.core.impl.domain.variable.position.ListVariablePositionSupply;
 import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.GenericMoveSelector;
@@ -42,8 +42,10 @@ public class ListSwapMoveSelector<Solution_> extends GenericMoveSelector<Solutio
         ListVariableDescriptor<Solution_> listVariableDescriptor =
                 (ListVariableDescriptor<Solution_>) leftValueSelector.getVariableDescriptor();
         SupplyManager supplyManager = solverScope.getScoreDirector().getSupplyManager();
-        inverseVariableSupply = supplyManager.demand(new SingletonListInverseVariableDemand<>(listVariableDescriptor));
-        indexVariableSupply = supplyManager.demand(new IndexVariableDemand<>(listVariableDescriptor));
+        ListVariablePositionSupply positionSupply =
+                supplyManager.demand(new ListVariablePositionDemand<>(listVariableDescriptor));
+        inverseVariableSupply = positionSupply;
+        indexVariableSupply = positionSupply;
     }
 
     @Override
@@ -0,0 +1,45 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.config.heuristic.selector.list.DestinationSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.list.SubListSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.MoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.OrOptMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.selector.move.AbstractMoveSelectorFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+
+/**
+ * Unfolds into a {@link SubListChangeMoveSelectorFactory} with a bounded maximumSubListSize.
+ */
+public class OrOptMoveSelectorFactory<Solution_>
+        extends AbstractMoveSelectorFactory<Solution_, OrOptMoveSelectorConfig> {
+
+    public OrOptMoveSelectorFactory(OrOptMoveSelectorConfig moveSelectorConfig) {
+        super(moveSelectorConfig);
+    }
+
+    @Override
+    protected MoveSelector<Solution_> buildBaseMoveSelector(HeuristicConfigPolicy<Solution_> configPolicy,
+            SelectionCacheType minimumCacheType, boolean randomSelection) {
+        throw new IllegalStateException("The orOptMoveSelector (" + config
+                + ") should have been unfolded into a subListChangeMoveSelector.");
+    }
+
+    @Override
+    protected MoveSelectorConfig<?> buildUnfoldedMoveSelectorConfig(HeuristicConfigPolicy<Solution_> configPolicy) {
+        SubListSelectorConfig subListSelectorConfig = new SubListSelectorConfig(config.getSubListSelectorConfig());
+        // A replaying subList selector takes its size from the recording one.
+        if (subListSelectorConfig.getMimicSelectorRef() == null && subListSelectorConfig.getMaximumSubListSize() == null) {
+            subListSelectorConfig.setMaximumSubListSize(OrOptMoveSelectorConfig.DEFAULT_MAXIMUM_SUB_LIST_SIZE);
+        }
+        SubListChangeMoveSelectorConfig subListChangeMoveSelectorConfig = new SubListChangeMoveSelectorConfig()
+                .withSelectReversingMoveToo(config.getSelectReversingMoveToo())
+                .withSubListSelectorConfig(subListSelectorConfig)
+                .withDestinationSelectorConfig(new DestinationSelectorConfig(config.getDestinationSelectorConfig()))
+                .withSubListTransferFilterClass(config.getSubListTransferFilterClass());
+        subListChangeMoveSelectorConfig.inheritFolded(config);
+        return subListChangeMoveSelectorConfig;
+    }
+}
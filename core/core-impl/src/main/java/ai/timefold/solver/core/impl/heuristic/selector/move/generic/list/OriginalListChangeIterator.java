@@ -27,7 +27,7 @@ public class OriginalListChangeIterator<Solution_> extends UpcomingSelectionIter
     private Iterator<ElementRef> destinationIterator;
 
     private Object upcomingSourceEntity;
-    private Integer upcomingSourceIndex;
+    private int upcomingSourceIndex;
     private Object upcomingValue;
 
     public OriginalListChangeIterator(
@@ -51,14 +51,14 @@ public class OriginalListChangeIterator<Solution_> extends UpcomingSelectionIter
             }
             upcomingValue = valueIterator.next();
             upcomingSourceEntity = inverseVariableSupply.getInverseSingleton(upcomingValue);
-            upcomingSourceIndex = indexVariableSupply.getIndex(upcomingValue);
+            upcomingSourceIndex = indexVariableSupply.getIndexInt(upcomingValue);
 
             destinationIterator = destinationSelector.iterator();
         }
 
         ElementRef destination = destinationIterator.next();
 
-        if (upcomingSourceEntity == null && upcomingSourceIndex == null) {
+        if (upcomingSourceEntity == null && upcomingSourceIndex < 0) {
             return new ListAssignMove<>(
                     listVariableDescriptor,
                     upcomingValue,
@@ -25,7 +25,7 @@ public class OriginalListSwapIterator<Solution_> extends UpcomingSelectionIterat
     private Iterator<Object> rightValueIterator;
 
     private Object upcomingLeftEntity;
-    private Integer upcomingLeftIndex;
+    private int upcomingLeftIndex;
 
     public OriginalListSwapIterator(
             SingletonInverseVariableSupply inverseVariableSupply,
@@ -48,7 +48,7 @@ public class OriginalListSwapIterator<Solution_> extends UpcomingSelectionIterat
             }
             Object upcomingLeftValue = leftValueIterator.next();
             upcomingLeftEntity = inverseVariableSupply.getInverseSingleton(upcomingLeftValue);
-            upcomingLeftIndex = indexVariableSupply.getIndex(upcomingLeftValue);
+            upcomingLeftIndex = indexVariableSupply.getIndexInt(upcomingLeftValue);
             rightValueIterator = rightValueSelector.iterator();
         }
 
@@ -59,6 +59,6 @@ public class OriginalListSwapIterator<Solution_> extends UpcomingSelectionIterat
                 upcomingLeftEntity,
                 upcomingLeftIndex,
                 inverseVariableSupply.getInverseSingleton(upcomingRightValue),
-                indexVariableSupply.getIndex(upcomingRightValue));
+                indexVariableSupply.getIndexInt(upcomingRightValue));
     }
 }
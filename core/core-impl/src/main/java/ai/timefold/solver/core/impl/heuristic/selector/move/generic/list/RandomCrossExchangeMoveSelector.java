@@ -0,0 +1,155 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Iterator;
+
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import ai.timefold.solver.core.impl.heuristic.selector.list.SubList;
+import ai.timefold.solver.core.impl.heuristic.selector.list.SubListSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.GenericMoveSelector;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+
+/**
+ * Selects {@link SubListSwapMove}s between two different entities.
+ * A pair of subLists of the same entity, or a pair rejected by the {@link SubListTransferFilter},
+ * is drawn again without creating a move.
+ *
+ * @param <Solution_> the solution type
+ */
+public class RandomCrossExchangeMoveSelector<Solution_> extends GenericMoveSelector<Solution_> {
+
+    private final SubListSelector<Solution_> leftSubListSelector;
+    private final SubListSelector<Solution_> rightSubListSelector;
+    private final ListVariableDescriptor<Solution_> listVariableDescriptor;
+    private final boolean selectReversingMoveToo;
+    private final SubListTransferFilter<Solution_> transferFilter;
+
+    private ScoreDirector<Solution_> scoreDirector = null;
+
+    /**
+     * @param leftSubListSelector never null
+     * @param rightSubListSelector never null
+     * @param selectReversingMoveToo true if the subLists may also be reversed while they are swapped
+     * @param transferFilter null if every pair of subLists of different entities is accepted
+     */
+    public RandomCrossExchangeMoveSelector(
+            SubListSelector<Solution_> leftSubListSelector,
+            SubListSelector<Solution_> rightSubListSelector,
+            boolean selectReversingMoveToo,
+            SubListTransferFilter<Solution_> transferFilter) {
+        this.leftSubListSelector = leftSubListSelector;
+        this.rightSubListSelector = rightSubListSelector;
+        this.listVariableDescriptor = leftSubListSelector.getVariableDescriptor();
+        if (leftSubListSelector.getVariableDescriptor() != rightSubListSelector.getVariableDescriptor()) {
+            throw new IllegalStateException("The selector (" + this
+                    + ") has a leftSubListSelector's variableDescriptor ("
+                    + leftSubListSelector.getVariableDescriptor()
+                    + ") which is not equal to the rightSubListSelector's variableDescriptor ("
+                    + rightSubListSelector.getVariableDescriptor() + ").");
+        }
+        this.selectReversingMoveToo = selectReversingMoveToo;
+        this.transferFilter = transferFilter;
+
+        phaseLifecycleSupport.addEventListener(leftSubListSelector);
+        phaseLifecycleSupport.addEventListener(rightSubListSelector);
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        scoreDirector = phaseScope.getScoreDirector();
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        scoreDirector = null;
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        return new RandomCrossExchangeMoveIterator(leftSubListSelector.iterator(), rightSubListSelector.iterator(),
+                getSize() * 10L);
+    }
+
+    @Override
+    public boolean isCountable() {
+        return true;
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return true;
+    }
+
+    /**
+     * An upper bound, because it also counts the pairs of subLists of the same entity.
+     *
+     * @return at least 0
+     */
+    @Override
+    public long getSize() {
+        long leftSubListCount = leftSubListSelector.getSize();
+        long rightSubListCount = rightSubListSelector.getSize();
+        return leftSubListCount * rightSubListCount * (selectReversingMoveToo ? 2 : 1);
+    }
+
+    boolean isSelectReversingMoveToo() {
+        return selectReversingMoveToo;
+    }
+
+    SubListTransferFilter<Solution_> getTransferFilter() {
+        return transferFilter;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + leftSubListSelector + ", " + rightSubListSelector + ")";
+    }
+
+    private class RandomCrossExchangeMoveIterator extends UpcomingSelectionIterator<Move<Solution_>> {
+
+        private final Iterator<SubList> leftSubListIterator;
+        private final Iterator<SubList> rightSubListIterator;
+        private final long bailOutSize;
+
+        private RandomCrossExchangeMoveIterator(Iterator<SubList> leftSubListIterator,
+                Iterator<SubList> rightSubListIterator, long bailOutSize) {
+            this.leftSubListIterator = leftSubListIterator;
+            this.rightSubListIterator = rightSubListIterator;
+            this.bailOutSize = bailOutSize;
+        }
+
+        @Override
+        protected Move<Solution_> createUpcomingSelection() {
+            long attemptsBeforeBailOut = bailOutSize;
+            while (leftSubListIterator.hasNext() && rightSubListIterator.hasNext()) {
+                if (attemptsBeforeBailOut <= 0L) {
+                    // For example, all values are in a single entity.
+                    logger.warn("Bailing out of neverEnding selector ({}) after ({}) attempts to avoid infinite loop.",
+                            RandomCrossExchangeMoveSelector.this, bailOutSize);
+                    return noUpcomingSelection();
+                }
+                attemptsBeforeBailOut--;
+                SubList leftSubList = leftSubListIterator.next();
+                SubList rightSubList = rightSubListIterator.next();
+                if (leftSubList.getEntity() != rightSubList.getEntity()
+                        && isTransferAccepted(leftSubList, rightSubList)) {
+                    boolean reversing = selectReversingMoveToo && workingRandom.nextBoolean();
+                    return new SubListSwapMove<>(listVariableDescriptor, leftSubList, rightSubList, reversing);
+                }
+            }
+            return noUpcomingSelection();
+        }
+
+        private boolean isTransferAccepted(SubList leftSubList, SubList rightSubList) {
+            if (transferFilter == null) {
+                return true;
+            }
+            return transferFilter.accept(scoreDirector, rightSubList.getEntity(), leftSubList, rightSubList)
+                    && transferFilter.accept(scoreDirector, leftSubList.getEntity(), rightSubList, leftSubList);
+        }
+    }
+}
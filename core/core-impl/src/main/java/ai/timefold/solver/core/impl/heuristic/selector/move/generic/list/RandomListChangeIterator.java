@@ -47,7 +47,7 @@ public class RandomListChangeIterator<Solution_> extends UpcomingSelectionIterat
         return new ListChangeMove<>(
                 listVariableDescriptor,
                 inverseVariableSupply.getInverseSingleton(upcomingValue),
-                indexVariableSupply.getIndex(upcomingValue),
+                indexVariableSupply.getIndexInt(upcomingValue),
                 destination.getEntity(),
                 destination.getIndex());
     }
@@ -45,8 +45,8 @@ public class RandomListSwapIterator<Solution_> extends UpcomingSelectionIterator
         return new ListSwapMove<>(
                 listVariableDescriptor,
                 inverseVariableSupply.getInverseSingleton(upcomingLeftValue),
-                indexVariableSupply.getIndex(upcomingLeftValue),
+                indexVariableSupply.getIndexInt(upcomingLeftValue),
                 inverseVariableSupply.getInverseSingleton(upcomingRightValue),
-                indexVariableSupply.getIndex(upcomingRightValue));
+                indexVariableSupply.getIndexInt(upcomingRightValue));
     }
 }
@@ -16,6 +16,7 @@ import ai.timefold.solver.core.config.heuristic.selector.list.SubListSelectorCon
 import ai.timefold.solver.core.config.heuristic.selector.move.MoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.SubListChangeMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.value.ValueSelectorConfig;
+import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
@@ -28,6 +29,7 @@ import ai.timefold.solver.core.impl.heuristic.selector.list.SubListSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.list.SubListSelectorFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.move.AbstractMoveSelectorFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.decorator.FilteringMoveSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.ValueSelectorFactory;
 
 public class SubListChangeMoveSelectorFactory<Solution_>
@@ -63,7 +65,14 @@ public class SubListChangeMoveSelectorFactory<Solution_>
 
         boolean selectReversingMoveToo = Objects.requireNonNullElse(config.getSelectReversingMoveToo(), true);
 
-        return new RandomSubListChangeMoveSelector<>(subListSelector, destinationSelector, selectReversingMoveToo);
+        MoveSelector<Solution_> moveSelector =
+                new RandomSubListChangeMoveSelector<>(subListSelector, destinationSelector, selectReversingMoveToo);
+        if (config.getSubListTransferFilterClass() == null) {
+            return moveSelector;
+        }
+        SubListTransferFilter<Solution_> transferFilter =
+                ConfigUtils.newInstance(config, "subListTransferFilterClass", config.getSubListTransferFilterClass());
+        return new FilteringMoveSelector<>(moveSelector, new SubListTransferSelectionFilter<>(transferFilter));
     }
 
     @Override
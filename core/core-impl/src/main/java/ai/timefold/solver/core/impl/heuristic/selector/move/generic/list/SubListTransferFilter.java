@@ -0,0 +1,43 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import ai.timefold.solver.core.impl.heuristic.selector.list.SubList;
+
+/**
+ * Decides on accepting or discarding the transfer of a {@link SubList} from one entity to another,
+ * before the {@link SubListChangeMove} or {@link SubListSwapMove} that would do it is evaluated.
+ * For example, on a vehicle routing problem, a segment of visits is rejected
+ * if the demand it adds to the destination vehicle (minus the demand of the segment that leaves it in exchange)
+ * exceeds that vehicle's capacity.
+ * This prunes infeasible Or-opt and cross-exchange moves without doing them on the score director.
+ * <p>
+ * A transfer within a single entity never changes what that entity holds, so it is never passed to this filter.
+ * A {@link SubListSwapMove} between two entities is only accepted if both of its transfers are accepted.
+ * <p>
+ * Unlike a {@link SelectionFilter}, this filter only sees the segments,
+ * so it can compute a delta in time proportional to the segment length.
+ * <p>
+ * Implementations are expected to be stateless.
+ * The solver may choose to reuse instances.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+@FunctionalInterface
+public interface SubListTransferFilter<Solution_> {
+
+    /**
+     * @param scoreDirector never null, the {@link ScoreDirector}
+     *        which has the {@link ScoreDirector#getWorkingSolution()} to which the entities belong
+     * @param destinationEntity never null, the entity into which the incomingSubList will be inserted
+     * @param incomingSubList never null, a subList of another entity than destinationEntity
+     * @param outgoingSubList null if nothing leaves destinationEntity (for a {@link SubListChangeMove}),
+     *        otherwise the subList of destinationEntity that moves to the entity of incomingSubList in exchange
+     *        (for a {@link SubListSwapMove})
+     * @return true if the transfer is accepted, false if the move will be discarded
+     */
+    boolean accept(ScoreDirector<Solution_> scoreDirector, Object destinationEntity, SubList incomingSubList,
+            SubList outgoingSubList);
+
+}
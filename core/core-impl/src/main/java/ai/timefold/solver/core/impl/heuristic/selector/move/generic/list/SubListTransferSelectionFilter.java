@@ -0,0 +1,54 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
+
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import ai.timefold.solver.core.impl.heuristic.selector.list.SubList;
+
+/**
+ * Adapts a {@link SubListTransferFilter} to the {@link SubListChangeMove}s and {@link SubListSwapMove}s
+ * of a subList move selector.
+ * A move that stays within a single entity is always accepted.
+ *
+ * @param <Solution_> the solution type
+ */
+final class SubListTransferSelectionFilter<Solution_> implements SelectionFilter<Solution_, Move<Solution_>> {
+
+    private final SubListTransferFilter<Solution_> transferFilter;
+
+    SubListTransferSelectionFilter(SubListTransferFilter<Solution_> transferFilter) {
+        this.transferFilter = transferFilter;
+    }
+
+    @Override
+    public boolean accept(ScoreDirector<Solution_> scoreDirector, Move<Solution_> move) {
+        if (move instanceof SubListChangeMove) {
+            SubListChangeMove<Solution_> changeMove = (SubListChangeMove<Solution_>) move;
+            Object destinationEntity = changeMove.getDestinationEntity();
+            if (changeMove.getSourceEntity() == destinationEntity) {
+                return true;
+            }
+            SubList incomingSubList = new SubList(changeMove.getSourceEntity(), changeMove.getFromIndex(),
+                    changeMove.getSubListSize());
+            return transferFilter.accept(scoreDirector, destinationEntity, incomingSubList, null);
+        } else if (move instanceof SubListSwapMove) {
+            SubListSwapMove<Solution_> swapMove = (SubListSwapMove<Solution_>) move;
+            SubList leftSubList = swapMove.getLeftSubList();
+            SubList rightSubList = swapMove.getRightSubList();
+            if (leftSubList.getEntity() == rightSubList.getEntity()) {
+                return true;
+            }
+            return transferFilter.accept(scoreDirector, rightSubList.getEntity(), leftSubList, rightSubList)
+                    && transferFilter.accept(scoreDirector, leftSubList.getEntity(), rightSubList, leftSubList);
+        } else {
+            throw new IllegalStateException("The move (" + move + ") of class (" + move.getClass()
+                    + ") is not a " + SubListChangeMove.class.getSimpleName()
+                    + " or a " + SubListSwapMove.class.getSimpleName() + ".");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + transferFilter + ")";
+    }
+}
@@ -59,7 +59,7 @@ public final class EntityOrderInfo {
     public <Node_> Node_ successor(Node_ object, ListVariableDescriptor<?> listVariableDescriptor,
             IndexVariableSupply indexVariableSupply, SingletonInverseVariableSupply inverseVariableSupply) {
         Object entity = inverseVariableSupply.getInverseSingleton(object);
-        int indexInEntityList = indexVariableSupply.getIndex(object);
+        int indexInEntityList = indexVariableSupply.getIndexInt(object);
         List<Object> listVariable = listVariableDescriptor.getListVariable(entity);
         if (indexInEntityList == listVariable.size() - 1) {
             int nextEntityIndex = (entityToEntityIndex.get(entity) + 1) % entities.length;
@@ -73,7 +73,7 @@ public final class EntityOrderInfo {
     public <Node_> Node_ predecessor(Node_ object, ListVariableDescriptor<?> listVariableDescriptor,
             IndexVariableSupply indexVariableSupply, SingletonInverseVariableSupply inverseVariableSupply) {
         Object entity = inverseVariableSupply.getInverseSingleton(object);
-        int indexInEntityList = indexVariableSupply.getIndex(object);
+        int indexInEntityList = indexVariableSupply.getIndexInt(object);
         List<Object> listVariable = listVariableDescriptor.getListVariable(entity);
         if (indexInEntityList == 0) {
             // add entities.length to ensure modulo result is positive
@@ -91,9 +91,9 @@ public final class EntityOrderInfo {
         int middleEntityIndex = entityToEntityIndex.get(inverseVariableSupply.getInverseSingleton(middle));
         int endEntityIndex = entityToEntityIndex.get(inverseVariableSupply.getInverseSingleton(end));
 
-        int startIndex = indexVariableSupply.getIndex(start) + offsets[startEntityIndex];
-        int middleIndex = indexVariableSupply.getIndex(middle) + offsets[middleEntityIndex];
-        int endIndex = indexVariableSupply.getIndex(end) + offsets[endEntityIndex];
+        int startIndex = indexVariableSupply.getIndexInt(start) + offsets[startEntityIndex];
+        int middleIndex = indexVariableSupply.getIndexInt(middle) + offsets[middleEntityIndex];
+        int endIndex = indexVariableSupply.getIndexInt(end) + offsets[endEntityIndex];
 
         if (startIndex <= endIndex) {
             // test middleIndex in [startIndex, endIndex]
@@ -86,7 +86,7 @@ final class KOptListMoveIterator<Solution_, Node_> extends UpcomingSelectionIter
         Object secondEntity = inverseVariableSupply.getInverseSingleton(secondValue);
 
         return new TwoOptListMove<>(listVariableDescriptor, firstEntity, secondEntity,
-                indexVariableSupply.getIndex(firstValue), indexVariableSupply.getIndex(secondValue));
+                indexVariableSupply.getIndexInt(firstValue), indexVariableSupply.getIndexInt(secondValue));
     }
 
     @SuppressWarnings("unchecked")
@@ -375,8 +375,8 @@ final class KOptListMoveIterator<Solution_, Node_> extends UpcomingSelectionIter
     private int getSegmentSize(EntityOrderInfo entityOrderInfo, Object from, Object to) {
         int startEntityIndex = entityOrderInfo.entityToEntityIndex.get(inverseVariableSupply.getInverseSingleton(from));
         int endEntityIndex = entityOrderInfo.entityToEntityIndex.get(inverseVariableSupply.getInverseSingleton(to));
-        int startIndex = entityOrderInfo.offsets[startEntityIndex] + indexVariableSupply.getIndex(from);
-        int endIndex = entityOrderInfo.offsets[endEntityIndex] + indexVariableSupply.getIndex(to);
+        int startIndex = entityOrderInfo.offsets[startEntityIndex] + indexVariableSupply.getIndexInt(from);
+        int endIndex = entityOrderInfo.offsets[endEntityIndex] + indexVariableSupply.getIndexInt(to);
 
         if (startIndex <= endIndex) {
             return endIndex - startIndex;
@@ -410,7 +410,7 @@ final class KOptListMoveIterator<Solution_, Node_> extends UpcomingSelectionIter
     }
 
     private boolean isNodeEndpointOfList(Object node) {
-        int index = indexVariableSupply.getIndex(node);
+        int index = indexVariableSupply.getIndexInt(node);
         int size = listVariableDescriptor.getListSize(inverseVariableSupply.getInverseSingleton(node));
         return index == 0 || (index == size - 1);
     }
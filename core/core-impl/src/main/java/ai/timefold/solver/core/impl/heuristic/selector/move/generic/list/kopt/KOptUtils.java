@@ -114,7 +114,7 @@ final class KOptUtils {
         return (node) -> {
             List<Node_> valueList =
                     (List<Node_>) listVariableDescriptor.getListVariable(inverseVariableSupply.getInverseSingleton(node));
-            int index = indexVariableSupply.getIndex(node);
+            int index = indexVariableSupply.getIndexInt(node);
             if (index == valueList.size() - 1) {
                 return valueList.get(0);
             } else {
@@ -134,9 +134,9 @@ final class KOptUtils {
 
     public static <Node_> TriPredicate<Node_, Node_, Node_> getBetweenPredicate(IndexVariableSupply indexVariableSupply) {
         return (start, middle, end) -> {
-            int startIndex = indexVariableSupply.getIndex(start);
-            int middleIndex = indexVariableSupply.getIndex(middle);
-            int endIndex = indexVariableSupply.getIndex(end);
+            int startIndex = indexVariableSupply.getIndexInt(start);
+            int middleIndex = indexVariableSupply.getIndexInt(middle);
+            int endIndex = indexVariableSupply.getIndexInt(end);
 
             if (startIndex <= endIndex) {
                 // test middleIndex in [startIndex, endIndex]
@@ -50,7 +50,7 @@ public final class MultipleDelegateList<T> implements List<T>, RandomAccess {
         List<Object> entityList = listVariableDescriptor.getListVariable(inverseVariableSupply.getInverseSingleton(value));
         for (int i = 0; i < delegates.length; i++) {
             if (delegates[i] == entityList) {
-                return offsets[i] + indexVariableSupply.getIndex(value);
+                return offsets[i] + indexVariableSupply.getIndexInt(value);
             }
         }
         throw new IllegalArgumentException("Value (" + value + ") is not contained in any entity list");
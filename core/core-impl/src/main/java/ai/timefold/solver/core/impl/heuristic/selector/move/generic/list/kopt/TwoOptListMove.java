@@ -9,6 +9,7 @@ import java.util.Set;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
+import ai.timefold.solver.core.impl.heuristic.move.UndoRecordableMove;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.util.CollectionUtils;
 
@@ -41,7 +42,7 @@ import ai.timefold.solver.core.impl.util.CollectionUtils;
  *
  * @param <Solution_>
  */
-public final class TwoOptListMove<Solution_> extends AbstractMove<Solution_> {
+public final class TwoOptListMove<Solution_> extends AbstractMove<Solution_> implements UndoRecordableMove<Solution_> {
     private final ListVariableDescriptor<Solution_> variableDescriptor;
     private final Object firstEntity;
     private final Object secondEntity;
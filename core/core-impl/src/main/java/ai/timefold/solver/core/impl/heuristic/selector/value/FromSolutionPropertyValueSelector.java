@@ -85,6 +85,17 @@ public final class FromSolutionPropertyValueSelector<Solution_>
         }
     }
 
+    @Override
+    public void phaseProblemChanged(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseProblemChanged(phaseScope);
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        cachedValueRange = (ValueRange<Object>) valueRangeDescriptor.extractValueRange(scoreDirector.getWorkingSolution());
+        if (valueRangeMightContainEntity) {
+            cachedEntityListRevision = scoreDirector.getWorkingEntityListRevision();
+            cachedEntityListIsDirty = false;
+        }
+    }
+
     @Override
     public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
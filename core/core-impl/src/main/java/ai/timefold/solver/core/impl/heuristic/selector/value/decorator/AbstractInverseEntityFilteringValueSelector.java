@@ -8,7 +8,7 @@ import java.util.stream.StreamSupport;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
-import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonListInverseVariableDemand;
+import ai.timefold.solver.core.impl.domain.variable.position.ListVariablePositionDemand;
 import ai.timefold.solver.core.impl.heuristic.selector.AbstractDemandEnabledSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
@@ -54,7 +54,7 @@ abstract class AbstractInverseEntityFilteringValueSelector<Solution_>
         ListVariableDescriptor<Solution_> variableDescriptor =
                 (ListVariableDescriptor<Solution_>) childValueSelector.getVariableDescriptor();
         inverseVariableSupply = phaseScope.getScoreDirector().getSupplyManager()
-                .demand(new SingletonListInverseVariableDemand<>(variableDescriptor));
+                .demand(new ListVariablePositionDemand<>(variableDescriptor));
     }
 
     @Override
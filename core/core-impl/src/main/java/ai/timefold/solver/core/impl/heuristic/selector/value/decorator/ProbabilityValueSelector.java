@@ -1,20 +1,17 @@
 package ai.timefold.solver.core.impl.heuristic.selector.value.decorator;
 
 import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.TreeMap;
 
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.selector.AbstractDemandEnabledSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.common.ProbabilityAliasTable;
 import ai.timefold.solver.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import ai.timefold.solver.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
-import ai.timefold.solver.core.impl.solver.random.RandomUtils;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 public final class ProbabilityValueSelector<Solution_>
@@ -25,8 +22,7 @@ public final class ProbabilityValueSelector<Solution_>
     private final SelectionCacheType cacheType;
     private final SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Object> cachedEntityMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected ProbabilityAliasTable<Object> cachedAliasTable = null;
 
     public ProbabilityValueSelector(EntityIndependentValueSelector<Solution_> childValueSelector,
             SelectionCacheType cacheType,
@@ -58,21 +54,21 @@ public final class ProbabilityValueSelector<Solution_>
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedEntityMap = new TreeMap<>();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
         // TODO Fail-faster if a non FromSolutionPropertyValueSelector is used
-        for (Object value : childValueSelector) {
-            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector, value);
-            cachedEntityMap.put(probabilityWeightOffset, value);
-            probabilityWeightOffset += probabilityWeight;
-        }
-        probabilityWeightTotal = probabilityWeightOffset;
+        cachedAliasTable = ProbabilityAliasTable.build(childValueSelector,
+                value -> probabilityWeightFactory.createProbabilityWeight(scoreDirector, value));
+        logger.trace("    Created cachedAliasTable: size ({}), memoryFootprint ({} bytes), valueSelector ({}).",
+                cachedAliasTable.getSize(), cachedAliasTable.getMemoryFootprint(), this);
+        solverScope.addProbabilitySelectionMemoryFootprint(cachedAliasTable.getMemoryFootprint());
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        if (cachedAliasTable != null) {
+            solverScope.addProbabilitySelectionMemoryFootprint(-cachedAliasTable.getMemoryFootprint());
+        }
+        cachedAliasTable = null;
     }
 
     @Override
@@ -97,7 +93,7 @@ public final class ProbabilityValueSelector<Solution_>
 
     @Override
     public long getSize() {
-        return cachedEntityMap.size();
+        return cachedAliasTable.getSize();
     }
 
     @Override
@@ -115,10 +111,7 @@ public final class ProbabilityValueSelector<Solution_>
 
             @Override
             public Object next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Object> entry = cachedEntityMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedAliasTable.sample(workingRandom);
             }
 
             @Override
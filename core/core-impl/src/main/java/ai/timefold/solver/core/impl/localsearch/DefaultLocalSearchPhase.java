@@ -7,6 +7,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
@@ -66,6 +67,10 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
         }
 
         while (!phaseTermination.isPhaseTerminated(phaseScope)) {
+            if (applyPendingProblemChanges(phaseScope)) {
+                // The problem changes might require a solver restart, which terminates this phase.
+                continue;
+            }
             LocalSearchStepScope<Solution_> stepScope = new LocalSearchStepScope<>(phaseScope);
             stepScope.setTimeGradient(phaseTermination.calculatePhaseTimeGradient(phaseScope));
             stepStarted(stepScope);
@@ -98,6 +103,27 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
         phaseEnded(phaseScope);
     }
 
+    /**
+     * Applies the pending problem changes between 2 steps,
+     * so the phase continues on the changed problem instead of being restarted with all other phases.
+     *
+     * @param phaseScope never null
+     * @return true if problem changes were applied
+     */
+    protected boolean applyPendingProblemChanges(LocalSearchPhaseScope<Solution_> phaseScope) {
+        Score<?> score = solver.applyPendingProblemChanges(phaseScope.getSolverScope());
+        if (score == null) {
+            return false;
+        }
+        LocalSearchStepScope<Solution_> lastCompletedStepScope = phaseScope.getLastCompletedStepScope();
+        lastCompletedStepScope.setScore(score);
+        phaseScope.setBestSolutionStepIndex(lastCompletedStepScope.getStepIndex());
+        if (score.isSolutionInitialized()) {
+            phaseProblemChanged(phaseScope);
+        }
+        return true;
+    }
+
     protected void doStep(LocalSearchStepScope<Solution_> stepScope) {
         Move<Solution_> step = stepScope.getStep();
         Move<Solution_> undoStep = step.doMove(stepScope.getScoreDirector());
@@ -116,10 +142,17 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         decider.phaseStarted(phaseScope);
+        solver.setProblemChangesAppliedInPhase(true);
         // TODO maybe this restriction should be lifted to allow LocalSearch to initialize a solution too?
         assertWorkingSolutionInitialized(phaseScope);
     }
 
+    @Override
+    public void phaseProblemChanged(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseProblemChanged(phaseScope);
+        decider.phaseProblemChanged(phaseScope);
+    }
+
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
@@ -193,6 +226,7 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        solver.setProblemChangesAppliedInPhase(false);
         super.phaseEnded(phaseScope);
         decider.phaseEnded(phaseScope);
         phaseScope.endingNow();
@@ -215,6 +249,7 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
     @Override
     public void solvingError(SolverScope<Solution_> solverScope, Exception exception) {
         super.solvingError(solverScope, exception);
+        solver.setProblemChangesAppliedInPhase(false);
         decider.solvingError(solverScope, exception);
     }
 
@@ -28,6 +28,7 @@ import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.move.composite.UnionMoveSelectorFactory;
 import ai.timefold.solver.core.impl.localsearch.decider.LocalSearchDecider;
+import ai.timefold.solver.core.impl.localsearch.decider.MultiThreadedLocalSearchDecider;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AcceptorFactory;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
@@ -79,10 +80,14 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
         if (moveThreadCount == null) {
             decider = new LocalSearchDecider<>(configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager);
         } else {
-            decider = TimefoldSolverEnterpriseService
-                    .loadOrFail(TimefoldSolverEnterpriseService.Feature.MULTITHREADED_SOLVING)
-                    .buildLocalSearch(moveThreadCount, termination, moveSelector, acceptor, forager, environmentMode,
-                            configPolicy);
+            TimefoldSolverEnterpriseService enterpriseService = TimefoldSolverEnterpriseService.load();
+            if (enterpriseService != null) {
+                decider = enterpriseService.buildLocalSearch(moveThreadCount, termination, moveSelector, acceptor, forager,
+                        environmentMode, configPolicy);
+            } else {
+                decider = new MultiThreadedLocalSearchDecider<>(configPolicy.getLogIndentation(), termination, moveSelector,
+                        acceptor, forager, configPolicy.buildMoveThreadBatchEvaluator("Local Search"));
+            }
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             decider.setAssertMoveScoreFromScratch(true);
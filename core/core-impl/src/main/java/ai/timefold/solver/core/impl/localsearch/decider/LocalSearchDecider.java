@@ -147,6 +147,12 @@ public class LocalSearchDecider<Solution_> {
         forager.stepEnded(stepScope);
     }
 
+    public void phaseProblemChanged(LocalSearchPhaseScope<Solution_> phaseScope) {
+        moveSelector.phaseProblemChanged(phaseScope);
+        acceptor.phaseProblemChanged(phaseScope);
+        forager.phaseProblemChanged(phaseScope);
+    }
+
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         moveSelector.phaseEnded(phaseScope);
         acceptor.phaseEnded(phaseScope);
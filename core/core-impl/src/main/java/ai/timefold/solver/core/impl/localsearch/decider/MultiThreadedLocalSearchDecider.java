@@ -0,0 +1,130 @@
+package ai.timefold.solver.core.impl.localsearch.decider;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
+import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.Termination;
+import ai.timefold.solver.core.impl.solver.thread.MoveThreadBatchEvaluator;
+
+/**
+ * Evaluates the selected moves in batches on multiple move threads,
+ * through a {@link MoveThreadBatchEvaluator}.
+ * The evaluated moves are fed to the {@link Acceptor} and the {@link LocalSearchForager} on the solver thread,
+ * in the order in which they were selected.
+ * Unlike the single-threaded decider, the {@link Acceptor} sees the working solution before the move is done.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecider<Solution_> {
+
+    protected final MoveThreadBatchEvaluator<Solution_> moveThreadBatchEvaluator;
+
+    public MultiThreadedLocalSearchDecider(String logIndentation, Termination<Solution_> termination,
+            MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
+            MoveThreadBatchEvaluator<Solution_> moveThreadBatchEvaluator) {
+        super(logIndentation, termination, moveSelector, acceptor, forager);
+        this.moveThreadBatchEvaluator = moveThreadBatchEvaluator;
+    }
+
+    public int getMoveThreadCount() {
+        return moveThreadBatchEvaluator.getMoveThreadCount();
+    }
+
+    @Override
+    public void setAssertMoveScoreFromScratch(boolean assertMoveScoreFromScratch) {
+        super.setAssertMoveScoreFromScratch(assertMoveScoreFromScratch);
+        moveThreadBatchEvaluator.setAssertMoveScoreFromScratch(assertMoveScoreFromScratch);
+    }
+
+    @Override
+    public void setAssertExpectedUndoMoveScore(boolean assertExpectedUndoMoveScore) {
+        super.setAssertExpectedUndoMoveScore(assertExpectedUndoMoveScore);
+        moveThreadBatchEvaluator.setAssertExpectedUndoMoveScore(assertExpectedUndoMoveScore);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        moveThreadBatchEvaluator.phaseStarted(phaseScope);
+    }
+
+    @Override
+    public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
+        InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
+        moveThreadBatchEvaluator.evaluate(stepScope, moveSelector,
+                new MoveThreadBatchEvaluator.EvaluatedMoveProcessor<>() {
+                    @Override
+                    public void moveSelected(Move<Solution_> move) {
+                        if (!move.isMoveDoable(scoreDirector)) {
+                            throw new IllegalStateException("Impossible state: Local search move selector ("
+                                    + moveSelector + ") provided a non-doable move (" + move + ").");
+                        }
+                    }
+
+                    @Override
+                    public boolean moveEvaluated(int moveIndex, Move<Solution_> move, Score<?> score) {
+                        return processMove(stepScope, moveIndex, move, score);
+                    }
+                });
+        pickMove(stepScope);
+    }
+
+    /**
+     * @return true if no more moves need to be evaluated for this step
+     */
+    private boolean processMove(LocalSearchStepScope<Solution_> stepScope, int moveIndex, Move<Solution_> move,
+            Score<?> score) {
+        LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, moveIndex, move);
+        moveScope.setScore(score);
+        boolean accepted = acceptor.isAccepted(moveScope);
+        moveScope.setAccepted(accepted);
+        forager.addMove(moveScope);
+        logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
+                logIndentation,
+                moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getAccepted(),
+                moveScope.getMove());
+        if (forager.isQuitEarly()) {
+            return true;
+        }
+        stepScope.getPhaseScope().getSolverScope().checkYielding();
+        return termination.isPhaseTerminated(stepScope.getPhaseScope());
+    }
+
+    @Override
+    public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        // The step is applied on the solver thread first (see DefaultLocalSearchPhase.doStep()).
+        moveThreadBatchEvaluator.stepEnded(stepScope.getStep(), stepScope.getScore());
+    }
+
+    @Override
+    public void phaseProblemChanged(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseProblemChanged(phaseScope);
+        moveThreadBatchEvaluator.phaseProblemChanged(phaseScope);
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        moveThreadBatchEvaluator.shutdown();
+    }
+
+    @Override
+    public void solvingError(SolverScope<Solution_> solverScope, Exception exception) {
+        super.solvingError(solverScope, exception);
+        moveThreadBatchEvaluator.shutdown();
+    }
+
+}
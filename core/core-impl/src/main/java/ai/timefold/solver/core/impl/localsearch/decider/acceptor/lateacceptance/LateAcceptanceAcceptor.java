@@ -11,7 +11,7 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
     protected int lateAcceptanceSize = -1;
     protected boolean hillClimbingEnabled = true;
 
-    protected Score[] previousScores;
+    protected LateScoreRing lateScoreRing;
     protected int lateScoreIndex = -1;
 
     public void setLateAcceptanceSize(int lateAcceptanceSize) {
@@ -30,11 +30,7 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         validate();
-        previousScores = new Score[lateAcceptanceSize];
-        Score initialScore = phaseScope.getBestScore();
-        for (int i = 0; i < previousScores.length; i++) {
-            previousScores[i] = initialScore;
-        }
+        lateScoreRing = LateScoreRing.of(phaseScope.getBestScore(), lateAcceptanceSize);
         lateScoreIndex = 0;
     }
 
@@ -48,8 +44,7 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
     @Override
     public boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope) {
         Score moveScore = moveScope.getScore();
-        Score lateScore = previousScores[lateScoreIndex];
-        if (moveScore.compareTo(lateScore) >= 0) {
+        if (lateScoreRing.compareTo(moveScore, lateScoreIndex) >= 0) {
             return true;
         }
         if (hillClimbingEnabled) {
@@ -64,14 +59,17 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
-        previousScores[lateScoreIndex] = stepScope.getScore();
-        lateScoreIndex = (lateScoreIndex + 1) % lateAcceptanceSize;
+        lateScoreRing.set(lateScoreIndex, stepScope.getScore());
+        lateScoreIndex++;
+        if (lateScoreIndex == lateAcceptanceSize) {
+            lateScoreIndex = 0;
+        }
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
-        previousScores = null;
+        lateScoreRing = null;
         lateScoreIndex = -1;
     }
 
@@ -0,0 +1,186 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.lateacceptance;
+
+import java.util.Arrays;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.buildin.bendable.BendableScore;
+import ai.timefold.solver.core.api.score.buildin.bendablelong.BendableLongScore;
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.buildin.simplelong.SimpleLongScore;
+
+/**
+ * The fixed size ring of late scores of {@link LateAcceptanceAcceptor}.
+ * <p>
+ * For the built-in int and long based score types,
+ * the init score and the score levels of every late score are packed in 1 long array,
+ * so a late acceptance size of many thousands does not keep as many score instances alive
+ * and {@link #compareTo(Score, int)} only reads primitives.
+ * Other score types, such as the BigDecimal based ones, are kept as score instances.
+ */
+abstract sealed class LateScoreRing {
+
+    /**
+     * @param initialScore never null, determines the score type and the initial value of every late score
+     * @param size at least 1
+     * @return never null
+     */
+    static LateScoreRing of(Score<?> initialScore, int size) {
+        LateScoreRing lateScoreRing;
+        if (initialScore instanceof SimpleScore) {
+            lateScoreRing = new PackedLateScoreRing(size, 1,
+                    (score, level) -> ((SimpleScore) score).score());
+        } else if (initialScore instanceof SimpleLongScore) {
+            lateScoreRing = new PackedLateScoreRing(size, 1,
+                    (score, level) -> ((SimpleLongScore) score).score());
+        } else if (initialScore instanceof HardSoftScore) {
+            lateScoreRing = new PackedLateScoreRing(size, 2, (score, level) -> {
+                HardSoftScore hardSoftScore = (HardSoftScore) score;
+                return level == 0 ? hardSoftScore.hardScore() : hardSoftScore.softScore();
+            });
+        } else if (initialScore instanceof HardSoftLongScore) {
+            lateScoreRing = new PackedLateScoreRing(size, 2, (score, level) -> {
+                HardSoftLongScore hardSoftLongScore = (HardSoftLongScore) score;
+                return level == 0 ? hardSoftLongScore.hardScore() : hardSoftLongScore.softScore();
+            });
+        } else if (initialScore instanceof HardMediumSoftScore) {
+            lateScoreRing = new PackedLateScoreRing(size, 3, (score, level) -> {
+                HardMediumSoftScore hardMediumSoftScore = (HardMediumSoftScore) score;
+                return switch (level) {
+                    case 0 -> hardMediumSoftScore.hardScore();
+                    case 1 -> hardMediumSoftScore.mediumScore();
+                    default -> hardMediumSoftScore.softScore();
+                };
+            });
+        } else if (initialScore instanceof HardMediumSoftLongScore) {
+            lateScoreRing = new PackedLateScoreRing(size, 3, (score, level) -> {
+                HardMediumSoftLongScore hardMediumSoftLongScore = (HardMediumSoftLongScore) score;
+                return switch (level) {
+                    case 0 -> hardMediumSoftLongScore.hardScore();
+                    case 1 -> hardMediumSoftLongScore.mediumScore();
+                    default -> hardMediumSoftLongScore.softScore();
+                };
+            });
+        } else if (initialScore instanceof BendableScore bendableScore) {
+            int hardLevelsSize = bendableScore.hardLevelsSize();
+            lateScoreRing = new PackedLateScoreRing(size, hardLevelsSize + bendableScore.softLevelsSize(),
+                    (score, level) -> level < hardLevelsSize ? ((BendableScore) score).hardScore(level)
+                            : ((BendableScore) score).softScore(level - hardLevelsSize));
+        } else if (initialScore instanceof BendableLongScore bendableLongScore) {
+            int hardLevelsSize = bendableLongScore.hardLevelsSize();
+            lateScoreRing = new PackedLateScoreRing(size, hardLevelsSize + bendableLongScore.softLevelsSize(),
+                    (score, level) -> level < hardLevelsSize ? ((BendableLongScore) score).hardScore(level)
+                            : ((BendableLongScore) score).softScore(level - hardLevelsSize));
+        } else {
+            lateScoreRing = new ObjectLateScoreRing(size);
+        }
+        lateScoreRing.fill(initialScore);
+        return lateScoreRing;
+    }
+
+    abstract void fill(Score<?> score);
+
+    /**
+     * @param index {@code 0 <= index < size}
+     * @param score never null, of the same type as the initial score
+     */
+    abstract void set(int index, Score<?> score);
+
+    /**
+     * @param score never null, of the same type as the initial score
+     * @param index {@code 0 <= index < size}
+     * @return the same as {@code score.compareTo(lateScore)}, but only its sign is meaningful
+     */
+    abstract int compareTo(Score<?> score, int index);
+
+    @FunctionalInterface
+    private interface ScoreLevelReader {
+
+        /**
+         * @param score never null
+         * @param level {@code 0 <= level < levelsSize}, the hard levels first
+         * @return the value of that score level
+         */
+        long read(Score<?> score, int level);
+
+    }
+
+    private static final class PackedLateScoreRing extends LateScoreRing {
+
+        private final int levelsSize;
+        private final ScoreLevelReader scoreLevelReader;
+        // Per late score: the init score, followed by every score level.
+        private final long[] packedScores;
+
+        private PackedLateScoreRing(int size, int levelsSize, ScoreLevelReader scoreLevelReader) {
+            this.levelsSize = levelsSize;
+            this.scoreLevelReader = scoreLevelReader;
+            this.packedScores = new long[size * (levelsSize + 1)];
+        }
+
+        @Override
+        void fill(Score<?> score) {
+            int stride = levelsSize + 1;
+            set(0, score);
+            for (int offset = stride; offset < packedScores.length; offset += stride) {
+                System.arraycopy(packedScores, 0, packedScores, offset, stride);
+            }
+        }
+
+        @Override
+        void set(int index, Score<?> score) {
+            int offset = index * (levelsSize + 1);
+            packedScores[offset] = score.initScore();
+            for (int level = 0; level < levelsSize; level++) {
+                packedScores[offset + 1 + level] = scoreLevelReader.read(score, level);
+            }
+        }
+
+        @Override
+        int compareTo(Score<?> score, int index) {
+            int offset = index * (levelsSize + 1);
+            long initScore = score.initScore();
+            if (initScore != packedScores[offset]) {
+                return Long.compare(initScore, packedScores[offset]);
+            }
+            for (int level = 0; level < levelsSize; level++) {
+                long levelScore = scoreLevelReader.read(score, level);
+                long lateLevelScore = packedScores[offset + 1 + level];
+                if (levelScore != lateLevelScore) {
+                    return Long.compare(levelScore, lateLevelScore);
+                }
+            }
+            return 0;
+        }
+
+    }
+
+    private static final class ObjectLateScoreRing extends LateScoreRing {
+
+        private final Score[] scores;
+
+        private ObjectLateScoreRing(int size) {
+            this.scores = new Score[size];
+        }
+
+        @Override
+        void fill(Score<?> score) {
+            Arrays.fill(scores, score);
+        }
+
+        @Override
+        void set(int index, Score<?> score) {
+            scores[index] = score;
+        }
+
+        @Override
+        int compareTo(Score<?> score, int index) {
+            return ((Score) score).compareTo(scores[index]);
+        }
+
+    }
+
+}
@@ -15,6 +15,12 @@ public class EntityTabuAcceptor<Solution_> extends AbstractTabuAcceptor<Solution
     // Worker methods
     // ************************************************************************
 
+    @Override
+    protected boolean isTabuIdentityBased() {
+        // The planning entities of the working solution are unique instances.
+        return true;
+    }
+
     @Override
     protected Collection<? extends Object> findTabu(LocalSearchMoveScope<Solution_> moveScope) {
         return moveScope.getMove().getPlanningEntities();
@@ -0,0 +1,223 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
+
+import java.util.function.Consumer;
+
+/**
+ * Maps every tabu to the step index in which it became tabu, for {@link AbstractTabuAcceptor}.
+ * <p>
+ * The tabus are kept in an open addressing hash table with linear probing,
+ * so looking up a tabu does not box the step index nor allocate an entry.
+ * Every time a tabu is {@link #put(Object, int) put}, it is also appended to a ring buffer in step order.
+ * A tabu that is put again is not moved in that ring buffer:
+ * its older occurrence becomes stale instead and is skipped when it {@link #expire(int, int) expires}.
+ * So both putting and expiring a tabu take amortized constant time.
+ * <p>
+ * The tabus are compared either by identity, which is only correct if equal tabus are always the same instance
+ * (such as the planning entities of the working solution), or by {@link Object#equals(Object)}.
+ * Null is a valid tabu.
+ */
+final class TabuTable {
+
+    private static final Object NULL_TABU = new Object();
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private final boolean identityBased;
+
+    // Hash table, with a capacity that is a power of 2 and a load factor of at most 0.5
+    private Object[] tabus;
+    private int[] tabuHashes;
+    private int[] tabuStepIndexes;
+    private int size = 0;
+
+    // Ring buffer of every put, oldest first
+    private Object[] sequenceTabus;
+    private int[] sequenceStepIndexes;
+    private int sequenceHead = 0;
+    private int sequenceSize = 0;
+
+    /**
+     * @param identityBased true to compare the tabus by identity, false to compare them with equals()
+     * @param expectedSize at least 0
+     */
+    TabuTable(boolean identityBased, int expectedSize) {
+        this.identityBased = identityBased;
+        int capacity = Integer.highestOneBit(Math.max(MINIMUM_CAPACITY, expectedSize * 2 - 1)) << 1;
+        tabus = new Object[capacity];
+        tabuHashes = new int[capacity];
+        tabuStepIndexes = new int[capacity];
+        sequenceTabus = new Object[capacity];
+        sequenceStepIndexes = new int[capacity];
+    }
+
+    /**
+     * @param tabu sometimes null
+     * @return the step index in which the tabu became tabu most recently, or -1 if it is not tabu
+     */
+    int getStepIndex(Object tabu) {
+        Object key = tabu == null ? NULL_TABU : tabu;
+        int slot = findSlot(key, hash(key));
+        return tabus[slot] == null ? -1 : tabuStepIndexes[slot];
+    }
+
+    /**
+     * @param tabu sometimes null
+     * @param stepIndex at least the stepIndex of every earlier put
+     */
+    void put(Object tabu, int stepIndex) {
+        Object key = tabu == null ? NULL_TABU : tabu;
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        if (tabus[slot] == null) {
+            tabus[slot] = key;
+            tabuHashes[slot] = hash;
+            tabuStepIndexes[slot] = stepIndex;
+            size++;
+            if (size * 2 > tabus.length) {
+                rehash(tabus.length * 2);
+            }
+        } else if (tabuStepIndexes[slot] == stepIndex) {
+            // Already tabu in this step, so it is already the latest in the sequence too.
+            return;
+        } else {
+            tabuStepIndexes[slot] = stepIndex;
+        }
+        appendToSequence(key, stepIndex);
+    }
+
+    /**
+     * Removes every tabu that became tabu at least totalTabuListSize steps before the given step.
+     *
+     * @param stepIndex the current step index
+     * @param totalTabuListSize at least 1
+     */
+    void expire(int stepIndex, int totalTabuListSize) {
+        while (sequenceSize > 0) {
+            Object oldTabu = sequenceTabus[sequenceHead];
+            int oldStepIndex = sequenceStepIndexes[sequenceHead];
+            int slot = findSlot(oldTabu, hash(oldTabu));
+            if (tabus[slot] == null) {
+                Object unwrappedTabu = oldTabu == NULL_TABU ? null : oldTabu;
+                throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
+                        + unwrappedTabu + ") of class (" + (unwrappedTabu == null ? null : unwrappedTabu.getClass())
+                        + ") changed during planning, since it was inserted in the tabu Map or Set.");
+            }
+            int latestStepIndex = tabuStepIndexes[slot];
+            if (latestStepIndex == oldStepIndex) {
+                if (stepIndex - oldStepIndex < totalTabuListSize) { // At least 1
+                    break;
+                }
+                removeSlot(slot);
+            } // Else the tabu was put again later, so this occurrence is stale.
+            sequenceTabus[sequenceHead] = null;
+            sequenceHead = (sequenceHead + 1) & (sequenceTabus.length - 1);
+            sequenceSize--;
+        }
+    }
+
+    /**
+     * @param tabuConsumer never null, receives null for the null tabu
+     */
+    void forEachTabu(Consumer<Object> tabuConsumer) {
+        for (Object tabu : tabus) {
+            if (tabu != null) {
+                tabuConsumer.accept(tabu == NULL_TABU ? null : tabu);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int hash(Object key) {
+        int hash = identityBased || key == NULL_TABU ? System.identityHashCode(key) : key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @return the slot that contains the key, or else the empty slot where it belongs
+     */
+    private int findSlot(Object key, int hash) {
+        int mask = tabus.length - 1;
+        int slot = hash & mask;
+        while (true) {
+            Object slotKey = tabus[slot];
+            if (slotKey == null || slotKey == key
+                    || (!identityBased && tabuHashes[slot] == hash && key != NULL_TABU && key.equals(slotKey))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Shifts the following keys of the same probe sequence back, so no tombstones are needed.
+     */
+    private void removeSlot(int slot) {
+        int mask = tabus.length - 1;
+        int gap = slot;
+        int next = (slot + 1) & mask;
+        while (tabus[next] != null) {
+            int preferredSlot = tabuHashes[next] & mask;
+            // Move the key into the gap unless its preferred slot lies cyclically in (gap, next].
+            if (((next - preferredSlot) & mask) >= ((next - gap) & mask)) {
+                tabus[gap] = tabus[next];
+                tabuHashes[gap] = tabuHashes[next];
+                tabuStepIndexes[gap] = tabuStepIndexes[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        tabus[gap] = null;
+        size--;
+    }
+
+    private void rehash(int newCapacity) {
+        Object[] oldTabus = tabus;
+        int[] oldTabuHashes = tabuHashes;
+        int[] oldTabuStepIndexes = tabuStepIndexes;
+        tabus = new Object[newCapacity];
+        tabuHashes = new int[newCapacity];
+        tabuStepIndexes = new int[newCapacity];
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldTabus.length; i++) {
+            if (oldTabus[i] != null) {
+                int slot = oldTabuHashes[i] & mask;
+                while (tabus[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                tabus[slot] = oldTabus[i];
+                tabuHashes[slot] = oldTabuHashes[i];
+                tabuStepIndexes[slot] = oldTabuStepIndexes[i];
+            }
+        }
+    }
+
+    private void appendToSequence(Object key, int stepIndex) {
+        int capacity = sequenceTabus.length;
+        if (sequenceSize == capacity) {
+            // Unroll the ring buffer into a twice as large one.
+            Object[] newSequenceTabus = new Object[capacity * 2];
+            int[] newSequenceStepIndexes = new int[capacity * 2];
+            int headLength = capacity - sequenceHead;
+            System.arraycopy(sequenceTabus, sequenceHead, newSequenceTabus, 0, headLength);
+            System.arraycopy(sequenceTabus, 0, newSequenceTabus, headLength, sequenceHead);
+            System.arraycopy(sequenceStepIndexes, sequenceHead, newSequenceStepIndexes, 0, headLength);
+            System.arraycopy(sequenceStepIndexes, 0, newSequenceStepIndexes, headLength, sequenceHead);
+            sequenceTabus = newSequenceTabus;
+            sequenceStepIndexes = newSequenceStepIndexes;
+            sequenceHead = 0;
+            capacity *= 2;
+        }
+        int tail = (sequenceHead + sequenceSize) & (capacity - 1);
+        sequenceTabus[tail] = key;
+        sequenceStepIndexes[tail] = stepIndex;
+        sequenceSize++;
+    }
+
+    @Override
+    public String toString() {
+        return "TabuTable(size = " + size + ")";
+    }
+
+}
@@ -19,4 +19,18 @@ public interface LocalSearchPhaseLifecycleListener<Solution_> extends SolverLife
 
     void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope);
 
+    /**
+     * Called between 2 steps, after problem changes were applied to the working solution,
+     * which became the best solution.
+     * Any state built during the phase, such as a tabu list or a late acceptance ring,
+     * refers to the old working solution and the old scores.
+     * By default, that state is therefore discarded and built again, as if the phase had just started.
+     *
+     * @param phaseScope never null
+     */
+    default void phaseProblemChanged(LocalSearchPhaseScope<Solution_> phaseScope) {
+        phaseEnded(phaseScope);
+        phaseStarted(phaseScope);
+    }
+
 }
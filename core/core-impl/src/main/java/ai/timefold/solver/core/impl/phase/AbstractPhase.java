@@ -113,6 +113,13 @@ public abstract class AbstractPhase<Solution_> implements Phase<Solution_> {
         phaseLifecycleSupport.firePhaseEnded(phaseScope);
     }
 
+    @Override
+    public void phaseProblemChanged(AbstractPhaseScope<Solution_> phaseScope) {
+        solver.phaseProblemChanged(phaseScope);
+        phaseTermination.phaseProblemChanged(phaseScope);
+        phaseLifecycleSupport.firePhaseProblemChanged(phaseScope);
+    }
+
     @Override
     public void stepStarted(AbstractStepScope<Solution_> stepScope) {
         solver.stepStarted(stepScope);
@@ -151,6 +158,8 @@ public abstract class AbstractPhase<Solution_> implements Phase<Solution_> {
 
     @Override
     public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        // A step without any evaluated moves must not leave the clock of the time-based terminations behind.
+        stepScope.getPhaseScope().getSolverScope().getClock().tick();
         solver.stepEnded(stepScope);
         collectMetrics(stepScope);
         phaseTermination.stepEnded(stepScope);
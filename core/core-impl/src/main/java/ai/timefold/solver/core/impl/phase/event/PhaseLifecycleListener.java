@@ -19,4 +19,15 @@ public interface PhaseLifecycleListener<Solution_> extends SolverLifecycleListen
 
     void phaseEnded(AbstractPhaseScope<Solution_> phaseScope);
 
+    /**
+     * Called between 2 steps, after problem changes were applied to the working solution
+     * and the phase continues on the changed problem instead of being restarted.
+     * Anything extracted from the working solution for the rest of the phase (or the solver) must be extracted again.
+     *
+     * @param phaseScope never null
+     */
+    default void phaseProblemChanged(AbstractPhaseScope<Solution_> phaseScope) {
+        // Most listeners do not extract anything from the working solution.
+    }
+
 }
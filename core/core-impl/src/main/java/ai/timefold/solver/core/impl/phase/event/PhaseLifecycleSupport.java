@@ -34,6 +34,12 @@ public final class PhaseLifecycleSupport<Solution_> extends AbstractEventSupport
         }
     }
 
+    public void firePhaseProblemChanged(AbstractPhaseScope<Solution_> phaseScope) {
+        for (PhaseLifecycleListener<Solution_> listener : getEventListeners()) {
+            listener.phaseProblemChanged(phaseScope);
+        }
+    }
+
     public void firePhaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
         for (PhaseLifecycleListener<Solution_> listener : getEventListeners()) {
             listener.phaseEnded(phaseScope);
@@ -73,12 +73,12 @@ public abstract class AbstractPhaseScope<Solution_> {
     }
 
     public void startingNow() {
-        startingSystemTimeMillis = System.currentTimeMillis();
+        startingSystemTimeMillis = solverScope.getClock().tick();
         startingScoreCalculationCount = getScoreDirector().getCalculationCount();
     }
 
     public void endingNow() {
-        endingSystemTimeMillis = System.currentTimeMillis();
+        endingSystemTimeMillis = solverScope.getClock().tick();
         endingScoreCalculationCount = getScoreDirector().getCalculationCount();
     }
 
@@ -91,7 +91,7 @@ public abstract class AbstractPhaseScope<Solution_> {
     }
 
     public long calculatePhaseTimeMillisSpentUpToNow() {
-        long now = System.currentTimeMillis();
+        long now = solverScope.getClock().millis();
         return now - startingSystemTimeMillis;
     }
 
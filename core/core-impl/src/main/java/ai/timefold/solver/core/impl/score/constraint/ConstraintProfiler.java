@@ -0,0 +1,208 @@
+package ai.timefold.solver.core.impl.score.constraint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+
+/**
+ * Attributes the cost of incremental score calculation to the constraints.
+ * A score director that propagates the changes through a network of nodes
+ * {@link #registerNode(Object, String, Collection) registers} every node of that network,
+ * together with the constraints that use it,
+ * and measures every insert, update and retract of a tuple into a node between {@link #enter()} and
+ * {@link #exit(NodeProfile, long)}.
+ * <p>
+ * When a node synchronously passes a tuple to another node,
+ * the time spent in that other node is not counted for the first node.
+ * The cost of a node that is shared by multiple constraints is split evenly between those constraints.
+ * <p>
+ * The profiler outlives the node network, so the measurements accumulate when the network is rebuilt,
+ * for example when the working solution is set again.
+ * This class is not thread-safe: it belongs to 1 score director.
+ * Reading the measurements from another thread does not fail, but can return stale values.
+ */
+public final class ConstraintProfiler {
+
+    private final Map<Object, NodeProfile> nodeProfileMap = new IdentityHashMap<>();
+    // Only changes when the network is built, so the measurements can be read while the network is being rebuilt.
+    private final List<NodeProfile> nodeProfileList = new CopyOnWriteArrayList<>();
+    // The time spent in the nested nodes, per nesting depth; index 0 is outside any node.
+    private long[] nestedNanosStack = new long[16];
+    private int depth = 0;
+
+    /**
+     * @param nodeKey never null, identifies the node across rebuilds of the network,
+     *        for example the constraint stream that creates it
+     * @param nodeLabel never null
+     * @param constraintRefs never null, the constraints that use the node
+     * @return never null, the same instance for the same nodeKey
+     */
+    public NodeProfile registerNode(Object nodeKey, String nodeLabel, Collection<ConstraintRef> constraintRefs) {
+        NodeProfile nodeProfile = nodeProfileMap.get(nodeKey);
+        if (nodeProfile == null) {
+            nodeProfile = new NodeProfile(nodeLabel);
+            nodeProfileMap.put(nodeKey, nodeProfile);
+            nodeProfileList.add(nodeProfile);
+        }
+        // The active constraints can differ between rebuilds, for example when a constraint weight changes to zero.
+        nodeProfile.constraintRefs = constraintRefs.toArray(new ConstraintRef[0]);
+        return nodeProfile;
+    }
+
+    /**
+     * @return the start time, to pass to {@link #exit(NodeProfile, long)}
+     */
+    public long enter() {
+        depth++;
+        if (depth == nestedNanosStack.length) {
+            nestedNanosStack = Arrays.copyOf(nestedNanosStack, nestedNanosStack.length * 2);
+        }
+        nestedNanosStack[depth] = 0L;
+        return System.nanoTime();
+    }
+
+    /**
+     * @param nodeProfile never null
+     * @param startNanos the return value of the matching {@link #enter()}
+     */
+    public void exit(NodeProfile nodeProfile, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        nodeProfile.nanos += elapsedNanos - nestedNanosStack[depth];
+        depth--;
+        nestedNanosStack[depth] += elapsedNanos;
+    }
+
+    /**
+     * @return never null, in the order in which the nodes were first registered
+     */
+    public List<NodeProfile> getNodeProfileList() {
+        return List.copyOf(nodeProfileList);
+    }
+
+    /**
+     * @return never null, sorted from the most expensive constraint to the least expensive one
+     */
+    public List<ConstraintProfile> extractConstraintProfileList() {
+        Map<ConstraintRef, double[]> constraintToTotalsMap = new LinkedHashMap<>();
+        for (NodeProfile nodeProfile : nodeProfileList) {
+            ConstraintRef[] constraintRefs = nodeProfile.constraintRefs;
+            for (ConstraintRef constraintRef : constraintRefs) {
+                double[] totals = constraintToTotalsMap.computeIfAbsent(constraintRef, k -> new double[4]);
+                addShare(totals, nodeProfile, constraintRefs.length);
+            }
+        }
+        List<ConstraintProfile> constraintProfileList = new ArrayList<>(constraintToTotalsMap.size());
+        constraintToTotalsMap.forEach((constraintRef, totals) -> constraintProfileList
+                .add(new ConstraintProfile(constraintRef, totals[0], totals[1], totals[2], totals[3])));
+        constraintProfileList.sort(Comparator.comparingDouble(ConstraintProfile::nanos).reversed());
+        return constraintProfileList;
+    }
+
+    /**
+     * @param constraintRef never null
+     * @return never null, all zero if no node uses that constraint
+     */
+    public ConstraintProfile extractConstraintProfile(ConstraintRef constraintRef) {
+        double[] totals = new double[4];
+        for (NodeProfile nodeProfile : nodeProfileList) {
+            ConstraintRef[] constraintRefs = nodeProfile.constraintRefs;
+            for (ConstraintRef nodeConstraintRef : constraintRefs) {
+                if (nodeConstraintRef.equals(constraintRef)) {
+                    addShare(totals, nodeProfile, constraintRefs.length);
+                    break;
+                }
+            }
+        }
+        return new ConstraintProfile(constraintRef, totals[0], totals[1], totals[2], totals[3]);
+    }
+
+    private static void addShare(double[] totals, NodeProfile nodeProfile, int constraintCount) {
+        double share = 1.0 / constraintCount;
+        totals[0] += nodeProfile.nanos * share;
+        totals[1] += nodeProfile.insertCount * share;
+        totals[2] += nodeProfile.updateCount * share;
+        totals[3] += nodeProfile.retractCount * share;
+    }
+
+    /**
+     * The measurements of 1 node, over all rebuilds of the network.
+     */
+    public static final class NodeProfile {
+
+        private final String label;
+        private ConstraintRef[] constraintRefs = new ConstraintRef[0];
+        private long nanos = 0L;
+        private long insertCount = 0L;
+        private long updateCount = 0L;
+        private long retractCount = 0L;
+
+        private NodeProfile(String label) {
+            this.label = label;
+        }
+
+        public void countInsert() {
+            insertCount++;
+        }
+
+        public void countUpdate() {
+            updateCount++;
+        }
+
+        public void countRetract() {
+            retractCount++;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public List<ConstraintRef> getConstraintRefList() {
+            return List.of(constraintRefs);
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public long getInsertCount() {
+            return insertCount;
+        }
+
+        public long getUpdateCount() {
+            return updateCount;
+        }
+
+        public long getRetractCount() {
+            return retractCount;
+        }
+
+        @Override
+        public String toString() {
+            return label + " (" + nanos + " ns, " + insertCount + " inserts, " + updateCount + " updates, "
+                    + retractCount + " retracts)";
+        }
+
+    }
+
+    /**
+     * The share of the measurements of all nodes that 1 constraint uses.
+     *
+     * @param constraintRef never null
+     * @param nanos the time spent in the nodes
+     * @param insertCount the number of tuples inserted into the nodes
+     * @param updateCount the number of tuples updated in the nodes
+     * @param retractCount the number of tuples retracted from the nodes
+     */
+    public record ConstraintProfile(ConstraintRef constraintRef, double nanos, double insertCount, double updateCount,
+            double retractCount) {
+    }
+
+}
@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.score.director;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -9,6 +10,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
 import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
@@ -21,6 +23,7 @@ import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
 import ai.timefold.solver.core.impl.domain.constraintweight.descriptor.ConstraintConfigurationDescriptor;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.lookup.LookUpManager;
+import ai.timefold.solver.core.impl.domain.solution.cloner.StructuralSharingSolutionCloner;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
@@ -28,7 +31,12 @@ import ai.timefold.solver.core.impl.domain.variable.listener.support.VariableLis
 import ai.timefold.solver.core.impl.domain.variable.listener.support.violation.SolutionTracker;
 import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.move.RecordedUndoMove;
+import ai.timefold.solver.core.impl.heuristic.move.UndoRecordableMove;
+import ai.timefold.solver.core.impl.heuristic.move.VariableChangeLog;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.score.director.MoveEvaluationProfiler.MoveEvaluationPhase;
 import ai.timefold.solver.core.impl.solver.exception.UndoScoreCorruptionException;
 import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
@@ -66,6 +74,16 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected Solution_ workingSolution;
     protected Integer workingInitScore = null;
     private String undoMoveText;
+    // Reused for every evaluated move
+    private final VariableChangeLog<Solution_> moveVariableChangeLog = new VariableChangeLog<>();
+    private final RecordedUndoMove<Solution_> moveVariableChangeUndoMove = new RecordedUndoMove<>(moveVariableChangeLog);
+    // Empty when not recording, more than 1 if a recorded move does another recorded move
+    private final List<VariableChangeLog<Solution_>> recordingVariableChangeLogList = new ArrayList<>(2);
+
+    // Null when structurally shared snapshots are disabled
+    private StructuralSharingSolutionCloner<Solution_> snapshotCloner = null;
+    // Null when move evaluations are not profiled
+    private MoveEvaluationProfiler.Recorder moveEvaluationRecorder = null;
 
     // Null when tracking disabled
     private final boolean trackingWorkingSolution;
@@ -190,6 +208,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
                 -(initializationStatistics.unassignedValueCount() + initializationStatistics.uninitializedVariableCount());
         workingGenuineEntityCount = initializationStatistics.genuineEntityCount();
         variableListenerSupport.resetWorkingSolution();
+        resetSnapshotCloner();
     }
 
     @Override
@@ -218,8 +237,18 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (trackingWorkingSolution) {
             solutionTracker.setBeforeMoveSolution(workingSolution);
         }
-        Move<Solution_> undoMove = move.doMove(this);
+        MoveEvaluationProfiler.Recorder recorder = moveEvaluationRecorder;
+        if (recorder != null) {
+            recorder.moveStarted(move);
+        }
+        Move<Solution_> undoMove = doMoveForEvaluation(move, assertMoveScoreFromScratch);
+        if (recorder != null) {
+            recorder.phaseStarted(MoveEvaluationPhase.SCORE_CALCULATION);
+        }
         Score_ score = calculateScore();
+        if (recorder != null) {
+            recorder.phaseStarted(null);
+        }
         if (assertMoveScoreFromScratch) {
             undoMoveText = undoMove.toString();
             if (trackingWorkingSolution) {
@@ -227,7 +256,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             }
             assertWorkingScoreFromScratch(score, move);
         }
-        undoMove.doMoveOnly(this);
+        undoMoveForEvaluation(undoMove, recorder);
         return score;
     }
 
@@ -236,8 +265,18 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (trackingWorkingSolution) {
             solutionTracker.setBeforeMoveSolution(workingSolution);
         }
-        Move<Solution_> undoMove = move.doMove(this);
+        MoveEvaluationProfiler.Recorder recorder = moveEvaluationRecorder;
+        if (recorder != null) {
+            recorder.moveStarted(move);
+        }
+        Move<Solution_> undoMove = doMoveForEvaluation(move, assertMoveScoreFromScratch);
+        if (recorder != null) {
+            recorder.phaseStarted(MoveEvaluationPhase.SCORE_CALCULATION);
+        }
         Score_ score = calculateScore();
+        if (recorder != null) {
+            recorder.phaseStarted(null);
+        }
         if (assertMoveScoreFromScratch) {
             undoMoveText = undoMove.toString();
             if (trackingWorkingSolution) {
@@ -246,7 +285,62 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             assertWorkingScoreFromScratch(score, move);
         }
         moveProcessor.accept(score);
+        undoMoveForEvaluation(undoMove, recorder);
+    }
+
+    /**
+     * The built-in moves are undone by replaying the reused change log,
+     * instead of creating an undo move for every evaluated move.
+     *
+     * @param move never null
+     * @param assertMoveScoreFromScratch true if the undo move must describe itself as well as an undo move would
+     * @return never null, the undo move
+     * @see UndoRecordableMove
+     */
+    private Move<Solution_> doMoveForEvaluation(Move<Solution_> move, boolean assertMoveScoreFromScratch) {
+        // The reused log is busy if this evaluation is nested in the evaluation of another move.
+        if (move instanceof UndoRecordableMove<Solution_> && !recordingVariableChangeLogList.contains(moveVariableChangeLog)) {
+            moveVariableChangeLog.reset(move);
+            if (assertMoveScoreFromScratch) {
+                moveVariableChangeLog.describeUndoMove(this);
+            }
+            startRecordingVariableChanges(moveVariableChangeLog);
+            move.doMoveOnly(this);
+            stopRecordingVariableChanges(moveVariableChangeLog);
+            return moveVariableChangeUndoMove;
+        }
+        return move.doMove(this);
+    }
+
+    private void undoMoveForEvaluation(Move<Solution_> undoMove, MoveEvaluationProfiler.Recorder recorder) {
+        if (recorder == null) {
+            undoMove.doMoveOnly(this);
+            return;
+        }
+        recorder.phaseStarted(MoveEvaluationPhase.UNDO_MOVE);
         undoMove.doMoveOnly(this);
+        recorder.moveEnded();
+    }
+
+    @Override
+    public void startRecordingVariableChanges(VariableChangeLog<Solution_> variableChangeLog) {
+        if (recordingVariableChangeLogList.contains(variableChangeLog)) {
+            throw new IllegalStateException("Impossible state: the score director is already recording variable changes"
+                    + " of move (" + variableChangeLog.getRecordedMove() + ") into the same variableChangeLog.");
+        }
+        recordingVariableChangeLogList.add(variableChangeLog);
+    }
+
+    @Override
+    public void stopRecordingVariableChanges(VariableChangeLog<Solution_> variableChangeLog) {
+        int lastIndex = recordingVariableChangeLogList.size() - 1;
+        if (lastIndex < 0 || recordingVariableChangeLogList.get(lastIndex) != variableChangeLog) {
+            throw new IllegalStateException("Impossible state: the score director stops recording the variable changes"
+                    + " of move (" + variableChangeLog.getRecordedMove()
+                    + ") before it stops recording those of the moves it started recording later ("
+                    + recordingVariableChangeLogList + ").");
+        }
+        recordingVariableChangeLogList.remove(lastIndex);
     }
 
     @Override
@@ -263,11 +357,34 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return cloneSolution(workingSolution);
     }
 
+    @Override
+    public Solution_ cloneWorkingSolutionSnapshot() {
+        if (snapshotCloner == null) {
+            return cloneWorkingSolution();
+        }
+        return cloneSolution(workingSolution, snapshotCloner::cloneSolution);
+    }
+
+    @Override
+    public void setStructurallySharedSnapshots(boolean structurallySharedSnapshots) {
+        snapshotCloner = structurallySharedSnapshots ? new StructuralSharingSolutionCloner<>(getSolutionDescriptor()) : null;
+    }
+
+    private void resetSnapshotCloner() {
+        if (snapshotCloner != null) {
+            snapshotCloner.reset();
+        }
+    }
+
     @Override
     public Solution_ cloneSolution(Solution_ originalSolution) {
+        return cloneSolution(originalSolution, getSolutionDescriptor().getSolutionCloner()::cloneSolution);
+    }
+
+    private Solution_ cloneSolution(Solution_ originalSolution, UnaryOperator<Solution_> solutionCloner) {
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
         Score_ originalScore = (Score_) solutionDescriptor.getScore(originalSolution);
-        Solution_ cloneSolution = solutionDescriptor.getSolutionCloner().cloneSolution(originalSolution);
+        Solution_ cloneSolution = solutionCloner.apply(originalSolution);
         Score_ cloneScore = (Score_) solutionDescriptor.getScore(cloneSolution);
         if (scoreDirectorFactory.isAssertClonedSolution()) {
             if (!Objects.equals(originalScore, cloneScore)) {
@@ -293,9 +410,26 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return cloneSolution;
     }
 
+    @Override
+    public void setMoveEvaluationProfiler(MoveEvaluationProfiler moveEvaluationProfiler) {
+        moveEvaluationRecorder = moveEvaluationProfiler == null ? null : moveEvaluationProfiler.createRecorder();
+    }
+
+    @Override
+    public void setConstraintProfiler(ConstraintProfiler constraintProfiler) {
+        // Do nothing: only the score directors that build a node network profile it.
+    }
+
     @Override
     public void triggerVariableListeners() {
+        MoveEvaluationProfiler.Recorder recorder = moveEvaluationRecorder;
+        if (recorder == null) {
+            variableListenerSupport.triggerVariableListenersInNotificationQueues();
+            return;
+        }
+        recorder.variableListenersStarted();
         variableListenerSupport.triggerVariableListenersInNotificationQueues();
+        recorder.variableListenersEnded();
     }
 
     @Override
@@ -336,6 +470,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
                     (AbstractScoreDirector<Solution_, Score_, Factory_>) scoreDirectorFactory
                             .buildScoreDirector(true, constraintMatchEnabledPreference);
             childThreadScoreDirector.setWorkingSolution(cloneWorkingSolution());
+            if (moveEvaluationRecorder != null) {
+                childThreadScoreDirector.setMoveEvaluationProfiler(moveEvaluationRecorder.getProfiler());
+            }
             return childThreadScoreDirector;
         } else {
             throw new IllegalStateException("The childThreadType (" + childThreadType + ") is not implemented.");
@@ -346,6 +483,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     public void close() {
         workingSolution = null;
         workingInitScore = null;
+        resetSnapshotCloner();
         if (lookUpEnabled) {
             lookUpManager.reset();
         }
@@ -447,14 +585,25 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (!allChangesWillBeUndoneBeforeStepEnds) {
             setWorkingEntityListDirty();
         }
+        resetSnapshotCloner();
     }
 
     @Override
     public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        trackVariableChange(variableDescriptor, entity);
+        variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
+    }
+
+    private void trackVariableChange(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
         if (variableDescriptor.isGenuineAndUninitialized(entity)) {
             workingInitScore++;
         }
-        variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
+        for (int i = 0; i < recordingVariableChangeLogList.size(); i++) {
+            recordingVariableChangeLogList.get(i).recordVariableChange(variableDescriptor, entity);
+        }
+        if (snapshotCloner != null) {
+            snapshotCloner.entityChanged(entity);
+        }
     }
 
     @Override
@@ -464,6 +613,25 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         }
     }
 
+    @Override
+    public void beforeVariableRangeChanged(VariableDescriptor<Solution_> variableDescriptor, List<?> entityList,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            trackVariableChange(variableDescriptor, entityList.get(i));
+        }
+        variableListenerSupport.beforeVariableRangeChanged(variableDescriptor, entityList, fromIndex, toIndex);
+    }
+
+    @Override
+    public void afterVariableRangeChanged(VariableDescriptor<Solution_> variableDescriptor, List<?> entityList,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (variableDescriptor.isGenuineAndUninitialized(entityList.get(i))) {
+                workingInitScore--;
+            }
+        }
+    }
+
     @Override
     public void changeVariableFacade(VariableDescriptor<Solution_> variableDescriptor, Object entity, Object newValue) {
         beforeVariableChanged(variableDescriptor, entity);
@@ -479,6 +647,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     @Override
     public void afterListVariableElementAssigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
         workingInitScore++;
+        for (int i = 0; i < recordingVariableChangeLogList.size(); i++) {
+            recordingVariableChangeLogList.get(i).recordElementAssigned(variableDescriptor, element);
+        }
     }
 
     @Override
@@ -490,11 +661,20 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     public void afterListVariableElementUnassigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
         workingInitScore--;
         variableListenerSupport.afterElementUnassigned(variableDescriptor, element);
+        for (int i = 0; i < recordingVariableChangeLogList.size(); i++) {
+            recordingVariableChangeLogList.get(i).recordElementUnassigned(variableDescriptor, element);
+        }
     }
 
     @Override
     public void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor,
             Object entity, int fromIndex, int toIndex) {
+        for (int i = 0; i < recordingVariableChangeLogList.size(); i++) {
+            recordingVariableChangeLogList.get(i).recordListVariableChange(variableDescriptor, entity, fromIndex, toIndex);
+        }
+        if (snapshotCloner != null) {
+            snapshotCloner.entityChanged(entity);
+        }
         variableListenerSupport.beforeListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
     }
 
@@ -502,6 +682,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor,
             Object entity, int fromIndex, int toIndex) {
         variableListenerSupport.afterListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
+        for (int i = 0; i < recordingVariableChangeLogList.size(); i++) {
+            recordingVariableChangeLogList.get(i).completeListVariableChange(variableDescriptor, entity);
+        }
     }
 
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
@@ -519,6 +702,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (!allChangesWillBeUndoneBeforeStepEnds) {
             setWorkingEntityListDirty();
         }
+        resetSnapshotCloner();
     }
 
     // ************************************************************************
@@ -536,6 +720,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             lookUpManager.addWorkingObject(problemFact);
         }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
+        resetSnapshotCloner();
     }
 
     @Override
@@ -550,6 +735,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         } else {
             variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
         }
+        resetSnapshotCloner();
     }
 
     @Override
@@ -567,6 +753,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             lookUpManager.removeWorkingObject(problemFact);
         }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
+        resetSnapshotCloner();
     }
 
     @Override
@@ -1,6 +1,6 @@
 package ai.timefold.solver.core.impl.score.director;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -23,12 +23,15 @@ import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintJustification;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
 import ai.timefold.solver.core.api.solver.SolutionManager;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.move.VariableChangeLog;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 import ai.timefold.solver.core.impl.util.CollectionUtils;
@@ -41,34 +44,47 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
         extends ScoreDirector<Solution_>, AutoCloseable {
 
     static <Score_ extends Score<Score_>> ConstraintAnalysis<Score_> getConstraintAnalysis(
-            ConstraintMatchTotal<Score_> constraintMatchTotal, boolean analyzeConstraintMatches) {
-        Score_ zero = constraintMatchTotal.getScore().zero();
-        if (analyzeConstraintMatches) {
-            // Marge all constraint matches with the same justification.
-            Map<ConstraintJustification, List<ConstraintMatch<Score_>>> deduplicatedConstraintMatchMap =
-                    CollectionUtils.newLinkedHashMap(constraintMatchTotal.getConstraintMatchCount());
-            for (var constraintMatch : constraintMatchTotal.getConstraintMatchSet()) {
-                var constraintJustification = constraintMatch.getJustification();
-                var constraintMatchList = deduplicatedConstraintMatchMap.computeIfAbsent(constraintJustification,
-                        k -> new ArrayList<>(1));
-                constraintMatchList.add(constraintMatch);
-            }
-            // Sum scores for each duplicate justification; this is the total score for the match.
-            var matchAnalyses = deduplicatedConstraintMatchMap.entrySet().stream()
-                    .map(entry -> {
-                        var score = entry.getValue().stream()
-                                .map(ConstraintMatch::getScore)
-                                .reduce(zero, Score::add);
-                        return new MatchAnalysis<>(constraintMatchTotal.getConstraintRef(), score, entry.getKey());
-                    })
-                    .toList();
-            return new ConstraintAnalysis<>(constraintMatchTotal.getConstraintRef(), constraintMatchTotal.getConstraintWeight(),
-                    constraintMatchTotal.getScore(),
-                    matchAnalyses);
-        } else {
-            return new ConstraintAnalysis<>(constraintMatchTotal.getConstraintRef(), constraintMatchTotal.getConstraintWeight(),
-                    constraintMatchTotal.getScore(), null);
+            ConstraintMatchTotal<Score_> constraintMatchTotal, ScoreAnalysisFetchPolicy fetchPolicy, int matchLimit) {
+        var constraintRef = constraintMatchTotal.getConstraintRef();
+        var constraintWeight = constraintMatchTotal.getConstraintWeight();
+        var score = constraintMatchTotal.getScore();
+        return switch (fetchPolicy) {
+            case FETCH_ALL -> new ConstraintAnalysis<>(constraintRef, constraintWeight, score,
+                    getMatchAnalyses(constraintMatchTotal, matchLimit), constraintMatchTotal.getConstraintMatchCount());
+            case FETCH_MATCH_COUNT -> new ConstraintAnalysis<>(constraintRef, constraintWeight, score, null,
+                    constraintMatchTotal.getConstraintMatchCount());
+            case FETCH_SHALLOW -> new ConstraintAnalysis<>(constraintRef, constraintWeight, score, null);
+        };
+    }
+
+    private static <Score_ extends Score<Score_>> List<MatchAnalysis<Score_>> getMatchAnalyses(
+            ConstraintMatchTotal<Score_> constraintMatchTotal, int matchLimit) {
+        // Merge all constraint matches with the same justification; the sum of their scores is the score of the match.
+        Map<ConstraintJustification, Score_> justificationScoreMap =
+                CollectionUtils.newLinkedHashMap(constraintMatchTotal.getConstraintMatchCount());
+        for (var constraintMatch : constraintMatchTotal.getConstraintMatchSet()) {
+            justificationScoreMap.merge(constraintMatch.getJustification(), constraintMatch.getScore(), Score::add);
+        }
+        return getMatchAnalyses(constraintMatchTotal.getConstraintRef(), justificationScoreMap, matchLimit);
+    }
+
+    /**
+     * @param constraintRef never null
+     * @param justificationScoreMap never null, the sum of the scores of all constraint matches of each justification
+     * @param matchLimit at least 1, the maximum number of {@link MatchAnalysis} to return
+     * @return never null, in the order of the map if it fits in the matchLimit, otherwise the biggest impact first
+     */
+    static <Score_ extends Score<Score_>> List<MatchAnalysis<Score_>> getMatchAnalyses(ConstraintRef constraintRef,
+            Map<ConstraintJustification, Score_> justificationScoreMap, int matchLimit) {
+        if (justificationScoreMap.size() > matchLimit) {
+            // Only keep the biggest impacts.
+            var topQueue = new MatchAnalysisTopQueue<Score_>(constraintRef, matchLimit);
+            justificationScoreMap.forEach(topQueue::offer);
+            return topQueue.toMatchAnalysisList();
         }
+        return justificationScoreMap.entrySet().stream()
+                .map(entry -> new MatchAnalysis<>(constraintRef, entry.getValue(), entry.getKey()))
+                .toList();
     }
 
     /**
@@ -127,6 +143,39 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Map<Object, Indictment<Score_>> getIndictmentMap();
 
+    /**
+     * As defined by {@link #getConstraintMatchTotalMap()},
+     * but only with the score and the number of matches of each {@link Constraint}.
+     * Implementations which create {@link ConstraintMatch} instances lazily do not create any for this.
+     *
+     * @return never null, one {@link ConstraintAnalysis} without {@link MatchAnalysis} per constraint
+     * @throws IllegalStateException if {@link #isConstraintMatchEnabled()} returns false
+     */
+    default Collection<ConstraintAnalysis<Score_>> getConstraintMatchCountAnalyses() {
+        return getConstraintMatchTotalMap().values().stream()
+                .map(constraintMatchTotal -> getConstraintAnalysis(constraintMatchTotal,
+                        ScoreAnalysisFetchPolicy.FETCH_MATCH_COUNT, Integer.MAX_VALUE))
+                .toList();
+    }
+
+    /**
+     * As defined by {@link #getConstraintMatchTotalMap()},
+     * but with at most matchLimit {@link MatchAnalysis} per {@link Constraint}.
+     * Implementations which create {@link ConstraintMatch} instances lazily
+     * only create the justifications for this.
+     *
+     * @param matchLimit at least 1, only the matches with the biggest absolute score are kept;
+     *        {@link Integer#MAX_VALUE} to keep all of them.
+     * @return never null, one {@link ConstraintAnalysis} with {@link MatchAnalysis} per constraint
+     * @throws IllegalStateException if {@link #isConstraintMatchEnabled()} returns false
+     */
+    default Collection<ConstraintAnalysis<Score_>> getConstraintAnalyses(int matchLimit) {
+        return getConstraintMatchTotalMap().values().stream()
+                .map(constraintMatchTotal -> getConstraintAnalysis(constraintMatchTotal,
+                        ScoreAnalysisFetchPolicy.FETCH_ALL, matchLimit))
+                .toList();
+    }
+
     /**
      * @return used to check {@link #isWorkingEntityListDirty(long)} later on
      */
@@ -148,6 +197,23 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor);
 
+    /**
+     * Records every genuine variable change notified to this score director into the variableChangeLog,
+     * until {@link #stopRecordingVariableChanges(VariableChangeLog)} is called for it.
+     * Recording is reentrant: while a move does another move, the changes are recorded into the logs of both.
+     *
+     * @param variableChangeLog never null
+     * @throws IllegalStateException if already recording into that variableChangeLog
+     */
+    void startRecordingVariableChanges(VariableChangeLog<Solution_> variableChangeLog);
+
+    /**
+     * @param variableChangeLog never null, the log of the last call to
+     *        {@link #startRecordingVariableChanges(VariableChangeLog)} that is not stopped yet
+     * @throws IllegalStateException if it is not the last log that is still recording
+     */
+    void stopRecordingVariableChanges(VariableChangeLog<Solution_> variableChangeLog);
+
     /**
      * @param expectedWorkingEntityListRevision an
      * @return true if the entityList might have a different set of instances now
@@ -203,6 +269,35 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Solution_ cloneWorkingSolution();
 
+    /**
+     * Returns a planning clone of the working solution, which must not be modified, such as the best solution.
+     * If {@link #setStructurallySharedSnapshots(boolean) enabled},
+     * it shares the clones of the planning entities that have not changed since the previous snapshot.
+     *
+     * @return never null, planning clone
+     */
+    Solution_ cloneWorkingSolutionSnapshot();
+
+    /**
+     * @param structurallySharedSnapshots true if {@link #cloneWorkingSolutionSnapshot()} shares unchanged entity clones
+     */
+    void setStructurallySharedSnapshots(boolean structurallySharedSnapshots);
+
+    /**
+     * @param moveEvaluationProfiler null to stop profiling
+     *        the {@link #doAndProcessMove(Move, boolean) move evaluations} of this score director
+     */
+    void setMoveEvaluationProfiler(MoveEvaluationProfiler moveEvaluationProfiler);
+
+    /**
+     * Only score directors that propagate changes through a network of nodes, such as constraint streams,
+     * support profiling the cost per constraint; the others ignore it.
+     * The profiler takes effect at the next {@link #setWorkingSolution(Object)}.
+     *
+     * @param constraintProfiler null to stop profiling
+     */
+    void setConstraintProfiler(ConstraintProfiler constraintProfiler);
+
     /**
      * Returns a planning clone of the solution,
      * which is not a shallow clone nor a deep clone nor a partition clone.
@@ -334,6 +429,31 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
 
     void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity);
 
+    /**
+     * As defined by {@link #beforeVariableChanged(VariableDescriptor, Object)}, for every entity in a range of a list,
+     * such as the elements of a list variable of which a shadow variable is about to change.
+     * Allows the implementation to do its lookups once for the whole range instead of once per entity.
+     *
+     * @param variableDescriptor never null
+     * @param entityList never null
+     * @param fromIndex low endpoint (inclusive) of the range of entities that are going to change
+     * @param toIndex high endpoint (exclusive) of the range of entities that are going to change
+     */
+    void beforeVariableRangeChanged(VariableDescriptor<Solution_> variableDescriptor, List<?> entityList,
+            int fromIndex, int toIndex);
+
+    /**
+     * As defined by {@link #afterVariableChanged(VariableDescriptor, Object)}, for every entity in a range of a list.
+     *
+     * @param variableDescriptor never null
+     * @param entityList never null
+     * @param fromIndex low endpoint (inclusive) of the range of entities that changed
+     * @param toIndex high endpoint (exclusive) of the range of entities that changed
+     * @see #beforeVariableRangeChanged(VariableDescriptor, List, int, int)
+     */
+    void afterVariableRangeChanged(VariableDescriptor<Solution_> variableDescriptor, List<?> entityList,
+            int fromIndex, int toIndex);
+
     void changeVariableFacade(VariableDescriptor<Solution_> variableDescriptor, Object entity, Object newValue);
 
     // ************************************************************************
@@ -468,6 +588,28 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      * @return never null
      */
     default ScoreAnalysis<Score_> buildScoreAnalysis(boolean analyzeConstraintMatches, boolean overrideInitScore) {
+        return buildScoreAnalysis(
+                analyzeConstraintMatches ? ScoreAnalysisFetchPolicy.FETCH_ALL : ScoreAnalysisFetchPolicy.FETCH_SHALLOW,
+                Integer.MAX_VALUE, overrideInitScore);
+    }
+
+    /**
+     * Builds the analysis in a single pass over the {@link #getConstraintMatchTotalMap() constraint match totals},
+     * so that only the requested matches are kept.
+     * With {@link ScoreAnalysisFetchPolicy#FETCH_MATCH_COUNT}, it uses {@link #getConstraintMatchCountAnalyses()} instead,
+     * and with {@link ScoreAnalysisFetchPolicy#FETCH_ALL}, it uses {@link #getConstraintAnalyses(int)}.
+     *
+     * @param fetchPolicy never null, determines whether the result's {@link ConstraintAnalysis} should have
+     *        its {@link MatchAnalysis} and match count populated.
+     * @param matchLimit at least 1, the maximum number of {@link MatchAnalysis} per {@link ConstraintAnalysis};
+     *        only the matches with the biggest absolute score are kept.
+     *        {@link Integer#MAX_VALUE} to keep all of them.
+     * @param overrideInitScore True if the result's {@link Score} should have its {@link Score#isSolutionInitialized()} set to
+     *        true.
+     * @return never null
+     */
+    default ScoreAnalysis<Score_> buildScoreAnalysis(ScoreAnalysisFetchPolicy fetchPolicy, int matchLimit,
+            boolean overrideInitScore) {
         var score = calculateScore();
         if (overrideInitScore) {
             score = score.withInitScore(0);
@@ -478,8 +620,19 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
                     .formatted(getWorkingSolution(), score));
         }
         var constraintAnalysisMap = new TreeMap<ConstraintRef, ConstraintAnalysis<Score_>>();
+        if (fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_MATCH_COUNT) {
+            for (var constraintAnalysis : getConstraintMatchCountAnalyses()) {
+                constraintAnalysisMap.put(constraintAnalysis.constraintRef(), constraintAnalysis);
+            }
+            return new ScoreAnalysis<>(score, constraintAnalysisMap);
+        } else if (fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_ALL) {
+            for (var constraintAnalysis : getConstraintAnalyses(matchLimit)) {
+                constraintAnalysisMap.put(constraintAnalysis.constraintRef(), constraintAnalysis);
+            }
+            return new ScoreAnalysis<>(score, constraintAnalysisMap);
+        }
         for (var constraintMatchTotal : getConstraintMatchTotalMap().values()) {
-            var constraintAnalysis = getConstraintAnalysis(constraintMatchTotal, analyzeConstraintMatches);
+            var constraintAnalysis = getConstraintAnalysis(constraintMatchTotal, fetchPolicy, matchLimit);
             constraintAnalysisMap.put(constraintMatchTotal.getConstraintRef(), constraintAnalysis);
         }
         return new ScoreAnalysis<>(score, constraintAnalysisMap);
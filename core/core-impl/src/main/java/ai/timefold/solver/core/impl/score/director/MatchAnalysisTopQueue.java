@@ -0,0 +1,58 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.MatchAnalysis;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.score.stream.ConstraintJustification;
+
+/**
+ * Keeps the matches with the biggest absolute score, never more than the match limit.
+ * Every justification must be offered only once, with the sum of the scores of all its constraint matches,
+ * so that a justification which was dropped never comes back with only a part of its score.
+ *
+ * @param <Score_>
+ */
+final class MatchAnalysisTopQueue<Score_ extends Score<Score_>> {
+
+    private final ConstraintRef constraintRef;
+    private final int matchLimit;
+    // The head of the queue is the smallest impact kept so far.
+    private final PriorityQueue<Match<Score_>> queue;
+
+    MatchAnalysisTopQueue(ConstraintRef constraintRef, int matchLimit) {
+        this.constraintRef = constraintRef;
+        this.matchLimit = matchLimit;
+        this.queue = new PriorityQueue<>(matchLimit + 1, Comparator.comparing(Match::absoluteScore));
+    }
+
+    public void offer(ConstraintJustification justification, Score_ score) {
+        var absoluteScore = score.abs();
+        if (queue.size() == matchLimit && absoluteScore.compareTo(queue.peek().absoluteScore()) <= 0) {
+            return;
+        }
+        queue.add(new Match<>(justification, score, absoluteScore));
+        if (queue.size() > matchLimit) {
+            queue.poll();
+        }
+    }
+
+    /**
+     * @return never null, the biggest impact first
+     */
+    public List<MatchAnalysis<Score_>> toMatchAnalysisList() {
+        return queue.stream()
+                .sorted(Comparator.comparing(Match<Score_>::absoluteScore).reversed())
+                .map(match -> new MatchAnalysis<>(constraintRef, match.score(), match.justification()))
+                .toList();
+    }
+
+    private record Match<Score_ extends Score<Score_>>(ConstraintJustification justification, Score_ score,
+            Score_ absoluteScore) {
+
+    }
+
+}
@@ -0,0 +1,229 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Measures the {@link MoveEvaluationPhase phases} of every
+ * {@link InnerScoreDirector#doAndProcessMove(Move, boolean) move evaluation} per move type
+ * and records them in {@link SolverMetric#MOVE_EVALUATION_PROFILE Micrometer meters}:
+ * the duration in a {@link Timer} and, if the JVM supports it, the allocated bytes in a {@link DistributionSummary}.
+ * <p>
+ * Every score director (including the one of every move thread) uses its own {@link Recorder},
+ * but they all share the meters of the same profiler.
+ */
+public final class MoveEvaluationProfiler {
+
+    public static final String DURATION_METER_SUFFIX = ".duration";
+    public static final String ALLOCATED_BYTES_METER_SUFFIX = ".allocated.bytes";
+    public static final String MOVE_TYPE_TAG = "move.type";
+    public static final String PHASE_TAG = "phase";
+
+    private static final MoveEvaluationPhase[] PHASES = MoveEvaluationPhase.values();
+
+    private final MeterRegistry meterRegistry;
+    private final Tags tags;
+    // Null if the JVM does not measure the allocated bytes per thread
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final Map<String, MoveTypeMeters> moveTypeMetersMap = new ConcurrentHashMap<>();
+
+    public MoveEvaluationProfiler(Tags tags) {
+        this(Metrics.globalRegistry, tags);
+    }
+
+    MoveEvaluationProfiler(MeterRegistry meterRegistry, Tags tags) {
+        this.meterRegistry = meterRegistry;
+        this.tags = tags;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean sunThreadMXBean
+                && sunThreadMXBean.isThreadAllocatedMemorySupported()
+                && sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+            this.threadMXBean = sunThreadMXBean;
+        } else {
+            this.threadMXBean = null;
+        }
+    }
+
+    public boolean isAllocationMeasured() {
+        return threadMXBean != null;
+    }
+
+    /**
+     * @return never null, not thread-safe, so it must be used by 1 score director only
+     */
+    public Recorder createRecorder() {
+        return new Recorder();
+    }
+
+    private long currentThreadAllocatedBytes() {
+        return threadMXBean == null ? 0L : threadMXBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private MoveTypeMeters getMoveTypeMeters(String moveType) {
+        return moveTypeMetersMap.computeIfAbsent(moveType, this::buildMoveTypeMeters);
+    }
+
+    private MoveTypeMeters buildMoveTypeMeters(String moveType) {
+        String meterId = SolverMetric.MOVE_EVALUATION_PROFILE.getMeterId();
+        Timer[] timers = new Timer[PHASES.length];
+        DistributionSummary[] allocatedBytesSummaries = new DistributionSummary[PHASES.length];
+        for (MoveEvaluationPhase phase : PHASES) {
+            Tags phaseTags = tags.and(MOVE_TYPE_TAG, moveType).and(PHASE_TAG, phase.getTagValue());
+            timers[phase.ordinal()] = Timer.builder(meterId + DURATION_METER_SUFFIX)
+                    .tags(phaseTags)
+                    .publishPercentiles(0.5, 0.9, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            if (threadMXBean != null) {
+                allocatedBytesSummaries[phase.ordinal()] =
+                        DistributionSummary.builder(meterId + ALLOCATED_BYTES_METER_SUFFIX)
+                                .tags(phaseTags)
+                                .baseUnit("bytes")
+                                .publishPercentiles(0.5, 0.9, 0.99)
+                                .publishPercentileHistogram()
+                                .register(meterRegistry);
+            }
+        }
+        return new MoveTypeMeters(timers, allocatedBytesSummaries);
+    }
+
+    public enum MoveEvaluationPhase {
+        /**
+         * Doing the move, excluding the {@link #VARIABLE_LISTENERS}.
+         */
+        DO_MOVE("do.move"),
+        /**
+         * Triggering the variable listeners that update the shadow variables, when doing or undoing the move.
+         */
+        VARIABLE_LISTENERS("variable.listeners"),
+        /**
+         * Calculating the score, which includes propagating the changes through the constraint streams.
+         */
+        SCORE_CALCULATION("score.calculation"),
+        /**
+         * Undoing the move, excluding the {@link #VARIABLE_LISTENERS}.
+         */
+        UNDO_MOVE("undo.move");
+
+        private final String tagValue;
+
+        MoveEvaluationPhase(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public String getTagValue() {
+            return tagValue;
+        }
+
+    }
+
+    private record MoveTypeMeters(Timer[] timers, DistributionSummary[] allocatedBytesSummaries) {
+    }
+
+    /**
+     * Measures the move evaluations of 1 score director.
+     * Only the time between {@link #moveStarted(Move)} and {@link #moveEnded()} that is within a phase is measured.
+     */
+    public final class Recorder {
+
+        private final long[] phaseNanos = new long[PHASES.length];
+        private final long[] phaseAllocatedBytes = new long[PHASES.length];
+        private String moveType = null;
+        // Null when paused
+        private MoveEvaluationPhase currentPhase = null;
+        // The phase to return to after the variable listeners
+        private MoveEvaluationPhase outerPhase = null;
+        private long markNanos;
+        private long markAllocatedBytes;
+
+        private Recorder() {
+        }
+
+        public MoveEvaluationProfiler getProfiler() {
+            return MoveEvaluationProfiler.this;
+        }
+
+        /**
+         * Starts the {@link MoveEvaluationPhase#DO_MOVE} phase.
+         *
+         * @param move never null
+         */
+        public void moveStarted(Move<?> move) {
+            moveType = move.getSimpleMoveTypeDescription();
+            for (int i = 0; i < PHASES.length; i++) {
+                phaseNanos[i] = 0L;
+                phaseAllocatedBytes[i] = 0L;
+            }
+            outerPhase = null;
+            currentPhase = MoveEvaluationPhase.DO_MOVE;
+            markNanos = System.nanoTime();
+            markAllocatedBytes = currentThreadAllocatedBytes();
+        }
+
+        /**
+         * @param phase null to pause measuring until the next phase starts
+         */
+        public void phaseStarted(MoveEvaluationPhase phase) {
+            if (moveType == null) {
+                return;
+            }
+            switchPhase(phase);
+        }
+
+        public void variableListenersStarted() {
+            if (moveType == null || currentPhase == null || currentPhase == MoveEvaluationPhase.VARIABLE_LISTENERS) {
+                return;
+            }
+            outerPhase = currentPhase;
+            switchPhase(MoveEvaluationPhase.VARIABLE_LISTENERS);
+        }
+
+        public void variableListenersEnded() {
+            if (moveType == null || currentPhase != MoveEvaluationPhase.VARIABLE_LISTENERS) {
+                return;
+            }
+            switchPhase(outerPhase);
+            outerPhase = null;
+        }
+
+        public void moveEnded() {
+            if (moveType == null) {
+                return;
+            }
+            switchPhase(null);
+            MoveTypeMeters moveTypeMeters = getMoveTypeMeters(moveType);
+            for (int i = 0; i < PHASES.length; i++) {
+                moveTypeMeters.timers()[i].record(phaseNanos[i], TimeUnit.NANOSECONDS);
+                DistributionSummary allocatedBytesSummary = moveTypeMeters.allocatedBytesSummaries()[i];
+                if (allocatedBytesSummary != null) {
+                    allocatedBytesSummary.record(phaseAllocatedBytes[i]);
+                }
+            }
+            moveType = null;
+        }
+
+        private void switchPhase(MoveEvaluationPhase nextPhase) {
+            long nanos = System.nanoTime();
+            long allocatedBytes = currentThreadAllocatedBytes();
+            if (currentPhase != null) {
+                phaseNanos[currentPhase.ordinal()] += nanos - markNanos;
+                phaseAllocatedBytes[currentPhase.ordinal()] += allocatedBytes - markAllocatedBytes;
+            }
+            currentPhase = nextPhase;
+            markNanos = nanos;
+            markAllocatedBytes = allocatedBytes;
+        }
+
+    }
+
+}
@@ -4,6 +4,7 @@ import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -165,6 +166,24 @@ public class IncrementalScoreDirector<Solution_, Score_ extends Score<Score_>>
         super.afterVariableChanged(variableDescriptor, entity);
     }
 
+    @Override
+    public void beforeVariableRangeChanged(VariableDescriptor<Solution_> variableDescriptor, List<?> entityList,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            incrementalScoreCalculator.beforeVariableChanged(entityList.get(i), variableDescriptor.getVariableName());
+        }
+        super.beforeVariableRangeChanged(variableDescriptor, entityList, fromIndex, toIndex);
+    }
+
+    @Override
+    public void afterVariableRangeChanged(VariableDescriptor<Solution_> variableDescriptor, List<?> entityList,
+            int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            incrementalScoreCalculator.afterVariableChanged(entityList.get(i), variableDescriptor.getVariableName());
+        }
+        super.afterVariableRangeChanged(variableDescriptor, entityList, fromIndex, toIndex);
+    }
+
     // TODO Add support for list variable (https://issues.redhat.com/browse/PLANNER-2711).
 
     @Override
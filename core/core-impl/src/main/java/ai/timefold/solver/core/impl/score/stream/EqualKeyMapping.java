@@ -0,0 +1,74 @@
+package ai.timefold.solver.core.impl.score.stream;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+
+/**
+ * The mapping of a {@link JoinerType#EQUAL} joiner which is known to return an int, a long or an enum.
+ * Created by {@link Joiners#equalInt(ToIntFunction)}, {@link Joiners#equalLong(ToLongFunction)}
+ * and {@link Joiners#equalEnum(Function)},
+ * so that the constraint streams implementation can index on the key without a hash map.
+ * <p>
+ * It still implements {@link Function}, boxing the key if necessary,
+ * so that code which is not aware of the specialization keeps working.
+ * Equality delegates to the wrapped function, which keeps node sharing intact.
+ *
+ * @param <A> the type of the object to map
+ * @param <Key_> the (boxed) type of the key
+ */
+public sealed interface EqualKeyMapping<A, Key_> extends Function<A, Key_> {
+
+    record IntKeyMapping<A>(ToIntFunction<A> delegate) implements EqualKeyMapping<A, Integer> {
+
+        public IntKeyMapping {
+            Objects.requireNonNull(delegate);
+        }
+
+        public int applyAsInt(A a) {
+            return delegate.applyAsInt(a);
+        }
+
+        @Override
+        public Integer apply(A a) {
+            return delegate.applyAsInt(a);
+        }
+
+    }
+
+    record LongKeyMapping<A>(ToLongFunction<A> delegate) implements EqualKeyMapping<A, Long> {
+
+        public LongKeyMapping {
+            Objects.requireNonNull(delegate);
+        }
+
+        public long applyAsLong(A a) {
+            return delegate.applyAsLong(a);
+        }
+
+        @Override
+        public Long apply(A a) {
+            return delegate.applyAsLong(a);
+        }
+
+    }
+
+    record EnumKeyMapping<A, Enum_ extends Enum<Enum_>>(Function<A, Enum_> delegate)
+            implements
+                EqualKeyMapping<A, Enum_> {
+
+        public EnumKeyMapping {
+            Objects.requireNonNull(delegate);
+        }
+
+        @Override
+        public Enum_ apply(A a) {
+            return delegate.apply(a);
+        }
+
+    }
+
+}
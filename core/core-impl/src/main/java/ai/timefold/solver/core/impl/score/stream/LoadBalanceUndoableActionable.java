@@ -0,0 +1,95 @@
+package ai.timefold.solver.core.impl.score.stream;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
+import ai.timefold.solver.core.impl.util.MutableInt;
+import ai.timefold.solver.core.impl.util.Pair;
+
+/**
+ * Keeps the sum and the sum of squares of all loads up to date on every insert and retract,
+ * so that {@link #unfairness()} never has to revisit the individual loads.
+ * All running totals are integers, so the result does not depend on the order of inserts and retracts.
+ *
+ * @param <Balanced_>
+ */
+public final class LoadBalanceUndoableActionable<Balanced_>
+        implements UndoableActionable<Pair<Balanced_, Long>, LoadBalance<Balanced_>>, LoadBalance<Balanced_> {
+
+    private final Map<Balanced_, MutableInt> balancedItemCountMap = new LinkedHashMap<>();
+    private final Map<Balanced_, Long> balancedItemToLoadMap = new LinkedHashMap<>();
+    private long sum = 0L;
+    private long squaredSum = 0L;
+
+    // Memorized calculations
+    private BigDecimal unfairness = BigDecimal.ZERO;
+
+    @Override
+    public Runnable insert(Pair<Balanced_, Long> input) {
+        Balanced_ balanced = input.key();
+        long load = input.value();
+        balancedItemCountMap.computeIfAbsent(balanced, k -> new MutableInt()).increment();
+        addLoad(balanced, load);
+        return () -> retract(balanced, load);
+    }
+
+    private void retract(Balanced_ balanced, long load) {
+        MutableInt count = balancedItemCountMap.get(balanced);
+        if (count.decrement() == 0) {
+            balancedItemCountMap.remove(balanced);
+            long oldLoad = balancedItemToLoadMap.remove(balanced);
+            sum -= oldLoad;
+            squaredSum -= oldLoad * oldLoad;
+            unfairness = null;
+        } else {
+            addLoad(balanced, -load);
+        }
+    }
+
+    private void addLoad(Balanced_ balanced, long load) {
+        long oldLoad = balancedItemToLoadMap.getOrDefault(balanced, 0L);
+        long newLoad = oldLoad + load;
+        balancedItemToLoadMap.put(balanced, newLoad);
+        sum += load;
+        squaredSum += newLoad * newLoad - oldLoad * oldLoad;
+        unfairness = null;
+    }
+
+    @Override
+    public LoadBalance<Balanced_> result() {
+        return this;
+    }
+
+    @Override
+    public Map<Balanced_, Long> loads() {
+        return Collections.unmodifiableMap(balancedItemToLoadMap);
+    }
+
+    @Override
+    public BigDecimal unfairness() {
+        if (unfairness == null) {
+            int count = balancedItemToLoadMap.size();
+            if (count == 0) {
+                unfairness = BigDecimal.ZERO;
+            } else {
+                // Sum of squared deviations from the mean = squaredSum - sum^2 / count.
+                BigInteger scaledSquaredDeviation = BigInteger.valueOf(squaredSum).multiply(BigInteger.valueOf(count))
+                        .subtract(BigInteger.valueOf(sum).pow(2));
+                unfairness = new BigDecimal(scaledSquaredDeviation)
+                        .divide(BigDecimal.valueOf(count), MathContext.DECIMAL64)
+                        .sqrt(MathContext.DECIMAL64);
+            }
+        }
+        return unfairness;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadBalance(" + balancedItemToLoadMap + ")";
+    }
+}
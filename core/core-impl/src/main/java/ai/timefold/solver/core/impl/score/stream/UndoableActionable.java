@@ -1,8 +1,8 @@
 package ai.timefold.solver.core.impl.score.stream;
 
 public sealed interface UndoableActionable<Input_, Output_>
-        permits CustomCollectionUndoableActionable, ListUndoableActionable, MapUndoableActionable, MinMaxUndoableActionable,
-        SetUndoableActionable, SortedSetUndoableActionable {
+        permits CustomCollectionUndoableActionable, ListUndoableActionable, LoadBalanceUndoableActionable,
+        MapUndoableActionable, MinMaxUndoableActionable, SetUndoableActionable, SortedSetUndoableActionable {
     Runnable insert(Input_ input);
 
     Output_ result();
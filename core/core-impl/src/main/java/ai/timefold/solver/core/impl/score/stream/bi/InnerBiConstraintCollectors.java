@@ -22,6 +22,7 @@ import java.util.function.ToLongBiFunction;
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollector;
+import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.impl.score.stream.ReferenceAverageCalculator;
 
@@ -208,6 +209,12 @@ public class InnerBiConstraintCollectors {
         return new ConsecutiveSequencesBiConstraintCollector<>(resultMap, indexMap);
     }
 
+    public static <A, B, Balanced_> BiConstraintCollector<A, B, ?, LoadBalance<Balanced_>> loadBalance(
+            BiFunction<? super A, ? super B, ? extends Balanced_> balancedItemFunction,
+            ToLongBiFunction<? super A, ? super B> loadFunction) {
+        return new LoadBalanceBiCollector<>(balancedItemFunction, loadFunction);
+    }
+
     public static <A, B, Intermediate_, Result_> BiConstraintCollector<A, B, ?, Result_>
             collectAndThen(BiConstraintCollector<A, B, ?, Intermediate_> delegate,
                     Function<Intermediate_, Result_> mappingFunction) {
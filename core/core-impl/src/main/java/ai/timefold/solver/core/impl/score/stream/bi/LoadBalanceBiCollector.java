@@ -0,0 +1,46 @@
+package ai.timefold.solver.core.impl.score.stream.bi;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongBiFunction;
+
+import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
+import ai.timefold.solver.core.impl.score.stream.LoadBalanceUndoableActionable;
+import ai.timefold.solver.core.impl.util.Pair;
+
+final class LoadBalanceBiCollector<A, B, Balanced_>
+        extends
+        UndoableActionableBiCollector<A, B, Pair<Balanced_, Long>, LoadBalance<Balanced_>, LoadBalanceUndoableActionable<Balanced_>> {
+    private final BiFunction<? super A, ? super B, ? extends Balanced_> balancedItemFunction;
+    private final ToLongBiFunction<? super A, ? super B> loadFunction;
+
+    LoadBalanceBiCollector(BiFunction<? super A, ? super B, ? extends Balanced_> balancedItemFunction,
+            ToLongBiFunction<? super A, ? super B> loadFunction) {
+        super((a, b) -> new Pair<>(balancedItemFunction.apply(a, b), loadFunction.applyAsLong(a, b)));
+        this.balancedItemFunction = balancedItemFunction;
+        this.loadFunction = loadFunction;
+    }
+
+    @Override
+    public Supplier<LoadBalanceUndoableActionable<Balanced_>> supplier() {
+        return LoadBalanceUndoableActionable::new;
+    }
+
+    // Don't call super equals/hashCode; the mapper is calculated from balancedItemFunction and loadFunction
+    @Override
+    public boolean equals(Object object) {
+        if (this == object)
+            return true;
+        if (object == null || getClass() != object.getClass())
+            return false;
+        var that = (LoadBalanceBiCollector<?, ?, ?>) object;
+        return Objects.equals(balancedItemFunction, that.balancedItemFunction)
+                && Objects.equals(loadFunction, that.loadFunction);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(balancedItemFunction, loadFunction);
+    }
+}
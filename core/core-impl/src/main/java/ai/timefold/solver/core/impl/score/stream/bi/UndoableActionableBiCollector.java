@@ -10,9 +10,10 @@ import ai.timefold.solver.core.impl.score.stream.UndoableActionable;
 
 abstract sealed class UndoableActionableBiCollector<A, B, Input_, Output_, Calculator_ extends UndoableActionable<Input_, Output_>>
         implements BiConstraintCollector<A, B, Calculator_, Output_>
-        permits MaxComparableBiCollector, MaxComparatorBiCollector, MaxPropertyBiCollector, MinComparableBiCollector,
-        MinComparatorBiCollector, MinPropertyBiCollector, ToCollectionBiCollector, ToListBiCollector, ToMultiMapBiCollector,
-        ToSetBiCollector, ToSimpleMapBiCollector, ToSortedSetComparatorBiCollector {
+        permits LoadBalanceBiCollector, MaxComparableBiCollector, MaxComparatorBiCollector, MaxPropertyBiCollector,
+        MinComparableBiCollector, MinComparatorBiCollector, MinPropertyBiCollector, ToCollectionBiCollector,
+        ToListBiCollector, ToMultiMapBiCollector, ToSetBiCollector, ToSimpleMapBiCollector,
+        ToSortedSetComparatorBiCollector {
     private final BiFunction<? super A, ? super B, ? extends Input_> mapper;
 
     public UndoableActionableBiCollector(BiFunction<? super A, ? super B, ? extends Input_> mapper) {
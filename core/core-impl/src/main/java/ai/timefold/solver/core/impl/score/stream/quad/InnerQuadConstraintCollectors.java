@@ -21,6 +21,7 @@ import ai.timefold.solver.core.api.function.QuadPredicate;
 import ai.timefold.solver.core.api.function.ToIntQuadFunction;
 import ai.timefold.solver.core.api.function.ToLongQuadFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
+import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
 import ai.timefold.solver.core.impl.score.stream.ReferenceAverageCalculator;
@@ -216,6 +217,12 @@ public class InnerQuadConstraintCollectors {
         return new ConsecutiveSequencesQuadConstraintCollector<>(resultMap, indexMap);
     }
 
+    public static <A, B, C, D, Balanced_> QuadConstraintCollector<A, B, C, D, ?, LoadBalance<Balanced_>> loadBalance(
+            QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Balanced_> balancedItemFunction,
+            ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> loadFunction) {
+        return new LoadBalanceQuadCollector<>(balancedItemFunction, loadFunction);
+    }
+
     public static <A, B, C, D, Intermediate_, Result_> QuadConstraintCollector<A, B, C, D, ?, Result_>
             collectAndThen(QuadConstraintCollector<A, B, C, D, ?, Intermediate_> delegate,
                     Function<Intermediate_, Result_> mappingFunction) {
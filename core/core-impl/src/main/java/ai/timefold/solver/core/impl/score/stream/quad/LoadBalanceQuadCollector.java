@@ -0,0 +1,47 @@
+package ai.timefold.solver.core.impl.score.stream.quad;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.function.QuadFunction;
+import ai.timefold.solver.core.api.function.ToLongQuadFunction;
+import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
+import ai.timefold.solver.core.impl.score.stream.LoadBalanceUndoableActionable;
+import ai.timefold.solver.core.impl.util.Pair;
+
+final class LoadBalanceQuadCollector<A, B, C, D, Balanced_>
+        extends
+        UndoableActionableQuadCollector<A, B, C, D, Pair<Balanced_, Long>, LoadBalance<Balanced_>, LoadBalanceUndoableActionable<Balanced_>> {
+    private final QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Balanced_> balancedItemFunction;
+    private final ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> loadFunction;
+
+    LoadBalanceQuadCollector(
+            QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Balanced_> balancedItemFunction,
+            ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> loadFunction) {
+        super((a, b, c, d) -> new Pair<>(balancedItemFunction.apply(a, b, c, d), loadFunction.applyAsLong(a, b, c, d)));
+        this.balancedItemFunction = balancedItemFunction;
+        this.loadFunction = loadFunction;
+    }
+
+    @Override
+    public Supplier<LoadBalanceUndoableActionable<Balanced_>> supplier() {
+        return LoadBalanceUndoableActionable::new;
+    }
+
+    // Don't call super equals/hashCode; the mapper is calculated from balancedItemFunction and loadFunction
+    @Override
+    public boolean equals(Object object) {
+        if (this == object)
+            return true;
+        if (object == null || getClass() != object.getClass())
+            return false;
+        var that = (LoadBalanceQuadCollector<?, ?, ?, ?, ?>) object;
+        return Objects.equals(balancedItemFunction, that.balancedItemFunction)
+                && Objects.equals(loadFunction, that.loadFunction);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(balancedItemFunction, loadFunction);
+    }
+}
@@ -10,9 +10,10 @@ import ai.timefold.solver.core.impl.score.stream.UndoableActionable;
 
 abstract sealed class UndoableActionableQuadCollector<A, B, C, D, Input_, Output_, Calculator_ extends UndoableActionable<Input_, Output_>>
         implements QuadConstraintCollector<A, B, C, D, Calculator_, Output_>
-        permits MaxComparableQuadCollector, MaxComparatorQuadCollector, MaxPropertyQuadCollector, MinComparableQuadCollector,
-        MinComparatorQuadCollector, MinPropertyQuadCollector, ToCollectionQuadCollector, ToListQuadCollector,
-        ToMultiMapQuadCollector, ToSetQuadCollector, ToSimpleMapQuadCollector, ToSortedSetComparatorQuadCollector {
+        permits LoadBalanceQuadCollector, MaxComparableQuadCollector, MaxComparatorQuadCollector,
+        MaxPropertyQuadCollector, MinComparableQuadCollector, MinComparatorQuadCollector, MinPropertyQuadCollector,
+        ToCollectionQuadCollector, ToListQuadCollector, ToMultiMapQuadCollector, ToSetQuadCollector,
+        ToSimpleMapQuadCollector, ToSortedSetComparatorQuadCollector {
     private final QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Input_> mapper;
 
     public UndoableActionableQuadCollector(QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends Input_> mapper) {
@@ -21,6 +21,7 @@ import ai.timefold.solver.core.api.function.ToIntTriFunction;
 import ai.timefold.solver.core.api.function.ToLongTriFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.function.TriPredicate;
+import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollector;
 import ai.timefold.solver.core.impl.score.stream.ReferenceAverageCalculator;
@@ -215,6 +216,12 @@ public class InnerTriConstraintCollectors {
         return new ConsecutiveSequencesTriConstraintCollector<>(resultMap, indexMap);
     }
 
+    public static <A, B, C, Balanced_> TriConstraintCollector<A, B, C, ?, LoadBalance<Balanced_>> loadBalance(
+            TriFunction<? super A, ? super B, ? super C, ? extends Balanced_> balancedItemFunction,
+            ToLongTriFunction<? super A, ? super B, ? super C> loadFunction) {
+        return new LoadBalanceTriCollector<>(balancedItemFunction, loadFunction);
+    }
+
     public static <A, B, C, Intermediate_, Result_> TriConstraintCollector<A, B, C, ?, Result_>
             collectAndThen(TriConstraintCollector<A, B, C, ?, Intermediate_> delegate,
                     Function<Intermediate_, Result_> mappingFunction) {
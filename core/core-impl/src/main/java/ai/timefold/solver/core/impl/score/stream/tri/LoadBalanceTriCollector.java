@@ -0,0 +1,46 @@
+package ai.timefold.solver.core.impl.score.stream.tri;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.function.ToLongTriFunction;
+import ai.timefold.solver.core.api.function.TriFunction;
+import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
+import ai.timefold.solver.core.impl.score.stream.LoadBalanceUndoableActionable;
+import ai.timefold.solver.core.impl.util.Pair;
+
+final class LoadBalanceTriCollector<A, B, C, Balanced_>
+        extends
+        UndoableActionableTriCollector<A, B, C, Pair<Balanced_, Long>, LoadBalance<Balanced_>, LoadBalanceUndoableActionable<Balanced_>> {
+    private final TriFunction<? super A, ? super B, ? super C, ? extends Balanced_> balancedItemFunction;
+    private final ToLongTriFunction<? super A, ? super B, ? super C> loadFunction;
+
+    LoadBalanceTriCollector(TriFunction<? super A, ? super B, ? super C, ? extends Balanced_> balancedItemFunction,
+            ToLongTriFunction<? super A, ? super B, ? super C> loadFunction) {
+        super((a, b, c) -> new Pair<>(balancedItemFunction.apply(a, b, c), loadFunction.applyAsLong(a, b, c)));
+        this.balancedItemFunction = balancedItemFunction;
+        this.loadFunction = loadFunction;
+    }
+
+    @Override
+    public Supplier<LoadBalanceUndoableActionable<Balanced_>> supplier() {
+        return LoadBalanceUndoableActionable::new;
+    }
+
+    // Don't call super equals/hashCode; the mapper is calculated from balancedItemFunction and loadFunction
+    @Override
+    public boolean equals(Object object) {
+        if (this == object)
+            return true;
+        if (object == null || getClass() != object.getClass())
+            return false;
+        var that = (LoadBalanceTriCollector<?, ?, ?, ?>) object;
+        return Objects.equals(balancedItemFunction, that.balancedItemFunction)
+                && Objects.equals(loadFunction, that.loadFunction);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(balancedItemFunction, loadFunction);
+    }
+}
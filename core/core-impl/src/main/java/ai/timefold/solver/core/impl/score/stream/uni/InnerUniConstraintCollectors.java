@@ -20,6 +20,7 @@ import java.util.function.ToLongFunction;
 
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
+import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
 import ai.timefold.solver.core.impl.score.stream.ReferenceAverageCalculator;
@@ -195,6 +196,12 @@ public class InnerUniConstraintCollectors {
         return new ConsecutiveSequencesUniConstraintCollector<>(indexMap);
     }
 
+    public static <A, Balanced_> UniConstraintCollector<A, ?, LoadBalance<Balanced_>> loadBalance(
+            Function<? super A, ? extends Balanced_> balancedItemFunction,
+            ToLongFunction<? super A> loadFunction) {
+        return new LoadBalanceUniCollector<>(balancedItemFunction, loadFunction);
+    }
+
     public static <A, Intermediate_, Result_> UniConstraintCollector<A, ?, Result_>
             collectAndThen(UniConstraintCollector<A, ?, Intermediate_> delegate,
                     Function<Intermediate_, Result_> mappingFunction) {
@@ -0,0 +1,46 @@
+package ai.timefold.solver.core.impl.score.stream.uni;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
+import ai.timefold.solver.core.impl.score.stream.LoadBalanceUndoableActionable;
+import ai.timefold.solver.core.impl.util.Pair;
+
+final class LoadBalanceUniCollector<A, Balanced_>
+        extends
+        UndoableActionableUniCollector<A, Pair<Balanced_, Long>, LoadBalance<Balanced_>, LoadBalanceUndoableActionable<Balanced_>> {
+    private final Function<? super A, ? extends Balanced_> balancedItemFunction;
+    private final ToLongFunction<? super A> loadFunction;
+
+    LoadBalanceUniCollector(Function<? super A, ? extends Balanced_> balancedItemFunction,
+            ToLongFunction<? super A> loadFunction) {
+        super(a -> new Pair<>(balancedItemFunction.apply(a), loadFunction.applyAsLong(a)));
+        this.balancedItemFunction = balancedItemFunction;
+        this.loadFunction = loadFunction;
+    }
+
+    @Override
+    public Supplier<LoadBalanceUndoableActionable<Balanced_>> supplier() {
+        return LoadBalanceUndoableActionable::new;
+    }
+
+    // Don't call super equals/hashCode; the mapper is calculated from balancedItemFunction and loadFunction
+    @Override
+    public boolean equals(Object object) {
+        if (this == object)
+            return true;
+        if (object == null || getClass() != object.getClass())
+            return false;
+        var that = (LoadBalanceUniCollector<?, ?>) object;
+        return Objects.equals(balancedItemFunction, that.balancedItemFunction)
+                && Objects.equals(loadFunction, that.loadFunction);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(balancedItemFunction, loadFunction);
+    }
+}
@@ -4,6 +4,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.event.SolverEventListener;
 import ai.timefold.solver.core.impl.phase.AbstractPhase;
@@ -132,6 +133,44 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
         // Do not propagate to phases; the active phase does that for itself and they should not propagate further.
     }
 
+    public void phaseProblemChanged(AbstractPhaseScope<Solution_> phaseScope) {
+        phaseLifecycleSupport.firePhaseProblemChanged(phaseScope);
+        solverTermination.phaseProblemChanged(phaseScope);
+        // Do not propagate to phases; the active phase does that for itself and they should not propagate further.
+    }
+
+    // ************************************************************************
+    // Problem changes
+    // ************************************************************************
+
+    /**
+     * A phase that can continue on a changed problem calls this with true when it starts,
+     * so that pending problem changes no longer terminate the solver,
+     * and then calls {@link #applyPendingProblemChanges(SolverScope)} between its steps.
+     * <p>
+     * Child solvers do not receive problem changes, so by default this does nothing.
+     *
+     * @param problemChangesAppliedInPhase true if the running phase applies the problem changes
+     */
+    public void setProblemChangesAppliedInPhase(boolean problemChangesAppliedInPhase) {
+        // Overridable by a subclass.
+    }
+
+    /**
+     * Applies the pending problem changes to the working solution, incrementally through the score director,
+     * and makes it the new best solution.
+     * Only if the working solution is worse than the best solution,
+     * it is first replaced by a clone of the best solution, which rebuilds the score director's state.
+     * The running phase must then call {@link #phaseProblemChanged(AbstractPhaseScope)}.
+     * If the changed working solution is no longer initialized, the solver is restarted after the running phase ends.
+     *
+     * @param solverScope never null
+     * @return null if no problem change was pending, otherwise the score of the changed working solution
+     */
+    public Score<?> applyPendingProblemChanges(SolverScope<Solution_> solverScope) {
+        return null;
+    }
+
     // ************************************************************************
     // Event listeners
     // ************************************************************************
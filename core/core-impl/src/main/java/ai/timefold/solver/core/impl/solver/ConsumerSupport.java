@@ -4,6 +4,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -16,12 +17,21 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
     private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
     private final Semaphore activeConsumption = new Semaphore(1);
     private final BestSolutionHolder<Solution_> bestSolutionHolder;
-    private final ExecutorService consumerExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService consumerExecutor;
 
     public ConsumerSupport(ProblemId_ problemId, Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
             BestSolutionHolder<Solution_> bestSolutionHolder) {
+        this(problemId, bestSolutionConsumer, finalBestSolutionConsumer, exceptionHandler, bestSolutionHolder,
+                Executors.defaultThreadFactory());
+    }
+
+    public ConsumerSupport(ProblemId_ problemId, Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            BestSolutionHolder<Solution_> bestSolutionHolder, ThreadFactory consumerThreadFactory) {
+        this.consumerExecutor = Executors.newSingleThreadExecutor(consumerThreadFactory);
         this.problemId = problemId;
         this.bestSolutionConsumer = bestSolutionConsumer;
         this.finalBestSolutionConsumer = finalBestSolutionConsumer == null ? finalBestSolution -> {
@@ -105,19 +105,35 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
     public ScoreAnalysis<Score_> analyze(Solution_ solution, ScoreAnalysisFetchPolicy fetchPolicy,
             SolutionUpdatePolicy solutionUpdatePolicy) {
         Objects.requireNonNull(fetchPolicy, "fetchPolicy");
+        return analyze(solution, fetchPolicy, Integer.MAX_VALUE, solutionUpdatePolicy);
+    }
+
+    @Override
+    public ScoreAnalysis<Score_> analyze(Solution_ solution, int matchLimit, SolutionUpdatePolicy solutionUpdatePolicy) {
+        if (matchLimit < 1) {
+            throw new IllegalArgumentException("The matchLimit (%d) must be at least 1.".formatted(matchLimit));
+        }
+        return analyze(solution, ScoreAnalysisFetchPolicy.FETCH_ALL, matchLimit, solutionUpdatePolicy);
+    }
+
+    private ScoreAnalysis<Score_> analyze(Solution_ solution, ScoreAnalysisFetchPolicy fetchPolicy, int matchLimit,
+            SolutionUpdatePolicy solutionUpdatePolicy) {
         var currentScore = (Score_) scoreDirectorFactory.getSolutionDescriptor().getScore(solution);
         var analysis = callScoreDirector(solution, solutionUpdatePolicy,
-                scoreDirector -> scoreDirector.buildScoreAnalysis(fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_ALL), true,
-                false);
+                scoreDirector -> scoreDirector.buildScoreAnalysis(fetchPolicy, matchLimit, false), true, false);
         assertFreshScore(solution, currentScore, analysis.score(), solutionUpdatePolicy);
         return analysis;
     }
 
     @Override
     public <In_, Out_> List<RecommendedFit<Out_, Score_>> recommendFit(Solution_ solution, In_ fittedEntityOrElement,
-            Function<In_, Out_> propositionFunction, ScoreAnalysisFetchPolicy fetchPolicy) {
+            Function<In_, Out_> propositionFunction, ScoreAnalysisFetchPolicy fetchPolicy, int recommendationLimit) {
+        if (recommendationLimit < 1) {
+            throw new IllegalArgumentException(
+                    "The recommendationLimit (%d) must be at least 1.".formatted(recommendationLimit));
+        }
         var fitter = new Fitter<Solution_, In_, Out_, Score_>(solverFactory, solution, fittedEntityOrElement,
-                propositionFunction, fetchPolicy);
+                propositionFunction, fetchPolicy, recommendationLimit);
         return callScoreDirector(solution, SolutionUpdatePolicy.UPDATE_ALL, fitter, true, true);
     }
 
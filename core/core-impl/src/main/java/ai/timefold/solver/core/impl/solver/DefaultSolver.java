@@ -264,14 +264,7 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
                     .startProblemFactChangesProcessing();
             solverScope.setWorkingSolutionFromBestSolution();
 
-            int stepIndex = 0;
-            ProblemChangeAdapter<Solution_> problemChangeAdapter = problemFactChangeQueue.poll();
-            while (problemChangeAdapter != null) {
-                problemChangeAdapter.doProblemChange(solverScope);
-                logger.debug("    Real-time problem change applied; step index ({}).", stepIndex);
-                stepIndex++;
-                problemChangeAdapter = problemFactChangeQueue.poll();
-            }
+            int stepIndex = doProblemChanges(problemFactChangeQueue);
             // All PFCs are processed, fail fast if any of the new facts have null planning IDs.
             InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
             scoreDirector.assertNonNullPlanningIds();
@@ -284,4 +277,58 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             return true;
         }
     }
+
+    private int doProblemChanges(BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue) {
+        int stepIndex = 0;
+        ProblemChangeAdapter<Solution_> problemChangeAdapter = problemFactChangeQueue.poll();
+        while (problemChangeAdapter != null) {
+            problemChangeAdapter.doProblemChange(solverScope);
+            logger.debug("    Real-time problem change applied; step index ({}).", stepIndex);
+            stepIndex++;
+            problemChangeAdapter = problemFactChangeQueue.poll();
+        }
+        return stepIndex;
+    }
+
+    @Override
+    public void setProblemChangesAppliedInPhase(boolean problemChangesAppliedInPhase) {
+        basicPlumbingTermination.setProblemFactChangesProcessedInPhase(problemChangesAppliedInPhase);
+    }
+
+    @Override
+    public Score<?> applyPendingProblemChanges(SolverScope<Solution_> solverScope) {
+        if (!basicPlumbingTermination.isProblemFactChangePending()) {
+            return null;
+        }
+        BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue = basicPlumbingTermination
+                .startProblemFactChangesProcessing();
+        // Unlike a restart, the changes are applied on the working solution through the live score director,
+        // so the score is updated incrementally instead of being rebuilt from a clone of the best solution.
+        // The changed working solution becomes the new best solution,
+        // so only step back to the best solution if the acceptor took a detour to a worse working solution.
+        if (isWorkingScoreWorseThanBestScore(solverScope)) {
+            solverScope.setWorkingSolutionFromBestSolution();
+        }
+        int stepIndex = doProblemChanges(problemFactChangeQueue);
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        scoreDirector.assertNonNullPlanningIds();
+        Score<?> score = scoreDirector.calculateScore();
+        if (!score.isSolutionInitialized()) {
+            // The running phase cannot initialize the new planning entities, so restart the solver.
+            basicPlumbingTermination.requestRestart();
+        }
+        basicPlumbingTermination.endProblemFactChangesProcessing();
+        bestSolutionRecaller.updateBestSolutionAndFireIfInitialized(solverScope);
+        logger.info("Real-time problem fact changes done without restart: step total ({}), new best score ({}).",
+                stepIndex, score);
+        return score;
+    }
+
+    private static <Solution_, Score_ extends Score<Score_>> boolean
+            isWorkingScoreWorseThanBestScore(SolverScope<Solution_> solverScope) {
+        InnerScoreDirector<Solution_, Score_> scoreDirector = solverScope.getScoreDirector();
+        // Incremental, and cheap between 2 steps, because the last step already calculated the score.
+        Score_ workingScore = scoreDirector.calculateScore();
+        return workingScore.compareTo((Score_) solverScope.getBestScore()) < 0;
+    }
 }
@@ -107,6 +107,9 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         }
 
         var innerScoreDirector = scoreDirectorFactory.buildScoreDirector(true, constraintMatchEnabled);
+        if (Objects.requireNonNullElse(solverConfig.getBestSolutionStructurallyShared(), false)) {
+            innerScoreDirector.setStructurallySharedSnapshots(true);
+        }
         solverScope.setScoreDirector(innerScoreDirector);
         solverScope.setProblemChangeDirector(new DefaultProblemChangeDirector<>(innerScoreDirector));
 
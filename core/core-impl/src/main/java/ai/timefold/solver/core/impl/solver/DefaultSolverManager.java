@@ -1,13 +1,17 @@
 package ai.timefold.solver.core.impl.solver;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -20,6 +24,7 @@ import ai.timefold.solver.core.api.solver.SolverManager;
 import ai.timefold.solver.core.api.solver.SolverStatus;
 import ai.timefold.solver.core.api.solver.change.ProblemChange;
 import ai.timefold.solver.core.config.solver.SolverManagerConfig;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +40,10 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     private final BiConsumer<ProblemId_, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
     private final ExecutorService solverThreadPool;
+    private final boolean solverThreadPoolOwned;
+    // Null if the solverThreadPool has as many threads as there are solver jobs allowed to solve at the same time.
+    private final Semaphore solvingPermits;
+    private final ThreadFactory consumerThreadFactory;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory,
@@ -44,7 +53,30 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         this.solverFactory = solverFactory;
         validateSolverFactory();
         int parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+        ExecutorService executorService = solverManagerConfig.getExecutorService();
+        boolean virtualThreads = Boolean.TRUE.equals(solverManagerConfig.getVirtualThreads());
+        if (executorService != null) {
+            if (virtualThreads) {
+                throw new IllegalArgumentException("The solverManagerConfig with an executorService (" + executorService
+                        + ") cannot also have virtualThreads (" + solverManagerConfig.getVirtualThreads() + ").\n"
+                        + "Maybe build the executorService with virtual threads instead.");
+            }
+            solverThreadPool = executorService;
+            solverThreadPoolOwned = false;
+            solvingPermits = new Semaphore(parallelSolverCount);
+            consumerThreadFactory = Executors.defaultThreadFactory();
+        } else if (virtualThreads) {
+            // Idle solver jobs (waiting for their turn or for problem changes) then no longer hold a platform thread.
+            solverThreadPool = ThreadUtils.buildVirtualThreadPerTaskExecutor("Timefold-Solver-");
+            solverThreadPoolOwned = true;
+            solvingPermits = new Semaphore(parallelSolverCount);
+            consumerThreadFactory = ThreadUtils.buildVirtualThreadFactory("Timefold-Consumer-");
+        } else {
+            solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+            solverThreadPoolOwned = true;
+            solvingPermits = null;
+            consumerThreadFactory = Executors.defaultThreadFactory();
+        }
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
@@ -52,6 +84,10 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         return solverFactory;
     }
 
+    ThreadFactory getConsumerThreadFactory() {
+        return consumerThreadFactory;
+    }
+
     private void validateSolverFactory() {
         solverFactory.buildSolver();
     }
@@ -105,11 +141,29 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
                                 bestSolutionConsumer, finalBestSolutionConsumer, finalExceptionHandler);
                     }
                 });
-        Future<Solution_> future = solverThreadPool.submit(solverJob);
+        Future<Solution_> future = solverThreadPool.submit(limitSolvingConcurrency(solverJob));
         solverJob.setFinalBestSolutionFuture(future);
         return solverJob;
     }
 
+    private Callable<Solution_> limitSolvingConcurrency(DefaultSolverJob<Solution_, ProblemId_> solverJob) {
+        if (solvingPermits == null) {
+            return solverJob;
+        }
+        return () -> {
+            if (solverJob.getSolverStatus() != SolverStatus.SOLVING_SCHEDULED) {
+                // Terminated before it started, so it returns immediately without solving.
+                return solverJob.call();
+            }
+            solvingPermits.acquire();
+            try {
+                return solverJob.call();
+            } finally {
+                solvingPermits.release();
+            }
+        };
+    }
+
     @Override
     public SolverStatus getSolverStatus(ProblemId_ problemId) {
         DefaultSolverJob<Solution_, ProblemId_> solverJob = getSolverJob(problemId);
@@ -156,8 +210,16 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
 
     @Override
     public void close() {
-        solverThreadPool.shutdownNow();
-        problemIdToSolverJobMap.values().forEach(DefaultSolverJob::close);
+        if (solverThreadPoolOwned) {
+            solverThreadPool.shutdownNow();
+            problemIdToSolverJobMap.values().forEach(DefaultSolverJob::close);
+        } else {
+            // The executorService is shared with the caller, so only this manager's solver jobs are stopped.
+            // Terminating a solver job unregisters it, so iterate over a copy.
+            List<DefaultSolverJob<Solution_, ProblemId_>> solverJobList = List.copyOf(problemIdToSolverJobMap.values());
+            solverJobList.forEach(DefaultSolverJob::terminateEarly);
+            solverJobList.forEach(DefaultSolverJob::close);
+        }
     }
 
     void unregisterSolverJob(ProblemId_ problemId) {
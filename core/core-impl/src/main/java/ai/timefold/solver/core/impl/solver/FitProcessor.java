@@ -1,8 +1,10 @@
 package ai.timefold.solver.core.impl.solver;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Random;
 import java.util.function.Function;
 
@@ -12,6 +14,7 @@ import ai.timefold.solver.core.api.solver.RecommendedFit;
 import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
 import ai.timefold.solver.core.impl.constructionheuristic.DefaultConstructionHeuristicPhase;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacer;
+import ai.timefold.solver.core.impl.constructionheuristic.placer.Placement;
 import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
 import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
@@ -26,14 +29,17 @@ public final class FitProcessor<Solution_, In_, Out_, Score_ extends Score<Score
     private final ScoreAnalysisFetchPolicy fetchPolicy;
     private final Function<In_, Out_> valueResultFunction;
     private final In_ clonedElement;
+    private final int recommendationLimit;
 
     public FitProcessor(DefaultSolverFactory<Solution_> solverFactory, Function<In_, Out_> valueResultFunction,
-            ScoreAnalysis<Score_> originalScoreAnalysis, In_ clonedElement, ScoreAnalysisFetchPolicy fetchPolicy) {
+            ScoreAnalysis<Score_> originalScoreAnalysis, In_ clonedElement, ScoreAnalysisFetchPolicy fetchPolicy,
+            int recommendationLimit) {
         this.solverFactory = Objects.requireNonNull(solverFactory);
         this.originalScoreAnalysis = Objects.requireNonNull(originalScoreAnalysis);
         this.fetchPolicy = Objects.requireNonNull(fetchPolicy);
         this.valueResultFunction = valueResultFunction;
         this.clonedElement = clonedElement;
+        this.recommendationLimit = recommendationLimit;
     }
 
     @Override
@@ -57,6 +63,9 @@ public final class FitProcessor<Solution_, In_, Out_, Score_ extends Score<Score
                         """.formatted(entityPlacer));
             }
             var placement = placementIterator.next();
+            if (recommendationLimit != Integer.MAX_VALUE) {
+                return executeBest(scoreDirector, placement);
+            }
             var recommendedFitList = new ArrayList<RecommendedFit<Out_, Score_>>();
             var moveIndex = 0L;
             for (var move : placement) {
@@ -96,7 +105,7 @@ public final class FitProcessor<Solution_, In_, Out_, Score_ extends Score<Score
     private RecommendedFit<Out_, Score_> execute(InnerScoreDirector<Solution_, Score_> scoreDirector, Move<Solution_> move,
             long moveIndex, In_ clonedElement, Function<In_, Out_> propositionFunction) {
         var undo = move.doMove(scoreDirector);
-        var newScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_ALL);
+        var newScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy, Integer.MAX_VALUE, false);
         var newScoreDifference = newScoreAnalysis.diff(originalScoreAnalysis);
         var result = propositionFunction.apply(clonedElement);
         var recommendation = new DefaultRecommendedFit<>(moveIndex, result, newScoreDifference);
@@ -104,4 +113,37 @@ public final class FitProcessor<Solution_, In_, Out_, Score_ extends Score<Score
         return recommendation;
     }
 
+    /**
+     * Only calculates the score of every move, which is incremental and therefore cheap,
+     * and only builds the score analysis and the proposition for the best moves.
+     */
+    private List<RecommendedFit<Out_, Score_>> executeBest(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            Placement<Solution_> placement) {
+        // Same order as DefaultRecommendedFit: better scores first, otherwise the earlier move first.
+        var candidateComparator = Comparator.<Candidate<Solution_, Score_>, Score_> comparing(Candidate::score)
+                .reversed()
+                .thenComparingLong(Candidate::moveIndex);
+        // The head of the queue is the worst candidate kept so far.
+        var candidateQueue = new PriorityQueue<>(candidateComparator.reversed());
+        var moveIndex = 0L;
+        for (var move : placement) {
+            var score = scoreDirector.doAndProcessMove(move, false);
+            candidateQueue.add(new Candidate<>(moveIndex, move, score));
+            if (candidateQueue.size() > recommendationLimit) {
+                candidateQueue.poll();
+            }
+            moveIndex++;
+        }
+        var recommendedFitList = new ArrayList<RecommendedFit<Out_, Score_>>(candidateQueue.size());
+        for (var candidate : candidateQueue) {
+            recommendedFitList.add(execute(scoreDirector, candidate.move(), candidate.moveIndex(), clonedElement,
+                    valueResultFunction));
+        }
+        recommendedFitList.sort(null);
+        return recommendedFitList;
+    }
+
+    private record Candidate<Solution_, Score_ extends Score<Score_>>(long moveIndex, Move<Solution_> move, Score_ score) {
+    }
+
 }
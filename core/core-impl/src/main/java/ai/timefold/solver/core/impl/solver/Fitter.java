@@ -17,14 +17,16 @@ final class Fitter<Solution_, In_, Out_, Score_ extends Score<Score_>>
     private final In_ originalElement;
     private final Function<In_, Out_> propositionFunction;
     private final ScoreAnalysisFetchPolicy fetchPolicy;
+    private final int recommendationLimit;
 
     public Fitter(DefaultSolverFactory<Solution_> solverFactory, Solution_ originalSolution, In_ originalElement,
-            Function<In_, Out_> propositionFunction, ScoreAnalysisFetchPolicy fetchPolicy) {
+            Function<In_, Out_> propositionFunction, ScoreAnalysisFetchPolicy fetchPolicy, int recommendationLimit) {
         this.solverFactory = Objects.requireNonNull(solverFactory);
         this.originalSolution = Objects.requireNonNull(originalSolution);
         this.originalElement = Objects.requireNonNull(originalElement);
         this.propositionFunction = Objects.requireNonNull(propositionFunction);
         this.fetchPolicy = Objects.requireNonNull(fetchPolicy);
+        this.recommendationLimit = recommendationLimit;
     }
 
     @Override
@@ -40,10 +42,11 @@ final class Fitter<Solution_, In_, Out_, Score_ extends Score<Score_>>
                     """
                     .formatted(originalSolution, uninitializedCount));
         }
-        var originalScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_ALL, true);
+        var originalScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy, Integer.MAX_VALUE, true);
         var clonedElement = scoreDirector.lookUpWorkingObject(originalElement);
         var processor =
-                new FitProcessor<>(solverFactory, propositionFunction, originalScoreAnalysis, clonedElement, fetchPolicy);
+                new FitProcessor<>(solverFactory, propositionFunction, originalScoreAnalysis, clonedElement, fetchPolicy,
+                        recommendationLimit);
         return processor.apply(scoreDirector);
     }
 
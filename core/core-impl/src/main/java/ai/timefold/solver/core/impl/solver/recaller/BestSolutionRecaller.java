@@ -49,7 +49,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         InnerScoreDirector scoreDirector = solverScope.getScoreDirector();
         Score score = scoreDirector.calculateScore();
         solverScope.setBestScore(score);
-        solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
+        solverScope.setBestSolutionTimeMillis(solverScope.getClock().tick());
         // The original bestSolution might be the final bestSolution and should have an accurate Score
         solverScope.getSolutionDescriptor().setScore(solverScope.getBestSolution(), score);
         if (score.isSolutionInitialized()) {
@@ -102,7 +102,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolutionSnapshot();
             updateBestSolutionAndFire(solverScope, score, newBestSolution);
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
@@ -127,7 +127,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     }
 
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope) {
-        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolutionSnapshot();
         Score newBestScore = solverScope.getSolutionDescriptor().getScore(newBestSolution);
         updateBestSolutionWithoutFiring(solverScope, newBestScore, newBestSolution);
     }
@@ -140,7 +140,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
         solverScope.setBestSolution(bestSolution);
         solverScope.setBestScore(bestScore);
-        solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
+        solverScope.setBestSolutionTimeMillis(solverScope.getClock().tick());
     }
 
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
@@ -20,6 +21,8 @@ import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
 import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.solver.thread.CoarseClock;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
 
 import io.micrometer.core.instrument.Tags;
 
@@ -27,6 +30,9 @@ import io.micrometer.core.instrument.Tags;
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
 public class SolverScope<Solution_> {
+
+    private static final int VIRTUAL_THREAD_YIELD_INTERVAL = 1024;
+
     protected Set<SolverMetric> solverMetricSet;
     protected Tags monitoringTags;
     protected int startingSolverCount;
@@ -37,10 +43,21 @@ public class SolverScope<Solution_> {
      * Used for capping CPU power usage in multithreaded scenarios.
      */
     protected Semaphore runnableThreadSemaphore = null;
+    protected boolean yieldingVirtualThread = false;
+    protected int yieldingCheckCount = 0;
+    /**
+     * Read by the time-based terminations, ticked by the solver thread.
+     */
+    protected CoarseClock clock = new CoarseClock();
 
     protected volatile Long startingSystemTimeMillis;
     protected volatile Long endingSystemTimeMillis;
     protected long childThreadsScoreCalculationCount = 0;
+    /**
+     * The memory footprint in bytes of the probability selection caches that are currently constructed.
+     * Read by the {@link SolverMetric#PROBABILITY_SELECTION_MEMORY_FOOTPRINT} gauge from another thread.
+     */
+    protected final AtomicLong probabilitySelectionMemoryFootprint = new AtomicLong(0L);
 
     protected Score startingInitializedScore;
 
@@ -84,6 +101,10 @@ public class SolverScope<Solution_> {
         this.solverMetricSet = solverMetricSet;
     }
 
+    public CoarseClock getClock() {
+        return clock;
+    }
+
     public int getStartingSolverCount() {
         return startingSolverCount;
     }
@@ -160,6 +181,14 @@ public class SolverScope<Solution_> {
         return scoreDirector.getCalculationCount() + childThreadsScoreCalculationCount;
     }
 
+    public void addProbabilitySelectionMemoryFootprint(long addition) {
+        probabilitySelectionMemoryFootprint.addAndGet(addition);
+    }
+
+    public long getProbabilitySelectionMemoryFootprint() {
+        return probabilitySelectionMemoryFootprint.get();
+    }
+
     public Solution_ getBestSolution() {
         return bestSolution;
     }
@@ -199,7 +228,7 @@ public class SolverScope<Solution_> {
     }
 
     public void startingNow() {
-        startingSystemTimeMillis = System.currentTimeMillis();
+        startingSystemTimeMillis = clock.tick();
         endingSystemTimeMillis = null;
     }
 
@@ -208,7 +237,7 @@ public class SolverScope<Solution_> {
     }
 
     public void endingNow() {
-        endingSystemTimeMillis = System.currentTimeMillis();
+        endingSystemTimeMillis = clock.tick();
     }
 
     public boolean isBestSolutionInitialized() {
@@ -216,7 +245,7 @@ public class SolverScope<Solution_> {
     }
 
     public long calculateTimeMillisSpentUpToNow() {
-        long now = System.currentTimeMillis();
+        long now = clock.millis();
         return now - startingSystemTimeMillis;
     }
 
@@ -247,6 +276,7 @@ public class SolverScope<Solution_> {
         // Experiments show that this trick to attain reproducibility doesn't break uniform distribution
         childThreadSolverScope.workingRandom = new Random(workingRandom.nextLong());
         childThreadSolverScope.scoreDirector = scoreDirector.createChildThreadScoreDirector(childThreadType);
+        childThreadSolverScope.clock = clock.createChildThreadClock();
         childThreadSolverScope.startingSystemTimeMillis = startingSystemTimeMillis;
         childThreadSolverScope.endingSystemTimeMillis = null;
         childThreadSolverScope.startingInitializedScore = null;
@@ -257,6 +287,8 @@ public class SolverScope<Solution_> {
     }
 
     public void initializeYielding() {
+        yieldingVirtualThread = ThreadUtils.isVirtualThread(Thread.currentThread());
+        yieldingCheckCount = 0;
         if (runnableThreadSemaphore != null) {
             try {
                 runnableThreadSemaphore.acquire();
@@ -276,8 +308,17 @@ public class SolverScope<Solution_> {
      * Needs to be called <b>before</b> {@link Termination#isPhaseTerminated(AbstractPhaseScope)},
      * so the decision to start a new iteration is after any yield waiting time has been consumed
      * (so {@link Solver#terminateEarly()} reacts immediately).
+     * <p>
+     * On a virtual thread, it also yields the carrier thread every {@value #VIRTUAL_THREAD_YIELD_INTERVAL} calls,
+     * because a solver never blocks on its own and would otherwise starve the other virtual threads of that carrier.
+     * <p>
+     * It also ticks the {@link #getClock() clock}, so the time-based terminations see the time after the yield.
      */
     public void checkYielding() {
+        if (yieldingVirtualThread && ++yieldingCheckCount >= VIRTUAL_THREAD_YIELD_INTERVAL) {
+            yieldingCheckCount = 0;
+            Thread.yield();
+        }
         if (runnableThreadSemaphore != null) {
             runnableThreadSemaphore.release();
             try {
@@ -287,6 +328,7 @@ public class SolverScope<Solution_> {
                 Thread.currentThread().interrupt();
             }
         }
+        clock.tick();
     }
 
     public void destroyYielding() {
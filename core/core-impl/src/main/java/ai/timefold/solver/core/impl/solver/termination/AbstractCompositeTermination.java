@@ -59,6 +59,13 @@ public abstract class AbstractCompositeTermination<Solution_> extends AbstractTe
         }
     }
 
+    @Override
+    public void phaseProblemChanged(AbstractPhaseScope<Solution_> phaseScope) {
+        for (Termination<Solution_> termination : terminationList) {
+            termination.phaseProblemChanged(phaseScope);
+        }
+    }
+
     @Override
     public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
         for (Termination<Solution_> termination : terminationList) {
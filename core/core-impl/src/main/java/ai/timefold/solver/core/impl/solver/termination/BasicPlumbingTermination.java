@@ -4,6 +4,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.solver.change.ProblemChangeAdapter;
@@ -12,17 +15,25 @@ import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
 /**
  * Concurrency notes:
- * Condition predicate on ({@link #problemFactChangeQueue} is not empty or {@link #terminatedEarly} is true).
+ * Condition predicate on ({@link #problemFactChangeQueue} is not empty, {@link #restartRequested} is true
+ * or {@link #terminatedEarly} is true).
+ * The state is guarded by a {@link Lock} instead of the intrinsic lock,
+ * so a solver that waits on a virtual thread does not pin its carrier thread.
  */
 public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Solution_> {
 
     protected final boolean daemon;
 
+    private final Lock lock = new ReentrantLock();
+    private final Condition restartSolverDecisionChanged = lock.newCondition();
+
     protected boolean terminatedEarly = false;
 
     protected BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue = new LinkedBlockingQueue<>();
 
     protected boolean problemFactChangesBeingProcessed = false;
+    protected boolean problemFactChangesProcessedInPhase = false;
+    protected boolean restartRequested = false;
 
     public BasicPlumbingTermination(boolean daemon) {
         this.daemon = daemon;
@@ -35,8 +46,13 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
     /**
      * This method is thread-safe.
      */
-    public synchronized void resetTerminateEarly() {
-        terminatedEarly = false;
+    public void resetTerminateEarly() {
+        lock.lock();
+        try {
+            terminatedEarly = false;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -46,40 +62,57 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
      *
      * @return true if successful
      */
-    public synchronized boolean terminateEarly() {
-        boolean terminationEarlySuccessful = !terminatedEarly;
-        terminatedEarly = true;
-        notifyAll();
-        return terminationEarlySuccessful;
+    public boolean terminateEarly() {
+        lock.lock();
+        try {
+            boolean terminationEarlySuccessful = !terminatedEarly;
+            terminatedEarly = true;
+            restartSolverDecisionChanged.signalAll();
+            return terminationEarlySuccessful;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * This method is thread-safe.
      */
-    public synchronized boolean isTerminateEarly() {
-        return terminatedEarly;
+    public boolean isTerminateEarly() {
+        lock.lock();
+        try {
+            return terminatedEarly;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
-     * If this returns true, then the problemFactChangeQueue is definitely not empty.
+     * If this returns true, then the problemFactChangeQueue is definitely not empty
+     * or a {@link #requestRestart() restart was requested}.
      * <p>
-     * Concurrency note: Blocks until {@link #problemFactChangeQueue} is not empty or {@link #terminatedEarly} is true.
+     * Concurrency note: Blocks until {@link #problemFactChangeQueue} is not empty, {@link #restartRequested} is true
+     * or {@link #terminatedEarly} is true.
      *
      * @return true if the solver needs to be restarted
      */
-    public synchronized boolean waitForRestartSolverDecision() {
-        if (!daemon) {
-            return !problemFactChangeQueue.isEmpty() && !terminatedEarly;
-        } else {
-            while (problemFactChangeQueue.isEmpty() && !terminatedEarly) {
-                try {
-                    wait();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new IllegalStateException("Solver thread was interrupted during Object.wait().", e);
+    public boolean waitForRestartSolverDecision() {
+        lock.lock();
+        try {
+            if (!daemon) {
+                return (!problemFactChangeQueue.isEmpty() || restartRequested) && !terminatedEarly;
+            } else {
+                while (problemFactChangeQueue.isEmpty() && !restartRequested && !terminatedEarly) {
+                    try {
+                        restartSolverDecisionChanged.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Solver thread was interrupted during Condition.await().", e);
+                    }
                 }
+                return !terminatedEarly;
             }
-            return !terminatedEarly;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -89,10 +122,15 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
      * @param problemChange never null
      * @return as specified by {@link Collection#add}
      */
-    public synchronized boolean addProblemChange(ProblemChangeAdapter<Solution_> problemChange) {
-        boolean added = problemFactChangeQueue.add(problemChange);
-        notifyAll();
-        return added;
+    public boolean addProblemChange(ProblemChangeAdapter<Solution_> problemChange) {
+        lock.lock();
+        try {
+            boolean added = problemFactChangeQueue.add(problemChange);
+            restartSolverDecisionChanged.signalAll();
+            return added;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -101,23 +139,90 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
      * @param problemChangeList never null
      * @return as specified by {@link Collection#add}
      */
-    public synchronized boolean addProblemChanges(List<ProblemChangeAdapter<Solution_>> problemChangeList) {
-        boolean added = problemFactChangeQueue.addAll(problemChangeList);
-        notifyAll();
-        return added;
+    public boolean addProblemChanges(List<ProblemChangeAdapter<Solution_>> problemChangeList) {
+        lock.lock();
+        try {
+            boolean added = problemFactChangeQueue.addAll(problemChangeList);
+            restartSolverDecisionChanged.signalAll();
+            return added;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public BlockingQueue<ProblemChangeAdapter<Solution_>> startProblemFactChangesProcessing() {
+        lock.lock();
+        try {
+            problemFactChangesBeingProcessed = true;
+            restartRequested = false;
+            return problemFactChangeQueue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void endProblemFactChangesProcessing() {
+        lock.lock();
+        try {
+            problemFactChangesBeingProcessed = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEveryProblemFactChangeProcessed() {
+        lock.lock();
+        try {
+            return problemFactChangeQueue.isEmpty() && !problemFactChangesBeingProcessed;
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized BlockingQueue<ProblemChangeAdapter<Solution_>> startProblemFactChangesProcessing() {
-        problemFactChangesBeingProcessed = true;
-        return problemFactChangeQueue;
+    /**
+     * While true, pending problem fact changes do not terminate the solver,
+     * because the running phase applies them between its steps.
+     *
+     * @param problemFactChangesProcessedInPhase true if the running phase applies the problem fact changes
+     */
+    public void setProblemFactChangesProcessedInPhase(boolean problemFactChangesProcessedInPhase) {
+        lock.lock();
+        try {
+            this.problemFactChangesProcessedInPhase = problemFactChangesProcessedInPhase;
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized void endProblemFactChangesProcessing() {
-        problemFactChangesBeingProcessed = false;
+    /**
+     * This method is thread-safe.
+     *
+     * @return true if at least one problem fact change has not been processed yet
+     */
+    public boolean isProblemFactChangePending() {
+        lock.lock();
+        try {
+            return !problemFactChangeQueue.isEmpty();
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized boolean isEveryProblemFactChangeProcessed() {
-        return problemFactChangeQueue.isEmpty() && !problemFactChangesBeingProcessed;
+    /**
+     * Terminates the solver and restarts it, even though no problem fact change is pending.
+     * Used when problem fact changes were processed in a phase which cannot continue on the changed problem,
+     * for example because the changes added uninitialized planning entities.
+     * <p>
+     * Concurrency note: unblocks {@link #waitForRestartSolverDecision()}.
+     */
+    public void requestRestart() {
+        lock.lock();
+        try {
+            restartRequested = true;
+            restartSolverDecisionChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
     }
 
     // ************************************************************************
@@ -125,18 +230,24 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
     // ************************************************************************
 
     @Override
-    public synchronized boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
-        // Destroying a thread pool with solver threads will only cause it to interrupt those solver threads,
-        // it won't call Solver.terminateEarly()
-        if (Thread.currentThread().isInterrupted() // Does not clear the interrupted flag
-                // Avoid duplicate log message because this method is called twice:
-                // - in the phase step loop (every phase termination bridges to the solver termination)
-                // - in the solver's phase loop
-                && !terminatedEarly) {
-            logger.info("The solver thread got interrupted, so this solver is terminating early.");
-            terminatedEarly = true;
+    public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
+        lock.lock();
+        try {
+            // Destroying a thread pool with solver threads will only cause it to interrupt those solver threads,
+            // it won't call Solver.terminateEarly()
+            if (Thread.currentThread().isInterrupted() // Does not clear the interrupted flag
+                    // Avoid duplicate log message because this method is called twice:
+                    // - in the phase step loop (every phase termination bridges to the solver termination)
+                    // - in the solver's phase loop
+                    && !terminatedEarly) {
+                logger.info("The solver thread got interrupted, so this solver is terminating early.");
+                terminatedEarly = true;
+            }
+            return terminatedEarly || restartRequested
+                    || (!problemFactChangesProcessedInPhase && !problemFactChangeQueue.isEmpty());
+        } finally {
+            lock.unlock();
         }
-        return terminatedEarly || !problemFactChangeQueue.isEmpty();
     }
 
     @Override
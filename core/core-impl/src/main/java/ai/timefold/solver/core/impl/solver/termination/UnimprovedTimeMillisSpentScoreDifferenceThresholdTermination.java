@@ -17,6 +17,7 @@ public class UnimprovedTimeMillisSpentScoreDifferenceThresholdTermination<Soluti
 
     private final long unimprovedTimeMillisSpentLimit;
     private final Score unimprovedScoreDifferenceThreshold;
+    // Null to read the clock of the solver scope.
     private final Clock clock;
 
     private Queue<Pair<Long, Score>> bestScoreImprovementHistoryQueue;
@@ -27,7 +28,7 @@ public class UnimprovedTimeMillisSpentScoreDifferenceThresholdTermination<Soluti
     public UnimprovedTimeMillisSpentScoreDifferenceThresholdTermination(
             long unimprovedTimeMillisSpentLimit,
             Score unimprovedScoreDifferenceThreshold) {
-        this(unimprovedTimeMillisSpentLimit, unimprovedScoreDifferenceThreshold, Clock.systemUTC());
+        this(unimprovedTimeMillisSpentLimit, unimprovedScoreDifferenceThreshold, null);
     }
 
     protected UnimprovedTimeMillisSpentScoreDifferenceThresholdTermination(
@@ -73,6 +74,15 @@ public class UnimprovedTimeMillisSpentScoreDifferenceThresholdTermination<Soluti
         phaseSafeTimeMillis = -1L;
     }
 
+    @Override
+    public void phaseProblemChanged(AbstractPhaseScope<Solution_> phaseScope) {
+        // The score differences with the best scores before the problem changed are meaningless.
+        bestScoreImprovementHistoryQueue.clear();
+        long safeTimeMillis = phaseScope.getSolverScope().getBestSolutionTimeMillis() + unimprovedTimeMillisSpentLimit;
+        solverSafeTimeMillis = safeTimeMillis;
+        phaseSafeTimeMillis = safeTimeMillis;
+    }
+
     @Override
     public void stepEnded(AbstractStepScope<Solution_> stepScope) {
         if (stepScope.getBestScoreImproved()) {
@@ -104,15 +114,19 @@ public class UnimprovedTimeMillisSpentScoreDifferenceThresholdTermination<Soluti
 
     @Override
     public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
-        return isTerminated(solverSafeTimeMillis);
+        return isTerminated(getClock(solverScope), solverSafeTimeMillis);
     }
 
     @Override
     public boolean isPhaseTerminated(AbstractPhaseScope<Solution_> phaseScope) {
-        return isTerminated(phaseSafeTimeMillis);
+        return isTerminated(getClock(phaseScope.getSolverScope()), phaseSafeTimeMillis);
+    }
+
+    private Clock getClock(SolverScope<Solution_> solverScope) {
+        return clock != null ? clock : solverScope.getClock();
     }
 
-    protected boolean isTerminated(long safeTimeMillis) {
+    protected boolean isTerminated(Clock clock, long safeTimeMillis) {
         // It's possible that there is already an improving move in the forager
         // that will end up pushing the safeTimeMillis further
         // but that doesn't change the fact that the best score didn't improve enough in the specified time interval.
@@ -127,15 +141,15 @@ public class UnimprovedTimeMillisSpentScoreDifferenceThresholdTermination<Soluti
 
     @Override
     public double calculateSolverTimeGradient(SolverScope<Solution_> solverScope) {
-        return calculateTimeGradient(solverSafeTimeMillis);
+        return calculateTimeGradient(getClock(solverScope), solverSafeTimeMillis);
     }
 
     @Override
     public double calculatePhaseTimeGradient(AbstractPhaseScope<Solution_> phaseScope) {
-        return calculateTimeGradient(phaseSafeTimeMillis);
+        return calculateTimeGradient(getClock(phaseScope.getSolverScope()), phaseSafeTimeMillis);
     }
 
-    protected double calculateTimeGradient(long safeTimeMillis) {
+    protected double calculateTimeGradient(Clock clock, long safeTimeMillis) {
         long now = clock.millis();
         long unimprovedTimeMillisSpent = now - (safeTimeMillis - unimprovedTimeMillisSpentLimit);
         double timeGradient = unimprovedTimeMillisSpent / ((double) unimprovedTimeMillisSpentLimit);
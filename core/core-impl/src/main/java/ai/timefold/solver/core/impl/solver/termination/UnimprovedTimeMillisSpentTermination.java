@@ -10,10 +10,11 @@ public class UnimprovedTimeMillisSpentTermination<Solution_> extends AbstractTer
 
     private final long unimprovedTimeMillisSpentLimit;
 
+    // Null to read the clock of the solver scope.
     private final Clock clock;
 
     public UnimprovedTimeMillisSpentTermination(long unimprovedTimeMillisSpentLimit) {
-        this(unimprovedTimeMillisSpentLimit, Clock.systemUTC());
+        this(unimprovedTimeMillisSpentLimit, null);
     }
 
     protected UnimprovedTimeMillisSpentTermination(long unimprovedTimeMillisSpentLimit, Clock clock) {
@@ -36,16 +37,20 @@ public class UnimprovedTimeMillisSpentTermination<Solution_> extends AbstractTer
     @Override
     public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
         long bestSolutionTimeMillis = solverScope.getBestSolutionTimeMillis();
-        return isTerminated(bestSolutionTimeMillis);
+        return isTerminated(getClock(solverScope), bestSolutionTimeMillis);
     }
 
     @Override
     public boolean isPhaseTerminated(AbstractPhaseScope<Solution_> phaseScope) {
         long bestSolutionTimeMillis = phaseScope.getPhaseBestSolutionTimeMillis();
-        return isTerminated(bestSolutionTimeMillis);
+        return isTerminated(getClock(phaseScope.getSolverScope()), bestSolutionTimeMillis);
     }
 
-    protected boolean isTerminated(long bestSolutionTimeMillis) {
+    private Clock getClock(SolverScope<Solution_> solverScope) {
+        return clock != null ? clock : solverScope.getClock();
+    }
+
+    protected boolean isTerminated(Clock clock, long bestSolutionTimeMillis) {
         long now = clock.millis();
         long unimprovedTimeMillisSpent = now - bestSolutionTimeMillis;
         return unimprovedTimeMillisSpent >= unimprovedTimeMillisSpentLimit;
@@ -58,16 +63,16 @@ public class UnimprovedTimeMillisSpentTermination<Solution_> extends AbstractTer
     @Override
     public double calculateSolverTimeGradient(SolverScope<Solution_> solverScope) {
         long bestSolutionTimeMillis = solverScope.getBestSolutionTimeMillis();
-        return calculateTimeGradient(bestSolutionTimeMillis);
+        return calculateTimeGradient(getClock(solverScope), bestSolutionTimeMillis);
     }
 
     @Override
     public double calculatePhaseTimeGradient(AbstractPhaseScope<Solution_> phaseScope) {
         long bestSolutionTimeMillis = phaseScope.getPhaseBestSolutionTimeMillis();
-        return calculateTimeGradient(bestSolutionTimeMillis);
+        return calculateTimeGradient(getClock(phaseScope.getSolverScope()), bestSolutionTimeMillis);
     }
 
-    protected double calculateTimeGradient(long bestSolutionTimeMillis) {
+    protected double calculateTimeGradient(Clock clock, long bestSolutionTimeMillis) {
         long now = clock.millis();
         long unimprovedTimeMillisSpent = now - bestSolutionTimeMillis;
         double timeGradient = unimprovedTimeMillisSpent / ((double) unimprovedTimeMillisSpentLimit);
@@ -0,0 +1,90 @@
+package ai.timefold.solver.core.impl.solver.thread;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.function.LongSupplier;
+
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+
+/**
+ * A UTC {@link Clock} of which {@link #millis()} is only a volatile read of the time of the last {@link #tick()}.
+ * Every {@link SolverScope} has its own instance, which the solver thread ticks once per evaluated move
+ * (see {@link SolverScope#checkYielding()}) and once per step,
+ * so the cost of a termination check no longer grows with the number of time-based terminations.
+ * No thread is started for it.
+ * <p>
+ * The time is based on {@link System#nanoTime()}, so it never goes back in time, even if the system clock does.
+ */
+public final class CoarseClock extends Clock {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final long baseMillis;
+    private final long baseNanos;
+    private final LongSupplier nanoTimeSupplier;
+
+    private volatile long currentTimeMillis;
+
+    public CoarseClock() {
+        this(System.currentTimeMillis(), System::nanoTime);
+    }
+
+    CoarseClock(long baseMillis, LongSupplier nanoTimeSupplier) {
+        this(baseMillis, nanoTimeSupplier.getAsLong(), nanoTimeSupplier);
+    }
+
+    private CoarseClock(long baseMillis, long baseNanos, LongSupplier nanoTimeSupplier) {
+        this.baseMillis = baseMillis;
+        this.baseNanos = baseNanos;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.currentTimeMillis = baseMillis;
+    }
+
+    /**
+     * Only called by the thread that owns this clock.
+     *
+     * @return the new value of {@link #millis()}
+     */
+    public long tick() {
+        var millis = baseMillis + (nanoTimeSupplier.getAsLong() - baseNanos) / NANOS_PER_MILLI;
+        currentTimeMillis = millis;
+        return millis;
+    }
+
+    /**
+     * @return never null, a clock for a child thread with the same base, so both clocks tell the same time
+     */
+    public CoarseClock createChildThreadClock() {
+        var childThreadClock = new CoarseClock(baseMillis, baseNanos, nanoTimeSupplier);
+        childThreadClock.tick();
+        return childThreadClock;
+    }
+
+    @Override
+    public long millis() {
+        return currentTimeMillis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(ZoneOffset.UTC) ? this : Clock.system(zone);
+    }
+
+    @Override
+    public String toString() {
+        return "CoarseClock";
+    }
+
+}
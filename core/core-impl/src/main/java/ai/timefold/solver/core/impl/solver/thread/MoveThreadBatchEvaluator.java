@@ -0,0 +1,270 @@
+package ai.timefold.solver.core.impl.solver.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Evaluates moves in batches on multiple move threads, for the multi-threaded deciders of every phase type.
+ * Every move thread has its own {@link InnerScoreDirector child score director}
+ * (see {@link ChildThreadType#MOVE_THREAD}) with a clone of the working solution,
+ * on which it does and undoes a {@link Move#rebase(ai.timefold.solver.core.api.score.director.ScoreDirector) rebased}
+ * copy of its share of the batch.
+ * <p>
+ * The moves are selected on the solver thread and the evaluated moves are handed back on the solver thread too,
+ * in the order in which they were selected,
+ * so the picked step does not depend on the thread scheduling and {@link EnvironmentMode#REPRODUCIBLE} still holds.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class MoveThreadBatchEvaluator<Solution_> {
+
+    public static final int DEFAULT_MOVE_THREAD_BUFFER_SIZE = 10;
+
+    /**
+     * @param moveThreadCount at least 1
+     * @param moveThreadBufferSize null if not configured
+     * @return the number of moves that are selected before they are evaluated together
+     */
+    public static int computeSelectedMoveBufferSize(int moveThreadCount, Integer moveThreadBufferSize) {
+        return moveThreadCount * (moveThreadBufferSize == null ? DEFAULT_MOVE_THREAD_BUFFER_SIZE : moveThreadBufferSize);
+    }
+
+    private final String logIndentation;
+    private final String phaseTypeString;
+    private final ThreadFactory threadFactory;
+    private final int moveThreadCount;
+    private final int selectedMoveBufferSize;
+
+    private boolean assertMoveScoreFromScratch = false;
+    private boolean assertExpectedUndoMoveScore = false;
+
+    private ExecutorService executor;
+    private List<InnerScoreDirector<Solution_, ?>> moveThreadScoreDirectorList;
+
+    public MoveThreadBatchEvaluator(String logIndentation, String phaseTypeString, ThreadFactory threadFactory,
+            int moveThreadCount, int selectedMoveBufferSize) {
+        this.logIndentation = logIndentation;
+        this.phaseTypeString = phaseTypeString;
+        this.threadFactory = threadFactory;
+        this.moveThreadCount = moveThreadCount;
+        this.selectedMoveBufferSize = selectedMoveBufferSize;
+    }
+
+    public int getMoveThreadCount() {
+        return moveThreadCount;
+    }
+
+    public int getSelectedMoveBufferSize() {
+        return selectedMoveBufferSize;
+    }
+
+    public void setAssertMoveScoreFromScratch(boolean assertMoveScoreFromScratch) {
+        this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
+    }
+
+    public void setAssertExpectedUndoMoveScore(boolean assertExpectedUndoMoveScore) {
+        this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        // Earlier phases may have changed the working solution, so the clones are made per phase.
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        moveThreadScoreDirectorList = new ArrayList<>(moveThreadCount);
+        for (int i = 0; i < moveThreadCount; i++) {
+            moveThreadScoreDirectorList.add(scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD));
+        }
+        executor = Executors.newFixedThreadPool(moveThreadCount, threadFactory);
+    }
+
+    public void phaseProblemChanged(AbstractPhaseScope<Solution_> phaseScope) {
+        // The problem changes cannot be rebased, so the move threads start again from a new clone.
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        for (int i = 0; i < moveThreadCount; i++) {
+            moveThreadScoreDirectorList.get(i).close();
+            moveThreadScoreDirectorList.set(i, scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD));
+        }
+    }
+
+    /**
+     * Evaluates the moves in batches of {@link #getSelectedMoveBufferSize()},
+     * until they run out or the processor decides that no more moves are needed.
+     *
+     * @param stepScope never null
+     * @param moves never null, iterated on the solver thread
+     * @param processor never null, called on the solver thread
+     */
+    public void evaluate(AbstractStepScope<Solution_> stepScope, Iterable<Move<Solution_>> moves,
+            EvaluatedMoveProcessor<Solution_> processor) {
+        List<Move<Solution_>> moveBatch = new ArrayList<>(selectedMoveBufferSize);
+        Score<?>[] scores = new Score<?>[selectedMoveBufferSize];
+        int moveIndex = 0;
+        for (Move<Solution_> move : moves) {
+            processor.moveSelected(move);
+            moveBatch.add(move);
+            if (moveBatch.size() < selectedMoveBufferSize) {
+                continue;
+            }
+            evaluateMoveBatch(stepScope, moveBatch, scores);
+            boolean stepDecided = processMoveBatch(moveIndex, moveBatch, scores, processor);
+            moveIndex += moveBatch.size();
+            moveBatch.clear();
+            if (stepDecided) {
+                return;
+            }
+        }
+        if (!moveBatch.isEmpty()) {
+            evaluateMoveBatch(stepScope, moveBatch, scores);
+            processMoveBatch(moveIndex, moveBatch, scores, processor);
+        }
+    }
+
+    private void evaluateMoveBatch(AbstractStepScope<Solution_> stepScope, List<Move<Solution_>> moveBatch,
+            Score<?>[] scores) {
+        Score<?> lastCompletedStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        List<Callable<Void>> taskList = new ArrayList<>(moveThreadCount);
+        for (int i = 0; i < moveThreadCount; i++) {
+            int moveThreadIndex = i;
+            InnerScoreDirector<Solution_, ?> moveThreadScoreDirector = moveThreadScoreDirectorList.get(i);
+            taskList.add(() -> {
+                evaluateMoves(moveThreadScoreDirector, moveThreadIndex, moveBatch, scores, lastCompletedStepScore);
+                return null;
+            });
+        }
+        List<Future<Void>> futureList;
+        try {
+            futureList = executor.invokeAll(taskList);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted when waiting for the move threads to evaluate the moves.", e);
+        }
+        for (Future<Void> future : futureList) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted when waiting for the move threads to evaluate the moves.", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException("A move thread failed to evaluate the moves.", e.getCause());
+            }
+        }
+        for (InnerScoreDirector<Solution_, ?> moveThreadScoreDirector : moveThreadScoreDirectorList) {
+            stepScope.getPhaseScope().addChildThreadsScoreCalculationCount(moveThreadScoreDirector.getCalculationCount());
+            moveThreadScoreDirector.resetCalculationCount();
+        }
+    }
+
+    private <Score_ extends Score<Score_>> void evaluateMoves(InnerScoreDirector<Solution_, Score_> moveThreadScoreDirector,
+            int moveThreadIndex, List<Move<Solution_>> moveBatch, Score<?>[] scores, Score<?> lastCompletedStepScore) {
+        moveThreadScoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+        // Each move thread takes every n-th move, so the share of every thread is decided before the batch starts.
+        for (int i = moveThreadIndex; i < moveBatch.size(); i += moveThreadCount) {
+            int batchIndex = i;
+            Move<Solution_> rebasedMove = moveBatch.get(i).rebase(moveThreadScoreDirector);
+            moveThreadScoreDirector.doAndProcessMove(rebasedMove, assertMoveScoreFromScratch,
+                    score -> scores[batchIndex] = score);
+            if (assertExpectedUndoMoveScore) {
+                moveThreadScoreDirector.assertExpectedUndoMoveScore(rebasedMove, (Score_) lastCompletedStepScore);
+            }
+        }
+        moveThreadScoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+    }
+
+    /**
+     * @return true if no more moves need to be evaluated for this step
+     */
+    private boolean processMoveBatch(int firstMoveIndex, List<Move<Solution_>> moveBatch, Score<?>[] scores,
+            EvaluatedMoveProcessor<Solution_> processor) {
+        for (int i = 0; i < moveBatch.size(); i++) {
+            Score<?> score = scores[i];
+            scores[i] = null;
+            if (processor.moveEvaluated(firstMoveIndex + i, moveBatch.get(i), score)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Does the step on every move thread, after it was done on the solver thread.
+     *
+     * @param step null if no step was picked
+     * @param stepScore the score of the working solution after the step
+     */
+    public void stepEnded(Move<Solution_> step, Score<?> stepScore) {
+        if (step == null) {
+            return;
+        }
+        for (InnerScoreDirector<Solution_, ?> moveThreadScoreDirector : moveThreadScoreDirectorList) {
+            step.rebase(moveThreadScoreDirector).doMoveOnly(moveThreadScoreDirector);
+            if (assertMoveScoreFromScratch) {
+                Score<?> moveThreadScore = moveThreadScoreDirector.calculateScore();
+                if (!moveThreadScore.equals(stepScore)) {
+                    throw new IllegalStateException("Impossible state: the move thread score (" + moveThreadScore
+                            + ") is not the step score (" + stepScore + ") after the step ("
+                            + step + ") was done on the move thread.");
+                }
+            }
+        }
+    }
+
+    public void shutdown() {
+        if (executor != null) {
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multi-threaded " + phaseTypeString);
+            executor = null;
+        }
+        if (moveThreadScoreDirectorList != null) {
+            moveThreadScoreDirectorList.forEach(InnerScoreDirector::close);
+            moveThreadScoreDirectorList = null;
+        }
+    }
+
+    /**
+     * Receives the moves of a batch on the solver thread.
+     *
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     */
+    public interface EvaluatedMoveProcessor<Solution_> {
+
+        /**
+         * Called for every move as soon as it is selected, before any move of its batch is evaluated.
+         *
+         * @param move never null
+         */
+        default void moveSelected(Move<Solution_> move) {
+            // Most deciders do not need to check the selected moves.
+        }
+
+        /**
+         * Called for every evaluated move, in the order in which the moves were selected.
+         *
+         * @param moveIndex at least 0
+         * @param move never null
+         * @param score never null, the score of the working solution if the move would be done
+         * @return true if no more moves need to be evaluated for this step
+         */
+        boolean moveEvaluated(int moveIndex, Move<Solution_> move, Score<?> score);
+
+    }
+
+}
@@ -1,6 +1,9 @@
 package ai.timefold.solver.core.impl.solver.thread;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -10,6 +13,17 @@ public class ThreadUtils {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ThreadUtils.class);
 
+    // Virtual threads need Java 21, but this module is compiled for Java 17, so they are only reachable through reflection.
+    private static final Method THREAD_IS_VIRTUAL_METHOD = findThreadIsVirtualMethod();
+
+    private static Method findThreadIsVirtualMethod() {
+        try {
+            return Thread.class.getMethod("isVirtual");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
     public static void shutdownAwaitOrKill(ExecutorService executor, String logIndentation, String name) {
         // Intentionally clearing the interrupted flag so that awaitTermination() in step 3 works.
         if (Thread.interrupted()) {
@@ -47,6 +61,71 @@ public class ThreadUtils {
         }
     }
 
+    /**
+     * @return true if virtual threads are supported by this JVM (Java 21 or higher)
+     */
+    public static boolean isVirtualThreadSupported() {
+        return THREAD_IS_VIRTUAL_METHOD != null;
+    }
+
+    /**
+     * @param thread never null
+     * @return true if the thread is a virtual thread
+     */
+    public static boolean isVirtualThread(Thread thread) {
+        if (THREAD_IS_VIRTUAL_METHOD == null) {
+            return false;
+        }
+        try {
+            return (boolean) THREAD_IS_VIRTUAL_METHOD.invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Impossible state: failed to call Thread.isVirtual().", e);
+        }
+    }
+
+    /**
+     * @param namePrefix never null, the thread names are suffixed with a sequence number
+     * @return never null
+     * @throws IllegalStateException if virtual threads are not supported by this JVM
+     */
+    public static ThreadFactory buildVirtualThreadFactory(String namePrefix) {
+        assertVirtualThreadSupported();
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Impossible state: failed to build a virtual thread factory.", e);
+        }
+    }
+
+    /**
+     * Unlike a thread pool, this executor starts a new virtual thread for every task,
+     * so the number of concurrent tasks needs to be limited elsewhere.
+     *
+     * @param namePrefix never null, the thread names are suffixed with a sequence number
+     * @return never null
+     * @throws IllegalStateException if virtual threads are not supported by this JVM
+     */
+    public static ExecutorService buildVirtualThreadPerTaskExecutor(String namePrefix) {
+        ThreadFactory threadFactory = buildVirtualThreadFactory(namePrefix);
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Impossible state: failed to build a virtual thread executor.", e);
+        }
+    }
+
+    private static void assertVirtualThreadSupported() {
+        if (!isVirtualThreadSupported()) {
+            throw new IllegalStateException("Virtual threads are not supported by this Java version ("
+                    + Runtime.version() + ").\n"
+                    + "Maybe upgrade to Java 21 or higher, or disable virtual threads.");
+        }
+    }
+
     // ************************************************************************
     // Private constructor
     // ************************************************************************
@@ -0,0 +1,92 @@
+package ai.timefold.solver.core.impl.statistic;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.ToDoubleFunction;
+
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfiler.ConstraintProfile;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Profiles the score director of the solver thread with a {@link ConstraintProfiler}
+ * and exposes the cumulative share of every constraint in gauges.
+ * A gauge calculates its value when it is read, so it is always up-to-date.
+ */
+public class ConstraintPropagationProfileStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    public static final String NANOS_METER_SUFFIX = ".nanos";
+    public static final String INSERT_COUNT_METER_SUFFIX = ".inserts";
+    public static final String UPDATE_COUNT_METER_SUFFIX = ".updates";
+    public static final String RETRACT_COUNT_METER_SUFFIX = ".retracts";
+
+    private final Map<Solver<Solution_>, PhaseLifecycleListenerAdapter<Solution_>> solverToPhaseLifecycleListenerMap =
+            new WeakHashMap<>();
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        PhaseLifecycleListenerAdapter<Solution_> listener = solverToPhaseLifecycleListenerMap.remove(solver);
+        if (listener != null) {
+            defaultSolver.removePhaseLifecycleListener(listener);
+        }
+        defaultSolver.getSolverScope().getScoreDirector().setConstraintProfiler(null);
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        ConstraintProfiler constraintProfiler = new ConstraintProfiler();
+        // Takes effect when solving starts, because that sets the working solution.
+        defaultSolver.getSolverScope().getScoreDirector().setConstraintProfiler(constraintProfiler);
+        ConstraintPropagationProfileStatisticListener<Solution_> listener =
+                new ConstraintPropagationProfileStatisticListener<>(constraintProfiler);
+        solverToPhaseLifecycleListenerMap.put(solver, listener);
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    private static class ConstraintPropagationProfileStatisticListener<Solution_>
+            extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private final ConstraintProfiler constraintProfiler;
+        private final Set<ConstraintRef> registeredConstraintRefSet = new HashSet<>();
+
+        public ConstraintPropagationProfileStatisticListener(ConstraintProfiler constraintProfiler) {
+            this.constraintProfiler = constraintProfiler;
+        }
+
+        @Override
+        public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+            // The node network is built by now, so every active constraint is known.
+            for (ConstraintProfile constraintProfile : constraintProfiler.extractConstraintProfileList()) {
+                ConstraintRef constraintRef = constraintProfile.constraintRef();
+                if (registeredConstraintRefSet.add(constraintRef)) {
+                    Tags tags = phaseScope.getSolverScope().getMonitoringTags().and(
+                            "constraint.package", constraintRef.packageName(),
+                            "constraint.name", constraintRef.constraintName());
+                    registerGauge(NANOS_METER_SUFFIX, tags, constraintRef, ConstraintProfile::nanos);
+                    registerGauge(INSERT_COUNT_METER_SUFFIX, tags, constraintRef, ConstraintProfile::insertCount);
+                    registerGauge(UPDATE_COUNT_METER_SUFFIX, tags, constraintRef, ConstraintProfile::updateCount);
+                    registerGauge(RETRACT_COUNT_METER_SUFFIX, tags, constraintRef, ConstraintProfile::retractCount);
+                }
+            }
+        }
+
+        private void registerGauge(String meterSuffix, Tags tags, ConstraintRef constraintRef,
+                ToDoubleFunction<ConstraintProfile> valueFunction) {
+            Metrics.gauge(SolverMetric.CONSTRAINT_PROPAGATION_PROFILE.getMeterId() + meterSuffix, tags,
+                    constraintProfiler,
+                    profiler -> valueFunction.applyAsDouble(profiler.extractConstraintProfile(constraintRef)));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package ai.timefold.solver.core.impl.statistic;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.impl.score.director.MoveEvaluationProfiler;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+
+public class MoveEvaluationProfileStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        defaultSolver.getSolverScope().getScoreDirector().setMoveEvaluationProfiler(null);
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        // The move threads inherit the profiler when their score directors are created.
+        defaultSolver.getSolverScope().getScoreDirector().setMoveEvaluationProfiler(
+                new MoveEvaluationProfiler(defaultSolver.getSolverScope().getMonitoringTags()));
+    }
+}
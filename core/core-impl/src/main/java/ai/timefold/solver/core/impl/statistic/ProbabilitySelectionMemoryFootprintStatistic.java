@@ -0,0 +1,30 @@
+package ai.timefold.solver.core.impl.statistic;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+
+public class ProbabilitySelectionMemoryFootprintStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        Metrics.globalRegistry.remove(new Meter.Id(SolverMetric.PROBABILITY_SELECTION_MEMORY_FOOTPRINT.getMeterId(),
+                defaultSolver.getSolverScope().getMonitoringTags(),
+                null,
+                null,
+                Meter.Type.GAUGE));
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        SolverScope<Solution_> solverScope = defaultSolver.getSolverScope();
+        Metrics.gauge(SolverMetric.PROBABILITY_SELECTION_MEMORY_FOOTPRINT.getMeterId(), solverScope.getMonitoringTags(),
+                solverScope, SolverScope::getProbabilitySelectionMemoryFootprint);
+    }
+}
@@ -6,10 +6,14 @@ import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
 
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.api.function.ToIntQuadFunction;
 import ai.timefold.solver.core.api.function.ToIntTriFunction;
+import ai.timefold.solver.core.api.function.ToLongQuadFunction;
+import ai.timefold.solver.core.api.function.ToLongTriFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
 
 /**
@@ -70,6 +74,18 @@ public final class ConstantLambdaUtils {
     @SuppressWarnings("rawtypes")
     private static final ToIntQuadFunction QUAD_CONSTANT_ONE = (a, b, c, d) -> 1;
 
+    @SuppressWarnings("rawtypes")
+    private static final ToLongFunction UNI_CONSTANT_ONE_LONG = (a) -> 1L;
+
+    @SuppressWarnings("rawtypes")
+    private static final ToLongBiFunction BI_CONSTANT_ONE_LONG = (a, b) -> 1L;
+
+    @SuppressWarnings("rawtypes")
+    private static final ToLongTriFunction TRI_CONSTANT_ONE_LONG = (a, b, c) -> 1L;
+
+    @SuppressWarnings("rawtypes")
+    private static final ToLongQuadFunction QUAD_CONSTANT_ONE_LONG = (a, b, c, d) -> 1L;
+
     /**
      * Returns a {@link Runnable} that does nothing.
      *
@@ -230,6 +246,46 @@ public final class ConstantLambdaUtils {
         return QUAD_CONSTANT_ONE;
     }
 
+    /**
+     * Returns a {@link ToLongFunction} that returns the constant 1.
+     *
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> ToLongFunction<A> uniConstantOneLong() {
+        return UNI_CONSTANT_ONE_LONG;
+    }
+
+    /**
+     * Returns a {@link ToLongBiFunction} that returns the constant 1.
+     *
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B> ToLongBiFunction<A, B> biConstantOneLong() {
+        return BI_CONSTANT_ONE_LONG;
+    }
+
+    /**
+     * Returns a {@link ToLongTriFunction} that returns the constant 1.
+     *
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C> ToLongTriFunction<A, B, C> triConstantOneLong() {
+        return TRI_CONSTANT_ONE_LONG;
+    }
+
+    /**
+     * Returns a {@link ToLongQuadFunction} that returns the constant 1.
+     *
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D> ToLongQuadFunction<A, B, C, D> quadConstantOneLong() {
+        return QUAD_CONSTANT_ONE_LONG;
+    }
+
     private ConstantLambdaUtils() {
         // No external instances.
     }
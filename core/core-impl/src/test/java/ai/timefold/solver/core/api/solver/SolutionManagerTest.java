@@ -6,6 +6,7 @@ import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.Score;
@@ -270,6 +271,42 @@ public class SolutionManagerTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void analyzeWithMatchLimit(SolutionManagerSource SolutionManagerSource) {
+        var solution = TestdataShadowedSolution.generateSolution();
+
+        var solutionManager = SolutionManagerSource.createSolutionManager(SOLVER_FACTORY);
+        assertThat(solutionManager).isNotNull();
+
+        var scoreAnalysis = solutionManager.analyze(solution, 3);
+        var constraintAnalysis = scoreAnalysis.constraintMap().values().iterator().next();
+        assertSoftly(softly -> {
+            softly.assertThat(constraintAnalysis.score()).isEqualTo(SimpleScore.of(-11));
+            softly.assertThat(constraintAnalysis.matches()).hasSize(3);
+            softly.assertThat(constraintAnalysis.matchCount()).isEqualTo(11);
+        });
+        assertThatThrownBy(() -> solutionManager.analyze(solution, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void analyzeMatchCount(SolutionManagerSource SolutionManagerSource) {
+        var solution = TestdataShadowedSolution.generateSolution();
+
+        var solutionManager = SolutionManagerSource.createSolutionManager(SOLVER_FACTORY);
+        assertThat(solutionManager).isNotNull();
+
+        var scoreAnalysis = solutionManager.analyze(solution, ScoreAnalysisFetchPolicy.FETCH_MATCH_COUNT);
+        var constraintAnalysis = scoreAnalysis.constraintMap().values().iterator().next();
+        assertSoftly(softly -> {
+            softly.assertThat(constraintAnalysis.score()).isEqualTo(SimpleScore.of(-11));
+            softly.assertThat(constraintAnalysis.matches()).isNull();
+            softly.assertThat(constraintAnalysis.matchCount()).isEqualTo(11);
+        });
+    }
+
     @ParameterizedTest
     @EnumSource(SolutionManagerSource.class)
     void analyzeNonNullableWithNullValue(SolutionManagerSource SolutionManagerSource) {
@@ -348,6 +385,47 @@ public class SolutionManagerTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void recommendFitWithLimit(SolutionManagerSource SolutionManagerSource) {
+        int valueSize = 3;
+        var solution = TestdataShadowedSolution.generateSolution(valueSize, 3);
+        var uninitializedEntity = solution.getEntityList().get(2);
+        var unassignedValue = uninitializedEntity.getValue();
+        uninitializedEntity.setValue(null);
+
+        var solutionManager = SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_EASY);
+        assertThat(solutionManager).isNotNull();
+        var propositionCount = new AtomicInteger();
+        var recommendationList = solutionManager.recommendFit(solution, uninitializedEntity, entity -> {
+            propositionCount.incrementAndGet();
+            return entity.getValue();
+        }, ScoreAnalysisFetchPolicy.FETCH_ALL, 2);
+
+        // Same order as without a limit, but the third recommendation is cut off.
+        assertThat(recommendationList).hasSize(2);
+        assertThat(propositionCount).hasValue(2);
+        var firstRecommendation = recommendationList.get(0);
+        assertSoftly(softly -> {
+            softly.assertThat(firstRecommendation.proposition()).isEqualTo(unassignedValue);
+            softly.assertThat(firstRecommendation.scoreAnalysisDiff()
+                    .score()).isEqualTo(SimpleScore.of(-1));
+        });
+        var secondRecommendation = recommendationList.get(1);
+        assertSoftly(softly -> {
+            softly.assertThat(secondRecommendation.proposition()).isEqualTo(solution.getValueList().get(0));
+            softly.assertThat(secondRecommendation.scoreAnalysisDiff()
+                    .score()).isEqualTo(SimpleScore.of(-3));
+        });
+        // Ensure the original solution is in its original state.
+        assertSoftly(softly -> {
+            softly.assertThat(uninitializedEntity.getValue()).isNull();
+            softly.assertThat(solution.getEntityList().get(0).getValue()).isEqualTo(solution.getValueList().get(0));
+            softly.assertThat(solution.getEntityList().get(1).getValue()).isEqualTo(solution.getValueList().get(1));
+            softly.assertThat(solution.getScore()).isNull();
+        });
+    }
+
     @ParameterizedTest
     @EnumSource(SolutionManagerSource.class)
     void recommendFitMultivar(SolutionManagerSource SolutionManagerSource) {
@@ -5,9 +5,11 @@ import static ai.timefold.solver.core.api.solver.SolverStatus.SOLVING_ACTIVE;
 import static ai.timefold.solver.core.api.solver.SolverStatus.SOLVING_SCHEDULED;
 import static ai.timefold.solver.core.impl.testdata.util.PlannerAssert.assertSolutionInitialized;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -19,6 +21,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -35,6 +40,7 @@ import ai.timefold.solver.core.config.phase.custom.CustomPhaseConfig;
 import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.SolverManagerConfig;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
@@ -373,6 +379,83 @@ class SolverManagerTest {
         assertInitializedJobs(jobs);
     }
 
+    @Test
+    @Timeout(60)
+    void solveWithExecutorService_limitsParallelSolvingAndKeepsExecutorRunning()
+            throws ExecutionException, InterruptedException {
+        AtomicInteger activeSolverCount = new AtomicInteger();
+        AtomicInteger maxActiveSolverCount = new AtomicInteger();
+        PhaseConfig<?> countingPhaseConfig = new CustomPhaseConfig().withCustomPhaseCommands(
+                scoreDirector -> {
+                    maxActiveSolverCount.accumulateAndGet(activeSolverCount.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        fail("Thread.sleep() failed.");
+                    } finally {
+                        activeSolverCount.decrementAndGet();
+                    }
+                });
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(countingPhaseConfig, new ConstructionHeuristicPhaseConfig());
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                    .withExecutorService(executorService)
+                    .withParallelSolverCount("1"));
+            List<SolverJob<TestdataSolution, Long>> jobs = new ArrayList<>();
+            for (long id = 0; id < 4; id++) {
+                jobs.add(solverManager.solve(id, PlannerTestUtils.generateTestdataSolution("s" + id)));
+            }
+            assertInitializedJobs(jobs);
+            assertThat(maxActiveSolverCount.get()).isEqualTo(1);
+
+            solverManager.close();
+            solverManager = null;
+            assertThat(executorService.isShutdown()).isFalse();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void solveWithVirtualThreads() throws ExecutionException, InterruptedException {
+        assumeTrue(ThreadUtils.isVirtualThreadSupported());
+        AtomicBoolean solvedOnVirtualThread = new AtomicBoolean(true);
+        PhaseConfig<?> threadCheckingPhaseConfig = new CustomPhaseConfig().withCustomPhaseCommands(
+                scoreDirector -> solvedOnVirtualThread.compareAndSet(true,
+                        ThreadUtils.isVirtualThread(Thread.currentThread())));
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(threadCheckingPhaseConfig, new ConstructionHeuristicPhaseConfig());
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withVirtualThreads(true)
+                .withParallelSolverCount("2"));
+
+        List<SolverJob<TestdataSolution, Long>> jobs = new ArrayList<>();
+        for (long id = 0; id < 4; id++) {
+            jobs.add(solverManager.solve(id, PlannerTestUtils.generateTestdataSolution("s" + id)));
+        }
+        assertInitializedJobs(jobs);
+        assertThat(solvedOnVirtualThread.get()).isTrue();
+    }
+
+    @Test
+    void executorServiceWithVirtualThreads_fails() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            SolverManagerConfig solverManagerConfig = new SolverManagerConfig()
+                    .withExecutorService(executorService)
+                    .withVirtualThreads(true);
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> SolverManager.create(solverConfig, solverManagerConfig))
+                    .withMessageContaining("virtualThreads");
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     private void assertInitializedJobs(List<SolverJob<TestdataSolution, Long>> jobs)
             throws InterruptedException, ExecutionException {
         for (SolverJob<TestdataSolution, Long> job : jobs) {
@@ -7,7 +7,9 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
@@ -51,6 +53,62 @@ class DefaultConstructionHeuristicPhaseTest {
         assertThat(solution.getScore().initScore()).isEqualTo(0);
     }
 
+    @Test
+    void solveWithMultipleMoveThreads() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withMoveThreadCount("2")
+                .withMoveThreadBufferSize(1)
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", null),
+                new TestdataEntity("e2", null),
+                new TestdataEntity("e3", v1)));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList())
+                .extracting(TestdataEntity::getValue)
+                .doesNotContainNull();
+        assertThat(solution.getEntityList().get(2).getValue()).isEqualTo(v1);
+        assertThat(solution.getScore().initScore()).isEqualTo(0);
+    }
+
+    @Test
+    void solveWithMultipleMoveThreadsPicksTheSameStepsAsSingleThreaded() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withRandomSeed(37L)
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        TestdataSolution singleThreadedSolution =
+                PlannerTestUtils.solve(solverConfig, generateUninitializedSolution(5, 12));
+
+        solverConfig.withMoveThreadCount("3")
+                .withMoveThreadBufferSize(1);
+        TestdataSolution multiThreadedSolution =
+                PlannerTestUtils.solve(solverConfig, generateUninitializedSolution(5, 12));
+
+        assertThat(multiThreadedSolution.getScore()).isEqualTo(singleThreadedSolution.getScore());
+        assertThat(multiThreadedSolution.getEntityList())
+                .extracting(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(singleThreadedSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .toList());
+    }
+
+    private static TestdataSolution generateUninitializedSolution(int valueListSize, int entityListSize) {
+        TestdataSolution solution = TestdataSolution.generateSolution(valueListSize, entityListSize);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+        return solution;
+    }
+
     @Test
     void solveWithInitializedSolution() {
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
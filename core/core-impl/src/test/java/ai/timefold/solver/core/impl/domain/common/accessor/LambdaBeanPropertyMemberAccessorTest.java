@@ -0,0 +1,54 @@
+package ai.timefold.solver.core.impl.domain.common.accessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class LambdaBeanPropertyMemberAccessorTest {
+
+    @Test
+    void methodAnnotatedEntity() throws NoSuchMethodException {
+        LambdaBeanPropertyMemberAccessor memberAccessor = new LambdaBeanPropertyMemberAccessor(
+                TestdataEntity.class.getMethod("getValue"));
+        assertThat(memberAccessor.getName()).isEqualTo("value");
+        assertThat(memberAccessor.getType()).isEqualTo(TestdataValue.class);
+        assertThat(memberAccessor.getAnnotation(PlanningVariable.class)).isNotNull();
+
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        assertThat(memberAccessor.executeGetter(e1)).isSameAs(v1);
+        memberAccessor.executeSetter(e1, v2);
+        assertThat(e1.getValue()).isSameAs(v2);
+    }
+
+    @Test
+    void primitiveProperty() throws NoSuchMethodException {
+        LambdaBeanPropertyMemberAccessor memberAccessor = new LambdaBeanPropertyMemberAccessor(
+                PrimitiveBean.class.getMethod("getCount"));
+        assertThat(memberAccessor.getType()).isEqualTo(int.class);
+
+        PrimitiveBean bean = new PrimitiveBean();
+        memberAccessor.executeSetter(bean, 7);
+        assertThat(memberAccessor.executeGetter(bean)).isEqualTo(7);
+    }
+
+    public static final class PrimitiveBean {
+
+        private int count;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+    }
+
+}
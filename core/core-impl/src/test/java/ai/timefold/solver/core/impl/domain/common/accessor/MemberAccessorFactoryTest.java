@@ -96,6 +96,65 @@ class MemberAccessorFactoryTest {
         assertThat(memberAccessor.executeGetter(s1)).isEqualTo("secondValue");
     }
 
+    @Test
+    void lambdaPrivateProperty() throws NoSuchMethodException {
+        MemberAccessor memberAccessor = MemberAccessorFactory.buildMemberAccessor(
+                TestdataVisibilityModifierSolution.class.getDeclaredMethod("getPrivateProperty"),
+                MemberAccessorFactory.MemberAccessorType.FIELD_OR_GETTER_METHOD, ProblemFactProperty.class,
+                DomainAccessType.LAMBDA, null);
+        assertThat(memberAccessor)
+                .isInstanceOf(LambdaBeanPropertyMemberAccessor.class);
+        assertThat(memberAccessor.getName()).isEqualTo("privateProperty");
+        assertThat(memberAccessor.getType()).isEqualTo(String.class);
+
+        TestdataVisibilityModifierSolution s1 = new TestdataVisibilityModifierSolution("s1",
+                "n/a", "n/a",
+                "firstValue", "n/a", "n/a", "n/a");
+        assertThat(memberAccessor.executeGetter(s1)).isEqualTo("firstValue");
+    }
+
+    @Test
+    void lambdaPublicProperty() throws NoSuchMethodException {
+        MemberAccessor memberAccessor = MemberAccessorFactory.buildMemberAccessor(
+                TestdataVisibilityModifierSolution.class.getDeclaredMethod("getPublicProperty"),
+                MemberAccessorFactory.MemberAccessorType.FIELD_OR_GETTER_METHOD_WITH_SETTER, ProblemFactProperty.class,
+                DomainAccessType.LAMBDA, null);
+        assertThat(memberAccessor)
+                .isInstanceOf(LambdaBeanPropertyMemberAccessor.class);
+
+        TestdataVisibilityModifierSolution s1 = new TestdataVisibilityModifierSolution("s1",
+                "n/a", "n/a",
+                "n/a", "n/a", "n/a", "firstValue");
+        assertThat(memberAccessor.executeGetter(s1)).isEqualTo("firstValue");
+        memberAccessor.executeSetter(s1, "secondValue");
+        assertThat(memberAccessor.executeGetter(s1)).isEqualTo("secondValue");
+    }
+
+    @Test
+    void lambdaFieldFallsBackToReflection() throws NoSuchFieldException {
+        MemberAccessor memberAccessor = MemberAccessorFactory.buildMemberAccessor(
+                TestdataVisibilityModifierSolution.class.getDeclaredField("privateField"),
+                MemberAccessorFactory.MemberAccessorType.FIELD_OR_GETTER_METHOD_WITH_SETTER, ProblemFactProperty.class,
+                DomainAccessType.LAMBDA, null);
+        assertThat(memberAccessor)
+                .isInstanceOf(ReflectionFieldMemberAccessor.class);
+    }
+
+    @Test
+    void lambdaInNativeImageFallsBackToReflection() throws NoSuchMethodException {
+        System.setProperty("org.graalvm.nativeimage.imagecode", "runtime");
+        try {
+            MemberAccessor memberAccessor = MemberAccessorFactory.buildMemberAccessor(
+                    TestdataVisibilityModifierSolution.class.getDeclaredMethod("getPublicProperty"),
+                    MemberAccessorFactory.MemberAccessorType.FIELD_OR_GETTER_METHOD_WITH_SETTER, ProblemFactProperty.class,
+                    DomainAccessType.LAMBDA, null);
+            assertThat(memberAccessor)
+                    .isInstanceOf(ReflectionBeanPropertyMemberAccessor.class);
+        } finally {
+            System.clearProperty("org.graalvm.nativeimage.imagecode");
+        }
+    }
+
     @Test
     void shouldUseGeneratedMemberAccessorIfExists() throws NoSuchMethodException {
         Member member = TestdataVisibilityModifierSolution.class.getDeclaredMethod("getPublicProperty");
@@ -0,0 +1,88 @@
+package ai.timefold.solver.core.impl.domain.solution.cloner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.config.score.trend.InitializingScoreTrendLevel;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import ai.timefold.solver.core.impl.score.trend.InitializingScoreTrend;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+
+import org.junit.jupiter.api.Test;
+
+class StructuralSharingSolutionClonerTest {
+
+    private static <Solution_> InnerScoreDirector<Solution_, SimpleScore> buildScoreDirector(
+            SolutionDescriptor<Solution_> solutionDescriptor, Solution_ solution) {
+        EasyScoreDirectorFactory<Solution_, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(solutionDescriptor, (solution_) -> SimpleScore.of(0));
+        scoreDirectorFactory.setInitializingScoreTrend(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 1));
+        InnerScoreDirector<Solution_, SimpleScore> scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setStructurallySharedSnapshots(true);
+        scoreDirector.setWorkingSolution(solution);
+        return scoreDirector;
+    }
+
+    @Test
+    void unchangedEntityClonesAreShared() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v2);
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1, e2));
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataSolution.buildSolutionDescriptor(), solution);
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataEntity.class).getGenuineVariableDescriptor("value");
+
+        TestdataSolution firstSnapshot = scoreDirector.cloneWorkingSolutionSnapshot();
+        assertThat(firstSnapshot).isNotSameAs(solution);
+        assertThat(firstSnapshot.getEntityList()).doesNotContain(e1, e2);
+
+        scoreDirector.changeVariableFacade(variableDescriptor, e1, v2);
+        TestdataSolution secondSnapshot = scoreDirector.cloneWorkingSolutionSnapshot();
+        assertThat(secondSnapshot.getEntityList()).isNotSameAs(firstSnapshot.getEntityList());
+        assertThat(secondSnapshot.getEntityList().get(0)).isNotSameAs(firstSnapshot.getEntityList().get(0));
+        assertThat(secondSnapshot.getEntityList().get(0).getValue()).isSameAs(v2);
+        assertThat(firstSnapshot.getEntityList().get(0).getValue()).isSameAs(v1);
+        assertThat(secondSnapshot.getEntityList().get(1)).isSameAs(firstSnapshot.getEntityList().get(1));
+
+        // A new working solution has other entities, so nothing can be shared.
+        scoreDirector.setWorkingSolution(solution);
+        TestdataSolution thirdSnapshot = scoreDirector.cloneWorkingSolutionSnapshot();
+        assertThat(thirdSnapshot.getEntityList().get(1)).isNotSameAs(secondSnapshot.getEntityList().get(1));
+    }
+
+    @Test
+    void entitiesReferencingEntitiesAreNotShared() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListEntity e1 = TestdataListEntity.createWithValues("e1", v1);
+        TestdataListEntity e2 = TestdataListEntity.createWithValues("e2", v2);
+        TestdataListSolution solution = new TestdataListSolution();
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1, e2));
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataListSolution.buildSolutionDescriptor(), solution);
+
+        TestdataListSolution firstSnapshot = scoreDirector.cloneWorkingSolutionSnapshot();
+        TestdataListSolution secondSnapshot = scoreDirector.cloneWorkingSolutionSnapshot();
+        assertThat(secondSnapshot.getEntityList().get(0)).isNotSameAs(firstSnapshot.getEntityList().get(0));
+        assertThat(secondSnapshot.getValueList().get(0)).isNotSameAs(firstSnapshot.getValueList().get(0));
+        assertThat(secondSnapshot.getValueList().get(0).getEntity()).isSameAs(secondSnapshot.getEntityList().get(0));
+    }
+
+}
@@ -1,9 +1,15 @@
 package ai.timefold.solver.core.impl.domain.variable.index;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
 
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
 import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
@@ -90,6 +96,38 @@ class IndexVariableListenerTest {
         assertIndex(v3, null);
     }
 
+    @Test
+    void reverseSubListNotifiesRunsOfChangedIndexes() {
+        InnerScoreDirector<TestdataListSolution, ?> innerScoreDirector =
+                (InnerScoreDirector<TestdataListSolution, ?>) scoreDirector;
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListValue v4 = new TestdataListValue("4");
+        TestdataListValue v5 = new TestdataListValue("5");
+        TestdataListValue v6 = new TestdataListValue("6");
+        TestdataListEntity entity = TestdataListEntity.createWithValues("a", v1, v2, v3, v4, v5, v6);
+
+        // Reverse entity[1..6], which keeps v4 at index 3.
+        indexVariableListener.beforeListVariableChanged(scoreDirector, entity, 1, 6);
+        Collections.reverse(entity.getValueList().subList(1, 6));
+        indexVariableListener.afterListVariableChanged(scoreDirector, entity, 1, 6);
+
+        assertIndex(v1, 0);
+        assertIndex(v6, 1);
+        assertIndex(v5, 2);
+        assertIndex(v4, 3);
+        assertIndex(v3, 4);
+        assertIndex(v2, 5);
+        IndexShadowVariableDescriptor<TestdataListSolution> shadowVariableDescriptor =
+                indexVariableListener.shadowVariableDescriptor;
+        verify(innerScoreDirector).beforeVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 1, 3);
+        verify(innerScoreDirector).afterVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 1, 3);
+        verify(innerScoreDirector).beforeVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 4, 6);
+        verify(innerScoreDirector).afterVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 4, 6);
+        verify(innerScoreDirector, never()).beforeVariableChanged(any(VariableDescriptor.class), any());
+    }
+
     void assertIndex(TestdataListValue element, Integer index) {
         assertThat(element.getIndex()).isEqualTo(index);
         assertThat(indexVariableListener.getIndex(element)).isEqualTo(index);
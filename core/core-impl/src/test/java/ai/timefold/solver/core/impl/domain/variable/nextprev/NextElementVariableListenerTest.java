@@ -0,0 +1,84 @@
+package ai.timefold.solver.core.impl.domain.variable.nextprev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.testdata.domain.list.shadow_history.TestdataListEntityWithShadowHistory;
+import ai.timefold.solver.core.impl.testdata.domain.list.shadow_history.TestdataListSolutionWithShadowHistory;
+import ai.timefold.solver.core.impl.testdata.domain.list.shadow_history.TestdataListValueWithShadowHistory;
+
+import org.junit.jupiter.api.Test;
+
+class NextElementVariableListenerTest {
+
+    private final InnerScoreDirector<TestdataListSolutionWithShadowHistory, ?> scoreDirector =
+            mock(InnerScoreDirector.class);
+
+    private final NextElementShadowVariableDescriptor<TestdataListSolutionWithShadowHistory> shadowVariableDescriptor =
+            (NextElementShadowVariableDescriptor<TestdataListSolutionWithShadowHistory>) TestdataListValueWithShadowHistory
+                    .buildEntityDescriptor().getShadowVariableDescriptor("next");
+
+    private final NextElementVariableListener<TestdataListSolutionWithShadowHistory> nextElementVariableListener =
+            new NextElementVariableListener<>(shadowVariableDescriptor,
+                    TestdataListEntityWithShadowHistory.buildVariableDescriptorForValueList());
+
+    @Test
+    void swapNotifiesRunsOfChangedNextElements() {
+        TestdataListValueWithShadowHistory v1 = new TestdataListValueWithShadowHistory("1");
+        TestdataListValueWithShadowHistory v2 = new TestdataListValueWithShadowHistory("2");
+        TestdataListValueWithShadowHistory v3 = new TestdataListValueWithShadowHistory("3");
+        TestdataListValueWithShadowHistory v4 = new TestdataListValueWithShadowHistory("4");
+        TestdataListValueWithShadowHistory v5 = new TestdataListValueWithShadowHistory("5");
+        TestdataListValueWithShadowHistory v6 = new TestdataListValueWithShadowHistory("6");
+        TestdataListEntityWithShadowHistory entity =
+                TestdataListEntityWithShadowHistory.createWithValues("a", v1, v2, v3, v4, v5, v6);
+
+        // Swap entity[1] and entity[4], which keeps the next element of v3.
+        nextElementVariableListener.beforeListVariableChanged(scoreDirector, entity, 1, 5);
+        Collections.swap(entity.getValueList(), 1, 4);
+        nextElementVariableListener.afterListVariableChanged(scoreDirector, entity, 1, 5);
+
+        assertNext(v1, v5);
+        assertNext(v5, v3);
+        assertNext(v3, v4);
+        assertNext(v4, v2);
+        assertNext(v2, v6);
+        assertNext(v6, null);
+        verify(scoreDirector).beforeVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 0, 2);
+        verify(scoreDirector).afterVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 0, 2);
+        verify(scoreDirector).beforeVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 3, 5);
+        verify(scoreDirector).afterVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 3, 5);
+        verify(scoreDirector, never()).beforeVariableChanged(any(VariableDescriptor.class), any());
+    }
+
+    @Test
+    void entityAddedNotifiesOneRange() {
+        TestdataListValueWithShadowHistory v1 = new TestdataListValueWithShadowHistory("1");
+        TestdataListValueWithShadowHistory v2 = new TestdataListValueWithShadowHistory("2");
+        TestdataListValueWithShadowHistory v3 = new TestdataListValueWithShadowHistory("3");
+        TestdataListEntityWithShadowHistory entity = new TestdataListEntityWithShadowHistory("a", v1, v2, v3);
+
+        nextElementVariableListener.beforeEntityAdded(scoreDirector, entity);
+        nextElementVariableListener.afterEntityAdded(scoreDirector, entity);
+
+        assertNext(v1, v2);
+        assertNext(v2, v3);
+        assertNext(v3, null);
+        verify(scoreDirector).beforeVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 0, 2);
+        verify(scoreDirector).afterVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 0, 2);
+        verify(scoreDirector, never()).beforeVariableChanged(any(VariableDescriptor.class), any());
+    }
+
+    private static void assertNext(TestdataListValueWithShadowHistory element,
+            TestdataListValueWithShadowHistory next) {
+        assertThat(element.getNext()).isEqualTo(next);
+    }
+
+}
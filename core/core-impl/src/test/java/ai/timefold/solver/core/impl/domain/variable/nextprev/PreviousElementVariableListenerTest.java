@@ -0,0 +1,84 @@
+package ai.timefold.solver.core.impl.domain.variable.previousprev;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.testdata.domain.list.shadow_history.TestdataListEntityWithShadowHistory;
+import ai.timefold.solver.core.impl.testdata.domain.list.shadow_history.TestdataListSolutionWithShadowHistory;
+import ai.timefold.solver.core.impl.testdata.domain.list.shadow_history.TestdataListValueWithShadowHistory;
+
+import org.junit.jupiter.api.Test;
+
+class PreviousElementVariableListenerTest {
+
+    private final InnerScoreDirector<TestdataListSolutionWithShadowHistory, ?> scoreDirector =
+            mock(InnerScoreDirector.class);
+
+    private final PreviousElementShadowVariableDescriptor<TestdataListSolutionWithShadowHistory> shadowVariableDescriptor =
+            (PreviousElementShadowVariableDescriptor<TestdataListSolutionWithShadowHistory>) TestdataListValueWithShadowHistory
+                    .buildEntityDescriptor().getShadowVariableDescriptor("previous");
+
+    private final PreviousElementVariableListener<TestdataListSolutionWithShadowHistory> previousElementVariableListener =
+            new PreviousElementVariableListener<>(shadowVariableDescriptor,
+                    TestdataListEntityWithShadowHistory.buildVariableDescriptorForValueList());
+
+    @Test
+    void swapNotifiesRunsOfChangedPreviousElements() {
+        TestdataListValueWithShadowHistory v1 = new TestdataListValueWithShadowHistory("1");
+        TestdataListValueWithShadowHistory v2 = new TestdataListValueWithShadowHistory("2");
+        TestdataListValueWithShadowHistory v3 = new TestdataListValueWithShadowHistory("3");
+        TestdataListValueWithShadowHistory v4 = new TestdataListValueWithShadowHistory("4");
+        TestdataListValueWithShadowHistory v5 = new TestdataListValueWithShadowHistory("5");
+        TestdataListValueWithShadowHistory v6 = new TestdataListValueWithShadowHistory("6");
+        TestdataListEntityWithShadowHistory entity =
+                TestdataListEntityWithShadowHistory.createWithValues("a", v1, v2, v3, v4, v5, v6);
+
+        // Swap entity[1] and entity[4], which keeps the previous element of v4.
+        previousElementVariableListener.beforeListVariableChanged(scoreDirector, entity, 1, 5);
+        Collections.swap(entity.getValueList(), 1, 4);
+        previousElementVariableListener.afterListVariableChanged(scoreDirector, entity, 1, 5);
+
+        assertPrevious(v1, null);
+        assertPrevious(v5, v1);
+        assertPrevious(v3, v5);
+        assertPrevious(v4, v3);
+        assertPrevious(v2, v4);
+        assertPrevious(v6, v2);
+        verify(scoreDirector).beforeVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 1, 3);
+        verify(scoreDirector).afterVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 1, 3);
+        verify(scoreDirector).beforeVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 4, 6);
+        verify(scoreDirector).afterVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 4, 6);
+        verify(scoreDirector, never()).beforeVariableChanged(any(VariableDescriptor.class), any());
+    }
+
+    @Test
+    void entityAddedNotifiesOneRange() {
+        TestdataListValueWithShadowHistory v1 = new TestdataListValueWithShadowHistory("1");
+        TestdataListValueWithShadowHistory v2 = new TestdataListValueWithShadowHistory("2");
+        TestdataListValueWithShadowHistory v3 = new TestdataListValueWithShadowHistory("3");
+        TestdataListEntityWithShadowHistory entity = new TestdataListEntityWithShadowHistory("a", v1, v2, v3);
+
+        previousElementVariableListener.beforeEntityAdded(scoreDirector, entity);
+        previousElementVariableListener.afterEntityAdded(scoreDirector, entity);
+
+        assertPrevious(v1, null);
+        assertPrevious(v2, v1);
+        assertPrevious(v3, v2);
+        verify(scoreDirector).beforeVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 1, 3);
+        verify(scoreDirector).afterVariableRangeChanged(shadowVariableDescriptor, entity.getValueList(), 1, 3);
+        verify(scoreDirector, never()).beforeVariableChanged(any(VariableDescriptor.class), any());
+    }
+
+    private static void assertPrevious(TestdataListValueWithShadowHistory element,
+            TestdataListValueWithShadowHistory previous) {
+        assertThat(element.getPrevious()).isEqualTo(previous);
+    }
+
+}
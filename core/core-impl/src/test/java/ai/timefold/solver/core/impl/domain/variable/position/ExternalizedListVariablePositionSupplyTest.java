@@ -0,0 +1,213 @@
+package ai.timefold.solver.core.impl.domain.variable.position;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.index.IndexShadowVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.index.IndexVariableListener;
+import ai.timefold.solver.core.impl.domain.variable.inverserelation.InverseRelationShadowVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonListInverseVariableListener;
+import ai.timefold.solver.core.impl.domain.variable.supply.Demand;
+import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+import ai.timefold.solver.core.impl.testdata.domain.list.externalized.TestdataListEntityExternalized;
+import ai.timefold.solver.core.impl.testdata.domain.list.externalized.TestdataListSolutionExternalized;
+
+import org.junit.jupiter.api.Test;
+
+class ExternalizedListVariablePositionSupplyTest {
+
+    @Test
+    void listVariable() {
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+        ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedListVariablePositionSupply<TestdataListSolution> supply =
+                new ExternalizedListVariablePositionSupply<>(variableDescriptor);
+
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListValue v4 = new TestdataListValue("4");
+        TestdataListEntity e1 = new TestdataListEntity("e1", v1, v2);
+        TestdataListEntity e2 = new TestdataListEntity("e2", v3);
+
+        TestdataListSolution solution = new TestdataListSolution();
+        solution.setEntityList(new ArrayList<>(Arrays.asList(e1, e2)));
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        // Positions are set immediately after the working solution is reset.
+        assertPosition(supply, v1, e1, 0);
+        assertPosition(supply, v2, e1, 1);
+        assertPosition(supply, v3, e2, 0);
+        assertUnassigned(supply, v4);
+
+        // Move v3 from e2[0] to e1[2].
+        supply.beforeListVariableChanged(scoreDirector, e2, 0, 1);
+        e2.getValueList().remove(v3);
+        supply.afterListVariableChanged(scoreDirector, e2, 0, 0);
+        supply.beforeListVariableChanged(scoreDirector, e1, 2, 2);
+        e1.getValueList().add(v3);
+        supply.afterListVariableChanged(scoreDirector, e1, 2, 3);
+
+        assertPosition(supply, v3, e1, 2);
+
+        // Assign v4, which was not assigned when the working solution was reset, to e1[0].
+        supply.beforeListVariableChanged(scoreDirector, e1, 0, 0);
+        e1.getValueList().add(0, v4);
+        supply.afterListVariableChanged(scoreDirector, e1, 0, 1);
+
+        assertPosition(supply, v4, e1, 0);
+        assertPosition(supply, v1, e1, 1);
+        assertPosition(supply, v2, e1, 2);
+        assertPosition(supply, v3, e1, 3);
+
+        // Unassign v1 from e1.
+        supply.beforeListVariableChanged(scoreDirector, e1, 1, 2);
+        e1.getValueList().remove(v1);
+        supply.afterListVariableElementUnassigned(scoreDirector, v1);
+        supply.afterListVariableChanged(scoreDirector, e1, 1, 1);
+
+        assertUnassigned(supply, v1);
+        assertPosition(supply, v2, e1, 1);
+        assertPosition(supply, v3, e1, 2);
+
+        // Remove e1.
+        supply.beforeEntityRemoved(scoreDirector, e1);
+        solution.getEntityList().remove(e1);
+        supply.afterEntityRemoved(scoreDirector, e1);
+
+        assertUnassigned(supply, v4);
+        assertUnassigned(supply, v2);
+        assertUnassigned(supply, v3);
+
+        // Assign v1 to e2.
+        supply.beforeListVariableChanged(scoreDirector, e2, 0, 0);
+        e2.getValueList().add(0, v1);
+        supply.afterListVariableChanged(scoreDirector, e2, 0, 1);
+
+        assertPosition(supply, v1, e2, 0);
+
+        // Return e1.
+        supply.beforeEntityAdded(scoreDirector, e1);
+        solution.getEntityList().add(e1);
+        supply.afterEntityAdded(scoreDirector, e1);
+
+        assertPosition(supply, v4, e1, 0);
+        assertPosition(supply, v2, e1, 1);
+        assertPosition(supply, v3, e1, 2);
+
+        // Move subList e1[0..3] to e2[1].
+        supply.beforeListVariableChanged(scoreDirector, e1, 0, 0);
+        supply.beforeListVariableChanged(scoreDirector, e2, 1, 4);
+        e2.getValueList().addAll(e1.getValueList());
+        e1.getValueList().clear();
+        supply.afterListVariableChanged(scoreDirector, e1, 0, 0);
+        supply.afterListVariableChanged(scoreDirector, e2, 1, 4);
+
+        assertPosition(supply, v1, e2, 0);
+        assertPosition(supply, v4, e2, 1);
+        assertPosition(supply, v2, e2, 2);
+        assertPosition(supply, v3, e2, 3);
+
+        supply.close();
+    }
+
+    @Test
+    void manyElementsAssignedAfterReset() {
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+        ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedListVariablePositionSupply<TestdataListSolution> supply =
+                new ExternalizedListVariablePositionSupply<>(variableDescriptor);
+
+        TestdataListEntity e1 = new TestdataListEntity("e1");
+        TestdataListSolution solution = new TestdataListSolution();
+        solution.setEntityList(new ArrayList<>(List.of(e1)));
+        List<TestdataListValue> valueList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            valueList.add(new TestdataListValue(Integer.toString(i)));
+        }
+        solution.setValueList(valueList);
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        // Every element is inserted at the start, so every element shifts on every change.
+        for (TestdataListValue value : valueList) {
+            supply.beforeListVariableChanged(scoreDirector, e1, 0, 0);
+            e1.getValueList().add(0, value);
+            supply.afterListVariableChanged(scoreDirector, e1, 0, 1);
+        }
+
+        for (int i = 0; i < valueList.size(); i++) {
+            assertPosition(supply, valueList.get(i), e1, valueList.size() - 1 - i);
+        }
+        supply.close();
+    }
+
+    @Test
+    void demandPrefersShadowVariables() {
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                TestdataListEntity.buildVariableDescriptorForValueList();
+        IndexShadowVariableDescriptor<TestdataListSolution> indexShadowVariableDescriptor =
+                (IndexShadowVariableDescriptor<TestdataListSolution>) variableDescriptor.getEntityDescriptor()
+                        .getSolutionDescriptor().findEntityDescriptorOrFail(TestdataListValue.class)
+                        .getShadowVariableDescriptor("index");
+        InverseRelationShadowVariableDescriptor<TestdataListSolution> inverseRelationShadowVariableDescriptor =
+                (InverseRelationShadowVariableDescriptor<TestdataListSolution>) variableDescriptor.getEntityDescriptor()
+                        .getSolutionDescriptor().findEntityDescriptorOrFail(TestdataListValue.class)
+                        .getShadowVariableDescriptor("entity");
+        // The supplies of the shadow variable listeners are shared, not duplicated.
+        IndexVariableListener<TestdataListSolution> indexVariableListener =
+                new IndexVariableListener<>(indexShadowVariableDescriptor, variableDescriptor);
+        SingletonListInverseVariableListener<TestdataListSolution> inverseVariableListener =
+                new SingletonListInverseVariableListener<>(inverseRelationShadowVariableDescriptor, variableDescriptor);
+        SupplyManager supplyManager = mock(SupplyManager.class);
+        when(supplyManager.demand(indexShadowVariableDescriptor.getProvidedDemand())).thenReturn(indexVariableListener);
+        when(supplyManager.demand((Demand) inverseRelationShadowVariableDescriptor.getProvidedDemand()))
+                .thenReturn(inverseVariableListener);
+
+        ListVariablePositionSupply shadowSupply = new ListVariablePositionDemand<>(variableDescriptor)
+                .createExternalizedSupply(supplyManager);
+        assertThat(shadowSupply).isInstanceOf(ShadowListVariablePositionSupply.class);
+
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListEntity e1 = TestdataListEntity.createWithValues("e1", new TestdataListValue("0"), v1);
+        assertPosition(shadowSupply, v1, e1, 1);
+
+        ListVariableDescriptor<TestdataListSolutionExternalized> externalizedVariableDescriptor =
+                (ListVariableDescriptor<TestdataListSolutionExternalized>) SolutionDescriptor
+                        .buildSolutionDescriptor(TestdataListSolutionExternalized.class,
+                                TestdataListEntityExternalized.class)
+                        .findEntityDescriptorOrFail(TestdataListEntityExternalized.class)
+                        .getGenuineVariableDescriptor("valueList");
+        assertThat(new ListVariablePositionDemand<>(externalizedVariableDescriptor).createExternalizedSupply(null))
+                .isInstanceOf(ExternalizedListVariablePositionSupply.class);
+    }
+
+    private static void assertPosition(ListVariablePositionSupply supply, Object element, Object entity, int index) {
+        assertThat(supply.getInverseSingleton(element)).isSameAs(entity);
+        assertThat(supply.getIndex(element)).isEqualTo(index);
+        assertThat(supply.getIndexInt(element)).isEqualTo(index);
+    }
+
+    private static void assertUnassigned(ListVariablePositionSupply supply, Object element) {
+        assertThat(supply.getInverseSingleton(element)).isNull();
+        assertThat(supply.getIndex(element)).isNull();
+        assertThat(supply.getIndexInt(element)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,329 @@
+package ai.timefold.solver.core.impl.heuristic.move;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.config.score.trend.InitializingScoreTrendLevel;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.SwapMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListAssignMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListChangeMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListSwapMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListUnassignMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.SubListChangeMove;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import ai.timefold.solver.core.impl.score.trend.InitializingScoreTrend;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+import ai.timefold.solver.core.impl.testdata.domain.list.shadow_history.TestdataListEntityWithShadowHistory;
+import ai.timefold.solver.core.impl.testdata.domain.list.shadow_history.TestdataListSolutionWithShadowHistory;
+import ai.timefold.solver.core.impl.testdata.domain.list.shadow_history.TestdataListValueWithShadowHistory;
+
+import org.junit.jupiter.api.Test;
+
+class VariableChangeLogTest {
+
+    private static <Solution_> InnerScoreDirector<Solution_, SimpleScore> buildScoreDirector(
+            SolutionDescriptor<Solution_> solutionDescriptor, Solution_ solution) {
+        EasyScoreDirectorFactory<Solution_, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(solutionDescriptor, (solution_) -> SimpleScore.of(0));
+        scoreDirectorFactory.setInitializingScoreTrend(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 1));
+        InnerScoreDirector<Solution_, SimpleScore> scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        return scoreDirector;
+    }
+
+    private static void assertListVariable(TestdataListEntity entity, TestdataListValue... values) {
+        assertThat(entity.getValueList()).containsExactly(values);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(values[i].getEntity()).isSameAs(entity);
+            assertThat(values[i].getIndex()).isEqualTo(i);
+        }
+    }
+
+    private static void assertListVariable(TestdataListEntityWithShadowHistory entity,
+            TestdataListValueWithShadowHistory... values) {
+        assertThat(entity.getValueList()).containsExactly(values);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(values[i].getEntity()).isSameAs(entity);
+            assertThat(values[i].getIndex()).isEqualTo(i);
+            assertThat(values[i].getPrevious()).isSameAs(i == 0 ? null : values[i - 1]);
+            assertThat(values[i].getNext()).isSameAs(i == values.length - 1 ? null : values[i + 1]);
+        }
+    }
+
+    @Test
+    void undoBasicVariableChanges() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v2);
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1, e2));
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataSolution.buildSolutionDescriptor(), solution);
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataEntity.class).getGenuineVariableDescriptor("value");
+
+        scoreDirector.doAndProcessMove(new ChangeMove<>(variableDescriptor, e1, v2), false,
+                score -> assertThat(e1.getValue()).isSameAs(v2));
+        assertThat(e1.getValue()).isSameAs(v1);
+
+        scoreDirector.doAndProcessMove(new SwapMove<>(List.of(variableDescriptor), e1, e2), false, score -> {
+            assertThat(e1.getValue()).isSameAs(v2);
+            assertThat(e2.getValue()).isSameAs(v1);
+        });
+        assertThat(e1.getValue()).isSameAs(v1);
+        assertThat(e2.getValue()).isSameAs(v2);
+    }
+
+    @Test
+    void undoListVariableChanges() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListValue v4 = new TestdataListValue("4");
+        TestdataListValue v5 = new TestdataListValue("5");
+        TestdataListEntity e1 = TestdataListEntity.createWithValues("e1", v1, v2, v3, v4);
+        TestdataListEntity e2 = TestdataListEntity.createWithValues("e2", v5);
+        TestdataListSolution solution = new TestdataListSolution();
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4, v5));
+        solution.setEntityList(Arrays.asList(e1, e2));
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataListSolution.buildSolutionDescriptor(), solution);
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                scoreDirector.getSolutionDescriptor().getListVariableDescriptors().get(0);
+
+        scoreDirector.doAndProcessMove(new SubListChangeMove<>(variableDescriptor, e1, 1, 2, e2, 1, true), false,
+                score -> {
+                    assertListVariable(e1, v1, v4);
+                    assertListVariable(e2, v5, v3, v2);
+                });
+        assertListVariable(e1, v1, v2, v3, v4);
+        assertListVariable(e2, v5);
+
+        scoreDirector.doAndProcessMove(new ListSwapMove<>(variableDescriptor, e1, 0, e1, 3), false,
+                score -> assertListVariable(e1, v4, v2, v3, v1));
+        assertListVariable(e1, v1, v2, v3, v4);
+    }
+
+    @Test
+    void undoListVariableAssignment() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListEntity e1 = TestdataListEntity.createWithValues("e1", v1);
+        TestdataListSolution solution = new TestdataListSolution();
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1));
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataListSolution.buildSolutionDescriptor(), solution);
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                scoreDirector.getSolutionDescriptor().getListVariableDescriptors().get(0);
+        SimpleScore uninitializedScore = scoreDirector.calculateScore();
+
+        scoreDirector.doAndProcessMove(new ListAssignMove<>(variableDescriptor, v2, e1, 0), false, score -> {
+            assertListVariable(e1, v2, v1);
+            assertThat(score.initScore()).isEqualTo(uninitializedScore.initScore() + 1);
+        });
+        assertListVariable(e1, v1);
+        assertThat(v2.getEntity()).isNull();
+        assertThat(v2.getIndex()).isNull();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(uninitializedScore);
+
+        scoreDirector.doAndProcessMove(new ListUnassignMove<>(variableDescriptor, e1, 0), false,
+                score -> assertThat(e1.getValueList()).isEmpty());
+        assertListVariable(e1, v1);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(uninitializedScore);
+    }
+
+    @Test
+    void simplifiedMoveIsUndoneByItsRecordedChanges() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1));
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataSolution.buildSolutionDescriptor(), solution);
+        AbstractSimplifiedMove<TestdataSolution> move = new AbstractSimplifiedMove<>() {
+            @Override
+            public boolean isMoveDoable(ScoreDirector<TestdataSolution> scoreDirector) {
+                return true;
+            }
+
+            @Override
+            protected void doMoveOnGenuineVariables(ScoreDirector<TestdataSolution> scoreDirector) {
+                scoreDirector.beforeVariableChanged(e1, "value");
+                e1.setValue(v2);
+                scoreDirector.afterVariableChanged(e1, "value");
+            }
+        };
+
+        Move<TestdataSolution> undoMove = move.doMove(scoreDirector);
+        assertThat(e1.getValue()).isSameAs(v2);
+        Move<TestdataSolution> redoMove = undoMove.doMove(scoreDirector);
+        assertThat(e1.getValue()).isSameAs(v1);
+        redoMove.doMoveOnly(scoreDirector);
+        assertThat(e1.getValue()).isSameAs(v2);
+        undoMove.doMoveOnly(scoreDirector);
+        assertThat(e1.getValue()).isSameAs(v1);
+
+        scoreDirector.doAndProcessMove(move, false, score -> assertThat(e1.getValue()).isSameAs(v2));
+        assertThat(e1.getValue()).isSameAs(v1);
+    }
+
+    @Test
+    void undoSubListChangeMoveRestoresShadowVariables() {
+        TestdataListValueWithShadowHistory v1 = new TestdataListValueWithShadowHistory("1");
+        TestdataListValueWithShadowHistory v2 = new TestdataListValueWithShadowHistory("2");
+        TestdataListValueWithShadowHistory v3 = new TestdataListValueWithShadowHistory("3");
+        TestdataListValueWithShadowHistory v4 = new TestdataListValueWithShadowHistory("4");
+        TestdataListValueWithShadowHistory v5 = new TestdataListValueWithShadowHistory("5");
+        TestdataListEntityWithShadowHistory e1 = TestdataListEntityWithShadowHistory.createWithValues("e1", v1, v2, v3, v4);
+        TestdataListEntityWithShadowHistory e2 = TestdataListEntityWithShadowHistory.createWithValues("e2", v5);
+        TestdataListSolutionWithShadowHistory solution = new TestdataListSolutionWithShadowHistory();
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4, v5));
+        solution.setEntityList(Arrays.asList(e1, e2));
+        InnerScoreDirector<TestdataListSolutionWithShadowHistory, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataListSolutionWithShadowHistory.buildSolutionDescriptor(), solution);
+        ListVariableDescriptor<TestdataListSolutionWithShadowHistory> variableDescriptor =
+                scoreDirector.getSolutionDescriptor().getListVariableDescriptors().get(0);
+
+        // Between two entities
+        scoreDirector.doAndProcessMove(new SubListChangeMove<>(variableDescriptor, e1, 1, 2, e2, 1, true), true,
+                score -> {
+                    assertListVariable(e1, v1, v4);
+                    assertListVariable(e2, v5, v3, v2);
+                });
+        assertListVariable(e1, v1, v2, v3, v4);
+        assertListVariable(e2, v5);
+
+        // Within the same entity
+        scoreDirector.doAndProcessMove(new SubListChangeMove<>(variableDescriptor, e1, 0, 2, e1, 1, false), false,
+                score -> assertListVariable(e1, v3, v1, v2, v4));
+        assertListVariable(e1, v1, v2, v3, v4);
+
+        Move<TestdataListSolutionWithShadowHistory> undoMove =
+                new SubListChangeMove<>(variableDescriptor, e1, 2, 2, e2, 0, false).doMove(scoreDirector);
+        assertListVariable(e1, v1, v2);
+        assertListVariable(e2, v3, v4, v5);
+        undoMove.doMoveOnly(scoreDirector);
+        assertListVariable(e1, v1, v2, v3, v4);
+        assertListVariable(e2, v5);
+    }
+
+    @Test
+    void undoNestedBuiltInMoves() {
+        TestdataListValueWithShadowHistory v1 = new TestdataListValueWithShadowHistory("1");
+        TestdataListValueWithShadowHistory v2 = new TestdataListValueWithShadowHistory("2");
+        TestdataListValueWithShadowHistory v3 = new TestdataListValueWithShadowHistory("3");
+        TestdataListValueWithShadowHistory v4 = new TestdataListValueWithShadowHistory("4");
+        TestdataListEntityWithShadowHistory e1 = TestdataListEntityWithShadowHistory.createWithValues("e1", v1, v2, v3);
+        TestdataListEntityWithShadowHistory e2 = TestdataListEntityWithShadowHistory.createWithValues("e2", v4);
+        TestdataListSolutionWithShadowHistory solution = new TestdataListSolutionWithShadowHistory();
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        solution.setEntityList(Arrays.asList(e1, e2));
+        InnerScoreDirector<TestdataListSolutionWithShadowHistory, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataListSolutionWithShadowHistory.buildSolutionDescriptor(), solution);
+        ListVariableDescriptor<TestdataListSolutionWithShadowHistory> variableDescriptor =
+                scoreDirector.getSolutionDescriptor().getListVariableDescriptors().get(0);
+        // A custom move that does built-in moves, which record their changes too.
+        AbstractSimplifiedMove<TestdataListSolutionWithShadowHistory> move = new AbstractSimplifiedMove<>() {
+            @Override
+            public boolean isMoveDoable(ScoreDirector<TestdataListSolutionWithShadowHistory> scoreDirector) {
+                return true;
+            }
+
+            @Override
+            protected void doMoveOnGenuineVariables(ScoreDirector<TestdataListSolutionWithShadowHistory> scoreDirector) {
+                new SubListChangeMove<>(variableDescriptor, e1, 1, 2, e2, 1, false).doMove(scoreDirector);
+                new ListChangeMove<>(variableDescriptor, e2, 0, e1, 1).doMove(scoreDirector);
+            }
+        };
+
+        scoreDirector.doAndProcessMove(move, true, score -> {
+            assertListVariable(e1, v1, v4);
+            assertListVariable(e2, v2, v3);
+        });
+        assertListVariable(e1, v1, v2, v3);
+        assertListVariable(e2, v4);
+
+        Move<TestdataListSolutionWithShadowHistory> undoMove = move.doMove(scoreDirector);
+        assertListVariable(e1, v1, v4);
+        assertListVariable(e2, v2, v3);
+        undoMove.doMoveOnly(scoreDirector);
+        assertListVariable(e1, v1, v2, v3);
+        assertListVariable(e2, v4);
+    }
+
+    @Test
+    void customMoveIsUndoneByItsOwnUndoMove() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1));
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataSolution.buildSolutionDescriptor(), solution);
+        List<String> undoneMoveList = new ArrayList<>();
+        AbstractMove<TestdataSolution> move = new AbstractMove<>() {
+            @Override
+            public boolean isMoveDoable(ScoreDirector<TestdataSolution> scoreDirector) {
+                return true;
+            }
+
+            @Override
+            protected AbstractMove<TestdataSolution> createUndoMove(ScoreDirector<TestdataSolution> scoreDirector) {
+                TestdataValue oldValue = e1.getValue();
+                return new AbstractMove<>() {
+                    @Override
+                    public boolean isMoveDoable(ScoreDirector<TestdataSolution> scoreDirector) {
+                        return true;
+                    }
+
+                    @Override
+                    protected AbstractMove<TestdataSolution> createUndoMove(ScoreDirector<TestdataSolution> scoreDirector) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    protected void doMoveOnGenuineVariables(ScoreDirector<TestdataSolution> scoreDirector) {
+                        undoneMoveList.add("undo");
+                        scoreDirector.beforeVariableChanged(e1, "value");
+                        e1.setValue(oldValue);
+                        scoreDirector.afterVariableChanged(e1, "value");
+                    }
+                };
+            }
+
+            @Override
+            protected void doMoveOnGenuineVariables(ScoreDirector<TestdataSolution> scoreDirector) {
+                scoreDirector.beforeVariableChanged(e1, "value");
+                e1.setValue(v2);
+                scoreDirector.afterVariableChanged(e1, "value");
+            }
+        };
+
+        scoreDirector.doAndProcessMove(move, false, score -> assertThat(e1.getValue()).isSameAs(v2));
+        assertThat(e1.getValue()).isSameAs(v1);
+        assertThat(undoneMoveList).containsExactly("undo");
+    }
+
+}
@@ -0,0 +1,67 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class ProbabilityAliasTableTest {
+
+    @Test
+    void sampleFollowsProbabilityWeights() {
+        Map<String, Double> weightMap = Map.of("a", 1000.0, "b", 200.0, "c", 30.0, "d", 4.0);
+        ProbabilityAliasTable<String> aliasTable = ProbabilityAliasTable.build(List.of("a", "b", "c", "d"), weightMap::get);
+        assertThat(aliasTable.getSize()).isEqualTo(4);
+        assertThat(aliasTable.getProbabilityWeightTotal()).isEqualTo(1234.0);
+
+        Random workingRandom = new Random(37);
+        int sampleCount = 1_234_000;
+        Map<String, Integer> countMap = new HashMap<>();
+        for (int i = 0; i < sampleCount; i++) {
+            countMap.merge(aliasTable.sample(workingRandom), 1, Integer::sum);
+        }
+        weightMap.forEach((element, weight) -> assertThat((double) countMap.get(element) / sampleCount)
+                .isCloseTo(weight / 1234.0, within(0.002)));
+    }
+
+    @Test
+    void zeroWeightIsNeverSampled() {
+        ProbabilityAliasTable<String> aliasTable =
+                ProbabilityAliasTable.build(List.of("a", "b", "c"), element -> element.equals("b") ? 0.0 : 1.0);
+        assertThat(aliasTable.getSize()).isEqualTo(3);
+        Random workingRandom = new Random(37);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(aliasTable.sample(workingRandom)).isNotEqualTo("b");
+        }
+    }
+
+    @Test
+    void emptyCannotBeSampled() {
+        ProbabilityAliasTable<String> aliasTable = ProbabilityAliasTable.build(Collections.emptyList(), element -> 1.0);
+        assertThat(aliasTable.getSize()).isZero();
+        assertThatIllegalStateException().isThrownBy(() -> aliasTable.sample(new Random(37)));
+    }
+
+    @Test
+    void negativeWeight() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ProbabilityAliasTable.build(List.of("a"), element -> -1.0))
+                .withMessageContaining("probabilityWeight (-1.0)");
+    }
+
+    @Test
+    void memoryFootprint() {
+        ProbabilityAliasTable<Integer> aliasTable = ProbabilityAliasTable.build(List.of(1, 2, 3, 4), element -> 1.0);
+        // 3 array headers, plus a reference, a double and an int per element
+        assertThat(aliasTable.getMemoryFootprint()).isEqualTo(3 * 16L + 4 * (4L + 8L + 4L));
+    }
+
+}
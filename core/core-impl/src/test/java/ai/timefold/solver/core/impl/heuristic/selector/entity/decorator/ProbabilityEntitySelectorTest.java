@@ -53,11 +53,12 @@ class ProbabilityEntitySelectorTest {
                 probabilityWeightFactory);
 
         Random workingRandom = new TestRandom(
-                1222.0 / 1234.0,
-                111.0 / 1234.0,
+                // Alias table columns: e1 (full), e2 (or e1), e3 (or e1), e4 (or e1)
+                0.51,
                 0.0,
-                1230.0 / 1234.0,
-                1199.0 / 1234.0);
+                0.6,
+                0.75,
+                0.3);
 
         SolverScope solverScope = mock(SolverScope.class);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
@@ -58,7 +58,7 @@ class DefaultPillarSelectorTest {
         DefaultPillarSelector pillarSelector = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
                 SubPillarConfigPolicy.withoutSubpillars());
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         pillarSelector.solvingStarted(solverScope);
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
@@ -71,8 +71,8 @@ class DefaultPillarSelectorTest {
         assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]", "[c, e, f]");
         pillarSelector.stepEnded(stepScopeA1);
 
-        b.setValue(val3);
-        f.setValue(val4);
+        changeValue(solverScope, variableDescriptor, b, val3);
+        changeValue(solverScope, variableDescriptor, f, val4);
 
         AbstractStepScope stepScopeA2 = mock(AbstractStepScope.class);
         when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
@@ -99,8 +99,9 @@ class DefaultPillarSelectorTest {
         verifyPhaseLifecycle(entitySelector, 1, 2, 3);
     }
 
-    private SolverScope<TestdataSolution> mockSolverScope() {
-        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+    private SolverScope<TestdataSolution> mockSolverScope(GenuineVariableDescriptor<TestdataSolution> variableDescriptor) {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor =
+                variableDescriptor.getEntityDescriptor().getSolutionDescriptor();
         InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
         doReturn(solutionDescriptor).when(scoreDirector).getSolutionDescriptor();
         doReturn(VariableListenerSupport.create(scoreDirector)).when(scoreDirector).getSupplyManager();
@@ -110,6 +111,16 @@ class DefaultPillarSelectorTest {
         return solverScope;
     }
 
+    private static void changeValue(SolverScope<TestdataSolution> solverScope,
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor, TestdataEntity entity, TestdataValue value) {
+        // The pillar supply only sees changes that the score director is notified of.
+        VariableListenerSupport<TestdataSolution> variableListenerSupport =
+                (VariableListenerSupport<TestdataSolution>) solverScope.getScoreDirector().getSupplyManager();
+        variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(value);
+        variableListenerSupport.triggerVariableListenersInNotificationQueues();
+    }
+
     @Test
     void emptyEntitySelectorOriginalNoSubs() {
         GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
@@ -118,7 +129,7 @@ class DefaultPillarSelectorTest {
         DefaultPillarSelector pillarSelector = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
                 SubPillarConfigPolicy.withoutSubpillars());
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         pillarSelector.solvingStarted(solverScope);
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
@@ -180,7 +191,7 @@ class DefaultPillarSelectorTest {
 
         TestRandom workingRandom = new TestRandom(0);
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
         pillarSelector.solvingStarted(solverScope);
 
@@ -199,8 +210,8 @@ class DefaultPillarSelectorTest {
         assertCodesOfNeverEndingPillarSelector(pillarSelector, "[a]", "[c, e]", "[b]", "[d]");
         pillarSelector.stepEnded(stepScopeA1);
 
-        b.setValue(val3);
-        f.setValue(val4);
+        changeValue(solverScope, variableDescriptor, b, val3);
+        changeValue(solverScope, variableDescriptor, f, val4);
 
         AbstractStepScope stepScopeA2 = PlannerTestUtils.delegatingStepScope(phaseScopeA);
         pillarSelector.stepStarted(stepScopeA2);
@@ -264,7 +275,7 @@ class DefaultPillarSelectorTest {
                 1, 0, 0, 0, // [c, e]
                 0, 0, 0, 0); // [b, d]
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
         pillarSelector.solvingStarted(solverScope);
 
@@ -314,7 +325,7 @@ class DefaultPillarSelectorTest {
                 0, 0 // [a]
         );
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
         pillarSelector.solvingStarted(solverScope);
 
@@ -342,7 +353,7 @@ class DefaultPillarSelectorTest {
                 entitySelector, Arrays.asList(variableDescriptor), true,
                 SubPillarConfigPolicy.withSubpillarsUnlimited());
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         pillarSelector.solvingStarted(solverScope);
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
@@ -402,14 +413,12 @@ class DefaultPillarSelectorTest {
         DefaultPillarSelector pillarSelector2 = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
                 SubPillarConfigPolicy.withoutSubpillars());
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         pillarSelector1.solvingStarted(solverScope);
         pillarSelector2.solvingStarted(solverScope);
 
         AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
         when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
-        pillarSelector1.phaseStarted(phaseScopeA);
-        pillarSelector2.phaseStarted(phaseScopeA);
 
         AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
         when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
@@ -420,27 +429,31 @@ class DefaultPillarSelectorTest {
          *
          * It starts with active count 0, then first selector creates the supply and active count goes to 1.
          * Second selector increases the count to 2, but the supply stays the same.
-         * Then after step end, the same process repeats in reverse, eventually reaching zero active count.
+         * The supply outlives the steps, so that it only needs to process the changes of each step.
+         * Then after phase end, the same process repeats in reverse, eventually reaching zero active count.
          */
         SupplyManager pillarSupplyManager = solverScope.getScoreDirector().getSupplyManager();
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
-        pillarSelector1.stepStarted(stepScopeA1);
+        pillarSelector1.phaseStarted(phaseScopeA);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
 
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(1);
-        pillarSelector2.stepStarted(stepScopeA1);
+        pillarSelector2.phaseStarted(phaseScopeA);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(2);
 
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(2);
+        pillarSelector1.stepStarted(stepScopeA1);
+        pillarSelector2.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector1, "[a]", "[b, d]", "[c, e, f]");
+        assertAllCodesOfPillarSelector(pillarSelector2, "[a]", "[b, d]", "[c, e, f]");
         pillarSelector1.stepEnded(stepScopeA1);
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
-
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
         pillarSelector2.stepEnded(stepScopeA1);
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(2);
 
         pillarSelector1.phaseEnded(phaseScopeA);
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
+
         pillarSelector2.phaseEnded(phaseScopeA);
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
 
         pillarSelector1.solvingEnded(solverScope);
         pillarSelector2.solvingEnded(solverScope);
@@ -468,7 +481,7 @@ class DefaultPillarSelectorTest {
         DefaultPillarSelector pillarSelector2 = new DefaultPillarSelector(entitySelector, List.of(variableDescriptor), false,
                 SubPillarConfigPolicy.withoutSubpillars());
 
-        SolverScope<TestdataSolution> solverScope = mockSolverScope();
+        SolverScope<TestdataSolution> solverScope = mockSolverScope(variableDescriptor);
         pillarSelector1.solvingStarted(solverScope);
         pillarSelector2.solvingStarted(solverScope);
 
@@ -482,22 +495,17 @@ class DefaultPillarSelectorTest {
 
         /*
          * There is no guarantee that stepEnded() was called, local search can decide to go directly to phaseEnded().
-         * Therefore we need to ensure that the step cache is cleared on phaseEnded() as well.
+         * Therefore we need to ensure that the step cache and the supply are cleared on phaseEnded() as well.
          */
         SupplyManager pillarSupplyManager = solverScope.getScoreDirector().getSupplyManager();
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
+        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(2);
         pillarSelector1.stepStarted(stepScopeA1);
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
-
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(1);
         pillarSelector2.stepStarted(stepScopeA1);
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector2.getPillarDemand())).isEqualTo(2);
-
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(2);
+
         pillarSelector1.phaseEnded(phaseScopeA);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
 
-        Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(1);
         pillarSelector2.phaseEnded(phaseScopeA);
         Assertions.assertThat(pillarSupplyManager.getActiveCount(pillarSelector1.getPillarDemand())).isEqualTo(0);
 
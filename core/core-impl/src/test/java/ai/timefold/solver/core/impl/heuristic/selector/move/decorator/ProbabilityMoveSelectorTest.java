@@ -49,11 +49,12 @@ class ProbabilityMoveSelectorTest {
                 SelectionCacheType.STEP, probabilityWeightFactory);
 
         Random workingRandom = new TestRandom(
-                1222.0 / 1234.0,
-                111.0 / 1234.0,
+                // Alias table columns: e1 (full), e2 (or e1), e3 (or e1), e4 (or e1)
+                0.51,
                 0.0,
-                1230.0 / 1234.0,
-                1199.0 / 1234.0);
+                0.6,
+                0.75,
+                0.3);
 
         SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
@@ -71,6 +72,9 @@ class ProbabilityMoveSelectorTest {
 
         verifyPhaseLifecycle(childMoveSelector, 1, 1, 1);
         verify(childMoveSelector, times(1)).iterator();
+        // 4 elements: an Object[] of references, a double[] of probabilities and an int[] of aliases.
+        verify(solverScope).addProbabilitySelectionMemoryFootprint(112L);
+        verify(solverScope).addProbabilitySelectionMemoryFootprint(-112L);
     }
 
 }
@@ -0,0 +1,235 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.SelectorTestUtils;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataObject;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.multivar.TestdataMultiVarEntity;
+import ai.timefold.solver.core.impl.testdata.domain.multivar.TestdataMultiVarSolution;
+
+import org.junit.jupiter.api.Test;
+
+class PillarSupplyTest {
+
+    @Test
+    void incrementalWithoutSubpillars() {
+        assertSameAsRebuild(SubPillarConfigPolicy.withoutSubpillars());
+    }
+
+    @Test
+    void incrementalWithMinimumSubPillarSize() {
+        assertSameAsRebuild(SubPillarConfigPolicy.withSubpillars(3, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void incrementalSequential() {
+        Comparator<TestdataEntity> comparator = Comparator.comparing(TestdataObject::getCode).reversed();
+        assertSameAsRebuild(SubPillarConfigPolicy.sequential(2, Integer.MAX_VALUE, comparator));
+    }
+
+    private static void assertSameAsRebuild(SubPillarConfigPolicy subPillarConfigPolicy) {
+        Random random = new Random(37);
+        List<TestdataValue> valueList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            valueList.add(new TestdataValue("v" + i));
+        }
+        valueList.add(null);
+        List<TestdataEntity> entityList = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            entityList.add(new TestdataEntity("e" + (100 + i), valueList.get(random.nextInt(valueList.size()))));
+        }
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector<TestdataSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                variableDescriptor.getEntityDescriptor(), entityList.toArray());
+        PillarSupply<TestdataSolution> pillarSupply =
+                new PillarSupply<>(entitySelector, List.of(variableDescriptor), subPillarConfigPolicy);
+
+        for (int step = 0; step < 200; step++) {
+            List<List<Object>> pillarList = pillarSupply.read();
+            assertThat(pillarList).isEqualTo(
+                    new PillarSupply<>(entitySelector, List.of(variableDescriptor), subPillarConfigPolicy).read());
+            List<List<Object>> pillarListSnapshot = new ArrayList<>();
+            for (List<Object> pillar : pillarList) {
+                pillarListSnapshot.add(List.copyOf(pillar));
+            }
+            List<List<Object>> oldPillarList = new ArrayList<>(pillarList);
+
+            // Evaluate a few changes that are undone, then do one change.
+            for (int i = 0; i < 3; i++) {
+                TestdataEntity entity = entityList.get(random.nextInt(entityList.size()));
+                TestdataValue oldValue = entity.getValue();
+                changeValue(pillarSupply, entity, valueList.get(random.nextInt(valueList.size())));
+                changeValue(pillarSupply, entity, oldValue);
+            }
+            int changeCount = 1 + random.nextInt(3);
+            TestdataValue newValue = valueList.get(random.nextInt(valueList.size()));
+            for (int i = 0; i < changeCount; i++) {
+                changeValue(pillarSupply, entityList.get(random.nextInt(entityList.size())), newValue);
+            }
+
+            pillarSupply.read();
+            // The pillars of the previous read are unaffected.
+            assertThat(oldPillarList).isEqualTo(pillarListSnapshot);
+        }
+    }
+
+    private static void changeValue(PillarSupply<TestdataSolution> pillarSupply, TestdataEntity entity,
+            TestdataValue value) {
+        pillarSupply.beforeVariableChanged(null, entity);
+        entity.setValue(value);
+        pillarSupply.afterVariableChanged(null, entity);
+    }
+
+    @Test
+    void readWithoutChangesDoesNotIterateTheEntitySelector() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val2);
+        TestdataEntity c = new TestdataEntity("c", val1);
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector<TestdataSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                variableDescriptor.getEntityDescriptor(), a, b, c);
+        PillarSupply<TestdataSolution> pillarSupply =
+                new PillarSupply<>(entitySelector, List.of(variableDescriptor), SubPillarConfigPolicy.withoutSubpillars());
+
+        assertThat(pillarSupply.read()).containsExactly(List.of(a, c), List.of(b));
+        changeValue(pillarSupply, a, val2);
+        assertThat(pillarSupply.read()).containsExactly(List.of(a, b), List.of(c));
+        assertThat(pillarSupply.read()).containsExactly(List.of(a, b), List.of(c));
+        verify(entitySelector, times(1)).iterator();
+    }
+
+    @Test
+    void rebuildAfterEntityRemoved() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val2);
+        TestdataEntity c = new TestdataEntity("c", val1);
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        List<Object> selectedEntityList = new ArrayList<>(List.of(a, b, c));
+        EntitySelector<TestdataSolution> entitySelector = mockEntitySelector(variableDescriptor, selectedEntityList);
+        PillarSupply<TestdataSolution> pillarSupply =
+                new PillarSupply<>(entitySelector, List.of(variableDescriptor), SubPillarConfigPolicy.withoutSubpillars());
+
+        assertThat(pillarSupply.read()).containsExactly(List.of(a, c), List.of(b));
+        pillarSupply.beforeEntityRemoved(null, a);
+        selectedEntityList.remove(a);
+        pillarSupply.afterEntityRemoved(null, a);
+        assertThat(pillarSupply.read()).containsExactly(List.of(b), List.of(c));
+    }
+
+    @Test
+    void rebuildAfterUnselectedEntityChanged() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val2);
+        TestdataEntity c = new TestdataEntity("c", null);
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        // Like a filter that only selects the assigned entities.
+        List<Object> entityList = List.of(a, b, c);
+        EntitySelector<TestdataSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                variableDescriptor.getEntityDescriptor());
+        when(entitySelector.iterator()).thenAnswer(invocation -> entityList.stream()
+                .filter(entity -> ((TestdataEntity) entity).getValue() != null)
+                .iterator());
+        when(entitySelector.getSize()).thenAnswer(invocation -> entityList.stream()
+                .filter(entity -> ((TestdataEntity) entity).getValue() != null)
+                .count());
+        PillarSupply<TestdataSolution> pillarSupply =
+                new PillarSupply<>(entitySelector, List.of(variableDescriptor), SubPillarConfigPolicy.withoutSubpillars());
+
+        assertThat(pillarSupply.read()).containsExactly(List.of(a), List.of(b));
+        changeValue(pillarSupply, c, val1);
+        assertThat(pillarSupply.read()).containsExactly(List.of(a, c), List.of(b));
+    }
+
+    @Test
+    void dropChangedEntityThatNoLongerPassesTheFilter() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue excludedValue = new TestdataValue("excluded");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val2);
+        TestdataEntity c = new TestdataEntity("c", val1);
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        SelectionFilter<TestdataSolution, Object> entityFilter =
+                (scoreDirector, entity) -> ((TestdataEntity) entity).getValue() != excludedValue;
+        List<Object> entityList = List.of(a, b, c);
+        EntitySelector<TestdataSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                variableDescriptor.getEntityDescriptor());
+        when(entitySelector.iterator()).thenAnswer(invocation -> entityList.stream()
+                .filter(entity -> entityFilter.accept(null, entity))
+                .iterator());
+        when(entitySelector.getSize()).thenAnswer(invocation -> entityList.stream()
+                .filter(entity -> entityFilter.accept(null, entity))
+                .count());
+        PillarSupply<TestdataSolution> pillarSupply = new PillarSupply<>(entitySelector, List.of(variableDescriptor),
+                SubPillarConfigPolicy.withoutSubpillars(), entityFilter, false);
+
+        assertThat(pillarSupply.read()).containsExactly(List.of(a, c), List.of(b));
+        changeValue(pillarSupply, a, excludedValue);
+        assertThat(pillarSupply.read()).containsExactly(List.of(b), List.of(c));
+        verify(entitySelector, times(1)).iterator();
+        // Once it passes the filter again, it is back in the original order.
+        changeValue(pillarSupply, a, val2);
+        assertThat(pillarSupply.read()).containsExactly(List.of(a, b), List.of(c));
+    }
+
+    @Test
+    void rebuildEveryReadWithFilterOnNonPillarVariable() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataMultiVarEntity a = new TestdataMultiVarEntity("a", val1, val1, null);
+        TestdataMultiVarEntity b = new TestdataMultiVarEntity("b", val2, val1, null);
+        TestdataMultiVarEntity c = new TestdataMultiVarEntity("c", val1, val2, null);
+        GenuineVariableDescriptor<TestdataMultiVarSolution> primaryVariableDescriptor =
+                TestdataMultiVarEntity.buildVariableDescriptorForPrimaryValue();
+        // The filter is on the secondary variable, which the pillars are not grouped by.
+        List<Object> entityList = List.of(a, b, c);
+        EntitySelector<TestdataMultiVarSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                primaryVariableDescriptor.getEntityDescriptor());
+        when(entitySelector.iterator()).thenAnswer(invocation -> entityList.stream()
+                .filter(entity -> ((TestdataMultiVarEntity) entity).getSecondaryValue() == val1)
+                .iterator());
+        when(entitySelector.getSize()).thenAnswer(invocation -> entityList.stream()
+                .filter(entity -> ((TestdataMultiVarEntity) entity).getSecondaryValue() == val1)
+                .count());
+        PillarSupply<TestdataMultiVarSolution> pillarSupply = new PillarSupply<>(entitySelector,
+                List.of(primaryVariableDescriptor), SubPillarConfigPolicy.withoutSubpillars(), null, true);
+
+        assertThat(pillarSupply.read()).containsExactly(List.of(a), List.of(b));
+        // The pillar supply is not notified of a change of the secondary variable.
+        c.setSecondaryValue(val1);
+        assertThat(pillarSupply.read()).containsExactly(List.of(a, c), List.of(b));
+        a.setSecondaryValue(val2);
+        assertThat(pillarSupply.read()).containsExactly(List.of(b), List.of(c));
+    }
+
+    private static EntitySelector<TestdataSolution> mockEntitySelector(
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor, List<Object> selectedEntityList) {
+        EntitySelector<TestdataSolution> entitySelector = SelectorTestUtils.mockEntitySelector(
+                variableDescriptor.getEntityDescriptor());
+        when(entitySelector.iterator()).thenAnswer(invocation -> selectedEntityList.iterator());
+        when(entitySelector.getSize()).thenAnswer(invocation -> (long) selectedEntityList.size());
+        return entitySelector;
+    }
+
+}
@@ -0,0 +1,66 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
+
+import static ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicyTestUtils.buildHeuristicConfigPolicy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.CrossExchangeMoveSelectorConfig;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+
+import org.junit.jupiter.api.Test;
+
+class CrossExchangeMoveSelectorFactoryTest {
+
+    @Test
+    void buildBaseMoveSelector() {
+        CrossExchangeMoveSelectorConfig config = new CrossExchangeMoveSelectorConfig();
+        CrossExchangeMoveSelectorFactory<TestdataListSolution> factory = new CrossExchangeMoveSelectorFactory<>(config);
+
+        HeuristicConfigPolicy<TestdataListSolution> heuristicConfigPolicy =
+                buildHeuristicConfigPolicy(TestdataListSolution.buildSolutionDescriptor());
+
+        RandomCrossExchangeMoveSelector<TestdataListSolution> selector =
+                (RandomCrossExchangeMoveSelector<TestdataListSolution>) factory.buildBaseMoveSelector(
+                        heuristicConfigPolicy, SelectionCacheType.JUST_IN_TIME, true);
+
+        assertThat(selector.isCountable()).isTrue();
+        assertThat(selector.isNeverEnding()).isTrue();
+        assertThat(selector.isSelectReversingMoveToo()).isTrue();
+        assertThat(selector.getTransferFilter()).isNull();
+    }
+
+    @Test
+    void disableSelectReversingMoveTooWithTransferFilter() {
+        CrossExchangeMoveSelectorConfig config = new CrossExchangeMoveSelectorConfig()
+                .withSelectReversingMoveToo(false)
+                .withSubListTransferFilterClass(SubListTransferSelectionFilterTest.CapacityTransferFilter.class);
+        CrossExchangeMoveSelectorFactory<TestdataListSolution> factory = new CrossExchangeMoveSelectorFactory<>(config);
+
+        HeuristicConfigPolicy<TestdataListSolution> heuristicConfigPolicy =
+                buildHeuristicConfigPolicy(TestdataListSolution.buildSolutionDescriptor());
+
+        RandomCrossExchangeMoveSelector<TestdataListSolution> selector =
+                (RandomCrossExchangeMoveSelector<TestdataListSolution>) factory.buildBaseMoveSelector(
+                        heuristicConfigPolicy, SelectionCacheType.JUST_IN_TIME, true);
+
+        assertThat(selector.isSelectReversingMoveToo()).isFalse();
+        assertThat(selector.getTransferFilter())
+                .isInstanceOf(SubListTransferSelectionFilterTest.CapacityTransferFilter.class);
+    }
+
+    @Test
+    void failFast_ifNotRandom() {
+        CrossExchangeMoveSelectorConfig config = new CrossExchangeMoveSelectorConfig();
+        CrossExchangeMoveSelectorFactory<TestdataListSolution> factory = new CrossExchangeMoveSelectorFactory<>(config);
+
+        HeuristicConfigPolicy<TestdataListSolution> heuristicConfigPolicy =
+                buildHeuristicConfigPolicy(TestdataListSolution.buildSolutionDescriptor());
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> factory.buildBaseMoveSelector(heuristicConfigPolicy, SelectionCacheType.JUST_IN_TIME,
+                        false))
+                .withMessageContaining("random selection order");
+    }
+}
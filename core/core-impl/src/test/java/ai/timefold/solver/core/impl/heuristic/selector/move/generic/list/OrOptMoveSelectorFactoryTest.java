@@ -0,0 +1,78 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
+
+import static ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicyTestUtils.buildHeuristicConfigPolicy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionOrder;
+import ai.timefold.solver.core.config.heuristic.selector.list.SubListSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.OrOptMoveSelectorConfig;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.selector.list.RandomSubListSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.decorator.FilteringMoveSelector;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+
+import org.junit.jupiter.api.Test;
+
+class OrOptMoveSelectorFactoryTest {
+
+    @Test
+    void buildMoveSelector() {
+        OrOptMoveSelectorConfig config = new OrOptMoveSelectorConfig();
+        OrOptMoveSelectorFactory<TestdataListSolution> moveSelectorFactory = new OrOptMoveSelectorFactory<>(config);
+
+        HeuristicConfigPolicy<TestdataListSolution> heuristicConfigPolicy =
+                buildHeuristicConfigPolicy(TestdataListSolution.buildSolutionDescriptor());
+
+        RandomSubListChangeMoveSelector<TestdataListSolution> selector =
+                (RandomSubListChangeMoveSelector<TestdataListSolution>) moveSelectorFactory
+                        .buildMoveSelector(heuristicConfigPolicy, SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM,
+                                false);
+
+        assertThat(selector.isNeverEnding()).isTrue();
+        assertThat(selector.isSelectReversingMoveToo()).isTrue();
+        RandomSubListSelector<?> subListSelector = (RandomSubListSelector<?>) selector.getSubListSelector();
+        assertThat(subListSelector.getMinimumSubListSize()).isEqualTo(1);
+        assertThat(subListSelector.getMaximumSubListSize())
+                .isEqualTo(OrOptMoveSelectorConfig.DEFAULT_MAXIMUM_SUB_LIST_SIZE);
+    }
+
+    @Test
+    void overrideSubListSizeAndSelectReversingMoveToo() {
+        OrOptMoveSelectorConfig config = new OrOptMoveSelectorConfig()
+                .withSelectReversingMoveToo(false)
+                .withSubListSelectorConfig(new SubListSelectorConfig()
+                        .withMinimumSubListSize(2)
+                        .withMaximumSubListSize(5));
+        OrOptMoveSelectorFactory<TestdataListSolution> moveSelectorFactory = new OrOptMoveSelectorFactory<>(config);
+
+        HeuristicConfigPolicy<TestdataListSolution> heuristicConfigPolicy =
+                buildHeuristicConfigPolicy(TestdataListSolution.buildSolutionDescriptor());
+
+        RandomSubListChangeMoveSelector<TestdataListSolution> selector =
+                (RandomSubListChangeMoveSelector<TestdataListSolution>) moveSelectorFactory
+                        .buildMoveSelector(heuristicConfigPolicy, SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM,
+                                false);
+
+        assertThat(selector.isSelectReversingMoveToo()).isFalse();
+        RandomSubListSelector<?> subListSelector = (RandomSubListSelector<?>) selector.getSubListSelector();
+        assertThat(subListSelector.getMinimumSubListSize()).isEqualTo(2);
+        assertThat(subListSelector.getMaximumSubListSize()).isEqualTo(5);
+        // The folded config is not modified.
+        assertThat(config.getSubListSelectorConfig().getValueSelectorConfig()).isNull();
+    }
+
+    @Test
+    void transferFilter() {
+        OrOptMoveSelectorConfig config = new OrOptMoveSelectorConfig()
+                .withSubListTransferFilterClass(SubListTransferSelectionFilterTest.CapacityTransferFilter.class);
+        OrOptMoveSelectorFactory<TestdataListSolution> moveSelectorFactory = new OrOptMoveSelectorFactory<>(config);
+
+        HeuristicConfigPolicy<TestdataListSolution> heuristicConfigPolicy =
+                buildHeuristicConfigPolicy(TestdataListSolution.buildSolutionDescriptor());
+
+        assertThat(moveSelectorFactory.buildMoveSelector(heuristicConfigPolicy, SelectionCacheType.JUST_IN_TIME,
+                SelectionOrder.RANDOM, false))
+                .isInstanceOf(FilteringMoveSelector.class);
+    }
+}
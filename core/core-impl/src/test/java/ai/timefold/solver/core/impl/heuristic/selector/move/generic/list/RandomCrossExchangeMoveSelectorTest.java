@@ -0,0 +1,138 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
+
+import static ai.timefold.solver.core.impl.heuristic.selector.SelectorTestUtils.solvingStarted;
+import static ai.timefold.solver.core.impl.testdata.domain.list.TestdataListUtils.getListVariableDescriptor;
+import static ai.timefold.solver.core.impl.testdata.domain.list.TestdataListUtils.mockEntitySelector;
+import static ai.timefold.solver.core.impl.testdata.domain.list.TestdataListUtils.mockNeverEndingEntityIndependentValueSelector;
+import static ai.timefold.solver.core.impl.testdata.util.PlannerAssert.assertCodesOfNeverEndingMoveSelector;
+import static ai.timefold.solver.core.impl.testdata.util.PlannerTestUtils.mockScoreDirector;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.list.RandomSubListSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+import ai.timefold.solver.core.impl.testutil.TestRandom;
+
+import org.junit.jupiter.api.Test;
+
+class RandomCrossExchangeMoveSelectorTest {
+
+    private static RandomCrossExchangeMoveSelector<TestdataListSolution> buildMoveSelector(
+            EntitySelector<TestdataListSolution> entitySelector,
+            EntityIndependentValueSelector<TestdataListSolution> leftValueSelector,
+            EntityIndependentValueSelector<TestdataListSolution> rightValueSelector,
+            SubListTransferFilter<TestdataListSolution> transferFilter) {
+        return new RandomCrossExchangeMoveSelector<>(
+                new RandomSubListSelector<>(entitySelector, leftValueSelector, 1, Integer.MAX_VALUE),
+                new RandomSubListSelector<>(entitySelector, rightValueSelector, 1, Integer.MAX_VALUE),
+                false,
+                transferFilter);
+    }
+
+    @Test
+    void skipsSubListsOfTheSameEntity() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListValue v5 = new TestdataListValue("5");
+        TestdataListValue v6 = new TestdataListValue("6");
+        TestdataListEntity a = TestdataListEntity.createWithValues("A", v1, v2, v3);
+        TestdataListEntity b = TestdataListEntity.createWithValues("B", v5, v6);
+
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector =
+                mockScoreDirector(TestdataListSolution.buildSolutionDescriptor());
+
+        int subListCount = 6 + 3;
+
+        ListVariableDescriptor<TestdataListSolution> listVariableDescriptor = getListVariableDescriptor(scoreDirector);
+        RandomCrossExchangeMoveSelector<TestdataListSolution> moveSelector = buildMoveSelector(
+                mockEntitySelector(a, b),
+                mockNeverEndingEntityIndependentValueSelector(listVariableDescriptor, v1),
+                // The right subList alternates between A and B.
+                mockNeverEndingEntityIndependentValueSelector(listVariableDescriptor, v1, v5),
+                null);
+
+        // Each row is consumed by 1 attempt.
+        // Columns are: left subList index, right subList index.
+        TestRandom random = new TestRandom(
+                0, 0, // A <-> A
+                0, 2,
+                1, 0, // A <-> A
+                3, 0,
+                99, 99, // A <-> A
+                99, 99);
+
+        solvingStarted(moveSelector, scoreDirector, random);
+
+        assertCodesOfNeverEndingMoveSelector(moveSelector, subListCount * subListCount,
+                "{A[0+3]} <-> {B[1+1]}",
+                "{A[0+1]} <-> {B[0+2]}");
+    }
+
+    @Test
+    void transferFilter() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListValue v3 = new TestdataListValue("3");
+        TestdataListValue v5 = new TestdataListValue("5");
+        TestdataListValue v6 = new TestdataListValue("6");
+        TestdataListEntity a = TestdataListEntity.createWithValues("A", v1, v2, v3);
+        TestdataListEntity b = TestdataListEntity.createWithValues("B", v5, v6);
+
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector =
+                mockScoreDirector(TestdataListSolution.buildSolutionDescriptor());
+
+        ListVariableDescriptor<TestdataListSolution> listVariableDescriptor = getListVariableDescriptor(scoreDirector);
+        RandomCrossExchangeMoveSelector<TestdataListSolution> moveSelector = buildMoveSelector(
+                mockEntitySelector(a, b),
+                mockNeverEndingEntityIndependentValueSelector(listVariableDescriptor, v1),
+                mockNeverEndingEntityIndependentValueSelector(listVariableDescriptor, v5),
+                new SubListTransferSelectionFilterTest.CapacityTransferFilter());
+
+        // Each row is consumed by 1 attempt.
+        // Columns are: left subList index, right subList index.
+        TestRandom random = new TestRandom(
+                0, 2, // B would hold 4 values
+                1, 0,
+                3, 0, // A would hold 4 values
+                3, 2,
+                3, 2);
+
+        solvingStarted(moveSelector, scoreDirector, random);
+
+        assertCodesOfNeverEndingMoveSelector(moveSelector,
+                "{A[0+2]} <-> {B[0+2]}",
+                "{A[0+1]} <-> {B[1+1]}");
+    }
+
+    @Test
+    void bailOutIfAllValuesAreInASingleEntity() {
+        TestdataListValue v1 = new TestdataListValue("1");
+        TestdataListValue v2 = new TestdataListValue("2");
+        TestdataListEntity a = TestdataListEntity.createWithValues("A", v1, v2);
+        TestdataListEntity b = TestdataListEntity.createWithValues("B");
+
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector =
+                mockScoreDirector(TestdataListSolution.buildSolutionDescriptor());
+
+        ListVariableDescriptor<TestdataListSolution> listVariableDescriptor = getListVariableDescriptor(scoreDirector);
+        EntityIndependentValueSelector<TestdataListSolution> valueSelector =
+                mockNeverEndingEntityIndependentValueSelector(listVariableDescriptor, v1, v2);
+        RandomCrossExchangeMoveSelector<TestdataListSolution> moveSelector =
+                buildMoveSelector(mockEntitySelector(a, b), valueSelector, valueSelector, null);
+
+        long subListCount = 3;
+        long bailOutSize = subListCount * subListCount * 10;
+        // 2 random indexes per attempt, including the attempt drawn before bailing out
+        solvingStarted(moveSelector, scoreDirector, new TestRandom(new int[(int) (bailOutSize + 1) * 2]));
+
+        assertThat(moveSelector.getSize()).isEqualTo(subListCount * subListCount);
+        assertThat(moveSelector.iterator()).isExhausted();
+    }
+}
@@ -16,6 +16,7 @@ import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.SubLi
 import ai.timefold.solver.core.config.heuristic.selector.value.ValueSelectorConfig;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.heuristic.selector.list.RandomSubListSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.decorator.FilteringMoveSelector;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
 import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
@@ -46,6 +47,24 @@ class SubListChangeMoveSelectorFactoryTest {
         assertThat(selector.isSelectReversingMoveToo()).isTrue();
     }
 
+    @Test
+    void transferFilter() {
+        SubListChangeMoveSelectorConfig config = new SubListChangeMoveSelectorConfig()
+                .withSubListSelectorConfig(new SubListSelectorConfig()
+                        .withMinimumSubListSize(1)
+                        .withMaximumSubListSize(3))
+                .withSubListTransferFilterClass(SubListTransferSelectionFilterTest.CapacityTransferFilter.class);
+        SubListChangeMoveSelectorFactory<TestdataListSolution> moveSelectorFactory =
+                new SubListChangeMoveSelectorFactory<>(config);
+
+        HeuristicConfigPolicy<TestdataListSolution> heuristicConfigPolicy =
+                buildHeuristicConfigPolicy(TestdataListSolution.buildSolutionDescriptor());
+
+        assertThat(moveSelectorFactory.buildMoveSelector(heuristicConfigPolicy, SelectionCacheType.JUST_IN_TIME,
+                SelectionOrder.RANDOM, false))
+                .isInstanceOf(FilteringMoveSelector.class);
+    }
+
     @Test
     void disableSelectReversingMoveToo() {
         SubListChangeMoveSelectorConfig config = new SubListChangeMoveSelectorConfig();
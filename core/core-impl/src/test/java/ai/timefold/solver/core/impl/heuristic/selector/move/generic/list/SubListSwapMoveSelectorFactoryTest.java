@@ -12,6 +12,7 @@ import ai.timefold.solver.core.config.heuristic.selector.list.SubListSelectorCon
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.SubListSwapMoveSelectorConfig;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.heuristic.selector.list.RandomSubListSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.decorator.FilteringMoveSelector;
 import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
 
 import org.junit.jupiter.api.Test;
@@ -56,6 +57,20 @@ class SubListSwapMoveSelectorFactoryTest {
         assertThat(selector.isSelectReversingMoveToo()).isFalse();
     }
 
+    @Test
+    void transferFilter() {
+        SubListSwapMoveSelectorConfig config = new SubListSwapMoveSelectorConfig()
+                .withSubListTransferFilterClass(SubListTransferSelectionFilterTest.CapacityTransferFilter.class);
+        SubListSwapMoveSelectorFactory<TestdataListSolution> factory =
+                new SubListSwapMoveSelectorFactory<>(config);
+
+        HeuristicConfigPolicy<TestdataListSolution> heuristicConfigPolicy =
+                buildHeuristicConfigPolicy(TestdataListSolution.buildSolutionDescriptor());
+
+        assertThat(factory.buildBaseMoveSelector(heuristicConfigPolicy, SelectionCacheType.JUST_IN_TIME, true))
+                .isInstanceOf(FilteringMoveSelector.class);
+    }
+
     static SubListSwapMoveSelectorConfig minimumSize_SubListSelector() {
         SubListSwapMoveSelectorConfig config = new SubListSwapMoveSelectorConfig()
                 .withSubListSelectorConfig(new SubListSelectorConfig().withMinimumSubListSize(10));
@@ -0,0 +1,88 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.generic.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.list.SubList;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+
+import org.junit.jupiter.api.Test;
+
+class SubListTransferSelectionFilterTest {
+
+    private final TestdataListValue v1 = new TestdataListValue("1");
+    private final TestdataListValue v2 = new TestdataListValue("2");
+    private final TestdataListValue v3 = new TestdataListValue("3");
+    private final TestdataListValue v4 = new TestdataListValue("4");
+    private final TestdataListValue v5 = new TestdataListValue("5");
+
+    private final ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+    private final ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+            TestdataListEntity.buildVariableDescriptorForValueList();
+
+    @Test
+    void changeMoveRespectsCapacity() {
+        TestdataListEntity e1 = new TestdataListEntity("e1", v1, v2, v3);
+        TestdataListEntity e2 = new TestdataListEntity("e2", v4, v5);
+        SubListTransferSelectionFilter<TestdataListSolution> filter =
+                new SubListTransferSelectionFilter<>(new CapacityTransferFilter());
+
+        // e2 can take 1 more value
+        assertThat(filter.accept(scoreDirector, new SubListChangeMove<>(variableDescriptor, e1, 0, 1, e2, 0, false)))
+                .isTrue();
+        assertThat(filter.accept(scoreDirector, new SubListChangeMove<>(variableDescriptor, e1, 0, 2, e2, 0, false)))
+                .isFalse();
+        // within a single entity, the capacity never changes
+        assertThat(filter.accept(scoreDirector, new SubListChangeMove<>(variableDescriptor, e1, 0, 2, e1, 1, false)))
+                .isTrue();
+    }
+
+    @Test
+    void swapMoveRespectsCapacityOnBothSides() {
+        TestdataListEntity e1 = new TestdataListEntity("e1", v1, v2, v3);
+        TestdataListEntity e2 = new TestdataListEntity("e2", v4, v5);
+        SubListTransferSelectionFilter<TestdataListSolution> filter =
+                new SubListTransferSelectionFilter<>(new CapacityTransferFilter());
+
+        // e2 gains 1 value net
+        assertThat(filter.accept(scoreDirector, new SubListSwapMove<>(variableDescriptor, e1, 0, 2, e2, 0, 1, false)))
+                .isTrue();
+        // e2 gains 2 values net
+        assertThat(filter.accept(scoreDirector, new SubListSwapMove<>(variableDescriptor, e1, 0, 3, e2, 0, 1, false)))
+                .isFalse();
+        // e1 gains 1 value net, but it is already full
+        assertThat(filter.accept(scoreDirector, new SubListSwapMove<>(variableDescriptor, e1, 0, 1, e2, 0, 2, false)))
+                .isFalse();
+    }
+
+    @Test
+    void intraEntityMovesSkipTheTransferFilter() {
+        TestdataListEntity e1 = new TestdataListEntity("e1", v1, v2, v3);
+        TestdataListEntity e2 = new TestdataListEntity("e2", v4, v5);
+        SubListTransferSelectionFilter<TestdataListSolution> filter =
+                new SubListTransferSelectionFilter<>((scoreDirector, destinationEntity, incomingSubList,
+                        outgoingSubList) -> false);
+
+        assertThat(filter.accept(scoreDirector, new SubListSwapMove<>(variableDescriptor, e1, 0, 1, e1, 2, 3, false)))
+                .isTrue();
+        assertThat(filter.accept(scoreDirector, new SubListSwapMove<>(variableDescriptor, e1, 0, 3, e2, 0, 2, false)))
+                .isFalse();
+    }
+
+    public static class CapacityTransferFilter implements SubListTransferFilter<TestdataListSolution> {
+
+        private static final int CAPACITY = 3;
+
+        @Override
+        public boolean accept(ScoreDirector<TestdataListSolution> scoreDirector, Object destinationEntity,
+                SubList incomingSubList, SubList outgoingSubList) {
+            int load = ((TestdataListEntity) destinationEntity).getValueList().size() + incomingSubList.getLength()
+                    - (outgoingSubList == null ? 0 : outgoingSubList.getLength());
+            return load <= CAPACITY;
+        }
+    }
+}
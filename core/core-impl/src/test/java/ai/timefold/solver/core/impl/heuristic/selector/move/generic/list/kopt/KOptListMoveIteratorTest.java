@@ -136,7 +136,7 @@ public class KOptListMoveIteratorTest {
 
             for (int i = 0; i < entityList.size(); i++) {
                 when(mocks.inverseVariableSupply.getInverseSingleton(entityList.get(i))).thenReturn(entity);
-                when(mocks.indexVariableSupply.getIndex(entityList.get(i))).thenReturn(i);
+                when(mocks.indexVariableSupply.getIndexInt(entityList.get(i))).thenReturn(i);
             }
             when(mocks.listVariableDescriptor.getListSize(entity)).thenReturn(entityList.size());
             offset += listSize;
@@ -228,7 +228,7 @@ public class KOptListMoveIteratorTest {
 
             for (int i = 0; i < entityList.size(); i++) {
                 when(mocks.inverseVariableSupply.getInverseSingleton(entityList.get(i))).thenReturn(entity);
-                when(mocks.indexVariableSupply.getIndex(entityList.get(i))).thenReturn(i);
+                when(mocks.indexVariableSupply.getIndexInt(entityList.get(i))).thenReturn(i);
             }
             when(mocks.listVariableDescriptor.getListSize(entity)).thenReturn(entityList.size());
             offset += listSize;
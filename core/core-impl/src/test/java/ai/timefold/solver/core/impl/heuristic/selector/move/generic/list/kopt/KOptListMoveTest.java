@@ -9,9 +9,12 @@ import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.config.score.trend.InitializingScoreTrendLevel;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.index.IndexVariableDemand;
 import ai.timefold.solver.core.impl.domain.variable.index.IndexVariableSupply;
@@ -20,6 +23,8 @@ import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonLis
 import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
 import ai.timefold.solver.core.impl.heuristic.move.AbstractMove;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import ai.timefold.solver.core.impl.score.trend.InitializingScoreTrend;
 import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
 import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
 import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
@@ -274,6 +279,40 @@ class KOptListMoveTest {
         verify(scoreDirector).afterListVariableChanged(variableDescriptor, e2, 0, 2);
     }
 
+    @Test
+    void testMultiEntity3OptUndoneByTheScoreDirector() {
+        TestdataListEntity e1 = TestdataListEntity.createWithValues("e1", v1, v2, v3, v6);
+        TestdataListEntity e2 = TestdataListEntity.createWithValues("e2", v4, v5);
+        TestdataListSolution solution = new TestdataListSolution();
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4, v5, v6));
+        solution.setEntityList(Arrays.asList(e1, e2));
+        EasyScoreDirectorFactory<TestdataListSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(variableDescriptor.getEntityDescriptor().getSolutionDescriptor(),
+                        (solution_) -> SimpleScore.of(0));
+        scoreDirectorFactory.setInitializingScoreTrend(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 1));
+        InnerScoreDirector<TestdataListSolution, SimpleScore> easyScoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        easyScoreDirector.setWorkingSolution(solution);
+
+        KOptListMove<TestdataListSolution> kOptListMove = fromRemovedAndAddedEdges(easyScoreDirector,
+                variableDescriptor,
+                List.of(v6, v1,
+                        v2, v3,
+                        v4, v5),
+                List.of(v1, v3,
+                        v2, v5,
+                        v4, v6));
+
+        assertThat(kOptListMove.isMoveDoable(easyScoreDirector)).isTrue();
+        easyScoreDirector.doAndProcessMove(kOptListMove, true, score -> {
+            assertListVariable(e1, v1, v5);
+            assertListVariable(e2, v2, v6, v4, v3);
+        });
+        assertListVariable(e1, v1, v2, v3, v6);
+        assertListVariable(e2, v4, v5);
+    }
+
     @Test
     void testMultiEntity4Opt() {
         TestdataListEntity e1 = TestdataListEntity.createWithValues("e1", v1, v2, v3, v4);
@@ -654,6 +693,14 @@ class KOptListMoveTest {
         return descriptor.getKOptListMove(listVariableDescriptor, indexVariableSupply, inverseVariableSupply);
     }
 
+    private static void assertListVariable(TestdataListEntity entity, TestdataListValue... values) {
+        assertThat(entity.getValueList()).containsExactly(values);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(values[i].getEntity()).isSameAs(entity);
+            assertThat(values[i].getIndex()).isEqualTo(i);
+        }
+    }
+
     private static int identityIndexOf(List<TestdataListValue> sourceList, TestdataListValue query) {
         for (int i = 0; i < sourceList.size(); i++) {
             if (sourceList.get(i) == query) {
@@ -6,10 +6,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Arrays;
 import java.util.Collections;
 
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionOrder;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchType;
+import ai.timefold.solver.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
+import ai.timefold.solver.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
+import ai.timefold.solver.core.config.localsearch.decider.forager.LocalSearchPickEarlyType;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
@@ -56,6 +63,38 @@ class DefaultLocalSearchPhaseTest {
         assertThat(solvedE3.getValue()).isNotNull();
     }
 
+    @Test
+    void solveWithMultipleMoveThreadsPicksTheSameStepsAsSingleThreaded() {
+        // All moves are evaluated in every step, so the move threads do not select more moves than the solver thread.
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withMoveSelectorConfig(new ChangeMoveSelectorConfig()
+                        .withSelectionOrder(SelectionOrder.ORIGINAL))
+                .withAcceptorConfig(new LocalSearchAcceptorConfig()
+                        .withEntityTabuSize(1))
+                .withForagerConfig(new LocalSearchForagerConfig()
+                        .withPickEarlyType(LocalSearchPickEarlyType.NEVER))
+                .withTerminationConfig(new TerminationConfig().withStepCountLimit(20));
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withRandomSeed(37L)
+                .withPhases(phaseConfig);
+        TestdataSolution singleThreadedSolution =
+                PlannerTestUtils.solve(solverConfig, TestdataSolution.generateSolution(5, 12), false);
+
+        solverConfig.withMoveThreadCount("2")
+                .withMoveThreadBufferSize(3);
+        TestdataSolution multiThreadedSolution =
+                PlannerTestUtils.solve(solverConfig, TestdataSolution.generateSolution(5, 12), false);
+
+        assertThat(multiThreadedSolution.getScore()).isEqualTo(singleThreadedSolution.getScore());
+        assertThat(multiThreadedSolution.getEntityList())
+                .extracting(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(singleThreadedSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .toList());
+    }
+
     @Test
     void solveWithPinnedEntities() {
         SolverConfig solverConfig =
@@ -0,0 +1,64 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.lateacceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.buildin.bendable.BendableScore;
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+
+import org.junit.jupiter.api.Test;
+
+class LateScoreRingTest {
+
+    @Test
+    void hardSoft() {
+        LateScoreRing lateScoreRing = LateScoreRing.of(HardSoftScore.of(-1, -100), 2);
+        lateScoreRing.set(1, HardSoftScore.ofUninitialized(-1, 0, 0));
+        assertSameSign(lateScoreRing, 0, HardSoftScore.of(-1, -100), HardSoftScore.of(-1, -100));
+        assertSameSign(lateScoreRing, 0, HardSoftScore.of(-1, -99), HardSoftScore.of(-1, -100));
+        assertSameSign(lateScoreRing, 0, HardSoftScore.of(-2, 0), HardSoftScore.of(-1, -100));
+        assertSameSign(lateScoreRing, 1, HardSoftScore.of(-1000, -1000), HardSoftScore.ofUninitialized(-1, 0, 0));
+        assertSameSign(lateScoreRing, 1, HardSoftScore.ofUninitialized(-1, 0, 0),
+                HardSoftScore.ofUninitialized(-1, 0, 0));
+    }
+
+    @Test
+    void hardMediumSoftLong() {
+        LateScoreRing lateScoreRing = LateScoreRing.of(HardMediumSoftLongScore.of(0, -5, Long.MIN_VALUE), 3);
+        lateScoreRing.set(2, HardMediumSoftLongScore.of(0, -4, -1));
+        HardMediumSoftLongScore initialScore = HardMediumSoftLongScore.of(0, -5, Long.MIN_VALUE);
+        assertSameSign(lateScoreRing, 0, HardMediumSoftLongScore.of(0, -5, 0), initialScore);
+        assertSameSign(lateScoreRing, 1, HardMediumSoftLongScore.of(0, -6, Long.MAX_VALUE), initialScore);
+        assertSameSign(lateScoreRing, 2, HardMediumSoftLongScore.of(0, -4, -2), HardMediumSoftLongScore.of(0, -4, -1));
+    }
+
+    @Test
+    void bendable() {
+        BendableScore initialScore = BendableScore.of(new int[] { 0, -1 }, new int[] { -10, -20, -30 });
+        LateScoreRing lateScoreRing = LateScoreRing.of(initialScore, 1);
+        assertSameSign(lateScoreRing, 0, BendableScore.of(new int[] { 0, -1 }, new int[] { -10, -20, -29 }),
+                initialScore);
+        assertSameSign(lateScoreRing, 0, BendableScore.of(new int[] { 0, -2 }, new int[] { 0, 0, 0 }), initialScore);
+        assertSameSign(lateScoreRing, 0, initialScore, initialScore);
+    }
+
+    @Test
+    void bigDecimalFallsBackToScoreInstances() {
+        HardSoftBigDecimalScore initialScore = HardSoftBigDecimalScore.of(BigDecimal.ZERO, new BigDecimal("-1.5"));
+        LateScoreRing lateScoreRing = LateScoreRing.of(initialScore, 2);
+        HardSoftBigDecimalScore stepScore = HardSoftBigDecimalScore.of(BigDecimal.ZERO, new BigDecimal("-1.25"));
+        lateScoreRing.set(0, stepScore);
+        assertSameSign(lateScoreRing, 0, initialScore, stepScore);
+        assertSameSign(lateScoreRing, 1, stepScore, initialScore);
+    }
+
+    private static void assertSameSign(LateScoreRing lateScoreRing, int index, Score score, Score lateScore) {
+        assertThat(Integer.signum(lateScoreRing.compareTo(score, index)))
+                .isEqualTo(Integer.signum(score.compareTo(lateScore)));
+    }
+
+}
@@ -0,0 +1,62 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TabuTableTest {
+
+    @Test
+    void expireSkipsTabusThatWerePutAgain() {
+        TabuTable tabuTable = new TabuTable(false, 2);
+        tabuTable.put("a", 0);
+        tabuTable.put("b", 0);
+        tabuTable.put("b", 0);
+        tabuTable.put(null, 1);
+        tabuTable.put("a", 2);
+        assertThat(tabuTable.size()).isEqualTo(3);
+
+        tabuTable.expire(3, 2);
+        assertThat(tabuTable.getStepIndex("a")).isEqualTo(2);
+        assertThat(tabuTable.getStepIndex("b")).isEqualTo(-1);
+        assertThat(tabuTable.getStepIndex(null)).isEqualTo(-1);
+        assertThat(tabuTable.size()).isEqualTo(1);
+
+        tabuTable.expire(4, 2);
+        assertThat(tabuTable.getStepIndex("a")).isEqualTo(-1);
+        assertThat(tabuTable.size()).isZero();
+    }
+
+    @Test
+    void equalsBasedOrIdentityBased() {
+        String tabu = "tabu";
+        String equalTabu = new String(tabu);
+        TabuTable equalsTabuTable = new TabuTable(false, 1);
+        equalsTabuTable.put(tabu, 7);
+        assertThat(equalsTabuTable.getStepIndex(equalTabu)).isEqualTo(7);
+        TabuTable identityTabuTable = new TabuTable(true, 1);
+        identityTabuTable.put(tabu, 7);
+        assertThat(identityTabuTable.getStepIndex(tabu)).isEqualTo(7);
+        assertThat(identityTabuTable.getStepIndex(equalTabu)).isEqualTo(-1);
+    }
+
+    @Test
+    void growAndShrink() {
+        TabuTable tabuTable = new TabuTable(false, 0);
+        for (int i = 0; i < 1000; i++) {
+            tabuTable.put(i, i);
+            tabuTable.expire(i, 100);
+        }
+        assertThat(tabuTable.size()).isEqualTo(100);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(tabuTable.getStepIndex(i)).isEqualTo(i < 900 ? -1 : i);
+        }
+        List<Object> tabuList = new ArrayList<>();
+        tabuTable.forEachTabu(tabuList::add);
+        assertThat(tabuList).hasSize(100);
+    }
+
+}
@@ -0,0 +1,69 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.analysis.MatchAnalysis;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
+import ai.timefold.solver.core.impl.score.constraint.DefaultConstraintMatchTotal;
+
+import org.junit.jupiter.api.Test;
+
+class InnerScoreDirectorTest {
+
+    private static DefaultConstraintMatchTotal<SimpleScore> buildConstraintMatchTotal() {
+        var constraintMatchTotal =
+                new DefaultConstraintMatchTotal<>(ConstraintRef.of("package", "constraint"), SimpleScore.ONE);
+        constraintMatchTotal.addConstraintMatch(List.of("A"), SimpleScore.of(-1));
+        constraintMatchTotal.addConstraintMatch(List.of("B"), SimpleScore.of(-5));
+        constraintMatchTotal.addConstraintMatch(List.of("C"), SimpleScore.of(-3));
+        constraintMatchTotal.addConstraintMatch(List.of("C"), SimpleScore.of(-3));
+        constraintMatchTotal.addConstraintMatch(List.of("D"), SimpleScore.of(2));
+        return constraintMatchTotal;
+    }
+
+    @Test
+    void constraintAnalysisFetchAll() {
+        var constraintAnalysis = InnerScoreDirector.getConstraintAnalysis(buildConstraintMatchTotal(),
+                ScoreAnalysisFetchPolicy.FETCH_ALL, Integer.MAX_VALUE);
+        assertThat(constraintAnalysis.score()).isEqualTo(SimpleScore.of(-10));
+        assertThat(constraintAnalysis.matchCount()).isEqualTo(5);
+        assertThat(constraintAnalysis.matches())
+                .map(MatchAnalysis::score)
+                .containsExactlyInAnyOrder(SimpleScore.of(-1), SimpleScore.of(-5), SimpleScore.of(-6), SimpleScore.of(2));
+    }
+
+    @Test
+    void constraintAnalysisMatchLimit() {
+        var constraintAnalysis = InnerScoreDirector.getConstraintAnalysis(buildConstraintMatchTotal(),
+                ScoreAnalysisFetchPolicy.FETCH_ALL, 2);
+        assertThat(constraintAnalysis.score()).isEqualTo(SimpleScore.of(-10));
+        assertThat(constraintAnalysis.matchCount()).isEqualTo(5);
+        // The merged matches of C have the biggest impact.
+        assertThat(constraintAnalysis.matches())
+                .map(MatchAnalysis::score)
+                .containsExactly(SimpleScore.of(-6), SimpleScore.of(-5));
+    }
+
+    @Test
+    void constraintAnalysisMatchCount() {
+        var constraintAnalysis = InnerScoreDirector.getConstraintAnalysis(buildConstraintMatchTotal(),
+                ScoreAnalysisFetchPolicy.FETCH_MATCH_COUNT, Integer.MAX_VALUE);
+        assertThat(constraintAnalysis.score()).isEqualTo(SimpleScore.of(-10));
+        assertThat(constraintAnalysis.matchCount()).isEqualTo(5);
+        assertThat(constraintAnalysis.matches()).isNull();
+    }
+
+    @Test
+    void constraintAnalysisShallow() {
+        var constraintAnalysis = InnerScoreDirector.getConstraintAnalysis(buildConstraintMatchTotal(),
+                ScoreAnalysisFetchPolicy.FETCH_SHALLOW, Integer.MAX_VALUE);
+        assertThat(constraintAnalysis.score()).isEqualTo(SimpleScore.of(-10));
+        assertThat(constraintAnalysis.matchCount()).isEqualTo(-1);
+        assertThat(constraintAnalysis.matches()).isNull();
+    }
+
+}
@@ -0,0 +1,63 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.analysis.MatchAnalysis;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.score.stream.DefaultConstraintJustification;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
+import ai.timefold.solver.core.impl.score.constraint.DefaultConstraintMatchTotal;
+
+import org.junit.jupiter.api.Test;
+
+class MatchAnalysisTopQueueTest {
+
+    private static final ConstraintRef CONSTRAINT_REF = ConstraintRef.of("package", "constraint");
+
+    private static void offer(MatchAnalysisTopQueue<SimpleScore> topQueue, String fact, int score) {
+        topQueue.offer(DefaultConstraintJustification.of(SimpleScore.of(score), fact), SimpleScore.of(score));
+    }
+
+    @Test
+    void keepsTheBiggestImpacts() {
+        var topQueue = new MatchAnalysisTopQueue<SimpleScore>(CONSTRAINT_REF, 2);
+        offer(topQueue, "A", -1);
+        offer(topQueue, "B", -5);
+        offer(topQueue, "C", 3);
+        offer(topQueue, "D", -2);
+        assertThat(topQueue.toMatchAnalysisList())
+                .map(MatchAnalysis::score)
+                .containsExactly(SimpleScore.of(-5), SimpleScore.of(3));
+    }
+
+    @Test
+    void mergesAJustificationThatIsSplitAcrossEvictions() {
+        var constraintMatchTotal = new DefaultConstraintMatchTotal<>(CONSTRAINT_REF, SimpleScore.ONE);
+        // A is smaller than B and C until its last match, so a bounded queue would have evicted it twice.
+        addConstraintMatch(constraintMatchTotal, "A", -1);
+        addConstraintMatch(constraintMatchTotal, "B", -3);
+        addConstraintMatch(constraintMatchTotal, "C", -2);
+        addConstraintMatch(constraintMatchTotal, "A", -1);
+        addConstraintMatch(constraintMatchTotal, "D", -2);
+        addConstraintMatch(constraintMatchTotal, "A", -2);
+        var constraintAnalysis =
+                InnerScoreDirector.getConstraintAnalysis(constraintMatchTotal, ScoreAnalysisFetchPolicy.FETCH_ALL, 2);
+        assertThat(constraintAnalysis.matchCount()).isEqualTo(6);
+        var matchAnalysisList = constraintAnalysis.matches();
+        assertThat(matchAnalysisList)
+                .map(MatchAnalysis::score)
+                .containsExactly(SimpleScore.of(-4), SimpleScore.of(-3));
+        assertThat(matchAnalysisList.get(0).justification())
+                .isEqualTo(DefaultConstraintJustification.of(SimpleScore.of(-1), "A"));
+    }
+
+    private static void addConstraintMatch(DefaultConstraintMatchTotal<SimpleScore> constraintMatchTotal, String fact,
+            int score) {
+        constraintMatchTotal.addConstraintMatch(DefaultConstraintJustification.of(SimpleScore.of(score), fact),
+                List.of(fact), SimpleScore.of(score));
+    }
+
+}
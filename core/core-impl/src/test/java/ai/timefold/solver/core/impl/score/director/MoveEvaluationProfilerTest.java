@@ -0,0 +1,62 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.config.score.trend.InitializingScoreTrendLevel;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.heuristic.move.DummyMove;
+import ai.timefold.solver.core.impl.score.director.MoveEvaluationProfiler.MoveEvaluationPhase;
+import ai.timefold.solver.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import ai.timefold.solver.core.impl.score.trend.InitializingScoreTrend;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MoveEvaluationProfilerTest {
+
+    @Test
+    void doAndProcessMoveRecordsEveryPhase() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1", v1)));
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(), (solution_) -> SimpleScore.of(0));
+        scoreDirectorFactory.setInitializingScoreTrend(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 1));
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        scoreDirector.setMoveEvaluationProfiler(new MoveEvaluationProfiler(meterRegistry, Tags.of("solver.id", "1")));
+        scoreDirector.doAndProcessMove(new DummyMove("a"), false);
+        scoreDirector.doAndProcessMove(new DummyMove("b"), false, score -> assertThat(score).isEqualTo(SimpleScore.of(0)));
+
+        String meterId = SolverMetric.MOVE_EVALUATION_PROFILE.getMeterId() + MoveEvaluationProfiler.DURATION_METER_SUFFIX;
+        for (MoveEvaluationPhase phase : MoveEvaluationPhase.values()) {
+            Timer timer = meterRegistry.find(meterId)
+                    .tags("solver.id", "1",
+                            MoveEvaluationProfiler.MOVE_TYPE_TAG, "DummyMove",
+                            MoveEvaluationProfiler.PHASE_TAG, phase.getTagValue())
+                    .timer();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isEqualTo(2L);
+        }
+
+        // Without a profiler, nothing is recorded anymore.
+        scoreDirector.setMoveEvaluationProfiler(null);
+        scoreDirector.doAndProcessMove(new DummyMove("c"), false);
+        assertThat(meterRegistry.find(meterId).timers())
+                .allSatisfy(timer -> assertThat(timer.count()).isEqualTo(2L));
+    }
+
+}
@@ -107,6 +107,9 @@ public abstract class AbstractConstraintCollectorsTest {
     @Test
     public abstract void collectAndThen();
 
+    @Test
+    public abstract void loadBalance();
+
     protected static SequenceChain<Integer, Integer> buildSequenceChain(Integer... data) {
         return Arrays.stream(data).collect(
                 () -> new ConsecutiveSetTree<Integer, Integer, Integer>((a, b) -> b - a, Integer::sum, 1, 0),
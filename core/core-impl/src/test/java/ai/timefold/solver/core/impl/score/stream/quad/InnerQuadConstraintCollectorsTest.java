@@ -17,6 +17,7 @@ import static java.util.Collections.emptySortedSet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -30,6 +31,7 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 
 import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
 import ai.timefold.solver.core.impl.score.stream.AbstractConstraintCollectorsTest;
 import ai.timefold.solver.core.impl.util.Pair;
@@ -1118,6 +1120,36 @@ final class InnerQuadConstraintCollectorsTest extends AbstractConstraintCollecto
         assertResultRecursive(collector, container, buildSequenceChain());
     }
 
+    @Override
+    @Test
+    public void loadBalance() {
+        var collector = ConstraintCollectors.<Integer, Integer, Integer, Integer, Integer> loadBalance((a, b, c, d) -> a);
+        var container = collector.supplier().get();
+
+        // Default state.
+        assertLoadBalance(collector, container, emptyMap(), "0");
+        // Add first value, a single load is always fair.
+        int firstValue = 2;
+        Runnable firstRetractor = accumulate(collector, container, firstValue, 0, 0, 0);
+        assertLoadBalance(collector, container, asMap(2, 1L), "0");
+        // Add second value, which has a load of its own.
+        int secondValue = 1;
+        Runnable secondRetractor = accumulate(collector, container, secondValue, 0, 0, 0);
+        assertLoadBalance(collector, container, asMap(2, 1L, 1, 1L), "0");
+        // Add third value, same as the second. The loads are now 1 and 2, which deviate 0.5 from the mean.
+        Runnable thirdRetractor = accumulate(collector, container, secondValue, 0, 0, 0);
+        assertLoadBalance(collector, container, asMap(2, 1L, 1, 2L), "0.7071067811865475");
+        // Retract one instance of the second value; the loads are equal again.
+        secondRetractor.run();
+        assertLoadBalance(collector, container, asMap(2, 1L, 1, 1L), "0");
+        // Retract final instance of the second value; it no longer has a load.
+        thirdRetractor.run();
+        assertLoadBalance(collector, container, asMap(2, 1L), "0");
+        // Retract last value; there are no loads now.
+        firstRetractor.run();
+        assertLoadBalance(collector, container, emptyMap(), "0");
+    }
+
     @Override
     @Test
     public void collectAndThen() {
@@ -1174,4 +1206,16 @@ final class InnerQuadConstraintCollectorsTest extends AbstractConstraintCollecto
                 .isEqualTo(expectedResult);
     }
 
+    private static <A, B, C, D, Container_, Balanced_> void assertLoadBalance(
+            QuadConstraintCollector<A, B, C, D, Container_, LoadBalance<Balanced_>> collector, Object container,
+            Map<Balanced_, Long> expectedLoads, String expectedUnfairness) {
+        LoadBalance<Balanced_> actualResult = collector.finisher().apply((Container_) container);
+        assertThat(actualResult.loads())
+                .as("Collector (" + collector + ") did not produce expected loads.")
+                .isEqualTo(expectedLoads);
+        assertThat(actualResult.unfairness())
+                .as("Collector (" + collector + ") did not produce expected unfairness.")
+                .isCloseTo(new BigDecimal(expectedUnfairness), within(new BigDecimal("1E-15")));
+    }
+
 }
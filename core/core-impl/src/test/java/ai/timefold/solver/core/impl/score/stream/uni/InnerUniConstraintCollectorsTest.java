@@ -16,6 +16,7 @@ import static java.util.Collections.emptySortedSet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -32,6 +33,7 @@ import java.util.function.Function;
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
 import ai.timefold.solver.core.impl.score.stream.AbstractConstraintCollectorsTest;
 import ai.timefold.solver.core.impl.util.Pair;
@@ -986,6 +988,36 @@ final class InnerUniConstraintCollectorsTest extends AbstractConstraintCollector
         assertResultRecursive(collector, container, buildSequenceChain());
     }
 
+    @Override
+    @Test
+    public void loadBalance() {
+        var collector = ConstraintCollectors.<Integer, Integer> loadBalance(a -> a);
+        var container = collector.supplier().get();
+
+        // Default state.
+        assertLoadBalance(collector, container, emptyMap(), "0");
+        // Add first value, a single load is always fair.
+        int firstValue = 2;
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertLoadBalance(collector, container, asMap(2, 1L), "0");
+        // Add second value, which has a load of its own.
+        int secondValue = 1;
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertLoadBalance(collector, container, asMap(2, 1L, 1, 1L), "0");
+        // Add third value, same as the second. The loads are now 1 and 2, which deviate 0.5 from the mean.
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertLoadBalance(collector, container, asMap(2, 1L, 1, 2L), "0.7071067811865475");
+        // Retract one instance of the second value; the loads are equal again.
+        secondRetractor.run();
+        assertLoadBalance(collector, container, asMap(2, 1L, 1, 1L), "0");
+        // Retract final instance of the second value; it no longer has a load.
+        thirdRetractor.run();
+        assertLoadBalance(collector, container, asMap(2, 1L), "0");
+        // Retract last value; there are no loads now.
+        firstRetractor.run();
+        assertLoadBalance(collector, container, emptyMap(), "0");
+    }
+
     @Override
     @Test
     public void collectAndThen() {
@@ -1039,4 +1071,16 @@ final class InnerUniConstraintCollectorsTest extends AbstractConstraintCollector
                 .isEqualTo(expectedResult);
     }
 
+    private static <A, Container_, Balanced_> void assertLoadBalance(
+            UniConstraintCollector<A, Container_, LoadBalance<Balanced_>> collector, Object container,
+            Map<Balanced_, Long> expectedLoads, String expectedUnfairness) {
+        LoadBalance<Balanced_> actualResult = collector.finisher().apply((Container_) container);
+        assertThat(actualResult.loads())
+                .as("Collector (" + collector + ") did not produce expected loads.")
+                .isEqualTo(expectedLoads);
+        assertThat(actualResult.unfairness())
+                .as("Collector (" + collector + ") did not produce expected unfairness.")
+                .isCloseTo(new BigDecimal(expectedUnfairness), within(new BigDecimal("1E-15")));
+    }
+
 }
@@ -29,6 +29,7 @@ import ai.timefold.solver.core.api.solver.SolverFactory;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
 import ai.timefold.solver.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
 import ai.timefold.solver.core.config.heuristic.selector.entity.EntitySelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
@@ -36,6 +37,8 @@ import ai.timefold.solver.core.config.heuristic.selector.move.generic.SwapMoveSe
 import ai.timefold.solver.core.config.heuristic.selector.move.generic.chained.TailChainSwapMoveSelectorConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchType;
+import ai.timefold.solver.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
+import ai.timefold.solver.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
 import ai.timefold.solver.core.config.phase.custom.CustomPhaseConfig;
 import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
 import ai.timefold.solver.core.config.solver.SolverConfig;
@@ -49,6 +52,8 @@ import ai.timefold.solver.core.impl.phase.custom.NoChangeCustomPhaseCommand;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.DummySimpleScoreEasyScoreCalculator;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
@@ -715,6 +720,160 @@ class DefaultSolverTest {
         executorService.shutdown();
     }
 
+    @Test
+    @Timeout(60)
+    void solveWithProblemChangeDuringLocalSearch() throws InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setDaemon(true); // Avoid terminating the solver too quickly.
+        // The phase cache of the entities must be rebuilt when the problem change adds an entity.
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withMoveSelectorConfig(new ChangeMoveSelectorConfig()
+                        .withEntitySelectorConfig(new EntitySelectorConfig().withCacheType(SelectionCacheType.PHASE)));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        final int entityCount = 4;
+        TestdataSolution solution = TestdataSolution.generateSolution(entityCount, entityCount);
+
+        AtomicInteger solvingStartedCount = new AtomicInteger(0);
+        CountDownLatch localSearchStarted = new CountDownLatch(1);
+        CountDownLatch stepsAfterProblemChange = new CountDownLatch(10);
+        AtomicBoolean problemChangeProcessed = new AtomicBoolean(false);
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void solvingStarted(SolverScope<TestdataSolution> solverScope) {
+                solvingStartedCount.incrementAndGet();
+            }
+
+            @Override
+            public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                localSearchStarted.countDown();
+                if (problemChangeProcessed.get()) {
+                    stepsAfterProblemChange.countDown();
+                }
+            }
+        });
+        AtomicReference<TestdataSolution> bestSolution = new AtomicReference<>();
+        solver.addEventListener(bestSolutionChangedEvent -> {
+            if (bestSolutionChangedEvent.isEveryProblemChangeProcessed()) {
+                TestdataSolution newBestSolution = bestSolutionChangedEvent.getNewBestSolution();
+                if (newBestSolution.getEntityList().size() == entityCount + 1) {
+                    bestSolution.set(newBestSolution);
+                    problemChangeProcessed.set(true);
+                }
+            }
+        });
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> {
+            solver.solve(solution);
+        });
+
+        localSearchStarted.await();
+        solver.addProblemChange((workingSolution, problemChangeDirector) -> {
+            TestdataEntity entity = new TestdataEntity("added entity", workingSolution.getValueList().get(0));
+            problemChangeDirector.addEntity(entity, workingSolution.getEntityList()::add);
+        });
+
+        stepsAfterProblemChange.await();
+        assertThat(bestSolution.get().getEntityList()).hasSize(entityCount + 1);
+        // The local search phase continued on the changed problem, instead of restarting the solver.
+        assertThat(solvingStartedCount).hasValue(1);
+
+        solver.terminateEarly();
+        executorService.shutdown();
+    }
+
+    @Test
+    void solveWithProblemChangeDuringLateAcceptanceAndTabuSearch() {
+        // Late acceptance accepts worse moves, so the working solution is often worse than the best solution.
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withAcceptorConfig(new LocalSearchAcceptorConfig()
+                        .withLateAcceptanceSize(20)
+                        .withEntityTabuSize(1))
+                .withForagerConfig(new LocalSearchForagerConfig().withAcceptedCountLimit(1))
+                .withTerminationConfig(new TerminationConfig().withStepCountLimit(200));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+        DefaultSolver<TestdataSolution> solver =
+                (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        final int valueCount = 5;
+        TestdataSolution solution = TestdataSolution.generateSolution(valueCount, valueCount);
+        solution.getEntityList().forEach(entity -> entity.setValue(solution.getValueList().get(0)));
+
+        AtomicReference<SimpleScore> bestScoreBeforeProblemChange = new AtomicReference<>();
+        AtomicInteger stepCountAfterProblemChange = new AtomicInteger(0);
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                if (bestScoreBeforeProblemChange.get() != null) {
+                    stepCountAfterProblemChange.incrementAndGet();
+                    return;
+                }
+                SimpleScore bestScore = (SimpleScore) stepScope.getPhaseScope().getBestScore();
+                if (((SimpleScore) stepScope.getScore()).compareTo(bestScore) < 0) {
+                    // The working solution is worse than the best solution, so apply the problem change now.
+                    bestScoreBeforeProblemChange.set(bestScore);
+                    solver.addProblemChange((workingSolution, problemChangeDirector) -> problemChangeDirector
+                            .addProblemFact(new TestdataValue("added value"), workingSolution.getValueList()::add));
+                }
+            }
+        });
+        List<SimpleScore> bestScoreAfterProblemChangeList = new ArrayList<>();
+        solver.addEventListener(bestSolutionChangedEvent -> {
+            if (bestSolutionChangedEvent.getNewBestSolution().getValueList().size() == valueCount + 1) {
+                bestScoreAfterProblemChangeList.add((SimpleScore) bestSolutionChangedEvent.getNewBestScore());
+            }
+        });
+
+        TestdataSolution bestSolution = solver.solve(solution);
+        assertThat(bestScoreBeforeProblemChange.get()).isNotNull();
+        // The added value does not affect the score, so the changed best solution is as good as the old one.
+        assertThat(bestScoreAfterProblemChangeList).isNotEmpty();
+        assertThat(bestScoreAfterProblemChangeList.get(0)).isEqualTo(bestScoreBeforeProblemChange.get());
+        assertThat(bestScoreAfterProblemChangeList).isSorted();
+        assertThat(bestSolution.getValueList()).hasSize(valueCount + 1);
+        assertThat(stepCountAfterProblemChange).hasPositiveValue();
+    }
+
+    @Test
+    void solveWithProblemChangeOnTheWorkingSolutionDuringHillClimbing() {
+        // Hill climbing never accepts worse moves, so the working solution is never worse than the best solution.
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig()
+                .withLocalSearchType(LocalSearchType.HILL_CLIMBING)
+                .withTerminationConfig(new TerminationConfig().withStepCountLimit(20));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+        DefaultSolver<TestdataSolution> solver =
+                (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        final int valueCount = 5;
+        TestdataSolution solution = TestdataSolution.generateSolution(valueCount, valueCount);
+        solution.getEntityList().forEach(entity -> entity.setValue(solution.getValueList().get(0)));
+
+        AtomicReference<TestdataSolution> workingSolutionBeforeProblemChange = new AtomicReference<>();
+        AtomicReference<TestdataSolution> changedWorkingSolution = new AtomicReference<>();
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                if (workingSolutionBeforeProblemChange.get() == null) {
+                    workingSolutionBeforeProblemChange.set(stepScope.getWorkingSolution());
+                    solver.addProblemChange((workingSolution, problemChangeDirector) -> {
+                        changedWorkingSolution.set(workingSolution);
+                        problemChangeDirector.addProblemFact(new TestdataValue("added value"),
+                                workingSolution.getValueList()::add);
+                    });
+                }
+            }
+        });
+
+        TestdataSolution bestSolution = solver.solve(solution);
+        // The problem change was applied on the working solution, instead of on a clone of the best solution.
+        assertThat(changedWorkingSolution.get()).isSameAs(workingSolutionBeforeProblemChange.get());
+        assertThat(bestSolution.getValueList()).hasSize(valueCount + 1);
+    }
+
     @Test
     void solveRepeatedlyBasicVariable(SoftAssertions softly) {
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
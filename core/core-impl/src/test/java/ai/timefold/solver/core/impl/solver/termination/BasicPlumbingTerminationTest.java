@@ -55,6 +55,35 @@ class BasicPlumbingTerminationTest {
         assertThat(count).hasValue(21);
     }
 
+    @Test
+    void problemChangesProcessedInPhaseDoNotTerminate() {
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination = new BasicPlumbingTermination<>(false);
+        SolverScope<TestdataSolution> solverScopeMock = mockSolverScope();
+        basicPlumbingTermination.setProblemFactChangesProcessedInPhase(true);
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                }));
+        assertThat(basicPlumbingTermination.isProblemFactChangePending()).isTrue();
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isFalse();
+
+        basicPlumbingTermination.setProblemFactChangesProcessedInPhase(false);
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isTrue();
+    }
+
+    @Test
+    void requestRestartWithoutDaemon() {
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination = new BasicPlumbingTermination<>(false);
+        SolverScope<TestdataSolution> solverScopeMock = mockSolverScope();
+        basicPlumbingTermination.setProblemFactChangesProcessedInPhase(true);
+        basicPlumbingTermination.requestRestart();
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isTrue();
+        assertThat(basicPlumbingTermination.waitForRestartSolverDecision()).isTrue();
+
+        assertThat(basicPlumbingTermination.startProblemFactChangesProcessing()).isEmpty();
+        basicPlumbingTermination.endProblemFactChangesProcessing();
+        assertThat(basicPlumbingTermination.waitForRestartSolverDecision()).isFalse();
+    }
+
     private SolverScope<TestdataSolution> mockSolverScope() {
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
         InnerScoreDirector<TestdataSolution, ?> scoreDirectorMock = mock(InnerScoreDirector.class);
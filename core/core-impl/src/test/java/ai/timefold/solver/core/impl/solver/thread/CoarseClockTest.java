@@ -0,0 +1,47 @@
+package ai.timefold.solver.core.impl.solver.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class CoarseClockTest {
+
+    private static final long BASE_MILLIS = 1_000_000L;
+
+    @Test
+    void onlyAdvancesOnTick() {
+        var nanoTime = new AtomicLong(-5_000_000L);
+        var clock = new CoarseClock(BASE_MILLIS, nanoTime::get);
+        assertThat(clock.millis()).isEqualTo(BASE_MILLIS);
+
+        nanoTime.addAndGet(3_500_000L);
+        assertThat(clock.millis()).isEqualTo(BASE_MILLIS);
+        assertThat(clock.tick()).isEqualTo(BASE_MILLIS + 3L);
+        assertThat(clock.millis()).isEqualTo(BASE_MILLIS + 3L);
+        assertThat(clock.instant().toEpochMilli()).isEqualTo(BASE_MILLIS + 3L);
+    }
+
+    @Test
+    void childThreadClockSharesTheBase() {
+        var nanoTime = new AtomicLong(0L);
+        var clock = new CoarseClock(BASE_MILLIS, nanoTime::get);
+        nanoTime.addAndGet(7_000_000L);
+        var childThreadClock = clock.createChildThreadClock();
+        assertThat(childThreadClock.millis()).isEqualTo(BASE_MILLIS + 7L);
+        // The parent clock is not ticked by the child.
+        assertThat(clock.millis()).isEqualTo(BASE_MILLIS);
+
+        nanoTime.addAndGet(2_000_000L);
+        assertThat(clock.tick()).isEqualTo(childThreadClock.tick());
+    }
+
+    @Test
+    void systemClock() {
+        var clock = new CoarseClock();
+        var start = clock.millis();
+        assertThat(clock.tick()).isGreaterThanOrEqualTo(start);
+    }
+
+}
@@ -37,11 +37,13 @@ public abstract class AbstractScoreAnalysisJacksonDeserializer<Score_ extends Sc
             var constraintRef = ConstraintRef.of(constraintPackage, constraintName);
             var constraintWeight = parseScore(constraintNode.get("weight").asText());
             var constraintScore = parseScore(constraintNode.get("score").asText());
+            var matchCountNode = constraintNode.get("matchCount");
             var matchScoreList = new ArrayList<MatchAnalysis<Score_>>();
             var matchesNode = constraintNode.get("matches");
             if (matchesNode == null) {
+                var matchCount = matchCountNode == null ? -1 : matchCountNode.asInt();
                 constraintAnalysisList.put(constraintRef,
-                        new ConstraintAnalysis<>(constraintRef, constraintWeight, constraintScore, null));
+                        new ConstraintAnalysis<>(constraintRef, constraintWeight, constraintScore, null, matchCount));
             } else {
                 for (var matchNode : constraintNode.get("matches")) {
                     var matchScore = parseScore(matchNode.get("score").asText());
@@ -56,8 +58,9 @@ public abstract class AbstractScoreAnalysisJacksonDeserializer<Score_ extends Sc
                         matchScoreList.add(new MatchAnalysis<>(constraintRef, matchScore, parsedJustification));
                     }
                 }
+                var matchCount = matchCountNode == null ? matchScoreList.size() : matchCountNode.asInt();
                 constraintAnalysisList.put(constraintRef,
-                        new ConstraintAnalysis<>(constraintRef, constraintWeight, constraintScore, matchScoreList));
+                        new ConstraintAnalysis<>(constraintRef, constraintWeight, constraintScore, matchScoreList, matchCount));
             }
         }
         return new ScoreAnalysis<>(score, constraintAnalysisList);
@@ -41,6 +41,12 @@ public final class ScoreAnalysisJacksonSerializer<Score_ extends Score<Score_>>
                 });
                 constraintAnalysisMap.put("matches", matchAnalysis);
             }
+            // Only written if it can not be derived from the matches.
+            var matchCount = constraintAnalysis.matchCount();
+            var matches = constraintAnalysis.matches();
+            if (matchCount >= 0 && (matches == null || matches.size() != matchCount)) {
+                constraintAnalysisMap.put("matchCount", matchCount);
+            }
             result.add(constraintAnalysisMap);
         });
         gen.writeObjectField("constraints", result);
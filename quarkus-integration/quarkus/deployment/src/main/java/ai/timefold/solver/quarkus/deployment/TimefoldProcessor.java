@@ -361,6 +361,12 @@ class TimefoldProcessor {
         if (solverConfig.getDomainAccessType() == null) {
             solverConfig.setDomainAccessType(DomainAccessType.GIZMO);
         }
+        if (solverConfig.getDomainAccessType() == DomainAccessType.LAMBDA) {
+            // Lambdas are spun at runtime, which a native image does not support, and Gizmo is faster anyway.
+            throw new ConfigurationException("The domainAccessType (" + DomainAccessType.LAMBDA
+                    + ") is not supported with Quarkus.\n"
+                    + "Maybe use the domainAccessType (" + DomainAccessType.GIZMO + ") instead.");
+        }
         // Termination properties are set at runtime
     }
 
@@ -38,6 +38,7 @@ public class SolverBuildTimeConfig {
     /**
      * Determines how to access the fields and methods of domain classes.
      * Defaults to {@link DomainAccessType#GIZMO}.
+     * {@link DomainAccessType#LAMBDA} is not supported.
      */
     @ConfigItem
     public Optional<DomainAccessType> domainAccessType;
@@ -0,0 +1,41 @@
+package ai.timefold.solver.jmh;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ * Accepts the same arguments as {@link org.openjdk.jmh.Main},
+ * for example {@code java -jar target/benchmarks.jar BavetConstraintSession -prof gc}.
+ * <p>
+ * Unlike {@link org.openjdk.jmh.Main}, the {@link GCProfiler} is enabled when no profiler is specified,
+ * so that every run reports the allocation rate ({@code gc.alloc.rate.norm}) per operation.
+ * Most benchmarks in this module run a single move or a single propagation per operation,
+ * which makes that number the allocations per move.
+ */
+public final class TimefoldJmhApp {
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        var commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList() || commandLineOptions.shouldListProfilers()
+                || commandLineOptions.shouldListResultFormats() || commandLineOptions.shouldListWithParams()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        var optionsBuilder = new OptionsBuilder().parent(commandLineOptions);
+        if (commandLineOptions.getProfilers().isEmpty()) {
+            optionsBuilder.addProfiler(GCProfiler.class);
+        }
+        new Runner(optionsBuilder.build()).run();
+    }
+
+    private TimefoldJmhApp() {
+    }
+
+}
@@ -0,0 +1,74 @@
+package ai.timefold.solver.jmh.accessor;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.domain.common.DomainAccessType;
+import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
+import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessorFactory;
+import ai.timefold.solver.core.impl.domain.common.accessor.gizmo.GizmoClassLoader;
+import ai.timefold.solver.examples.cloudbalancing.domain.CloudProcess;
+import ai.timefold.solver.jmh.common.CloudBalancingBenchmarkData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading and writing a planning variable through a {@link MemberAccessor} of each {@link DomainAccessType},
+ * which is what the score director and the moves do for every variable change.
+ * The accessor is called for every process of a cloud balancing dataset,
+ * so that the call site sees many receivers, like it does during solving.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberAccessorBenchmark {
+
+    @Param({ "REFLECTION", "GIZMO", "LAMBDA" })
+    public DomainAccessType domainAccessType;
+
+    private MemberAccessor memberAccessor;
+    private List<CloudProcess> processList;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchMethodException {
+        memberAccessor = MemberAccessorFactory.buildMemberAccessor(CloudProcess.class.getMethod("getComputer"),
+                MemberAccessorFactory.MemberAccessorType.FIELD_OR_GETTER_METHOD_WITH_SETTER, PlanningVariable.class,
+                domainAccessType, new GizmoClassLoader());
+        processList = CloudBalancingBenchmarkData.createInitializedSolution(400).getProcessList();
+    }
+
+    @Benchmark
+    public void executeGetter(Blackhole blackhole) {
+        for (CloudProcess process : processList) {
+            blackhole.consume(memberAccessor.executeGetter(process));
+        }
+    }
+
+    @Benchmark
+    public void executeSetter() {
+        // Every process gets the computer of its neighbour, which rotates the assignments without changing the work.
+        int size = processList.size();
+        Object firstComputer = memberAccessor.executeGetter(processList.get(0));
+        for (int i = 0; i < size - 1; i++) {
+            memberAccessor.executeSetter(processList.get(i), memberAccessor.executeGetter(processList.get(i + 1)));
+        }
+        memberAccessor.executeSetter(processList.get(size - 1), firstComputer);
+    }
+
+}
@@ -0,0 +1,99 @@
+package ai.timefold.solver.jmh.bavet;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.constraint.streams.bavet.BavetConstraintSession;
+import ai.timefold.solver.constraint.streams.bavet.BavetConstraintSessionFactory;
+import ai.timefold.solver.constraint.streams.bavet.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.examples.cloudbalancing.domain.CloudBalance;
+import ai.timefold.solver.examples.cloudbalancing.domain.CloudComputer;
+import ai.timefold.solver.examples.cloudbalancing.domain.CloudProcess;
+import ai.timefold.solver.examples.cloudbalancing.score.CloudBalancingConstraintProvider;
+import ai.timefold.solver.jmh.common.CloudBalancingBenchmarkData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link BavetConstraintSession} directly, bypassing the score director,
+ * on the cloud balancing constraints.
+ * Every operation changes a single fact and calculates the score,
+ * which is what a single evaluated move does.
+ * <p>
+ * Run with {@code impactBatching} false to compare with the scorers impacting the score per match,
+ * see {@link BavetConstraintSessionFactory#IMPACT_BATCHING_PROPERTY_NAME}.
+ * Neither allocates an undo object per match, see {@link ScoreImpactBenchmark} for the allocation before and after.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BavetConstraintSessionBenchmark {
+
+    @Param({ "100", "400", "1600" })
+    public int computerCount;
+
+    @Param({ "true", "false" })
+    public boolean impactBatching;
+
+    private List<CloudComputer> computerList;
+    private List<CloudProcess> processList;
+    private BavetConstraintSession<HardSoftScore> session;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        CloudBalance solution = CloudBalancingBenchmarkData.createInitializedSolution(computerCount);
+        computerList = solution.getComputerList();
+        processList = solution.getProcessList();
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<CloudBalance, HardSoftScore>(
+                CloudBalancingBenchmarkData.buildSolutionDescriptor(), new CloudBalancingConstraintProvider(),
+                EnvironmentMode.REPRODUCIBLE);
+        System.setProperty(BavetConstraintSessionFactory.IMPACT_BATCHING_PROPERTY_NAME, Boolean.toString(impactBatching));
+        session = scoreDirectorFactory.newSession(false, solution);
+        System.clearProperty(BavetConstraintSessionFactory.IMPACT_BATCHING_PROPERTY_NAME);
+        solution.getComputerList().forEach(session::insert);
+        solution.getProcessList().forEach(session::insert);
+        session.calculateScore(0);
+        random = new Random(37);
+    }
+
+    @Benchmark
+    public HardSoftScore update() {
+        var process = processList.get(random.nextInt(processList.size()));
+        process.setComputer(computerList.get(random.nextInt(computerList.size())));
+        session.update(process);
+        return session.calculateScore(0);
+    }
+
+    @Benchmark
+    public HardSoftScore retractAndInsert() {
+        var process = processList.get(random.nextInt(processList.size()));
+        session.retract(process);
+        session.calculateScore(0);
+        session.insert(process);
+        return session.calculateScore(0);
+    }
+
+    @Benchmark
+    public HardSoftScore calculateScoreWithoutChanges() {
+        return session.calculateScore(0);
+    }
+
+}
@@ -0,0 +1,124 @@
+package ai.timefold.solver.jmh.bavet;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import ai.timefold.solver.constraint.streams.bavet.common.index.IndexProperties;
+import ai.timefold.solver.constraint.streams.bavet.common.index.Indexer;
+import ai.timefold.solver.constraint.streams.bavet.common.index.IndexerFactory;
+import ai.timefold.solver.constraint.streams.common.AbstractJoiner;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.api.score.stream.bi.BiJoiner;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the indexer chains built by {@link IndexerFactory},
+ * such as {@code EqualsIndexer} and {@code ComparisonIndexer},
+ * outside of any node, with {@link Integer} keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexerBenchmark {
+
+    public record Element(int equalKey, int comparisonKey) {
+
+    }
+
+    public enum IndexerShape {
+        EQUAL(Joiners.<Element, Integer> equal(Element::equalKey)),
+        LESS_THAN(Joiners.<Element, Integer> lessThan(Element::comparisonKey)),
+        EQUAL_AND_LESS_THAN(Joiners.<Element, Integer> equal(Element::equalKey)
+                .and(Joiners.<Element, Integer> lessThan(Element::comparisonKey))),
+        // Intervals of length 1 to 4, starting at the comparison key.
+        OVERLAPPING(Joiners.<Element, Integer> overlapping(Element::comparisonKey,
+                element -> element.comparisonKey() + 1 + element.equalKey() % 4));
+
+        private final AbstractJoiner<Element> joiner;
+
+        IndexerShape(BiJoiner<Element, Element> joiner) {
+            this.joiner = (AbstractJoiner<Element>) joiner;
+        }
+
+    }
+
+    @Param
+    public IndexerShape indexerShape;
+
+    @Param({ "10000" })
+    public int elementCount;
+
+    @Param({ "100" })
+    public int keyCount;
+
+    private Function<Element, IndexProperties> indexPropertiesFunction;
+    private Indexer<Element> indexer;
+    private Random random;
+    private final CountingConsumer countingConsumer = new CountingConsumer();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var indexerFactory = new IndexerFactory<>(indexerShape.joiner);
+        indexPropertiesFunction = indexerFactory.buildRightMapping();
+        indexer = indexerFactory.buildIndexer(false);
+        random = new Random(37);
+        for (var i = 0; i < elementCount; i++) {
+            var element = newElement();
+            indexer.put(indexPropertiesFunction.apply(element), element);
+        }
+    }
+
+    private Element newElement() {
+        return new Element(random.nextInt(keyCount), random.nextInt(keyCount));
+    }
+
+    @Benchmark
+    public Object putAndRemove() {
+        var element = newElement();
+        var indexProperties = indexPropertiesFunction.apply(element);
+        var entry = indexer.put(indexProperties, element);
+        indexer.remove(indexProperties, entry);
+        return entry;
+    }
+
+    @Benchmark
+    public int forEach() {
+        countingConsumer.count = 0;
+        indexer.forEach(indexPropertiesFunction.apply(newElement()), countingConsumer);
+        return countingConsumer.count;
+    }
+
+    @Benchmark
+    public int size() {
+        return indexer.size(indexPropertiesFunction.apply(newElement()));
+    }
+
+    private static final class CountingConsumer implements Consumer<Element> {
+
+        private int count = 0;
+
+        @Override
+        public void accept(Element element) {
+            count++;
+        }
+
+    }
+
+}
@@ -0,0 +1,169 @@
+package ai.timefold.solver.jmh.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.count;
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.sum;
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static ai.timefold.solver.core.api.score.stream.Joiners.lessThan;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.constraint.streams.bavet.BavetConstraintSession;
+import ai.timefold.solver.constraint.streams.bavet.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.examples.cloudbalancing.domain.CloudBalance;
+import ai.timefold.solver.examples.cloudbalancing.domain.CloudComputer;
+import ai.timefold.solver.examples.cloudbalancing.domain.CloudProcess;
+import ai.timefold.solver.jmh.common.CloudBalancingBenchmarkData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Isolates individual Bavet node types,
+ * by building a session with a single constraint whose network consists mostly of that node type.
+ * Every operation reassigns one process and propagates the change through the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodeNetworkBenchmark {
+
+    public enum NetworkShape {
+        /**
+         * {@code IndexedJoinBiNode} with an equals indexer followed by a comparison indexer.
+         */
+        INDEXED_JOIN {
+            @Override
+            Constraint defineConstraint(ConstraintFactory constraintFactory) {
+                return constraintFactory.forEach(CloudProcess.class)
+                        .join(CloudProcess.class,
+                                equal(CloudProcess::getComputer),
+                                lessThan(CloudProcess::getId))
+                        .penalize(HardSoftScore.ONE_SOFT)
+                        .asConstraint(name());
+            }
+        },
+        /**
+         * {@code Group0Mapping1CollectorUniNode}, a single group for all tuples.
+         */
+        GROUP_0_MAPPING_1 {
+            @Override
+            Constraint defineConstraint(ConstraintFactory constraintFactory) {
+                return constraintFactory.forEach(CloudProcess.class)
+                        .groupBy(count())
+                        .penalize(HardSoftScore.ONE_SOFT, count -> count)
+                        .asConstraint(name());
+            }
+        },
+        /**
+         * {@code Group1Mapping0CollectorUniNode}, the distinct computers in use.
+         */
+        GROUP_1_MAPPING_0 {
+            @Override
+            Constraint defineConstraint(ConstraintFactory constraintFactory) {
+                return constraintFactory.forEach(CloudProcess.class)
+                        .groupBy(CloudProcess::getComputer)
+                        .penalize(HardSoftScore.ONE_SOFT, CloudComputer::getCost)
+                        .asConstraint(name());
+            }
+        },
+        /**
+         * {@code Group1Mapping1CollectorUniNode}, as used by the cloud balancing capacity constraints.
+         */
+        GROUP_1_MAPPING_1 {
+            @Override
+            Constraint defineConstraint(ConstraintFactory constraintFactory) {
+                return constraintFactory.forEach(CloudProcess.class)
+                        .groupBy(CloudProcess::getComputer, sum(CloudProcess::getRequiredCpuPower))
+                        .penalize(HardSoftScore.ONE_HARD, (computer, requiredCpuPower) -> requiredCpuPower)
+                        .asConstraint(name());
+            }
+        },
+        /**
+         * {@code Group1Mapping3CollectorUniNode}, three collectors sharing one group key.
+         */
+        GROUP_1_MAPPING_3 {
+            @Override
+            Constraint defineConstraint(ConstraintFactory constraintFactory) {
+                return constraintFactory.forEach(CloudProcess.class)
+                        .groupBy(CloudProcess::getComputer,
+                                sum(CloudProcess::getRequiredCpuPower),
+                                sum(CloudProcess::getRequiredMemory),
+                                sum(CloudProcess::getRequiredNetworkBandwidth))
+                        .penalize(HardSoftScore.ONE_HARD,
+                                (computer, cpuPower, memory, networkBandwidth) -> cpuPower + memory + networkBandwidth)
+                        .asConstraint(name());
+            }
+        },
+        /**
+         * {@code Group2Mapping1CollectorUniNode}, a composite group key.
+         */
+        GROUP_2_MAPPING_1 {
+            @Override
+            Constraint defineConstraint(ConstraintFactory constraintFactory) {
+                return constraintFactory.forEach(CloudProcess.class)
+                        .groupBy(CloudProcess::getComputer, CloudProcess::getRequiredMultiplicand,
+                                count())
+                        .penalize(HardSoftScore.ONE_SOFT, (computer, multiplicand, count) -> count)
+                        .asConstraint(name());
+            }
+        };
+
+        abstract Constraint defineConstraint(ConstraintFactory constraintFactory);
+
+    }
+
+    @Param({ "400" })
+    public int computerCount;
+
+    @Param
+    public NetworkShape networkShape;
+
+    private List<CloudComputer> computerList;
+    private List<CloudProcess> processList;
+    private BavetConstraintSession<HardSoftScore> session;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        CloudBalance solution = CloudBalancingBenchmarkData.createInitializedSolution(computerCount);
+        computerList = solution.getComputerList();
+        processList = solution.getProcessList();
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<CloudBalance, HardSoftScore>(
+                CloudBalancingBenchmarkData.buildSolutionDescriptor(),
+                constraintFactory -> new Constraint[] { networkShape.defineConstraint(constraintFactory) },
+                EnvironmentMode.REPRODUCIBLE);
+        session = scoreDirectorFactory.newSession(false, solution);
+        solution.getComputerList().forEach(session::insert);
+        solution.getProcessList().forEach(session::insert);
+        session.calculateScore(0);
+        random = new Random(37);
+    }
+
+    @Benchmark
+    public HardSoftScore update() {
+        var process = processList.get(random.nextInt(processList.size()));
+        process.setComputer(computerList.get(random.nextInt(computerList.size())));
+        session.update(process);
+        return session.calculateScore(0);
+    }
+
+}
@@ -0,0 +1,160 @@
+package ai.timefold.solver.jmh.bavet;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.constraint.streams.bavet.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.constraint.streams.common.AbstractConstraint;
+import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
+import ai.timefold.solver.constraint.streams.common.inliner.UndoScoreImpacter;
+import ai.timefold.solver.constraint.streams.common.inliner.WeightedScoreImpacter;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftScoreDefinition;
+import ai.timefold.solver.examples.cloudbalancing.domain.CloudBalance;
+import ai.timefold.solver.examples.cloudbalancing.score.CloudBalancingConstraintProvider;
+import ai.timefold.solver.jmh.common.CloudBalancingBenchmarkData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a single match impact and the undo of the previous impact of the same tuple,
+ * which is what a scorer node does when a tuple is updated,
+ * with constraint matching disabled.
+ * The impacts are kept in an array, just like the scorer keeps them in the tuple store,
+ * so that escape analysis can not remove the allocation of an {@link UndoScoreImpacter}.
+ * <p>
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} of the impact paths:
+ * {@link ImpactPath#UNDO_SCORE_IMPACTER} allocates before,
+ * {@link ImpactPath#PRIMITIVE} and {@link ImpactPath#BATCHED} must not allocate after,
+ * for every match weight.
+ * {@link ImpactPath#BOXED_MATCH_WEIGHT} shows why the match weight is not boxed:
+ * it only stops allocating for the match weights in the {@link Integer#valueOf(int) Integer cache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreImpactBenchmark {
+
+    public enum ImpactPath {
+        /**
+         * Every impact creates an {@link UndoScoreImpacter}, as was always the case before.
+         */
+        UNDO_SCORE_IMPACTER,
+        /**
+         * Only the boxed match weight is kept, and its negation undoes the impact,
+         * see {@link WeightedScoreImpacter#impactScoreSum(long)}.
+         */
+        BOXED_MATCH_WEIGHT,
+        /**
+         * Only the match weight is kept, in a holder which is reused for every impact of the same tuple,
+         * and the score is impacted per match, see {@link WeightedScoreImpacter#impactScoreSum(long)}.
+         * This is what the scorer node does when the impact batching is disabled.
+         */
+        PRIMITIVE,
+        /**
+         * As {@link #PRIMITIVE}, but the match weight delta is summed and the sum is flushed after every update,
+         * which is the worst case for the scorer node.
+         */
+        BATCHED
+    }
+
+    @Param
+    public ImpactPath impactPath;
+
+    @Param({ "1", "1000" })
+    public int matchWeight;
+
+    @Param({ "1000" })
+    public int tupleCount;
+
+    private WeightedScoreImpacter<HardSoftScore, ?> impacter;
+    private Object[] impacts;
+    private int tupleIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<CloudBalance, HardSoftScore>(
+                CloudBalancingBenchmarkData.buildSolutionDescriptor(), new CloudBalancingConstraintProvider(),
+                EnvironmentMode.REPRODUCIBLE);
+        var constraint = (AbstractConstraint<?, ?, ?>) scoreDirectorFactory.getConstraints()[0];
+        Map<Constraint, HardSoftScore> constraintWeightMap = Map.of(constraint, HardSoftScore.of(1, 1));
+        AbstractScoreInliner<HardSoftScore> scoreInliner =
+                AbstractScoreInliner.buildScoreInliner(new HardSoftScoreDefinition(), constraintWeightMap, false);
+        impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        impacts = new Object[tupleCount];
+        for (var i = 0; i < tupleCount; i++) {
+            impacts[i] = switch (impactPath) {
+                case UNDO_SCORE_IMPACTER -> impacter.impactScore(matchWeight, null);
+                case BOXED_MATCH_WEIGHT -> {
+                    impacter.impactScoreSum(matchWeight);
+                    yield matchWeight;
+                }
+                case PRIMITIVE, BATCHED -> {
+                    impacter.impactScoreSum(matchWeight);
+                    var holder = new MatchWeight();
+                    holder.value = matchWeight;
+                    yield holder;
+                }
+            };
+        }
+        tupleIndex = 0;
+    }
+
+    @Benchmark
+    public Object undoAndImpact() {
+        // Same work as the scorer node does for an updated tuple.
+        var previousImpact = impacts[tupleIndex];
+        var impact = switch (impactPath) {
+            case UNDO_SCORE_IMPACTER -> {
+                ((UndoScoreImpacter) previousImpact).run();
+                yield impacter.impactScore(matchWeight, null);
+            }
+            case BOXED_MATCH_WEIGHT -> {
+                impacter.impactScoreSum(-((Integer) previousImpact).longValue());
+                impacter.impactScoreSum(matchWeight);
+                yield matchWeight;
+            }
+            case PRIMITIVE -> {
+                var holder = (MatchWeight) previousImpact;
+                impacter.impactScoreSum(-holder.value);
+                holder.value = matchWeight;
+                impacter.impactScoreSum(holder.value);
+                yield holder;
+            }
+            case BATCHED -> {
+                var holder = (MatchWeight) previousImpact;
+                var matchWeightSum = -holder.value;
+                holder.value = matchWeight;
+                matchWeightSum += holder.value;
+                impacter.impactScoreSum(matchWeightSum);
+                yield holder;
+            }
+        };
+        impacts[tupleIndex] = impact;
+        tupleIndex = (tupleIndex + 1) % tupleCount;
+        return impact;
+    }
+
+    private static final class MatchWeight {
+
+        private long value;
+
+    }
+
+}
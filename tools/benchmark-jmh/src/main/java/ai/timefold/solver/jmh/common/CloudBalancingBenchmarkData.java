@@ -0,0 +1,37 @@
+package ai.timefold.solver.jmh.common;
+
+import java.util.Random;
+
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.examples.cloudbalancing.domain.CloudBalance;
+import ai.timefold.solver.examples.cloudbalancing.domain.CloudProcess;
+import ai.timefold.solver.examples.cloudbalancing.persistence.CloudBalancingGenerator;
+
+/**
+ * Cloud balancing datasets are generated instead of read from the examples' data directory,
+ * so that the Bavet benchmarks can choose any size and do not depend on the working directory.
+ */
+public final class CloudBalancingBenchmarkData {
+
+    public static SolutionDescriptor<CloudBalance> buildSolutionDescriptor() {
+        return SolutionDescriptor.buildSolutionDescriptor(CloudBalance.class, CloudProcess.class);
+    }
+
+    /**
+     * @param computerCount at least 1; there will be three times as many processes
+     * @return never null, every process is assigned to a computer
+     */
+    public static CloudBalance createInitializedSolution(int computerCount) {
+        var solution = new CloudBalancingGenerator(true).createCloudBalance(computerCount, computerCount * 3);
+        var computerList = solution.getComputerList();
+        var random = new Random(37);
+        for (var process : solution.getProcessList()) {
+            process.setComputer(computerList.get(random.nextInt(computerList.size())));
+        }
+        return solution;
+    }
+
+    private CloudBalancingBenchmarkData() {
+    }
+
+}
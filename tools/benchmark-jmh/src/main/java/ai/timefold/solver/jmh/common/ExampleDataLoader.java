@@ -0,0 +1,37 @@
+package ai.timefold.solver.jmh.common;
+
+import java.io.File;
+
+import ai.timefold.solver.examples.common.app.CommonApp;
+
+/**
+ * Reads the datasets of the examples module.
+ * The data directory defaults to the one in a git clone,
+ * relative to the working directory of this module,
+ * which is where {@code java -jar target/benchmarks.jar} is expected to run.
+ * Override it with {@code -Dai.timefold.solver.examples.dataDir=...}.
+ */
+public final class ExampleDataLoader {
+
+    private static final String DEFAULT_DATA_DIR = "../../examples/data/";
+
+    /**
+     * @param dataDirName never null, for example {@code vehiclerouting}
+     * @param unsolvedFileName never null, for example {@code cvrp-72customers.json}
+     * @return never null
+     */
+    public static File findUnsolvedFile(String dataDirName, String unsolvedFileName) {
+        if (System.getProperty(CommonApp.DATA_DIR_SYSTEM_PROPERTY) == null) {
+            System.setProperty(CommonApp.DATA_DIR_SYSTEM_PROPERTY, DEFAULT_DATA_DIR);
+        }
+        var file = new File(new File(CommonApp.determineDataDir(dataDirName), "unsolved"), unsolvedFileName);
+        if (!file.exists()) {
+            throw new IllegalArgumentException("The unsolved file (" + file.getAbsolutePath() + ") does not exist.");
+        }
+        return file;
+    }
+
+    private ExampleDataLoader() {
+    }
+
+}
@@ -0,0 +1,98 @@
+package ai.timefold.solver.jmh.director;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.DefaultSolverFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link InnerScoreDirector#doAndProcessMove(Move, boolean)} on an example,
+ * which is what local search does for every evaluated move:
+ * do the move, trigger the shadow variable listeners, calculate the score and undo the move.
+ * <p>
+ * The moves are generated upfront and cycled through,
+ * so that move selection is not part of the measurement.
+ * Because every move is undone, the working solution is the same before each of them.
+ *
+ * @param <Solution_> the solution type, the class with the
+ *        {@link ai.timefold.solver.core.api.domain.solution.PlanningSolution} annotation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractScoreDirectorBenchmark<Solution_> {
+
+    private static final int MOVE_COUNT = 10_000;
+
+    private InnerScoreDirector<Solution_, ?> scoreDirector;
+    private List<Move<Solution_>> moveList;
+    private int moveIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var solverConfig = SolverConfig.createFromXmlResource(getSolverConfigResource());
+        var solverFactory = (DefaultSolverFactory<Solution_>) SolverFactory.<Solution_> create(solverConfig);
+        scoreDirector = solverFactory.getScoreDirectorFactory().buildScoreDirector(false, false);
+        var random = new Random(37);
+        scoreDirector.setWorkingSolution(createInitializedSolution(random));
+        scoreDirector.forceTriggerVariableListeners();
+        scoreDirector.calculateScore();
+        moveList = createMoveList(scoreDirector, random, MOVE_COUNT);
+        moveIndex = 0;
+    }
+
+    /**
+     * @return never null, a classpath resource
+     */
+    protected abstract String getSolverConfigResource();
+
+    /**
+     * @param random never null
+     * @return never null, with every genuine planning variable initialized
+     */
+    protected abstract Solution_ createInitializedSolution(Random random);
+
+    /**
+     * @param scoreDirector never null, with the working solution set
+     * @param random never null
+     * @param moveCount at least 1
+     * @return never null, doable moves on the working solution
+     */
+    protected abstract List<Move<Solution_>> createMoveList(InnerScoreDirector<Solution_, ?> scoreDirector, Random random,
+            int moveCount);
+
+    @Benchmark
+    public Score<?> doAndProcessMove() {
+        var move = moveList.get(moveIndex);
+        moveIndex = (moveIndex + 1) % moveList.size();
+        return scoreDirector.doAndProcessMove(move, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scoreDirector.close();
+    }
+
+}
@@ -0,0 +1,50 @@
+package ai.timefold.solver.jmh.director;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.examples.cloudbalancing.app.CloudBalancingApp;
+import ai.timefold.solver.examples.cloudbalancing.domain.CloudBalance;
+import ai.timefold.solver.examples.cloudbalancing.domain.CloudProcess;
+import ai.timefold.solver.jmh.common.CloudBalancingBenchmarkData;
+
+import org.openjdk.jmh.annotations.Param;
+
+public class CloudBalancingScoreDirectorBenchmark extends AbstractScoreDirectorBenchmark<CloudBalance> {
+
+    @Param({ "400", "1600" })
+    public int computerCount;
+
+    @Override
+    protected String getSolverConfigResource() {
+        return CloudBalancingApp.SOLVER_CONFIG;
+    }
+
+    @Override
+    protected CloudBalance createInitializedSolution(Random random) {
+        return CloudBalancingBenchmarkData.createInitializedSolution(computerCount);
+    }
+
+    @Override
+    protected List<Move<CloudBalance>> createMoveList(InnerScoreDirector<CloudBalance, ?> scoreDirector, Random random,
+            int moveCount) {
+        var variableDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(CloudProcess.class)
+                .getGenuineVariableDescriptor("computer");
+        var solution = scoreDirector.getWorkingSolution();
+        var computerList = solution.getComputerList();
+        var processList = solution.getProcessList();
+        List<Move<CloudBalance>> moveList = new ArrayList<>(moveCount);
+        for (var i = 0; i < moveCount; i++) {
+            var process = processList.get(random.nextInt(processList.size()));
+            var computer = computerList.get(random.nextInt(computerList.size()));
+            moveList.add(new ChangeMove<>(variableDescriptor, process, computer));
+        }
+        return moveList;
+    }
+
+}
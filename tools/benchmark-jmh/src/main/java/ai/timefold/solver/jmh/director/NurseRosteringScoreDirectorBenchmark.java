@@ -0,0 +1,63 @@
+package ai.timefold.solver.jmh.director;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.examples.nurserostering.app.NurseRosteringApp;
+import ai.timefold.solver.examples.nurserostering.domain.NurseRoster;
+import ai.timefold.solver.examples.nurserostering.domain.ShiftAssignment;
+import ai.timefold.solver.examples.nurserostering.domain.solver.ShiftAssignmentPinningFilter;
+import ai.timefold.solver.examples.nurserostering.persistence.NurseRosterSolutionFileIO;
+import ai.timefold.solver.jmh.common.ExampleDataLoader;
+
+import org.openjdk.jmh.annotations.Param;
+
+public class NurseRosteringScoreDirectorBenchmark extends AbstractScoreDirectorBenchmark<NurseRoster> {
+
+    @Param({ "sprint01.json", "medium01.json" })
+    public String unsolvedFileName;
+
+    @Override
+    protected String getSolverConfigResource() {
+        return NurseRosteringApp.SOLVER_CONFIG;
+    }
+
+    @Override
+    protected NurseRoster createInitializedSolution(Random random) {
+        var solution = new NurseRosterSolutionFileIO()
+                .read(ExampleDataLoader.findUnsolvedFile(NurseRosteringApp.DATA_DIR_NAME, unsolvedFileName));
+        var employeeList = solution.getEmployeeList();
+        for (var shiftAssignment : solution.getShiftAssignmentList()) {
+            if (shiftAssignment.getEmployee() == null) {
+                shiftAssignment.setEmployee(employeeList.get(random.nextInt(employeeList.size())));
+            }
+        }
+        return solution;
+    }
+
+    @Override
+    protected List<Move<NurseRoster>> createMoveList(InnerScoreDirector<NurseRoster, ?> scoreDirector, Random random,
+            int moveCount) {
+        var variableDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(ShiftAssignment.class)
+                .getGenuineVariableDescriptor("employee");
+        var solution = scoreDirector.getWorkingSolution();
+        var pinningFilter = new ShiftAssignmentPinningFilter();
+        var movableShiftAssignmentList = solution.getShiftAssignmentList().stream()
+                .filter(shiftAssignment -> !pinningFilter.accept(solution, shiftAssignment))
+                .toList();
+        var employeeList = solution.getEmployeeList();
+        List<Move<NurseRoster>> moveList = new ArrayList<>(moveCount);
+        for (var i = 0; i < moveCount; i++) {
+            var shiftAssignment = movableShiftAssignmentList.get(random.nextInt(movableShiftAssignmentList.size()));
+            var employee = employeeList.get(random.nextInt(employeeList.size()));
+            moveList.add(new ChangeMove<>(variableDescriptor, shiftAssignment, employee));
+        }
+        return moveList;
+    }
+
+}
@@ -0,0 +1,65 @@
+package ai.timefold.solver.jmh.director;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListChangeMove;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.examples.vehiclerouting.app.VehicleRoutingApp;
+import ai.timefold.solver.examples.vehiclerouting.domain.VehicleRoutingSolution;
+import ai.timefold.solver.examples.vehiclerouting.persistence.VehicleRoutingSolutionFileIO;
+import ai.timefold.solver.jmh.common.ExampleDataLoader;
+
+import org.openjdk.jmh.annotations.Param;
+
+public class VehicleRoutingScoreDirectorBenchmark extends AbstractScoreDirectorBenchmark<VehicleRoutingSolution> {
+
+    @Param({ "cvrp-72customers.json", "cvrptw-100customers-A.json" })
+    public String unsolvedFileName;
+
+    @Override
+    protected String getSolverConfigResource() {
+        return VehicleRoutingApp.SOLVER_CONFIG;
+    }
+
+    @Override
+    protected VehicleRoutingSolution createInitializedSolution(Random random) {
+        var solution = new VehicleRoutingSolutionFileIO()
+                .read(ExampleDataLoader.findUnsolvedFile(VehicleRoutingApp.DATA_DIR_NAME, unsolvedFileName));
+        var vehicleList = solution.getVehicleList();
+        for (var customer : solution.getCustomerList()) {
+            vehicleList.get(random.nextInt(vehicleList.size())).getCustomers().add(customer);
+        }
+        return solution;
+    }
+
+    @Override
+    protected List<Move<VehicleRoutingSolution>> createMoveList(
+            InnerScoreDirector<VehicleRoutingSolution, ?> scoreDirector, Random random, int moveCount) {
+        var variableDescriptor = scoreDirector.getSolutionDescriptor().getListVariableDescriptors().get(0);
+        var vehicleList = scoreDirector.getWorkingSolution().getVehicleList();
+        List<Move<VehicleRoutingSolution>> moveList = new ArrayList<>(moveCount);
+        while (moveList.size() < moveCount) {
+            var sourceVehicle = vehicleList.get(random.nextInt(vehicleList.size()));
+            var sourceSize = sourceVehicle.getCustomers().size();
+            if (sourceSize == 0) {
+                continue;
+            }
+            var sourceIndex = random.nextInt(sourceSize);
+            var destinationVehicle = vehicleList.get(random.nextInt(vehicleList.size()));
+            // Moving within the same list cannot append, because the element is removed first.
+            var destinationSize = destinationVehicle == sourceVehicle ? sourceSize - 1
+                    : destinationVehicle.getCustomers().size();
+            var destinationIndex = random.nextInt(destinationSize + 1);
+            if (destinationVehicle == sourceVehicle && destinationIndex == sourceIndex) {
+                continue;
+            }
+            moveList.add(new ListChangeMove<>(variableDescriptor, sourceVehicle, sourceIndex,
+                    destinationVehicle, destinationIndex));
+        }
+        return moveList;
+    }
+
+}